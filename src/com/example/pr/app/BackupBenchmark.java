@@ -0,0 +1,122 @@
+package com.example.pr.app;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.backup.BackupManager;
+import com.example.pr.infrastructure.storage.backup.BackupResult;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Вплив резервного копіювання на затримку запису голосів.
+ * <p>
+ * У тимчасовій директорії даних записує початкові голоси, після чого двічі однаковий час
+ * записує голоси по одному: спершу без копіювання, потім з копією кожні {@code intervalMs}
+ * (перша повна, далі інкрементні). Друкує перцентилі затримки збереження голосу, тривалість
+ * зупинки записів під час знімка і обсяг скопійованого.
+ * <p>
+ * Аргументи: {@code [votes] [seconds] [intervalMs]}, за замовчуванням {@code 20000 10 1000}.
+ */
+public class BackupBenchmark {
+
+  private static final int ELECTIONS = 10;
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int votes = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    long intervalMs = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+
+    Path dir = Files.createTempDirectory("voting-backup");
+    System.setProperty(BinaryFilePath.DATA_DIR_PROPERTY, dir.resolve("data").toString());
+    VoteRepository repository = DataContext.getInstance().votes();
+
+    UUID[] elections = new UUID[ELECTIONS];
+    Arrays.setAll(elections, i -> UUID.randomUUID());
+    List<Vote> seed = new ArrayList<>(votes);
+    for (int i = 0; i < votes; i++) {
+      seed.add(newVote(elections[i % ELECTIONS]));
+    }
+    repository.saveAll(seed);
+    System.out.printf("Голосів: %,d у %d виборах, фаза: %d с, інтервал копій: %d мс, "
+        + "директорія: %s%n%n", votes, ELECTIONS, seconds, intervalMs, dir);
+
+    System.out.printf("%-12s %10s %12s %12s %12s%n", "фаза", "голосів", "p50, мс", "p99, мс",
+        "max, мс");
+    run("без копій", repository, elections, seconds, null, intervalMs);
+
+    List<BackupResult> backups = new ArrayList<>();
+    run("з копіями", repository, elections, seconds, backups, intervalMs);
+
+    double[] pauses = backups.stream().mapToDouble(r -> r.pauseNanos() / 1e6).sorted().toArray();
+    System.out.printf("%nКопій: %d, зупинка записів p50 %.2f мс, max %.2f мс%n", backups.size(),
+        percentile(pauses, 0.50), percentile(pauses, 1.0));
+    for (BackupResult result : backups.subList(0, Math.min(3, backups.size()))) {
+      System.out.printf("  %s %-11s скопійовано %d файлів, %,d байт; без змін %d; %.1f мс%n",
+          result.manifest().id(), result.isIncremental() ? "інкрементна" : "повна",
+          result.copiedFiles(), result.copiedBytes(), result.reusedFiles(),
+          result.totalNanos() / 1e6);
+    }
+  }
+
+  /**
+   * Записує голоси по одному протягом фази; якщо {@code backups} не {@code null}, паралельно
+   * робить копії.
+   */
+  private static void run(String label, VoteRepository repository, UUID[] elections,
+      int seconds, List<BackupResult> backups, long intervalMs) throws InterruptedException {
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread backupThread = null;
+    if (backups != null) {
+      BackupManager manager = new BackupManager(Path.of(BinaryFilePath.getDataDir())
+          .resolveSibling("backups"));
+      backupThread = new Thread(() -> {
+        while (running.get()) {
+          backups.add(manager.backup());
+          try {
+            Thread.sleep(intervalMs);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      }, "backup");
+      backupThread.start();
+    }
+
+    List<Long> latencies = new ArrayList<>();
+    long end = System.nanoTime() + seconds * 1_000_000_000L;
+    for (int i = 0; System.nanoTime() < end; i++) {
+      Vote vote = newVote(elections[i % elections.length]);
+      long start = System.nanoTime();
+      repository.save(vote);
+      latencies.add(System.nanoTime() - start);
+    }
+    running.set(false);
+    if (backupThread != null) {
+      backupThread.join();
+    }
+
+    double[] sorted = latencies.stream().mapToDouble(nanos -> nanos / 1e6).sorted().toArray();
+    System.out.printf("%-12s %10d %12.2f %12.2f %12.2f%n", label, sorted.length,
+        percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+  }
+
+  private static Vote newVote(UUID electionId) {
+    return new Vote(UUID.randomUUID(), UUID.randomUUID(), electionId, LocalDateTime.now());
+  }
+
+  private static double percentile(double[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+  }
+}
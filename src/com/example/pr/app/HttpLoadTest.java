@@ -0,0 +1,263 @@
+package com.example.pr.app;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.service.PasswordHasher;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import com.example.pr.presentation.http.HttpApiServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Навантажувальний тест HTTP API на loopback.
+ * <p>
+ * Запускає сервер у цьому ж процесі на окремій тимчасовій директорії даних, створює вибори,
+ * кандидатів і виборців, після чого кожен "термінал" (віртуальний потік) входить у систему,
+ * голосує один раз і далі опитує список виборів, кандидатів і результати. Наприкінці друкує
+ * кількість запитів за секунду, p50/p99/max затримки та розподіл статусів.
+ * <p>
+ * Аргументи: {@code [terminals] [seconds] [voters]}, за замовчуванням {@code 1000 10 500}. Якщо
+ * терміналів більше, ніж виборців, кілька терміналів працюють від імені одного виборця (повторні
+ * голоси отримують 409).
+ */
+public class HttpLoadTest {
+
+  private static final String PASSWORD = "loadtest-password";
+  private static final Pattern TOKEN = Pattern.compile("\"sessionToken\":\"([^\"]+)\"");
+
+  public static void main(String[] args) throws Exception {
+    int terminals = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    int voters = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+    if (System.getProperty(BinaryFilePath.DATA_DIR_PROPERTY) == null) {
+      System.setProperty(BinaryFilePath.DATA_DIR_PROPERTY,
+          Files.createTempDirectory("voting-load").toString());
+    }
+    System.out.println("Дані: " + System.getProperty(BinaryFilePath.DATA_DIR_PROPERTY));
+
+    Fixture fixture = seed(voters);
+
+    HttpApiServer server = new HttpApiServer(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    server.start();
+    String baseUrl = "http://127.0.0.1:" + server.port() + "/api";
+
+    try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+      HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .executor(threads)
+          .connectTimeout(Duration.ofSeconds(10))
+          .build();
+
+      String[] tokens = login(client, baseUrl, fixture.emails(), threads);
+      System.out.printf("Сесій: %d, терміналів: %d, тривалість: %d с%n",
+          tokens.length, terminals, seconds);
+
+      run(client, baseUrl, fixture, tokens, terminals, seconds, threads);
+    } finally {
+      server.stop();
+    }
+  }
+
+  // ==================== Setup ====================
+
+  private record Fixture(UUID electionId, List<UUID> candidateIds, List<String> emails) {
+
+  }
+
+  private static Fixture seed(int voters) {
+    DataContext context = DataContext.getInstance();
+
+    Region region = new Region("Тестовий регіон", "LOAD", "Навантажувальний тест");
+    context.regions().save(region);
+
+    LocalDateTime now = LocalDateTime.now();
+    Election election = new Election("Навантажувальні вибори", "HTTP load test",
+        now.minusHours(1), now.plusDays(1), ElectionStatus.ACTIVE);
+    context.elections().save(election);
+
+    List<UUID> candidateIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Candidate candidate = new Candidate("Кандидат", "Номер" + (char) ('А' + i),
+          String.format("LT%06d", i), null, election.getId(), null, null, null);
+      context.candidates().save(candidate);
+      candidateIds.add(candidate.getId());
+    }
+
+    // Хеш обчислюється один раз - Argon2 навмисно повільний
+    String passwordHash = PasswordHasher.hash(PASSWORD);
+    List<String> emails = new ArrayList<>(voters);
+    for (int i = 0; i < voters; i++) {
+      String email = "voter" + i + "@load.test";
+      context.registerNew(new Voter("Виборець", "Тестовий", email, passwordHash,
+          String.format("LV%06d", i), LocalDate.of(1990, 1, 1), VoterRole.VOTER,
+          region.getId()));
+      emails.add(email);
+    }
+    context.commit();
+
+    return new Fixture(election.getId(), candidateIds, emails);
+  }
+
+  private static String[] login(HttpClient client, String baseUrl, List<String> emails,
+      ExecutorService threads) throws Exception {
+    String[] tokens = new String[emails.size()];
+    List<java.util.concurrent.Future<?>> pending = new ArrayList<>();
+    for (int i = 0; i < emails.size(); i++) {
+      int index = i;
+      pending.add(threads.submit(() -> {
+        String body = "{\"email\":\"" + emails.get(index) + "\",\"password\":\"" + PASSWORD
+            + "\"}";
+        HttpResponse<String> response = send(client, post(baseUrl + "/auth/login", null, body));
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (!matcher.find()) {
+          throw new IllegalStateException("Вхід не вдався: " + response.body());
+        }
+        tokens[index] = matcher.group(1);
+        return null;
+      }));
+    }
+    for (java.util.concurrent.Future<?> future : pending) {
+      future.get();
+    }
+    return tokens;
+  }
+
+  // ==================== Load ====================
+
+  private static void run(HttpClient client, String baseUrl, Fixture fixture, String[] tokens,
+      int terminals, int seconds, ExecutorService threads) throws InterruptedException {
+    String election = baseUrl + "/elections/" + fixture.electionId();
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+    Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+    long[][] latencies = new long[terminals][];
+    int[] counts = new int[terminals];
+
+    long started = System.nanoTime();
+    List<Thread> workers = new ArrayList<>(terminals);
+    for (int t = 0; t < terminals; t++) {
+      int terminal = t;
+      workers.add(Thread.ofVirtual().start(() -> {
+        String token = tokens[terminal % tokens.length];
+        UUID candidate = fixture.candidateIds().get(terminal % fixture.candidateIds().size());
+        long[] samples = new long[1024];
+        int n = 0;
+
+        HttpRequest[] polls = {
+            get(baseUrl + "/elections/active", token),
+            get(election + "/candidates", token),
+            get(election + "/results", token)
+        };
+        HttpRequest vote = post(baseUrl + "/votes", token,
+            "{\"candidateId\":\"" + candidate + "\",\"electionId\":\"" + fixture.electionId()
+                + "\"}");
+
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+          HttpRequest request = i == 0 ? vote : polls[i % polls.length];
+          long begin = System.nanoTime();
+          int status;
+          try {
+            status = send(client, request).statusCode();
+          } catch (IOException e) {
+            status = -1;
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            break;
+          }
+          if (n == samples.length) {
+            samples = Arrays.copyOf(samples, n << 1);
+          }
+          samples[n++] = System.nanoTime() - begin;
+          statuses.computeIfAbsent(status, k -> new AtomicLong()).incrementAndGet();
+        }
+        latencies[terminal] = samples;
+        counts[terminal] = n;
+      }));
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    double elapsed = (System.nanoTime() - started) / 1e9;
+
+    report(latencies, counts, elapsed, statuses);
+  }
+
+  private static void report(long[][] latencies, int[] counts, double elapsed,
+      Map<Integer, AtomicLong> statuses) {
+    int total = Arrays.stream(counts).sum();
+    long[] all = new long[total];
+    int offset = 0;
+    for (int t = 0; t < latencies.length; t++) {
+      System.arraycopy(latencies[t], 0, all, offset, counts[t]);
+      offset += counts[t];
+    }
+    Arrays.sort(all);
+
+    System.out.println();
+    System.out.printf("Запитів:        %d за %.1f с%n", total, elapsed);
+    System.out.printf("Пропускна здатність: %.0f req/s%n", total / elapsed);
+    if (total > 0) {
+      System.out.printf("Затримка p50:   %.2f мс%n", percentile(all, 0.50) / 1e6);
+      System.out.printf("Затримка p99:   %.2f мс%n", percentile(all, 0.99) / 1e6);
+      System.out.printf("Затримка max:   %.2f мс%n", all[all.length - 1] / 1e6);
+    }
+    System.out.println("Статуси:        " + new TreeMap<>(statuses));
+  }
+
+  private static long percentile(long[] sorted, double p) {
+    int index = (int) Math.ceil(p * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  // ==================== HTTP ====================
+
+  private static HttpRequest get(String url, String token) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .header("Authorization", "Bearer " + token)
+        .GET()
+        .build();
+  }
+
+  private static HttpRequest post(String url, String token, String body) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body));
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder.build();
+  }
+
+  private static HttpResponse<String> send(HttpClient client, HttpRequest request)
+      throws IOException, InterruptedException {
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}
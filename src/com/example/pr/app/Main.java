@@ -1,15 +1,150 @@
 package com.example.pr.app;
 
-import com.example.pr.infrastructure.config.EmailConfig;
+import com.example.pr.domain.event.DataFileDamaged;
+import com.example.pr.domain.service.ElectionScheduler;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.IntegrityScanner;
+import com.example.pr.infrastructure.storage.IntegrityScanner.FileReport;
+import com.example.pr.infrastructure.storage.IntegrityScanner.Status;
+import com.example.pr.infrastructure.storage.backup.BackupManager;
+import com.example.pr.infrastructure.storage.backup.BackupManifest;
+import com.example.pr.infrastructure.storage.backup.BackupResult;
+import com.example.pr.infrastructure.storage.impl.DataContext;
 import com.example.pr.presentation.Application;
+import com.example.pr.presentation.http.HttpApiServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 
 /**
  * Точка входу в застосунок.
+ * <p>
+ * Без аргументів запускає консольний інтерфейс; {@code --http [port] [host]} - HTTP API для
+ * терміналів, за замовчуванням лише на локальному інтерфейсі (доступ з мережі - явною адресою,
+ * наприклад {@code 0.0.0.0});
+ * {@code --verify} - перевірка цілісності файлів даних (код виходу 1, якщо знайдено пошкодження);
+ * {@code --backup <dir> [--full]} - резервна копія даних; {@code --restore <dir> <час>} -
+ * відновлення на стан останньої копії, зробленої не пізніше вказаного часу (ISO-8601, наприклад
+ * {@code 2026-10-19T14:30:00}). Під час роботи HTTP API копії робляться за розкладом, якщо задано
+ * {@code backup.dir} ({@link StorageConfig}); окремий процес {@code --backup} не узгоджується із
+ * записами іншого процесу, тому його запускають при зупиненому застосунку.
  */
 public class Main {
 
-  public static void main(String[] args) {
+  private static final int DEFAULT_HTTP_PORT = 8080;
+
+  public static void main(String[] args) throws IOException {
+    // Перевірка не завантажує даних і не запускає планувальник
+    if (args.length > 0 && args[0].equals("--verify")) {
+      System.exit(verify() ? 0 : 1);
+    }
+    if (args.length > 1 && args[0].equals("--backup")) {
+      backup(Path.of(args[1]), args.length > 2 && args[2].equals("--full"));
+      return;
+    }
+    if (args.length > 2 && args[0].equals("--restore")) {
+      restore(Path.of(args[1]), args[2]);
+      return;
+    }
+
+    // Пошкоджений файл завантажується частково - про втрачені записи слід знати одразу
+    DataContext context = DataContext.getInstance();
+    context.damagedFiles().forEach(Main::printDamage);
+    context.events().subscribe(DataFileDamaged.class, Main::printDamage);
+
+    // Автоматичні переходи виборів за розкладом - в обох режимах
+    ElectionScheduler.getInstance();
+
+    if (args.length > 0 && args[0].equals("--http")) {
+      int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_HTTP_PORT;
+      HttpApiServer server = args.length > 2
+          ? HttpApiServer.start(new InetSocketAddress(args[2], port))
+          : HttpApiServer.start(port);
+      Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+      System.out.println("HTTP API запущено на " + server.address());
+      scheduleBackups();
+      return;
+    }
+
     Application app = new Application();
     app.run();
   }
+
+  private static void scheduleBackups() {
+    StorageConfig config = new StorageConfig();
+    if (config.getBackupDir() == null) {
+      return;
+    }
+    if (!StorageConfig.BACKEND_BINARY.equals(config.getBackend())) {
+      // Знімок жорсткими посиланнями узгоджений лише для файлів, що замінюються цілком
+      System.err.println("Резервні копії файлів підтримуються лише для сховища "
+          + StorageConfig.BACKEND_BINARY + ", а не " + config.getBackend());
+      return;
+    }
+    BackupManager backups = new BackupManager(Path.of(config.getBackupDir()));
+    backups.schedule(Duration.ofSeconds(config.getBackupIntervalSeconds()),
+        config.getFullBackupEvery(), Main::printBackup);
+    Runtime.getRuntime().addShutdownHook(new Thread(backups::close));
+    System.out.println("Резервні копії: " + config.getBackupDir() + " кожні "
+        + config.getBackupIntervalSeconds() + " с");
+  }
+
+  private static void backup(Path backupRoot, boolean full) {
+    printBackup(new BackupManager(backupRoot).backup(full));
+  }
+
+  private static void printBackup(BackupResult result) {
+    System.out.printf("Копія %s (%s): скопійовано %d файлів, %,d байт; без змін %d; "
+            + "записи стояли %.2f мс, всього %.1f мс%n", result.manifest().id(),
+        result.isIncremental() ? "інкрементна" : "повна", result.copiedFiles(),
+        result.copiedBytes(), result.reusedFiles(), result.pauseNanos() / 1e6,
+        result.totalNanos() / 1e6);
+  }
+
+  private static void printDamage(DataFileDamaged damaged) {
+    System.err.println("Файл " + damaged.file() + " пошкоджено, втрачено записів: "
+        + damaged.lost());
+    damaged.damages().forEach(damage -> System.err.println("  " + damage));
+    System.err.println(damaged.quarantined() != null
+        ? "Копію пошкодженого файлу збережено: " + damaged.quarantined()
+        : "Не вдалося зберегти пошкоджений файл у карантин");
+  }
+
+  private static void restore(Path backupRoot, String time) {
+    Instant pointInTime;
+    try {
+      pointInTime = time.endsWith("Z") ? Instant.parse(time)
+          : LocalDateTime.parse(time).atZone(ZoneId.systemDefault()).toInstant();
+    } catch (DateTimeParseException e) {
+      System.err.println("Невірний формат часу: " + time);
+      System.exit(2);
+      return;
+    }
+    BackupManifest manifest = BackupManager.restore(backupRoot, pointInTime,
+        Path.of(BinaryFilePath.getDataDir()));
+    System.out.println("Відновлено копію " + manifest.id() + " від " + manifest.created()
+        + " (" + manifest.entries().size() + " файлів)");
+  }
+
+  private static boolean verify() {
+    List<FileReport> reports = new IntegrityScanner().scan();
+    for (FileReport report : reports) {
+      String format = report.format() != null ? report.format() : "невідомий";
+      System.out.printf("%-9s %-10s %8d  %s%n", report.status(), format,
+          report.verification().records(), report.file());
+      report.verification().damages().forEach(damage -> System.out.println("    " + damage));
+    }
+    long damaged = reports.stream().filter(r -> r.status() == Status.DAMAGED).count();
+    long unchecked = reports.stream().filter(r -> r.status() == Status.UNCHECKED).count();
+    System.out.printf("Файлів: %d, пошкоджено: %d, без контрольних сум: %d%n", reports.size(),
+        damaged, unchecked);
+    return damaged == 0;
+  }
 }
@@ -0,0 +1,129 @@
+package com.example.pr.app;
+
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import com.example.pr.infrastructure.storage.memory.MemoryStorage;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Масштабування читання у сховищі в пам'яті ({@link MemoryStorage}) з кількістю потоків.
+ * <p>
+ * Записує виборців і голоси, після чого однаковий час на 1, 2, 4... потоках виконує суміш
+ * запитів за вторинними індексами: пошук виборця за email і паспортом, перевірку участі і
+ * підрахунок голосів за кандидата. Друкує пропускну здатність і прискорення відносно одного
+ * потоку; при читанні без блокувань воно близьке до лінійного, доки потоків не більше за ядра.
+ * <p>
+ * Аргументи: {@code [voters] [seconds] [maxThreads]}, за замовчуванням {@code 100000 3} і
+ * кількість ядер.
+ */
+public class MemoryReadBenchmark {
+
+  private static final int ELECTIONS = 10;
+  private static final int CANDIDATES = 5;
+
+  public static void main(String[] args) throws InterruptedException {
+    int voterCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+    int maxThreads = args.length > 2 ? Integer.parseInt(args[2])
+        : Runtime.getRuntime().availableProcessors();
+
+    MemoryStorage storage = new MemoryStorage(new EventBus());
+    VoterRepository voters = storage.voters();
+    VoteRepository votes = storage.votes();
+
+    UUID region = UUID.randomUUID();
+    UUID[] elections = new UUID[ELECTIONS];
+    Arrays.setAll(elections, i -> UUID.randomUUID());
+    UUID[] candidates = new UUID[ELECTIONS * CANDIDATES];
+    Arrays.setAll(candidates, i -> UUID.randomUUID());
+
+    List<Voter> seed = new ArrayList<>(voterCount);
+    for (int i = 0; i < voterCount; i++) {
+      seed.add(new Voter("Іван", "Петренко", email(i), "hash", passport(i),
+          LocalDate.of(1990, 1, 1), VoterRole.VOTER, region));
+    }
+    voters.saveAll(seed);
+    List<Vote> ballots = new ArrayList<>(voterCount);
+    for (int i = 0; i < voterCount; i++) {
+      int election = i % ELECTIONS;
+      ballots.add(new Vote(seed.get(i).getId(),
+          candidates[election * CANDIDATES + i % CANDIDATES], elections[election],
+          LocalDateTime.now()));
+    }
+    votes.saveAll(ballots);
+    UUID[] voterIds = seed.stream().map(Voter::getId).toArray(UUID[]::new);
+    System.out.printf("Виборців: %,d, голосів: %,d у %d виборах, фаза: %d с%n%n", voterCount,
+        voterCount, ELECTIONS, seconds);
+
+    // Прогрів JIT, щоб перша фаза не занижувала базу для прискорення
+    run(maxThreads, 1, voters, votes, voterIds, elections, candidates);
+
+    System.out.printf("%8s %16s %12s%n", "потоків", "запитів/с", "прискорення");
+    double single = 0;
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      double throughput = run(threads, seconds, voters, votes, voterIds, elections, candidates);
+      if (threads == 1) {
+        single = throughput;
+      }
+      System.out.printf("%8d %,16.0f %11.2fx%n", threads, throughput, throughput / single);
+    }
+  }
+
+  /**
+   * Виконує суміш запитів на {@code threads} потоках протягом фази.
+   *
+   * @return запитів за секунду
+   */
+  private static double run(int threads, int seconds, VoterRepository voters,
+      VoteRepository votes, UUID[] voterIds, UUID[] elections, UUID[] candidates)
+      throws InterruptedException {
+    AtomicBoolean running = new AtomicBoolean(true);
+    LongAdder operations = new LongAdder();
+    List<Thread> workers = new ArrayList<>(threads);
+    for (int t = 0; t < threads; t++) {
+      workers.add(new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long done = 0;
+        while (running.get()) {
+          int i = random.nextInt(voterIds.length);
+          int election = i % ELECTIONS;
+          voters.findByEmail(email(i));
+          voters.existsByPassportNumber(passport(i));
+          votes.hasVoted(voterIds[i], elections[election]);
+          votes.countByCandidateAndElection(candidates[election * CANDIDATES + i % CANDIDATES],
+              elections[election]);
+          done += 4;
+        }
+        operations.add(done);
+      }, "reader-" + t));
+    }
+    long start = System.nanoTime();
+    workers.forEach(Thread::start);
+    Thread.sleep(seconds * 1000L);
+    running.set(false);
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return operations.sum() / ((System.nanoTime() - start) / 1e9);
+  }
+
+  private static String email(int i) {
+    return "voter" + i + "@bench.ua";
+  }
+
+  private static String passport(int i) {
+    return String.format("AA%06d", i);
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.pr.app;
+
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.service.PasswordHasher;
+import com.example.pr.infrastructure.storage.format.StorageFormat;
+import com.example.pr.infrastructure.storage.format.StorageFormats;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+/**
+ * Порівняння форматів файлів даних на файлі виборців.
+ * <p>
+ * Записує однаковий набір виборців у початковому форматі (Java Serialization всього списку) і у
+ * форматі стиснутих блоків, після чого друкує розмір файлу, час повного читання та затримку
+ * точкового пошуку за ID. Для початкового формату точковий пошук - це читання всього файлу.
+ * <p>
+ * Аргументи: {@code [voters] [blockSize] [lookups]}, за замовчуванням {@code 100000 256 2000}.
+ */
+public class StorageFormatBenchmark {
+
+  private static final int LOAD_RUNS = 5;
+  private static final String[] FIRST_NAMES = {"Іван", "Олена", "Петро", "Марія", "Андрій",
+      "Наталія", "Сергій", "Оксана", "Дмитро", "Ірина"};
+  private static final String[] LAST_NAMES = {"Шевченко", "Коваленко", "Бондаренко", "Ткаченко",
+      "Кравченко", "Олійник", "Мельник", "Поліщук", "Лисенко", "Савченко"};
+
+  public static void main(String[] args) throws IOException {
+    int voters = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int blockSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+    int lookups = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+    List<Voter> entities = generate(voters);
+    Path dir = Files.createTempDirectory("voting-format");
+    System.out.printf("Виборців: %,d, розмір блоку: %d, директорія: %s%n%n", voters, blockSize,
+        dir);
+
+    System.out.printf("%-12s %12s %12s %12s %14s %14s%n", "формат", "розмір", "запис, мс",
+        "читання, мс", "пошук p50, мс", "пошук p99, мс");
+    run("serialized", StorageFormats.serialized(), entities, dir, lookups);
+    run("blocks", StorageFormats.blocks(blockSize, Deflater.BEST_SPEED), entities, dir, lookups);
+    run("blocks-max", StorageFormats.blocks(blockSize, Deflater.BEST_COMPRESSION), entities, dir,
+        lookups);
+  }
+
+  private static void run(String label, StorageFormat format, List<Voter> entities, Path dir,
+      int lookups) throws IOException {
+    Path file = dir.resolve(label + ".dat");
+
+    long start = System.nanoTime();
+    format.write(file, entities);
+    double writeMs = (System.nanoTime() - start) / 1e6;
+
+    double[] loads = new double[LOAD_RUNS];
+    for (int i = 0; i < LOAD_RUNS; i++) {
+      start = System.nanoTime();
+      List<Voter> loaded = format.read(file);
+      loads[i] = (System.nanoTime() - start) / 1e6;
+      if (loaded.size() != entities.size()) {
+        throw new IllegalStateException("Прочитано " + loaded.size() + " з " + entities.size());
+      }
+    }
+    Arrays.sort(loads);
+
+    // Без точкового пошуку - читання всього файлу; таких вимірів менше
+    int samples = format.supportsLookup() ? lookups : Math.min(lookups, LOAD_RUNS * 4);
+    Random random = new Random(42);
+    double[] latencies = new double[samples];
+    for (int i = 0; i < samples; i++) {
+      UUID id = entities.get(random.nextInt(entities.size())).getId();
+      start = System.nanoTime();
+      boolean found = format.supportsLookup()
+          ? format.find(file, id).isPresent()
+          : format.<Voter>read(file).stream().anyMatch(v -> v.getId().equals(id));
+      latencies[i] = (System.nanoTime() - start) / 1e6;
+      if (!found) {
+        throw new IllegalStateException("Не знайдено " + id);
+      }
+    }
+    Arrays.sort(latencies);
+
+    System.out.printf("%-12s %12s %12.1f %12.1f %14.3f %14.3f%n", label, bytes(Files.size(file)),
+        writeMs, loads[LOAD_RUNS / 2], percentile(latencies, 0.50), percentile(latencies, 0.99));
+    Files.delete(file);
+  }
+
+  private static List<Voter> generate(int count) {
+    Random random = new Random(7);
+    // Хеш однаковий для всіх - його обчислення займало б більше часу, ніж сам тест
+    String hash = PasswordHasher.hash("benchmark-password");
+    UUID[] regions = new UUID[25];
+    Arrays.setAll(regions, i -> UUID.randomUUID());
+
+    List<Voter> voters = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      voters.add(new Voter(
+          FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+          LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+          "voter" + i + "@example.com",
+          hash,
+          String.format("AB%06d", i % 1_000_000),
+          LocalDate.of(1940 + random.nextInt(65), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+          i % 50 == 0 ? VoterRole.OBSERVER : VoterRole.VOTER,
+          regions[random.nextInt(regions.length)]));
+    }
+    return voters;
+  }
+
+  private static double percentile(double[] sorted, double p) {
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+  }
+
+  private static String bytes(long size) {
+    return size >= 1 << 20 ? String.format("%.1f МБ", size / (double) (1 << 20))
+        : String.format("%.1f КБ", size / 1024.0);
+  }
+}
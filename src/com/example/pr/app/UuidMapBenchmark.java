@@ -0,0 +1,123 @@
+package com.example.pr.app;
+
+import com.example.pr.infrastructure.storage.UuidMap;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Порівняння {@link UuidMap} з {@code HashMap<UUID, V>} за швидкістю і пам'яттю.
+ * <p>
+ * Для кожної таблиці заповнює її випадковими UUID, після чого друкує пропускну здатність вставки,
+ * пошуку наявних і відсутніх ключів та байти heap на запис. Значення - один спільний об'єкт, тому
+ * пам'ять - це лише вартість самої таблиці разом з ключами, які вона тримає. Ключі генеруються
+ * з тих самих зерен, тож обидві таблиці отримують однакові дані.
+ * <p>
+ * Аргументи: {@code [entries] [rounds]}, за замовчуванням {@code 10000000 3}. Для 10 млн записів
+ * потрібно близько 2 ГБ heap, наприклад {@code -Xmx3g}.
+ */
+public class UuidMapBenchmark {
+
+  private static final long SEED = 42;
+  private static final long MISS_SEED = 4242;
+  private static final Object VALUE = new Object();
+
+  public static void main(String[] args) {
+    int entries = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+    System.out.printf("Записів: %,d, повторів: %d%n%n", entries, rounds);
+    System.out.printf("%-14s %14s %14s %14s %12s%n", "таблиця", "вставка/с", "пошук/с",
+        "промах/с", "байт/запис");
+
+    // Перший повтор - прогрів JIT, друкуються всі, щоб було видно розкид
+    for (int round = 0; round < rounds; round++) {
+      measure("UuidMap", entries, new UuidMapTable());
+      measure("HashMap", entries, new HashMapTable());
+    }
+  }
+
+  private static void measure(String name, int entries, Table table) {
+    long before = usedHeap();
+
+    long start = System.nanoTime();
+    SplittableRandom keys = new SplittableRandom(SEED);
+    for (int i = 0; i < entries; i++) {
+      table.put(new UUID(keys.nextLong(), keys.nextLong()));
+    }
+    double putRate = entries / ((System.nanoTime() - start) / 1e9);
+
+    double bytesPerEntry = (double) (usedHeap() - before) / entries;
+
+    start = System.nanoTime();
+    keys = new SplittableRandom(SEED);
+    int found = 0;
+    for (int i = 0; i < entries; i++) {
+      found += table.contains(new UUID(keys.nextLong(), keys.nextLong())) ? 1 : 0;
+    }
+    double getRate = entries / ((System.nanoTime() - start) / 1e9);
+
+    start = System.nanoTime();
+    keys = new SplittableRandom(MISS_SEED);
+    int missed = 0;
+    for (int i = 0; i < entries; i++) {
+      missed += table.contains(new UUID(keys.nextLong(), keys.nextLong())) ? 0 : 1;
+    }
+    double missRate = entries / ((System.nanoTime() - start) / 1e9);
+
+    if (found != entries || missed != entries) {
+      throw new IllegalStateException(name + ": знайдено " + found + ", промахів " + missed);
+    }
+    System.out.printf("%-14s %,14.0f %,14.0f %,14.0f %12.1f%n", name, putRate, getRate, missRate,
+        bytesPerEntry);
+    Reference.reachabilityFence(table);
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  // ==================== Tables ====================
+
+  private interface Table {
+
+    void put(UUID key);
+
+    boolean contains(UUID key);
+  }
+
+  private static final class UuidMapTable implements Table {
+
+    private final UuidMap<Object> map = new UuidMap<>();
+
+    @Override
+    public void put(UUID key) {
+      map.put(key, VALUE);
+    }
+
+    @Override
+    public boolean contains(UUID key) {
+      return map.get(key) != null;
+    }
+  }
+
+  private static final class HashMapTable implements Table {
+
+    private final Map<UUID, Object> map = new HashMap<>();
+
+    @Override
+    public void put(UUID key) {
+      map.put(key, VALUE);
+    }
+
+    @Override
+    public boolean contains(UUID key) {
+      return map.get(key) != null;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.pr.app.simulation;
+
+/**
+ * Форма потоку голосів протягом симуляції. Кожна крива повертає частку пікової інтенсивності для
+ * моменту {@code t} від 0 (початок) до 1 (кінець).
+ */
+enum ArrivalCurve {
+
+  /**
+   * Стала інтенсивність.
+   */
+  FLAT {
+    @Override
+    double rate(double t) {
+      return 1.0;
+    }
+  },
+
+  /**
+   * Лінійне зростання від нуля до піку.
+   */
+  RAMP {
+    @Override
+    double rate(double t) {
+      return t;
+    }
+  },
+
+  /**
+   * День виборів: ранковий і вищий вечірній піки на помірному фоні.
+   */
+  ELECTION_DAY {
+    @Override
+    double rate(double t) {
+      return 0.2 + 0.5 * bell(t, 0.25, 0.08) + 0.8 * bell(t, 0.8, 0.1);
+    }
+  },
+
+  /**
+   * Фон з короткими сплесками у 5 разів вищими (масовий прихід після оголошень).
+   */
+  BURST {
+    @Override
+    double rate(double t) {
+      return (t * 10) % 1.0 < 0.1 ? 1.0 : 0.2;
+    }
+  };
+
+  /**
+   * Частка пікової інтенсивності у момент {@code t} (0..1).
+   */
+  abstract double rate(double t);
+
+  private static double bell(double t, double center, double width) {
+    double x = (t - center) / width;
+    return Math.exp(-x * x / 2);
+  }
+}
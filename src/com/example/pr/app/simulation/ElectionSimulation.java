@@ -0,0 +1,410 @@
+package com.example.pr.app.simulation;
+
+import com.example.pr.app.simulation.PopulationGenerator.Population;
+import com.example.pr.domain.dto.election.ElectionResponseDto;
+import com.example.pr.domain.dto.vote.VoteCreateDto;
+import com.example.pr.domain.dto.vote.VoteResultDto;
+import com.example.pr.domain.service.ElectionService;
+import com.example.pr.domain.service.VoteService;
+import com.example.pr.domain.service.VoterService;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.WriteStatistics;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Симуляція дня виборів без зовнішніх сервісів.
+ * <p>
+ * Генерує населення ({@link PopulationGenerator}) в окремій директорії даних, а потім подає
+ * голоси у {@link VoteService#vote} з багатьох клієнтських потоків з інтенсивністю, заданою
+ * кривою {@link ArrivalCurve}. Паралельно окремі потоки опитують результати
+ * ({@link VoteService#getResults}) і ту ж статистику, що показує адміністративне меню.
+ * <p>
+ * Модель навантаження відкрита: темп задає крива, а не швидкість відповіді, тому якщо система не
+ * встигає, росте черга неподаних голосів. Кожні {@code --report} секунд друкується рядок з
+ * пропускною здатністю, затримками, чергою, пам'яттю і розміром файлів; наприкінці - підсумок і
+ * звірка кількості голосів з результатами.
+ * <p>
+ * Приклад: {@code java ... ElectionSimulation --voters=1000000 --clients=500 --rate=5000}
+ */
+public class ElectionSimulation {
+
+  private static final long PACER_TICK_MILLIS = 10;
+
+  private final SimulationConfig config;
+  private final Path dataDir;
+
+  private final VoteService voteService = new VoteService();
+  private final VoterService voterService = new VoterService();
+  private final ElectionService electionService = new ElectionService();
+
+  private final LatencyHistogram voteLatency = new LatencyHistogram();
+  private final LatencyHistogram resultsLatency = new LatencyHistogram();
+  private final LatencyHistogram statsLatency = new LatencyHistogram();
+  private final IntervalView interval = new IntervalView();
+
+  private final LongAdder accepted = new LongAdder();
+  private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+  private final AtomicLong nextTicket = new AtomicLong();
+  private final Semaphore tickets = new Semaphore(0);
+  private volatile boolean stopped;
+
+  private long peakHeapUsed;
+
+  private ElectionSimulation(SimulationConfig config, Path dataDir) {
+    this.config = config;
+    this.dataDir = dataDir;
+  }
+
+  public static void main(String[] args) throws Exception {
+    SimulationConfig config;
+    try {
+      config = SimulationConfig.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println("Параметри: --regions --parties --elections --candidates --voters "
+          + "--turnout --clients --pollers --poll-interval --duration --rate "
+          + "--curve=flat|ramp|election-day|burst --report --data-dir");
+      System.exit(2);
+      return;
+    }
+
+    // Директорію потрібно задати до першого звернення до DataContext
+    Path dataDir = config.dataDir() != null
+        ? Path.of(config.dataDir())
+        : Files.createTempDirectory("voting-sim");
+    System.setProperty(BinaryFilePath.DATA_DIR_PROPERTY, dataDir.toString());
+
+    new ElectionSimulation(config, dataDir).run();
+  }
+
+  private void run() throws InterruptedException {
+    System.out.println("Симуляція: " + config);
+    System.out.println("Дані: " + dataDir.toAbsolutePath());
+
+    long started = System.nanoTime();
+    Population population = new PopulationGenerator(config, DataContext.getInstance()).generate();
+    System.out.printf("Населення згенеровано за %.1f с; файли: %s; heap: %s%n",
+        (System.nanoTime() - started) / 1e9, bytes(dataSize()), heap());
+
+    runVoting(population);
+    printSummary(population);
+  }
+
+  // ==================== Voting phase ====================
+
+  private void runVoting(Population population) throws InterruptedException {
+    long expected = config.expectedVotes();
+    long votingVoters = expected / config.elections();
+    long stride = strideFor(votingVoters);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < config.clients(); i++) {
+      threads.add(Thread.ofVirtual().name("sim-client-" + i)
+          .start(() -> castVotes(population, expected, votingVoters, stride)));
+    }
+    for (int i = 0; i < config.pollers(); i++) {
+      int poller = i;
+      threads.add(Thread.ofVirtual().name("sim-poller-" + i)
+          .start(() -> poll(population, poller)));
+    }
+
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+    long started = System.nanoTime();
+    interval.since = started;
+    reporter.scheduleAtFixedRate(() -> report(started), config.reportSeconds(),
+        config.reportSeconds(), TimeUnit.SECONDS);
+    printHeader();
+
+    pace(started, expected);
+
+    stopped = true;
+    tickets.release(config.clients());
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    reporter.shutdownNow();
+    report(started);
+  }
+
+  /**
+   * Видає дозволи на голоси згідно з кривою: інтеграл інтенсивності за час від початку.
+   */
+  private void pace(long started, long expected) throws InterruptedException {
+    long durationNanos = TimeUnit.SECONDS.toNanos(config.durationSeconds());
+    double target = 0;
+    long issued = 0;
+    long previous = started;
+
+    while (issued < expected) {
+      Thread.sleep(PACER_TICK_MILLIS);
+      long now = System.nanoTime();
+      if (now - started >= durationNanos) {
+        break;
+      }
+      double t = (double) (now - started) / durationNanos;
+      target += config.peakRate() * config.curve().rate(t) * (now - previous) / 1e9;
+      previous = now;
+
+      long release = Math.min((long) target, expected) - issued;
+      if (release > 0) {
+        tickets.release((int) Math.min(release, Integer.MAX_VALUE));
+        issued += release;
+      }
+    }
+  }
+
+  private void castVotes(Population population, long expected, long votingVoters, long stride) {
+    while (true) {
+      try {
+        tickets.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      long ticket = nextTicket.getAndIncrement();
+      if (stopped || ticket >= expected) {
+        return;
+      }
+
+      // Квиток -> (вибори, виборець); виборці переставлені, щоб голоси йшли не по порядку
+      int election = (int) (ticket % config.elections());
+      int voter = (int) ((ticket / config.elections()) * stride % votingVoters);
+      UUID electionId = population.electionIds().get(election);
+      UUID candidateId = pickCandidate(population.candidateIds().get(election));
+
+      long begin = System.nanoTime();
+      try {
+        voteService.vote(new VoteCreateDto(population.voterIds()[voter], candidateId,
+            electionId));
+        accepted.increment();
+      } catch (RuntimeException e) {
+        errors.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+      }
+      long elapsed = System.nanoTime() - begin;
+      voteLatency.record(elapsed);
+      interval.votes.record(elapsed);
+    }
+  }
+
+  /**
+   * Кандидати отримують голоси за законом Ципфа: перший - найбільше.
+   */
+  private static UUID pickCandidate(List<UUID> candidates) {
+    double harmonic = 0;
+    for (int i = 1; i <= candidates.size(); i++) {
+      harmonic += 1.0 / i;
+    }
+    double r = ThreadLocalRandom.current().nextDouble() * harmonic;
+    for (int i = 0; i < candidates.size(); i++) {
+      r -= 1.0 / (i + 1);
+      if (r <= 0) {
+        return candidates.get(i);
+      }
+    }
+    return candidates.get(candidates.size() - 1);
+  }
+
+  private void poll(Population population, int poller) {
+    List<UUID> elections = population.electionIds();
+    for (int i = poller; !stopped; i++) {
+      long begin = System.nanoTime();
+      try {
+        if (i % 2 == 0) {
+          voteService.getResults(elections.get(i / 2 % elections.size()));
+          record(resultsLatency, interval.results, begin);
+        } else {
+          adminStatistics();
+          record(statsLatency, interval.stats, begin);
+        }
+      } catch (RuntimeException e) {
+        errors.computeIfAbsent("poll:" + e.getClass().getSimpleName(), k -> new LongAdder())
+            .increment();
+      }
+
+      try {
+        Thread.sleep(config.pollIntervalMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Ті самі запити, що виконує "Статистика системи" в адміністративному меню.
+   */
+  private void adminStatistics() {
+    voterService.statistics();
+    for (ElectionResponseDto election : electionService.statistics().active()) {
+      voteService.countByElection(election.id());
+    }
+  }
+
+  private static void record(LatencyHistogram total, LatencyHistogram interval, long begin) {
+    long elapsed = System.nanoTime() - begin;
+    total.record(elapsed);
+    interval.record(elapsed);
+  }
+
+  // ==================== Reporting ====================
+
+  private void printHeader() {
+    System.out.println();
+    System.out.printf("%6s %10s %8s %8s %8s %8s %9s %9s %8s %10s %10s%n", "t,с", "голосів",
+        "гол/с", "p50,мс", "p99,мс", "max,мс", "рез.p99", "стат.p99", "черга", "heap", "файли");
+  }
+
+  private synchronized void report(long started) {
+    LatencyHistogram votes = interval.votes.drain();
+    LatencyHistogram results = interval.results.drain();
+    LatencyHistogram stats = interval.stats.drain();
+    long now = System.nanoTime();
+    double seconds = (now - interval.since) / 1e9;
+    interval.since = now;
+
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    peakHeapUsed = Math.max(peakHeapUsed, heap.getUsed());
+
+    System.out.printf("%6.0f %,10d %8.0f %8.2f %8.2f %8.2f %9.2f %9.2f %,8d %10s %10s%n",
+        (now - started) / 1e9, accepted.sum(), votes.count() / seconds,
+        millis(votes.percentile(0.5)), millis(votes.percentile(0.99)), millis(votes.max()),
+        millis(results.percentile(0.99)), millis(stats.percentile(0.99)),
+        tickets.availablePermits(), bytes(heap.getUsed()), bytes(dataSize()));
+  }
+
+  private void printSummary(Population population) {
+    System.out.println();
+    System.out.println("=== Підсумок ===");
+    System.out.printf("Прийнято голосів: %,d з %,d запланованих%n", accepted.sum(),
+        config.expectedVotes());
+    System.out.println("Помилки: " + (errors.isEmpty() ? "немає" : new TreeMap<>(errors)));
+    printLatency("Голосування", voteLatency);
+    printLatency("Результати", resultsLatency);
+    printLatency("Статистика", statsLatency);
+    System.out.println("Конвеєр голосів: " + voteService.pipelineMetrics());
+    WriteStatistics writes = DataContext.getInstance().getWriteStatistics();
+    System.out.printf("Записи сутностей: %,d, пропущено без змін: %,d (%.1f%%)%n",
+        writes.written(), writes.skipped(), writes.skippedPercent());
+
+    System.out.printf("Heap: пік %s, зараз %s%n", bytes(peakHeapUsed), heap());
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      System.out.printf("GC %s: %d збірок, %d мс%n", gc.getName(), gc.getCollectionCount(),
+          gc.getCollectionTime());
+    }
+
+    System.out.println("Файли даних:");
+    try (Stream<Path> entries = Files.list(dataDir)) {
+      entries.sorted().forEach(entry -> System.out.printf("  %-24s %10s%n",
+          entry.getFileName(), bytes(sizeOf(entry))));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // Звірка: сума результатів має збігатися з кількістю прийнятих голосів
+    long counted = 0;
+    for (UUID electionId : population.electionIds()) {
+      for (VoteResultDto result : voteService.getResults(electionId)) {
+        counted += result.voteCount();
+      }
+    }
+    System.out.printf("Звірка результатів: %,d голосів у результатах - %s%n", counted,
+        counted == accepted.sum() ? "збігається" : "НЕ ЗБІГАЄТЬСЯ");
+  }
+
+  private static void printLatency(String name, LatencyHistogram histogram) {
+    System.out.printf("%-12s n=%,d  p50=%.2f  p90=%.2f  p99=%.2f  p99.9=%.2f  max=%.2f мс%n",
+        name, histogram.count(), millis(histogram.percentile(0.5)),
+        millis(histogram.percentile(0.9)), millis(histogram.percentile(0.99)),
+        millis(histogram.percentile(0.999)), millis(histogram.max()));
+  }
+
+  // ==================== Helper Methods ====================
+
+  /**
+   * Крок перестановки виборців: взаємно простий з їх кількістю, тому {@code i * stride mod n}
+   * обходить усіх рівно по одному разу.
+   */
+  private static long strideFor(long n) {
+    long stride = 7_919;
+    while (n > 1 && gcd(stride, n) != 1) {
+      stride += 2;
+    }
+    return stride;
+  }
+
+  private static long gcd(long a, long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  private long dataSize() {
+    return sizeOf(dataDir);
+  }
+
+  private static long sizeOf(Path path) {
+    try (Stream<Path> files = Files.walk(path)) {
+      return files.filter(Files::isRegularFile).mapToLong(file -> {
+        try {
+          return Files.size(file);
+        } catch (IOException e) {
+          return 0; // файл підмінили під час обходу
+        }
+      }).sum();
+    } catch (IOException | UncheckedIOException e) {
+      return -1;
+    }
+  }
+
+  private static String heap() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    return bytes(heap.getUsed()) + " / " + bytes(heap.getCommitted());
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1e6;
+  }
+
+  private static String bytes(long bytes) {
+    if (bytes < 0) {
+      return "?";
+    }
+    if (bytes < 1024 * 1024) {
+      return String.format("%.1f KB", bytes / 1024.0);
+    }
+    if (bytes < 1024L * 1024 * 1024) {
+      return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+    return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+  }
+
+  /**
+   * Гістограми поточного інтервалу звіту.
+   */
+  private static final class IntervalView {
+
+    final LatencyHistogram votes = new LatencyHistogram();
+    final LatencyHistogram results = new LatencyHistogram();
+    final LatencyHistogram stats = new LatencyHistogram();
+    long since = System.nanoTime();
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.pr.app.simulation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гістограма затримок з логарифмічними кошиками (16 підкошиків на степінь двійки, похибка до
+ * ~6%). Запис без блокувань, тому придатна для тисяч потоків; пам'ять не залежить від кількості
+ * вимірювань.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Записує одне вимірювання у наносекундах.
+   */
+  void record(long nanos) {
+    counts.incrementAndGet(indexOf(Math.max(nanos, 1)));
+    total.increment();
+    max.accumulate(nanos);
+  }
+
+  long count() {
+    return total.sum();
+  }
+
+  long max() {
+    return max.get();
+  }
+
+  /**
+   * Значення перцентиля (верхня межа кошика) у наносекундах; 0, якщо вимірювань немає.
+   */
+  long percentile(double p) {
+    long n = count();
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(p * n));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(upperBound(i), max());
+      }
+    }
+    return max();
+  }
+
+  /**
+   * Повертає копію накопиченого і обнуляє гістограму (для звітів за інтервал). Вимірювання, що
+   * потрапили між копіюванням і обнуленням окремих кошиків, можуть загубитись - для звітності
+   * це прийнятно.
+   */
+  LatencyHistogram drain() {
+    LatencyHistogram copy = new LatencyHistogram();
+    for (int i = 0; i < BUCKETS; i++) {
+      long c = counts.getAndSet(i, 0);
+      if (c != 0) {
+        copy.counts.set(i, c);
+        copy.total.add(c);
+      }
+    }
+    total.reset();
+    copy.max.accumulate(max.getThenReset());
+    return copy;
+  }
+
+  private static int indexOf(long value) {
+    int magnitude = 63 - Long.numberOfLeadingZeros(value);
+    if (magnitude < SUB_BUCKET_BITS) {
+      return (int) value;
+    }
+    int sub = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  private static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long sub = index % SUB_BUCKETS;
+    int shift = magnitude - SUB_BUCKET_BITS;
+    return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+  }
+}
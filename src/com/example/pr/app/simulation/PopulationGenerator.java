@@ -0,0 +1,163 @@
+package com.example.pr.app.simulation;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Party;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.service.PasswordHasher;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Генерує синтетичне населення: регіони, партії, активні вибори з кандидатами та виборців з
+ * унікальними валідними паспортами і email. Генерація детермінована (фіксований seed), тому
+ * прогони з однаковими параметрами можна порівнювати між собою.
+ */
+final class PopulationGenerator {
+
+  private static final long SEED = 20_260_101L;
+  private static final int VOTER_BATCH = 100_000;
+  private static final String PASSWORD = "simulation-password";
+
+  private static final String[] FIRST_NAMES = {
+      "Олександр", "Андрій", "Марія", "Олена", "Іван", "Наталія", "Сергій", "Ірина",
+      "Дмитро", "Тетяна", "Микола", "Оксана", "Василь", "Юлія", "Петро", "Катерина"
+  };
+  private static final String[] LAST_NAMES = {
+      "Шевченко", "Коваленко", "Бондаренко", "Ткаченко", "Кравченко", "Олійник",
+      "Шевчук", "Поліщук", "Бойко", "Мельник", "Лисенко", "Марченко", "Савченко", "Руденко"
+  };
+
+  private final SimulationConfig config;
+  private final DataContext context;
+  private final SplittableRandom random = new SplittableRandom(SEED);
+
+  PopulationGenerator(SimulationConfig config, DataContext context) {
+    this.config = config;
+    this.context = context;
+  }
+
+  /**
+   * Згенероване населення.
+   *
+   * @param electionIds ідентифікатори виборів
+   * @param candidateIds кандидати кожних виборів (у тому ж порядку, що й вибори)
+   * @param voterIds ідентифікатори виборців
+   */
+  record Population(List<UUID> electionIds, List<List<UUID>> candidateIds, UUID[] voterIds) {
+
+  }
+
+  Population generate() {
+    List<UUID> regionIds = generateRegions();
+    List<String> partyCodes = generateParties();
+
+    List<UUID> electionIds = new ArrayList<>(config.elections());
+    List<List<UUID>> candidateIds = new ArrayList<>(config.elections());
+    for (int e = 0; e < config.elections(); e++) {
+      Election election = generateElection(e);
+      electionIds.add(election.getId());
+      candidateIds.add(generateCandidates(e, election.getId(), partyCodes));
+    }
+
+    UUID[] voterIds = generateVoters(regionIds);
+    return new Population(List.copyOf(electionIds), List.copyOf(candidateIds), voterIds);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private List<UUID> generateRegions() {
+    List<Region> regions = new ArrayList<>(config.regions());
+    for (int i = 0; i < config.regions(); i++) {
+      regions.add(new Region("Регіон " + (i + 1), "R" + letters(i, 3), "Синтетичний регіон"));
+    }
+    return context.regions().saveAll(regions).stream().map(Region::getId).toList();
+  }
+
+  private List<String> generateParties() {
+    List<Party> parties = new ArrayList<>(config.parties());
+    for (int i = 0; i < config.parties(); i++) {
+      parties.add(new Party("P" + (i + 1), "Партія " + (i + 1), "П" + letters(i, 2), null,
+          null));
+    }
+    return context.parties().saveAll(parties).stream().map(Party::getPartyCode).toList();
+  }
+
+  private Election generateElection(int index) {
+    LocalDateTime now = LocalDateTime.now();
+    // Вибори тривають довше за симуляцію, щоб жоден голос не відхилявся за часом
+    LocalDateTime end = now.plus(Duration.ofSeconds(config.durationSeconds())).plusDays(1);
+    return context.elections().save(new Election("Симульовані вибори " + (index + 1),
+        "Навантажувальна симуляція", now.minusHours(1), end, ElectionStatus.ACTIVE));
+  }
+
+  private List<UUID> generateCandidates(int election, UUID electionId, List<String> partyCodes) {
+    List<Candidate> candidates = new ArrayList<>(config.candidates());
+    for (int i = 0; i < config.candidates(); i++) {
+      int serial = election * config.candidates() + i;
+      candidates.add(new Candidate(pick(FIRST_NAMES), pick(LAST_NAMES), passport(serial, true),
+          partyCodes.get(i % partyCodes.size()), electionId, null, null, null));
+    }
+    return context.candidates().saveAll(candidates).stream().map(Candidate::getId).toList();
+  }
+
+  private UUID[] generateVoters(List<UUID> regionIds) {
+    // Argon2 навмисно повільний - один хеш на всіх виборців
+    String passwordHash = PasswordHasher.hash(PASSWORD);
+    LocalDate today = LocalDate.now();
+
+    UUID[] ids = new UUID[config.voters()];
+    List<Voter> batch = new ArrayList<>(Math.min(VOTER_BATCH, config.voters()));
+    for (int i = 0; i < config.voters(); i++) {
+      LocalDate birthDate = today.minusYears(18 + random.nextInt(70))
+          .minusDays(random.nextInt(365));
+      Voter voter = new Voter(pick(FIRST_NAMES), pick(LAST_NAMES),
+          "voter" + i + "@sim.example.com", passwordHash, passport(i, false), birthDate,
+          VoterRole.VOTER, regionIds.get(random.nextInt(regionIds.size())));
+      ids[i] = voter.getId();
+      batch.add(voter);
+
+      if (batch.size() == VOTER_BATCH) {
+        context.voters().saveAll(batch);
+        batch.clear();
+        System.out.printf("  виборців: %,d / %,d%n", i + 1, config.voters());
+      }
+    }
+    context.voters().saveAll(batch);
+    return ids;
+  }
+
+  private String pick(String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  /**
+   * Унікальний паспорт формату {@code AA000000}: номер у межах мільйона - цифри, старші
+   * розряди - літери серії. Кандидати мають окремий діапазон серій.
+   */
+  private static String passport(int serial, boolean candidate) {
+    String series = letters(serial / 1_000_000 + (candidate ? 26 * 13 : 0), 2);
+    return series + String.format("%06d", serial % 1_000_000);
+  }
+
+  /**
+   * Число у вигляді {@code width} латинських літер (A..Z, старший розряд першим).
+   */
+  private static String letters(int value, int width) {
+    char[] chars = new char[width];
+    for (int i = width - 1; i >= 0; i--) {
+      chars[i] = (char) ('A' + value % 26);
+      value /= 26;
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,124 @@
+package com.example.pr.app.simulation;
+
+import java.util.Locale;
+
+/**
+ * Параметри симуляції. Задаються аргументами виду {@code --voters=1000000}.
+ *
+ * @param regions кількість регіонів
+ * @param parties кількість партій
+ * @param elections кількість одночасних виборів
+ * @param candidates кандидатів на кожних виборах
+ * @param voters кількість виборців
+ * @param turnout частка виборців, що проголосують (0..1)
+ * @param clients кількість паралельних клієнтів, що голосують
+ * @param pollers кількість потоків, що опитують результати і статистику
+ * @param pollIntervalMillis пауза між опитуваннями одного потоку
+ * @param durationSeconds тривалість фази голосування
+ * @param peakRate пікова інтенсивність голосів за секунду
+ * @param curve форма потоку голосів
+ * @param reportSeconds інтервал проміжних звітів
+ * @param dataDir директорія даних; {@code null} - тимчасова
+ */
+record SimulationConfig(
+    int regions,
+    int parties,
+    int elections,
+    int candidates,
+    int voters,
+    double turnout,
+    int clients,
+    int pollers,
+    long pollIntervalMillis,
+    int durationSeconds,
+    double peakRate,
+    ArrivalCurve curve,
+    int reportSeconds,
+    String dataDir
+) {
+
+  SimulationConfig {
+    if (regions < 1 || parties < 1 || elections < 1 || candidates < 1 || voters < 1) {
+      throw new IllegalArgumentException("Кількість сутностей має бути додатною");
+    }
+    if (turnout <= 0 || turnout > 1) {
+      throw new IllegalArgumentException("Явка має бути в межах (0, 1]");
+    }
+    if (clients < 1 || durationSeconds < 1 || peakRate <= 0 || reportSeconds < 1) {
+      throw new IllegalArgumentException("Некоректні параметри навантаження");
+    }
+    if (pollers < 0 || pollIntervalMillis < 0) {
+      throw new IllegalArgumentException("Некоректні параметри опитування");
+    }
+  }
+
+  static SimulationConfig defaults() {
+    return new SimulationConfig(25, 12, 1, 10, 100_000, 0.6, 200, 4, 200, 60, 2_000,
+        ArrivalCurve.ELECTION_DAY, 5, null);
+  }
+
+  /**
+   * Розбирає аргументи командного рядка поверх значень за замовчуванням.
+   *
+   * @throws IllegalArgumentException якщо аргумент невідомий або має некоректне значення
+   */
+  static SimulationConfig parse(String[] args) {
+    SimulationConfig c = defaults();
+    int regions = c.regions;
+    int parties = c.parties;
+    int elections = c.elections;
+    int candidates = c.candidates;
+    int voters = c.voters;
+    double turnout = c.turnout;
+    int clients = c.clients;
+    int pollers = c.pollers;
+    long pollIntervalMillis = c.pollIntervalMillis;
+    int durationSeconds = c.durationSeconds;
+    double peakRate = c.peakRate;
+    ArrivalCurve curve = c.curve;
+    int reportSeconds = c.reportSeconds;
+    String dataDir = c.dataDir;
+
+    for (String arg : args) {
+      int eq = arg.indexOf('=');
+      if (!arg.startsWith("--") || eq < 0) {
+        throw new IllegalArgumentException("Очікується --параметр=значення: " + arg);
+      }
+      String key = arg.substring(2, eq);
+      String value = arg.substring(eq + 1);
+      try {
+        switch (key) {
+          case "regions" -> regions = Integer.parseInt(value);
+          case "parties" -> parties = Integer.parseInt(value);
+          case "elections" -> elections = Integer.parseInt(value);
+          case "candidates" -> candidates = Integer.parseInt(value);
+          case "voters" -> voters = Integer.parseInt(value.replace("_", ""));
+          case "turnout" -> turnout = Double.parseDouble(value);
+          case "clients" -> clients = Integer.parseInt(value);
+          case "pollers" -> pollers = Integer.parseInt(value);
+          case "poll-interval" -> pollIntervalMillis = Long.parseLong(value);
+          case "duration" -> durationSeconds = Integer.parseInt(value);
+          case "rate" -> peakRate = Double.parseDouble(value);
+          case "curve" -> curve = ArrivalCurve.valueOf(value.toUpperCase(Locale.ROOT)
+              .replace('-', '_'));
+          case "report" -> reportSeconds = Integer.parseInt(value);
+          case "data-dir" -> dataDir = value;
+          default -> throw new IllegalArgumentException("Невідомий параметр: " + key);
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Некоректне значення " + key + ": " + value);
+      }
+    }
+
+    return new SimulationConfig(regions, parties, elections, candidates, voters, turnout,
+        clients, pollers, pollIntervalMillis, durationSeconds, peakRate, curve, reportSeconds,
+        dataDir);
+  }
+
+  /**
+   * Скільки голосів має надійти за всю симуляцію.
+   */
+  long expectedVotes() {
+    return (long) Math.floor(voters * turnout) * elections;
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.pr.domain;
 
+import com.example.pr.domain.exeption.EntityValidationException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -8,31 +9,60 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-public abstract class BaseEntity implements Entity, Serializable {
+public abstract class BaseEntity implements Entity, Serializable, Cloneable {
 
   private static final long serialVersionUID = 1L;
 
   private final UUID id;
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
-  protected transient Map<String, List<String>> errors; // transient - не серіалізується
+  // Версія для оптимістичного блокування; у файлах старого формату - 0
+  private long version;
+  // transient - не серіалізується; створюється лише при першій помилці
+  protected transient Map<String, List<String>> errors;
+  // true, поки конструктор заповнює поля через сеттери
+  private transient boolean initializing;
 
   protected BaseEntity() {
     this.id = UUID.randomUUID();
-    this.createdAt = LocalDateTime.now();
-    this.updatedAt = LocalDateTime.now();
-    this.errors = new HashMap<>();
+    LocalDateTime now = LocalDateTime.now();
+    this.createdAt = now;
+    this.updatedAt = now;
   }
 
-  // Відновлення errors після десеріалізації
-  private void initErrors() {
-    if (this.errors == null) {
-      this.errors = new HashMap<>();
+  /**
+   * Довірений конструктор для сутностей, прочитаних зі сховища: ідентифікатор і дати
+   * відновлюються як є, без генерації та без валідації.
+   */
+  protected BaseEntity(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this.id = id;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  /**
+   * Заповнює поля нової сутності через сеттери та перевіряє результат. Під час заповнення дата
+   * оновлення не змінюється - вона вже дорівнює даті створення.
+   *
+   * @throws EntityValidationException якщо сутність невалідна
+   */
+  protected final void initialize(Runnable assignments) {
+    initializing = true;
+    try {
+      assignments.run();
+    } finally {
+      initializing = false;
+    }
+
+    if (!isValid()) {
+      throw new EntityValidationException(getErrors());
     }
   }
 
   protected void updateTimestamp() {
-    this.updatedAt = LocalDateTime.now();
+    if (!initializing) {
+      this.updatedAt = LocalDateTime.now();
+    }
   }
 
   public LocalDateTime getCreatedAt() {
@@ -43,25 +73,56 @@ public abstract class BaseEntity implements Entity, Serializable {
     return updatedAt;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Встановлює версію збереженого стану. Викликається лише сховищем під час запису.
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  /**
+   * Окрема копія сутності для зміни без впливу на екземпляр, який бачать інші потоки. Поля
+   * сутностей незмінних типів, тому поверхневої копії достатньо.
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends BaseEntity> E copy() {
+    try {
+      BaseEntity copy = (BaseEntity) super.clone();
+      if (errors != null) {
+        copy.errors = new HashMap<>();
+        errors.forEach((field, messages) -> copy.errors.put(field, new ArrayList<>(messages)));
+      }
+      return (E) copy;
+    } catch (CloneNotSupportedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
   protected void addError(String field, String message) {
-    initErrors();
+    if (this.errors == null) {
+      this.errors = new HashMap<>();
+    }
     this.errors.computeIfAbsent(field, k -> new ArrayList<>())
         .add(message);
   }
 
   protected void clearError(String field) {
-    initErrors();
-    this.errors.remove(field);
+    if (this.errors != null) {
+      this.errors.remove(field);
+    }
   }
 
   public Map<String, List<String>> getErrors() {
-    initErrors();
-    return new HashMap<>(errors);
+    return errors == null ? new HashMap<>() : new HashMap<>(errors);
   }
 
   public boolean isValid() {
-    initErrors();
-    return errors.isEmpty();
+    return errors == null || errors.isEmpty();
   }
 
   @Override
@@ -5,4 +5,9 @@ import java.util.UUID;
 public interface Entity {
 
   UUID getId();
+
+  /**
+   * Версія збереженого стану: зростає з кожним записом сутності у сховище.
+   */
+  long getVersion();
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.pr.domain.dto;
+
+import com.example.pr.domain.Entity;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Сторінка результатів посторінкового запиту.
+ * <p>
+ * Сторінки впорядковані за ID, а наступна починається одразу після останнього ID попередньої
+ * (keyset-пагінація): додавання і видалення записів між запитами не зсуває сторінки і не
+ * дублює рядки, а вартість запиту не залежить від номера сторінки.
+ *
+ * @param items      елементи сторінки
+ * @param nextCursor ID, після якого починається наступна сторінка; {@code null} - сторінка
+ *                   остання
+ * @param <T>        тип елемента
+ */
+public record Page<T>(List<T> items, UUID nextCursor) {
+
+  public Page {
+    items = List.copyOf(items);
+  }
+
+  public static <T> Page<T> empty() {
+    return new Page<>(List.of(), null);
+  }
+
+  /**
+   * Будує сторінку з до {@code size + 1} впорядкованих елементів: зайвий елемент лише означає,
+   * що існує наступна сторінка.
+   */
+  public static <T extends Entity> Page<T> of(List<T> items, int size) {
+    if (items.size() <= size) {
+      return new Page<>(items, null);
+    }
+    List<T> page = items.subList(0, size);
+    return new Page<>(page, page.get(size - 1).getId());
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+
+  public boolean isEmpty() {
+    return items.isEmpty();
+  }
+
+  /**
+   * Перетворює елементи сторінки, зберігаючи курсор.
+   */
+  public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+    return new Page<>(items.stream().<R>map(mapper).toList(), nextCursor);
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.pr.domain.dto;
+
+import java.util.UUID;
+
+/**
+ * Запит сторінки: розмір і курсор - ID, після якого починається сторінка.
+ *
+ * @param size  кількість елементів на сторінці
+ * @param after курсор попередньої сторінки; {@code null} - перша сторінка
+ */
+public record PageRequest(int size, UUID after) {
+
+  public static final int MAX_SIZE = 1000;
+
+  public PageRequest {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException(
+          "Розмір сторінки має бути від 1 до " + MAX_SIZE + ": " + size);
+    }
+  }
+
+  public static PageRequest first(int size) {
+    return new PageRequest(size, null);
+  }
+
+  /**
+   * Запит наступної сторінки після вказаної.
+   */
+  public PageRequest next(Page<?> page) {
+    if (!page.hasNext()) {
+      throw new IllegalStateException("Сторінка остання");
+    }
+    return new PageRequest(size, page.nextCursor());
+  }
+}
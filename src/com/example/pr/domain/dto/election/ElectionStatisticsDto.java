@@ -0,0 +1,24 @@
+package com.example.pr.domain.dto.election;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO для статистики виборів.
+ *
+ * @param byStatus  кількість за статусами (усі статуси, включно з нулями)
+ * @param active    активні вибори
+ * @param nextStart найближчий початок виборів, що очікують; {@code null} - таких немає
+ */
+public record ElectionStatisticsDto(
+    Map<ElectionStatus, Long> byStatus,
+    List<ElectionResponseDto> active,
+    LocalDateTime nextStart
+) {
+
+  public long count(ElectionStatus status) {
+    return byStatus.getOrDefault(status, 0L);
+  }
+}
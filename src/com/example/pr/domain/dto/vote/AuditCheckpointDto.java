@@ -0,0 +1,24 @@
+package com.example.pr.domain.dto.vote;
+
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import java.util.UUID;
+
+/**
+ * DTO стану журналу аудиту виборів. Корінь - у шістнадцятковому вигляді; аудитор зберігає його,
+ * щоб пізніше перевірити докази включення голосів.
+ */
+public record AuditCheckpointDto(
+    UUID electionId,
+    long size,
+    String root,
+    boolean verified
+) {
+  public static AuditCheckpointDto fromCheckpoint(AuditCheckpoint checkpoint) {
+    return new AuditCheckpointDto(
+        checkpoint.electionId(),
+        checkpoint.size(),
+        checkpoint.rootHex(),
+        checkpoint.verified()
+    );
+  }
+}
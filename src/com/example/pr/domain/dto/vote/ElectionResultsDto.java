@@ -0,0 +1,20 @@
+package com.example.pr.domain.dto.vote;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для повних результатів виборів: загальні та в розрізі регіонів.
+ * <p>
+ * {@code finalizedAt} - момент фіксації підсумків завершених виборів; {@code null} для виборів,
+ * результати яких ще рахуються наживо.
+ */
+public record ElectionResultsDto(
+    UUID electionId,
+    LocalDateTime finalizedAt,
+    long totalVotes,
+    List<VoteResultDto> results,
+    List<RegionResultDto> regions
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.pr.domain.dto.vote;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для результатів голосування в регіоні.
+ */
+public record RegionResultDto(
+    UUID regionId,
+    String regionName,
+    long totalVotes,
+    List<VoteResultDto> results
+) {
+}
@@ -0,0 +1,36 @@
+package com.example.pr.domain.dto.vote;
+
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO доказу включення голосу до журналу аудиту. Хеші - у шістнадцятковому вигляді.
+ *
+ * @param valid чи відповідає голос своєму листку і чи веде шлях до кореня
+ */
+public record VoteProofDto(
+    UUID voteId,
+    UUID electionId,
+    long index,
+    long size,
+    String leaf,
+    List<String> path,
+    String root,
+    boolean valid
+) {
+  public static VoteProofDto fromProof(InclusionProof proof, boolean valid) {
+    HexFormat hex = HexFormat.of();
+    return new VoteProofDto(
+        proof.voteId(),
+        proof.electionId(),
+        proof.index(),
+        proof.size(),
+        hex.formatHex(proof.leaf()),
+        proof.path().stream().map(hex::formatHex).toList(),
+        hex.formatHex(proof.root()),
+        valid
+    );
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.pr.domain.dto.voter;
+
+import com.example.pr.domain.enums.VoterRole;
+import java.util.Map;
+
+/**
+ * DTO для статистики користувачів.
+ *
+ * @param total      всього користувачів
+ * @param byRole     кількість за ролями (усі ролі, включно з нулями)
+ * @param byAgeGroup кількість за віковими групами, від молодших до старших
+ * @param byRegion   кількість за назвами регіонів
+ */
+public record VoterStatisticsDto(
+    long total,
+    Map<VoterRole, Long> byRole,
+    Map<String, Long> byAgeGroup,
+    Map<String, Long> byRegion
+) {
+}
@@ -0,0 +1,23 @@
+package com.example.pr.domain.event;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Файл даних завантажено з пошкодженнями: вцілілі записи прочитано, решту втрачено.
+ * <p>
+ * Публікується сховищем після завантаження, коли копію файлу вже відкладено в карантин. Сам файл
+ * буде перезаписаний вцілілими сутностями при наступному записі.
+ *
+ * @param file пошкоджений файл
+ * @param lost кількість записів, які не вдалося прочитати
+ * @param damages опис кожної пошкодженої ділянки (незмінний список)
+ * @param quarantined копія файлу в карантині або {@code null}, якщо її не вдалося зберегти
+ */
+public record DataFileDamaged(Path file, int lost, List<String> damages, Path quarantined)
+    implements DomainEvent {
+
+  public DataFileDamaged {
+    damages = List.copyOf(damages);
+  }
+}
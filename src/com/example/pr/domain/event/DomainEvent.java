@@ -0,0 +1,9 @@
+package com.example.pr.domain.event;
+
+/**
+ * Подія предметної області. Публікується через {@link EventBus} після того, як зміна вже
+ * зафіксована у сховищі; {@link DataFileDamaged} - після завантаження пошкодженого файлу.
+ */
+public sealed interface DomainEvent permits EntitiesSaved, EntitiesRemoved, DataFileDamaged {
+
+}
@@ -0,0 +1,33 @@
+package com.example.pr.domain.event;
+
+import com.example.pr.domain.Entity;
+import java.util.List;
+
+/**
+ * Сутності видалено одним записом репозиторію (у тому числі каскадно).
+ *
+ * @param type тип сутностей
+ * @param entities видалені сутності (незмінний список)
+ */
+public record EntitiesRemoved<T extends Entity>(Class<T> type, List<T> entities)
+    implements DomainEvent {
+
+  public EntitiesRemoved {
+    entities = List.copyOf(entities);
+  }
+
+  /**
+   * Чи стосується подія сутностей вказаного типу.
+   */
+  public boolean concerns(Class<? extends Entity> entityType) {
+    return type == entityType;
+  }
+
+  /**
+   * Видалені сутності, якщо подія стосується вказаного типу, інакше порожній список.
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity> List<E> entitiesOf(Class<E> entityType) {
+    return type == entityType ? (List<E>) entities : List.of();
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.pr.domain.event;
+
+import com.example.pr.domain.Entity;
+import java.util.List;
+
+/**
+ * Сутності збережено (створено або оновлено) одним записом репозиторію.
+ *
+ * @param type тип сутностей
+ * @param entities збережені сутності (незмінний список)
+ */
+public record EntitiesSaved<T extends Entity>(Class<T> type, List<T> entities)
+    implements DomainEvent {
+
+  public EntitiesSaved {
+    entities = List.copyOf(entities);
+  }
+
+  /**
+   * Чи стосується подія сутностей вказаного типу.
+   */
+  public boolean concerns(Class<? extends Entity> entityType) {
+    return type == entityType;
+  }
+
+  /**
+   * Збережені сутності, якщо подія стосується вказаного типу, інакше порожній список.
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity> List<E> entitiesOf(Class<E> entityType) {
+    return type == entityType ? (List<E>) entities : List.of();
+  }
+}
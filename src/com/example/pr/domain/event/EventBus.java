@@ -0,0 +1,73 @@
+package com.example.pr.domain.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Шина подій предметної області в межах процесу.
+ * <p>
+ * Підписники викликаються у потоці, що опублікував подію, одразу після фіксації зміни, тому
+ * обробник має бути дешевим: скинути кеш, оновити похідну структуру чи передати роботу у власний
+ * потік (як {@code ElectionScheduler}).
+ * <p>
+ * Публікація без підписників коштує один пошук у мапі. Виняток у підписнику не впливає на
+ * записувача і інших підписників.
+ */
+public class EventBus {
+
+  // Підписники за типом події (конкретний клас або DomainEvent - на всі події)
+  private final Map<Class<?>, List<Handler>> handlers = new ConcurrentHashMap<>();
+
+  /**
+   * Підписка на події; {@link #cancel()} припиняє доставку.
+   */
+  @FunctionalInterface
+  public interface Subscription {
+
+    void cancel();
+  }
+
+  /**
+   * Підписує обробник на події вказаного типу.
+   */
+  public <E extends DomainEvent> Subscription subscribe(Class<E> type,
+      Consumer<? super E> handler) {
+    Handler entry = event -> handler.accept(type.cast(event));
+    List<Handler> list = handlers.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>());
+    list.add(entry);
+    return () -> list.remove(entry);
+  }
+
+  /**
+   * Публікує подію всім підписникам її типу та підписникам усіх подій.
+   */
+  public void publish(DomainEvent event) {
+    dispatch(handlers.get(event.getClass()), event);
+    dispatch(handlers.get(DomainEvent.class), event);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private static void dispatch(List<Handler> list, DomainEvent event) {
+    if (list == null) {
+      return;
+    }
+    for (Handler handler : list) {
+      try {
+        handler.handle(event);
+      } catch (RuntimeException e) {
+        System.err.println("Помилка обробника події " + event.getClass().getSimpleName()
+            + ": " + e);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface Handler {
+
+    void handle(DomainEvent event);
+  }
+}
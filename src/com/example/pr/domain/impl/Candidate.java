@@ -1,12 +1,17 @@
 package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 public class Candidate extends BaseEntity implements Comparable<Candidate> {
 
+  private static final long serialVersionUID = -6523868359089912468L;
+
+  private static final Pattern PASSPORT_PATTERN = Pattern.compile("^[A-Z]{2}\\d{6}$");
+
   public static final String FIELD_FIRST_NAME = "firstName";
   public static final String FIELD_LAST_NAME = "lastName";
   public static final String FIELD_PASSPORT_NUMBER = "passportNumber";
@@ -30,18 +35,38 @@ public class Candidate extends BaseEntity implements Comparable<Candidate> {
   public Candidate(String firstName, String lastName, String passportNumber, String partyCode, UUID electionId,
       String program, String photoPath, String biography) {
     this();
-    setFirstName(firstName);
-    setLastName(lastName);
-    setPassportNumber(passportNumber);
-    setPartyCode(partyCode);
-    setElectionId(electionId);
-    setProgram(program);
-    setPhotoPath(photoPath);
-    setBiography(biography);
-
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+    initialize(() -> {
+      setFirstName(firstName);
+      setLastName(lastName);
+      setPassportNumber(passportNumber);
+      setPartyCode(partyCode);
+      setElectionId(electionId);
+      setProgram(program);
+      setPhotoPath(photoPath);
+      setBiography(biography);
+    });
+  }
+
+  private Candidate(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює кандидата зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Candidate restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String firstName, String lastName, String passportNumber, String partyCode, UUID electionId,
+      String program, String photoPath, String biography) {
+    Candidate candidate = new Candidate(id, createdAt, updatedAt);
+    candidate.firstName = firstName;
+    candidate.lastName = lastName;
+    candidate.passportNumber = passportNumber;
+    candidate.partyCode = partyCode;
+    candidate.electionId = electionId;
+    candidate.program = program;
+    candidate.photoPath = photoPath;
+    candidate.biography = biography;
+    return candidate;
   }
 
   public String getFirstName() {
@@ -82,7 +107,7 @@ public class Candidate extends BaseEntity implements Comparable<Candidate> {
     clearError(FIELD_PASSPORT_NUMBER);
     if (passportNumber == null || passportNumber.trim().isEmpty()) {
       addError(FIELD_PASSPORT_NUMBER, ValidationError.PASSPORT_NUMBER_REQUIRED.getMessage());
-    } else if (!passportNumber.matches("^[A-Z]{2}\\d{6}$")) {
+    } else if (!PASSPORT_PATTERN.matcher(passportNumber).matches()) {
       addError(FIELD_PASSPORT_NUMBER, ValidationError.PASSPORT_NUMBER_FORMAT.getMessage());
     }
     this.passportNumber = passportNumber;
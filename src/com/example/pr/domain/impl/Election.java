@@ -2,12 +2,14 @@ package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
 import com.example.pr.domain.enums.ElectionStatus;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class Election extends BaseEntity implements Comparable<Election> {
 
+  private static final long serialVersionUID = 1120519742801074946L;
+
   public static final String FIELD_NAME = "name";
   public static final String FIELD_START_DATE = "startDate";
   public static final String FIELD_END_DATE = "endDate";
@@ -26,15 +28,32 @@ public class Election extends BaseEntity implements Comparable<Election> {
   public Election(String name, String description, LocalDateTime startDate,
       LocalDateTime endDate, ElectionStatus status) {
     this();
-    setName(name);
-    setDescription(description);
-    setStartDate(startDate);
-    setEndDate(endDate);
-    setStatus(status);
-
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+    initialize(() -> {
+      setName(name);
+      setDescription(description);
+      setStartDate(startDate);
+      setEndDate(endDate);
+      setStatus(status);
+    });
+  }
+
+  private Election(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює вибори зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Election restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String name, String description, LocalDateTime startDate, LocalDateTime endDate,
+      ElectionStatus status) {
+    Election election = new Election(id, createdAt, updatedAt);
+    election.name = name;
+    election.description = description;
+    election.startDate = startDate;
+    election.endDate = endDate;
+    election.status = status;
+    return election;
   }
 
   public String getName() {
@@ -1,12 +1,14 @@
 package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class Party extends BaseEntity implements Comparable<Party> {
 
+  private static final long serialVersionUID = 7979869955104272011L;
+
   public static final String FIELD_PARTY_CODE = "partyCode";
   public static final String FIELD_NAME = "name";
   public static final String FIELD_ABBREVIATION = "abbreviation";
@@ -23,15 +25,31 @@ public class Party extends BaseEntity implements Comparable<Party> {
 
   public Party(String partyCode, String name, String abbreviation, String logoPath, String program) {
     this();
-    setPartyCode(partyCode);
-    setName(name);
-    setAbbreviation(abbreviation);
-    setLogoPath(logoPath);
-    setProgram(program);
-
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+    initialize(() -> {
+      setPartyCode(partyCode);
+      setName(name);
+      setAbbreviation(abbreviation);
+      setLogoPath(logoPath);
+      setProgram(program);
+    });
+  }
+
+  private Party(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює партію зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Party restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String partyCode, String name, String abbreviation, String logoPath, String program) {
+    Party party = new Party(id, createdAt, updatedAt);
+    party.partyCode = partyCode;
+    party.name = name;
+    party.abbreviation = abbreviation;
+    party.logoPath = logoPath;
+    party.program = program;
+    return party;
   }
 
   public String getPartyCode() {
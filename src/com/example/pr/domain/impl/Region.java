@@ -1,11 +1,17 @@
 package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 public class Region extends BaseEntity implements Comparable<Region> {
 
+  private static final long serialVersionUID = -964994683161451969L;
+
+  private static final Pattern CODE_PATTERN = Pattern.compile("^[A-Z]{2,5}$");
+
   public static final String FIELD_NAME = "name";
   public static final String FIELD_CODE = "code";
 
@@ -19,13 +25,27 @@ public class Region extends BaseEntity implements Comparable<Region> {
 
   public Region(String name, String code, String description) {
     this();
-    setName(name);
-    setCode(code);
-    setDescription(description);
+    initialize(() -> {
+      setName(name);
+      setCode(code);
+      setDescription(description);
+    });
+  }
 
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+  private Region(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює регіон зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Region restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String name, String code, String description) {
+    Region region = new Region(id, createdAt, updatedAt);
+    region.name = name;
+    region.code = code;
+    region.description = description;
+    return region;
   }
 
   public String getName() {
@@ -51,7 +71,7 @@ public class Region extends BaseEntity implements Comparable<Region> {
     clearError(FIELD_CODE);
     if (code == null || code.trim().isEmpty()) {
       addError(FIELD_CODE, ValidationError.REGION_CODE_REQUIRED.getMessage());
-    } else if (!code.matches("^[A-Z]{2,5}$")) {
+    } else if (!CODE_PATTERN.matcher(code).matches()) {
       addError(FIELD_CODE, ValidationError.REGION_CODE_FORMAT.getMessage());
     }
     this.code = code;
@@ -1,13 +1,14 @@
 package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class Vote extends BaseEntity {
 
+  private static final long serialVersionUID = 7148941402993978045L;
+
   public static final String FIELD_VOTER_ID = "voterId";
   public static final String FIELD_CANDIDATE_ID = "candidateId";
   public static final String FIELD_ELECTION_ID = "electionId";
@@ -24,14 +25,29 @@ public class Vote extends BaseEntity {
 
   public Vote(UUID voterId, UUID candidateId, UUID electionId, LocalDateTime timestamp) {
     this();
-    setVoterId(voterId);
-    setCandidateId(candidateId);
-    setElectionId(electionId);
-    setTimestamp(timestamp);
+    initialize(() -> {
+      setVoterId(voterId);
+      setCandidateId(candidateId);
+      setElectionId(electionId);
+      setTimestamp(timestamp);
+    });
+  }
 
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+  private Vote(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює голос зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Vote restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      UUID voterId, UUID candidateId, UUID electionId, LocalDateTime timestamp) {
+    Vote vote = new Vote(id, createdAt, updatedAt);
+    vote.voterId = voterId;
+    vote.candidateId = candidateId;
+    vote.electionId = electionId;
+    vote.timestamp = timestamp;
+    return vote;
   }
 
   public UUID getVoterId() {
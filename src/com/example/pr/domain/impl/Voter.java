@@ -2,16 +2,19 @@ package com.example.pr.domain.impl;
 
 import com.example.pr.domain.BaseEntity;
 import com.example.pr.domain.enums.VoterRole;
-import com.example.pr.domain.exeption.EntityValidationException;
 import com.example.pr.domain.util.ValidationError;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
 public class Voter extends BaseEntity implements Comparable<Voter> {
 
+  private static final long serialVersionUID = -5322219948217134861L;
+
   private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w.-]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+  private static final Pattern PASSPORT_PATTERN = Pattern.compile("^[A-Z]{2}\\d{6}$");
 
   public static final String FIELD_FIRST_NAME = "firstName";
   public static final String FIELD_LAST_NAME = "lastName";
@@ -38,18 +41,38 @@ public class Voter extends BaseEntity implements Comparable<Voter> {
   public Voter(String firstName, String lastName, String email, String passwordHash,
       String passportNumber, LocalDate birthDate, VoterRole role, UUID regionId) {
     this();
-    setFirstName(firstName);
-    setLastName(lastName);
-    setEmail(email);
-    setPasswordHash(passwordHash);
-    setPassportNumber(passportNumber);
-    setBirthDate(birthDate);
-    setRole(role);
-    setRegionId(regionId);
-
-    if (!isValid()) {
-      throw new EntityValidationException(getErrors());
-    }
+    initialize(() -> {
+      setFirstName(firstName);
+      setLastName(lastName);
+      setEmail(email);
+      setPasswordHash(passwordHash);
+      setPassportNumber(passportNumber);
+      setBirthDate(birthDate);
+      setRole(role);
+      setRegionId(regionId);
+    });
+  }
+
+  private Voter(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    super(id, createdAt, updatedAt);
+  }
+
+  /**
+   * Відновлює виборця зі сховища без валідації та без зміни дат (довірене джерело).
+   */
+  public static Voter restore(UUID id, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String firstName, String lastName, String email, String passwordHash, String passportNumber,
+      LocalDate birthDate, VoterRole role, UUID regionId) {
+    Voter voter = new Voter(id, createdAt, updatedAt);
+    voter.firstName = firstName;
+    voter.lastName = lastName;
+    voter.email = email;
+    voter.passwordHash = passwordHash;
+    voter.passportNumber = passportNumber;
+    voter.birthDate = birthDate;
+    voter.role = role;
+    voter.regionId = regionId;
+    return voter;
   }
 
   public String getFirstName() {
@@ -118,7 +141,7 @@ public class Voter extends BaseEntity implements Comparable<Voter> {
     clearError(FIELD_PASSPORT_NUMBER);
     if (passportNumber == null || passportNumber.trim().isEmpty()) {
       addError(FIELD_PASSPORT_NUMBER, ValidationError.PASSPORT_NUMBER_REQUIRED.getMessage());
-    } else if (!passportNumber.matches("^[A-Z]{2}\\d{6}$")) {
+    } else if (!PASSPORT_PATTERN.matcher(passportNumber).matches()) {
       addError(FIELD_PASSPORT_NUMBER, ValidationError.PASSPORT_NUMBER_FORMAT.getMessage());
     }
     this.passportNumber = passportNumber;
@@ -10,6 +10,7 @@ import com.example.pr.domain.service.PasswordHasher;
 import com.example.pr.domain.service.exception.AuthenticationException;
 import com.example.pr.domain.service.exception.DuplicateEntityException;
 import com.example.pr.domain.service.exception.EntityNotFoundException;
+import com.example.pr.infrastructure.storage.exception.UniqueConstraintException;
 import com.example.pr.infrastructure.storage.impl.DataContext;
 
 import java.time.LocalDate;
@@ -55,7 +56,7 @@ public class AuthService {
     }
 
     // Перевірка існування регіону
-    if (!context.regions().existsById(dto.regionId())) {
+    if (!context.referenceData().regionExists(dto.regionId())) {
       throw new EntityNotFoundException("Регіон", dto.regionId());
     }
 
@@ -70,11 +71,15 @@ public class AuthService {
         passwordHash,
         dto.passportNumber(),
         dto.birthDate(),
-        VoterRole.ADMIN,  // За замовчуванням - звичайний виборець
+        VoterRole.VOTER,  // Адміністраторів призначає адміністратор
         dto.regionId()
     );
 
-    context.voters().save(voter);
+    try {
+      context.voters().save(voter);
+    } catch (UniqueConstraintException e) {
+      throw VoterService.duplicateOf(voter, context.voters());
+    }
 
     return VoterResponseDto.fromEntity(voter);
   }
@@ -161,21 +166,28 @@ public class AuthService {
    * Зміна пароля.
    */
   public void changePassword(String oldPassword, String newPassword) {
-    Voter voter = requireAuthentication();
-
-    // Перевірка старого пароля
-    if (!PasswordHasher.verify(oldPassword, voter.getPasswordHash())) {
-      throw new AuthenticationException("Невірний поточний пароль");
-    }
+    UUID voterId = requireAuthentication().getId();
 
     // Валідація нового пароля
     if (newPassword == null || newPassword.length() < 6) {
       throw new AuthenticationException("Новий пароль повинен містити мінімум 6 символів");
     }
 
-    // Оновлення пароля
-    voter.setPasswordHash(PasswordHasher.hash(newPassword));
-    context.voters().save(voter);
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    currentUser = OptimisticRetry.run(() -> {
+      Voter voter = context.voters().findForUpdate(voterId)
+          .orElseThrow(() -> new EntityNotFoundException("Виборець", voterId));
+
+      // Перевірка старого пароля
+      if (!PasswordHasher.verify(oldPassword, voter.getPasswordHash())) {
+        throw new AuthenticationException("Невірний поточний пароль");
+      }
+
+      // Оновлення пароля
+      voter.setPasswordHash(PasswordHasher.hash(newPassword));
+      context.voters().save(voter);
+      return voter;
+    });
   }
 
   private String generateSessionToken() {
@@ -49,7 +49,7 @@ public class CandidateService {
         });
 
     // Перевірка існування партії (якщо вказана)
-    if (dto.partyCode() != null && !context.parties().existsByCode(dto.partyCode())) {
+    if (dto.partyCode() != null && !context.referenceData().partyExists(dto.partyCode())) {
       throw new EntityNotFoundException("Партія", dto.partyCode());
     }
 
@@ -81,34 +81,36 @@ public class CandidateService {
    * Оновлює кандидата.
    */
   public CandidateResponseDto update(UUID id, CandidateUpdateDto dto) {
-    Candidate candidate = candidateRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Кандидат", id));
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    return OptimisticRetry.run(() -> {
+      Candidate candidate = findForUpdate(id);
 
-    // Перевірка статусу виборів
-    Election election = context.elections().findById(candidate.getElectionId())
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", candidate.getElectionId()));
+      // Перевірка статусу виборів
+      Election election = context.elections().findById(candidate.getElectionId())
+          .orElseThrow(() -> new EntityNotFoundException("Вибори", candidate.getElectionId()));
 
-    if (election.getStatus() == ElectionStatus.CLOSED) {
-      throw new ServiceException("Не можна оновлювати кандидатів на завершених виборах");
-    }
+      if (election.getStatus() == ElectionStatus.CLOSED) {
+        throw new ServiceException("Не можна оновлювати кандидатів на завершених виборах");
+      }
 
-    // Оновлення полів
-    dto.firstName().ifPresent(candidate::setFirstName);
-    dto.lastName().ifPresent(candidate::setLastName);
+      // Оновлення полів
+      dto.firstName().ifPresent(candidate::setFirstName);
+      dto.lastName().ifPresent(candidate::setLastName);
 
-    dto.partyCode().ifPresent(partyCode -> {
-      if (partyCode != null && !context.parties().existsByCode(partyCode)) {
-        throw new EntityNotFoundException("Партія", partyCode);
-      }
-      candidate.setPartyCode(partyCode);
-    });
+      dto.partyCode().ifPresent(partyCode -> {
+        if (partyCode != null && !context.referenceData().partyExists(partyCode)) {
+          throw new EntityNotFoundException("Партія", partyCode);
+        }
+        candidate.setPartyCode(partyCode);
+      });
 
-    dto.program().ifPresent(candidate::setProgram);
-    dto.photoPath().ifPresent(candidate::setPhotoPath);
-    dto.biography().ifPresent(candidate::setBiography);
+      dto.program().ifPresent(candidate::setProgram);
+      dto.photoPath().ifPresent(candidate::setPhotoPath);
+      dto.biography().ifPresent(candidate::setBiography);
 
-    candidateRepository.save(candidate);
-    return CandidateResponseDto.fromEntity(candidate);
+      candidateRepository.save(candidate);
+      return CandidateResponseDto.fromEntity(candidate);
+    });
   }
 
   /**
@@ -130,10 +132,8 @@ public class CandidateService {
       throw new ServiceException("Не можна видаляти кандидатів із завершених виборів");
     }
 
-    // Видаляємо голоси за цього кандидата
-    context.votes().deleteByCandidateId(id);
-
-    candidateRepository.deleteById(id);
+    // Видаляємо кандидата разом з голосами за нього
+    context.cascade().deleteCandidate(id);
   }
 
   /**
@@ -149,7 +149,7 @@ public class CandidateService {
    * Знаходить кандидатів на виборах.
    */
   public List<CandidateResponseDto> findByElection(UUID electionId) {
-    return candidateRepository.findByElectionId(electionId).stream()
+    return context.referenceData().findCandidatesByElection(electionId).stream()
         .map(CandidateResponseDto::fromEntity)
         .toList();
   }
@@ -194,4 +194,9 @@ public class CandidateService {
   public long countByParty(String partyCode) {
     return candidateRepository.countByPartyCode(partyCode);
   }
+
+  private Candidate findForUpdate(UUID id) {
+    return candidateRepository.findForUpdate(id)
+        .orElseThrow(() -> new EntityNotFoundException("Кандидат", id));
+  }
 }
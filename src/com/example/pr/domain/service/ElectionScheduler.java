@@ -0,0 +1,263 @@
+package com.example.pr.domain.service;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.service.exception.ServiceException;
+import com.example.pr.domain.specification.ElectionSpecifications;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Планувальник життєвого циклу виборів.
+ * <p>
+ * Вибори у статусі PENDING автоматично активуються в момент {@code startDate}, а ACTIVE -
+ * завершуються в момент {@code endDate} (з фіксацією голосів у дорозі та переведенням сегмента
+ * голосів у компактний формат, див. {@link ElectionService#close}). Вибори, що лишились у PENDING
+ * до {@code endDate} (застосунок не працював увесь період або активація не вдалася), не
+ * відбулися: вони скасовуються, а не завершуються - підсумки виборів, на яких ніхто не міг
+ * проголосувати, нічого б не означали. Переходи виконуються через
+ * {@link ElectionService}, тому діють ті самі перевірки і публікуються ті самі події.
+ * <p>
+ * Планувальник також веде набір вікон голосування активних виборів:
+ * {@link #isVotable(UUID, LocalDateTime)} відповідає за O(1) без читання виборів зі сховища.
+ * Розклад оновлюється за подіями збереження/видалення виборів і раз на хвилину звіряється з
+ * даними (на випадок стрибка системного годинника).
+ */
+public class ElectionScheduler implements AutoCloseable {
+
+  private static final Duration RECONCILE_PERIOD = Duration.ofMinutes(1);
+
+  // Singleton (Bill Pugh pattern - thread-safe)
+  private static class Holder {
+
+    private static final ElectionScheduler INSTANCE = new ElectionScheduler(
+        DataContext.getInstance(), new ElectionService(), Clock.systemDefaultZone());
+  }
+
+  private final DataContext context;
+  private final ElectionService electionService;
+  private final Clock clock;
+
+  // Усі зміни розкладу виконуються в одному потоці
+  private final ScheduledExecutorService executor;
+  private final Map<UUID, ScheduledFuture<?>> transitions = new ConcurrentHashMap<>();
+  private final Map<UUID, VotingWindow> votable = new ConcurrentHashMap<>();
+  private final Set<UUID> failedActivations = ConcurrentHashMap.newKeySet();
+  private final List<EventBus.Subscription> subscriptions;
+
+  /**
+   * Вікно голосування активних виборів.
+   */
+  private record VotingWindow(LocalDateTime start, LocalDateTime end) {
+
+    boolean contains(LocalDateTime at) {
+      return !at.isBefore(start) && !at.isAfter(end);
+    }
+  }
+
+  public ElectionScheduler(DataContext context, ElectionService electionService, Clock clock) {
+    this.context = context;
+    this.electionService = electionService;
+    this.clock = clock;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "election-scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    EventBus events = context.events();
+    this.subscriptions = List.of(
+        // Вікно голосування змінюється одразу в потоці запису: після закриття виборів конвеєр
+        // уже не пропустить голос за застарілим вікном; переходи плануються у своєму потоці
+        events.subscribe(EntitiesSaved.class, event -> {
+          EntitiesSaved<?> saved = event;
+          for (Election election : saved.entitiesOf(Election.class)) {
+            updateWindow(election);
+            executor.execute(() -> plan(election.getId()));
+          }
+        }),
+        events.subscribe(EntitiesRemoved.class, event -> {
+          EntitiesRemoved<?> removed = event;
+          for (Election election : removed.entitiesOf(Election.class)) {
+            votable.remove(election.getId());
+            executor.execute(() -> plan(election.getId()));
+          }
+        }));
+
+    executor.execute(this::reconcile);
+    executor.scheduleWithFixedDelay(this::reconcile, RECONCILE_PERIOD.toMillis(),
+        RECONCILE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public static ElectionScheduler getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Чи приймаються зараз голоси на виборах.
+   */
+  public boolean isVotable(UUID electionId) {
+    return isVotable(electionId, LocalDateTime.now(clock));
+  }
+
+  /**
+   * Чи приймались би голоси на виборах у вказаний момент: вибори активні, і момент потрапляє у
+   * період голосування.
+   */
+  public boolean isVotable(UUID electionId, LocalDateTime at) {
+    VotingWindow window = votable.get(electionId);
+    return window != null && window.contains(at);
+  }
+
+  /**
+   * Зупиняє планувальник і відписується від подій.
+   */
+  @Override
+  public void close() {
+    subscriptions.forEach(EventBus.Subscription::cancel);
+    executor.shutdownNow();
+  }
+
+  // ==================== Scheduling ====================
+
+  /**
+   * Перепланує всі вибори за даними сховища. Виняток, що вийшов би з задачі, скасував би всі
+   * наступні звірки, тому помилки лише друкуються - наступна звірка спробує знову.
+   */
+  private void reconcile() {
+    try {
+      context.elections().findAll(ElectionSpecifications.all())
+          .forEach(election -> plan(election.getId()));
+    } catch (RuntimeException e) {
+      System.err.println("Помилка звірки розкладу виборів: " + e);
+    }
+  }
+
+  /**
+   * Планує наступний перехід виборів за їх поточним станом. Виконується в потоці планувальника.
+   */
+  private void plan(UUID electionId) {
+    try {
+      Election election = context.elections().findById(electionId).orElse(null);
+      if (election == null) {
+        cancelTransition(electionId);
+        votable.remove(electionId);
+        return;
+      }
+
+      updateWindow(election);
+      ElectionStatus status = election.getStatus();
+      if (status == ElectionStatus.ACTIVE) {
+        schedule(electionId, election.getEndDate(), () -> close(electionId));
+      } else if (status == ElectionStatus.PENDING && hasEnded(election)) {
+        schedule(electionId, election.getEndDate(), () -> expire(electionId));
+      } else if (status == ElectionStatus.PENDING) {
+        schedule(electionId, election.getStartDate(), () -> activate(electionId));
+      } else {
+        cancelTransition(electionId);
+      }
+    } catch (RuntimeException e) {
+      System.err.println("Не вдалося спланувати вибори " + electionId + ": " + e);
+    }
+  }
+
+  private void updateWindow(Election election) {
+    if (election.getStatus() == ElectionStatus.ACTIVE) {
+      votable.put(election.getId(),
+          new VotingWindow(election.getStartDate(), election.getEndDate()));
+    } else {
+      votable.remove(election.getId());
+    }
+  }
+
+  private void schedule(UUID electionId, LocalDateTime at, Runnable transition) {
+    cancelTransition(electionId);
+    if (at == null) {
+      return;
+    }
+    long delay = Math.max(0, Duration.between(LocalDateTime.now(clock), at).toMillis());
+    transitions.put(electionId, executor.schedule(transition, delay, TimeUnit.MILLISECONDS));
+  }
+
+  private void cancelTransition(UUID electionId) {
+    ScheduledFuture<?> previous = transitions.remove(electionId);
+    if (previous != null) {
+      previous.cancel(false);
+    }
+  }
+
+  private void activate(UUID electionId) {
+    transitions.remove(electionId);
+    try {
+      Election election = context.elections().findById(electionId).orElse(null);
+      if (election == null || election.getStatus() != ElectionStatus.PENDING) {
+        return;
+      }
+      // Вибори, час яких минув, поки вони очікували, не активуються
+      if (hasEnded(election)) {
+        expire(electionId);
+        return;
+      }
+      electionService.activate(electionId);
+      failedActivations.remove(electionId);
+    } catch (ServiceException e) {
+      // Звірка повторює спробу щохвилини, але повідомляємо лише про першу невдачу
+      if (failedActivations.add(electionId)) {
+        System.err.println("Не вдалося автоматично активувати вибори " + electionId + ": "
+            + e.getMessage());
+      }
+    } catch (RuntimeException e) {
+      System.err.println("Помилка автоматичної активації виборів " + electionId + ": " + e);
+    }
+  }
+
+  private void expire(UUID electionId) {
+    transitions.remove(electionId);
+    try {
+      Election election = context.elections().findById(electionId).orElse(null);
+      if (election == null || election.getStatus() != ElectionStatus.PENDING) {
+        return;
+      }
+      electionService.expire(electionId, LocalDateTime.now(clock));
+      failedActivations.remove(electionId);
+      System.err.println("Вибори " + electionId + " скасовано: період голосування минув до їх "
+          + "активації");
+    } catch (ServiceException e) {
+      System.err.println("Не вдалося скасувати вибори " + electionId + ", що не відбулися: "
+          + e.getMessage());
+    } catch (RuntimeException e) {
+      System.err.println("Помилка скасування виборів " + electionId + ": " + e);
+    }
+  }
+
+  private boolean hasEnded(Election election) {
+    return election.getEndDate() != null
+        && !LocalDateTime.now(clock).isBefore(election.getEndDate());
+  }
+
+  private void close(UUID electionId) {
+    transitions.remove(electionId);
+    try {
+      electionService.close(electionId);
+    } catch (ServiceException e) {
+      System.err.println("Не вдалося автоматично завершити вибори " + electionId + ": "
+          + e.getMessage());
+    } catch (RuntimeException e) {
+      System.err.println("Помилка автоматичного завершення виборів " + electionId + ": " + e);
+    }
+  }
+}
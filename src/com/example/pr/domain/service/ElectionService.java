@@ -2,18 +2,25 @@ package com.example.pr.domain.service;
 
 import com.example.pr.domain.dto.election.ElectionCreateDto;
 import com.example.pr.domain.dto.election.ElectionResponseDto;
+import com.example.pr.domain.dto.election.ElectionStatisticsDto;
 import com.example.pr.domain.dto.election.ElectionUpdateDto;
 import com.example.pr.domain.enums.ElectionStatus;
 import com.example.pr.domain.impl.Election;
 import com.example.pr.domain.service.exception.EntityNotFoundException;
 import com.example.pr.domain.service.exception.ServiceException;
+import com.example.pr.domain.service.pipeline.VoteIngestionPipeline;
 import com.example.pr.domain.specification.ElectionSpecifications;
+import com.example.pr.infrastructure.storage.Aggregations;
 import com.example.pr.infrastructure.storage.contract.ElectionRepository;
 import com.example.pr.infrastructure.storage.impl.DataContext;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Сервіс для роботи з виборами.
@@ -22,10 +29,12 @@ public class ElectionService {
 
   private final ElectionRepository electionRepository;
   private final DataContext context;
+  private final ResultService resultService;
 
   public ElectionService() {
     this.context = DataContext.getInstance();
     this.electionRepository = context.elections();
+    this.resultService = new ResultService();
   }
 
   /**
@@ -57,80 +66,96 @@ public class ElectionService {
    * Оновлює вибори.
    */
   public ElectionResponseDto update(UUID id, ElectionUpdateDto dto) {
-    Election election = electionRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", id));
-
-    // Не можна змінювати активні або завершені вибори
-    if (election.getStatus() == ElectionStatus.ACTIVE) {
-      throw new ServiceException("Не можна змінювати активні вибори");
-    }
-    if (election.getStatus() == ElectionStatus.CLOSED) {
-      throw new ServiceException("Не можна змінювати завершені вибори");
-    }
-
-    dto.name().ifPresent(election::setName);
-    dto.description().ifPresent(election::setDescription);
-    dto.status().ifPresent(election::setStatus);
-
-    electionRepository.save(election);
-    return ElectionResponseDto.fromEntity(election);
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    return OptimisticRetry.run(() -> {
+      Election election = findForUpdate(id);
+
+      // Не можна змінювати активні або завершені вибори
+      if (election.getStatus() == ElectionStatus.ACTIVE) {
+        throw new ServiceException("Не можна змінювати активні вибори");
+      }
+      if (election.getStatus() == ElectionStatus.CLOSED) {
+        throw new ServiceException("Не можна змінювати завершені вибори");
+      }
+
+      dto.name().ifPresent(election::setName);
+      dto.description().ifPresent(election::setDescription);
+      dto.status().ifPresent(election::setStatus);
+
+      electionRepository.save(election);
+      return ElectionResponseDto.fromEntity(election);
+    });
   }
 
   /**
    * Активує вибори.
    */
   public ElectionResponseDto activate(UUID id) {
-    Election election = electionRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", id));
-
-    if (election.getStatus() != ElectionStatus.PENDING) {
-      throw new ServiceException("Можна активувати тільки вибори в статусі PENDING");
-    }
-
-    // Перевіряємо наявність кандидатів
-    long candidateCount = context.candidates().countByElectionId(id);
-    if (candidateCount == 0) {
-      throw new ServiceException("Не можна активувати вибори без кандидатів");
-    }
-
-    election.setStatus(ElectionStatus.ACTIVE);
-    electionRepository.save(election);
-
-    return ElectionResponseDto.fromEntity(election);
+    Election updated = changeStatus(id, ElectionStatus.ACTIVE, election -> {
+      if (election.getStatus() != ElectionStatus.PENDING) {
+        throw new ServiceException("Можна активувати тільки вибори в статусі PENDING");
+      }
+
+      // Перевіряємо наявність кандидатів
+      long candidateCount = context.candidates().countByElectionId(id);
+      if (candidateCount == 0) {
+        throw new ServiceException("Не можна активувати вибори без кандидатів");
+      }
+    });
+
+    return ElectionResponseDto.fromEntity(updated);
   }
 
   /**
    * Завершує вибори.
    */
   public ElectionResponseDto close(UUID id) {
-    Election election = electionRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", id));
+    Election updated = changeStatus(id, ElectionStatus.CLOSED, election -> {
+      if (election.getStatus() != ElectionStatus.ACTIVE) {
+        throw new ServiceException("Можна завершити тільки активні вибори");
+      }
+    });
 
-    if (election.getStatus() != ElectionStatus.ACTIVE) {
-      throw new ServiceException("Можна завершити тільки активні вибори");
-    }
+    // Голоси, прийняті до закриття, ще можуть бути в конвеєрі - дочікуємось їх фіксації
+    VoteIngestionPipeline.getInstance().flush().join();
 
-    election.setStatus(ElectionStatus.CLOSED);
-    electionRepository.save(election);
+    // Голоси закритих виборів більше не змінюються - переводимо у компактний сегмент
+    context.votes().freezeElection(id);
+    // Підсумки рахуються один раз; далі результати не читають голоси
+    resultService.finalizeResults(id);
 
-    return ElectionResponseDto.fromEntity(election);
+    return ElectionResponseDto.fromEntity(updated);
   }
 
   /**
    * Скасовує вибори.
    */
   public ElectionResponseDto cancel(UUID id) {
-    Election election = electionRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", id));
-
-    if (election.getStatus() == ElectionStatus.CLOSED) {
-      throw new ServiceException("Не можна скасувати завершені вибори");
-    }
+    Election updated = changeStatus(id, ElectionStatus.CANCELLED, election -> {
+      if (election.getStatus() == ElectionStatus.CLOSED) {
+        throw new ServiceException("Не можна скасувати завершені вибори");
+      }
+    });
 
-    election.setStatus(ElectionStatus.CANCELLED);
-    electionRepository.save(election);
+    return ElectionResponseDto.fromEntity(updated);
+  }
 
-    return ElectionResponseDto.fromEntity(election);
+  /**
+   * Скасовує вибори, що так і не були активовані до кінця періоду голосування. Для планувальника:
+   * статус і дата перевіряються під тією ж оптимістичною спробою, що й зміна, тому вибори,
+   * активовані вручну в цей момент, не скасовуються.
+   */
+  ElectionResponseDto expire(UUID id, LocalDateTime now) {
+    Election updated = changeStatus(id, ElectionStatus.CANCELLED, election -> {
+      if (election.getStatus() != ElectionStatus.PENDING) {
+        throw new ServiceException("Можна скасувати за розкладом тільки вибори в статусі PENDING");
+      }
+      if (election.getEndDate() == null || now.isBefore(election.getEndDate())) {
+        throw new ServiceException("Період голосування виборів ще не минув");
+      }
+    });
+
+    return ElectionResponseDto.fromEntity(updated);
   }
 
   /**
@@ -144,11 +169,8 @@ public class ElectionService {
       throw new ServiceException("Не можна видалити активні вибори");
     }
 
-    // Видаляємо пов'язані дані
-    context.votes().deleteByElectionId(id);
-    context.candidates().deleteByElectionId(id);
-
-    electionRepository.deleteById(id);
+    // Видаляємо вибори разом з кандидатами та голосами
+    context.cascade().deleteElection(id);
   }
 
   /**
@@ -187,16 +209,53 @@ public class ElectionService {
         .toList();
   }
 
+  /**
+   * Статистика виборів за один прохід: кількість за статусами, активні вибори і найближчий
+   * початок.
+   */
+  public ElectionStatisticsDto statistics() {
+    return electionRepository.aggregate(ElectionSpecifications.all(), Collectors.teeing(
+        Aggregations.countByEnum(ElectionStatus.class, Election::getStatus),
+        Collectors.teeing(
+            Collectors.filtering(e -> e.getStatus() == ElectionStatus.ACTIVE,
+                Collectors.mapping(ElectionResponseDto::fromEntity, Collectors.toList())),
+            Collectors.filtering(
+                e -> e.getStatus() == ElectionStatus.PENDING && e.getStartDate() != null,
+                Collectors.mapping(Election::getStartDate,
+                    Collectors.minBy(Comparator.naturalOrder()))),
+            ActiveAndNext::new),
+        (byStatus, rest) -> new ElectionStatisticsDto(byStatus, rest.active(),
+            rest.nextStart().orElse(null))));
+  }
+
   /**
    * Перевіряє, чи можна голосувати на виборах.
    */
   public boolean canVote(UUID electionId) {
-    return electionRepository.findById(electionId)
-        .map(e -> {
-          if (e.getStatus() != ElectionStatus.ACTIVE) return false;
-          LocalDateTime now = LocalDateTime.now();
-          return now.isAfter(e.getStartDate()) && now.isBefore(e.getEndDate());
-        })
-        .orElse(false);
+    return ElectionScheduler.getInstance().isVotable(electionId);
+  }
+
+  private Election findForUpdate(UUID id) {
+    return electionRepository.findForUpdate(id)
+        .orElseThrow(() -> new EntityNotFoundException("Вибори", id));
+  }
+
+  /**
+   * Переводить вибори у новий статус. Перевірка виконується заново на кожній спробі: після
+   * конфлікту версій статус міг змінитись.
+   */
+  private Election changeStatus(UUID id, ElectionStatus target, Consumer<Election> check) {
+    return OptimisticRetry.run(() -> {
+      Election election = findForUpdate(id);
+      check.accept(election);
+
+      election.setStatus(target);
+      return electionRepository.save(election);
+    });
+  }
+
+  private record ActiveAndNext(List<ElectionResponseDto> active,
+      Optional<LocalDateTime> nextStart) {
+
   }
 }
@@ -0,0 +1,42 @@
+package com.example.pr.domain.service;
+
+import com.example.pr.domain.service.exception.ConcurrentUpdateException;
+import com.example.pr.infrastructure.storage.exception.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Повтор операції "прочитати - змінити - зберегти" при конфлікті версій.
+ * <p>
+ * Операція має сама перечитувати сутність ({@code findForUpdate}) і перевіряти умови, бо після
+ * конфлікту вони могли змінитись. Між спробами - коротка випадкова пауза, щоб записувачі, які
+ * конфліктували, не зіткнулись знову. Якщо всі спроби невдалі, кидається
+ * {@link ConcurrentUpdateException}.
+ */
+public final class OptimisticRetry {
+
+  private static final int MAX_ATTEMPTS = 10;
+  private static final long BASE_DELAY_NANOS = 2_000_000; // 2 мс
+  private static final long MAX_DELAY_NANOS = 100_000_000; // 100 мс
+
+  private OptimisticRetry() {
+  }
+
+  public static <R> R run(Supplier<R> operation) {
+    OptimisticLockException last = null;
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      try {
+        return operation.get();
+      } catch (OptimisticLockException e) {
+        last = e;
+        if (attempt < MAX_ATTEMPTS) {
+          // Експоненційна пауза з випадковим розкидом: 0..2, 0..4, 0..8 ... до 100 мс
+          long bound = Math.min(BASE_DELAY_NANOS << (attempt - 1), MAX_DELAY_NANOS);
+          LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound));
+        }
+      }
+    }
+    throw new ConcurrentUpdateException(last.getEntityId(), MAX_ATTEMPTS, last);
+  }
+}
@@ -70,31 +70,33 @@ public class PartyService {
    * Оновлює партію.
    */
   public PartyResponseDto update(UUID id, PartyUpdateDto dto) {
-    Party party = partyRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Партія", id));
-
-    dto.name().ifPresent(name -> {
-      if (!name.equals(party.getName()) &&
-          partyRepository.exists(PartySpecifications.byName(name))) {
-        throw new DuplicateEntityException("Партія", "name", name);
-      }
-      party.setName(name);
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    return OptimisticRetry.run(() -> {
+      Party party = findForUpdate(id);
+
+      dto.name().ifPresent(name -> {
+        if (!name.equals(party.getName()) &&
+            partyRepository.exists(PartySpecifications.byName(name))) {
+          throw new DuplicateEntityException("Партія", "name", name);
+        }
+        party.setName(name);
+      });
+
+      dto.abbreviation().ifPresent(abbr -> {
+        String normalized = abbr.toUpperCase();
+        if (!normalized.equals(party.getAbbreviation()) &&
+            partyRepository.exists(PartySpecifications.byAbbreviation(normalized))) {
+          throw new DuplicateEntityException("Партія", "abbreviation", normalized);
+        }
+        party.setAbbreviation(normalized);
+      });
+
+      dto.logoPath().ifPresent(party::setLogoPath);
+      dto.program().ifPresent(party::setProgram);
+
+      partyRepository.save(party);
+      return PartyResponseDto.fromEntity(party);
     });
-
-    dto.abbreviation().ifPresent(abbr -> {
-      String normalized = abbr.toUpperCase();
-      if (!normalized.equals(party.getAbbreviation()) &&
-          partyRepository.exists(PartySpecifications.byAbbreviation(normalized))) {
-        throw new DuplicateEntityException("Партія", "abbreviation", normalized);
-      }
-      party.setAbbreviation(normalized);
-    });
-
-    dto.logoPath().ifPresent(party::setLogoPath);
-    dto.program().ifPresent(party::setProgram);
-
-    partyRepository.save(party);
-    return PartyResponseDto.fromEntity(party);
   }
 
   /**
@@ -168,4 +170,9 @@ public class PartyService {
         .orElseThrow(() -> new EntityNotFoundException("Партія", "code", code));
     return PartyResponseDto.fromEntity(party);
   }
+
+  private Party findForUpdate(UUID id) {
+    return partyRepository.findForUpdate(id)
+        .orElseThrow(() -> new EntityNotFoundException("Партія", id));
+  }
 }
@@ -69,32 +69,34 @@ public class RegionService {
    * Оновлює регіон.
    */
   public RegionResponseDto update(UUID id, RegionUpdateDto dto) {
-    Region region = regionRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Регіон", id));
-
-    dto.name().ifPresent(name -> {
-      // Перевірка унікальності нової назви
-      if (!name.equals(region.getName()) &&
-          regionRepository.exists(RegionSpecifications.byName(name))) {
-        throw new DuplicateEntityException("Регіон", "name", name);
-      }
-      region.setName(name);
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    return OptimisticRetry.run(() -> {
+      Region region = findForUpdate(id);
+
+      dto.name().ifPresent(name -> {
+        // Перевірка унікальності нової назви
+        if (!name.equals(region.getName()) &&
+            regionRepository.exists(RegionSpecifications.byName(name))) {
+          throw new DuplicateEntityException("Регіон", "name", name);
+        }
+        region.setName(name);
+      });
+
+      dto.code().ifPresent(code -> {
+        // Перевірка унікальності нового коду
+        String normalizedCode = code.toUpperCase();
+        if (!normalizedCode.equals(region.getCode()) &&
+            regionRepository.exists(RegionSpecifications.byCode(normalizedCode))) {
+          throw new DuplicateEntityException("Регіон", "code", normalizedCode);
+        }
+        region.setCode(normalizedCode);
+      });
+
+      dto.description().ifPresent(region::setDescription);
+
+      regionRepository.save(region);
+      return RegionResponseDto.fromEntity(region);
     });
-
-    dto.code().ifPresent(code -> {
-      // Перевірка унікальності нового коду
-      String normalizedCode = code.toUpperCase();
-      if (!normalizedCode.equals(region.getCode()) &&
-          regionRepository.exists(RegionSpecifications.byCode(normalizedCode))) {
-        throw new DuplicateEntityException("Регіон", "code", normalizedCode);
-      }
-      region.setCode(normalizedCode);
-    });
-
-    dto.description().ifPresent(region::setDescription);
-
-    regionRepository.save(region);
-    return RegionResponseDto.fromEntity(region);
   }
 
   /**
@@ -150,4 +152,9 @@ public class RegionService {
     }
     return context.voters().countByRegionId(regionId);
   }
+
+  private Region findForUpdate(UUID id) {
+    return regionRepository.findForUpdate(id)
+        .orElseThrow(() -> new EntityNotFoundException("Регіон", id));
+  }
 }
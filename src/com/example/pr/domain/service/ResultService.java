@@ -0,0 +1,191 @@
+package com.example.pr.domain.service;
+
+import com.example.pr.domain.dto.vote.ElectionResultsDto;
+import com.example.pr.domain.dto.vote.RegionResultDto;
+import com.example.pr.domain.dto.vote.VoteResultDto;
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.service.exception.EntityNotFoundException;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.CandidateResult;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.RegionResult;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Сервіс підсумків виборів.
+ * <p>
+ * Голоси завершених виборів більше не змінюються, тому їх підсумки (загальні та за регіонами)
+ * рахуються один раз при закритті, зберігаються у сховищі підсумків і далі віддаються без
+ * звернення до голосів - а самі голоси вивантажуються з пам'яті. Для виборів, закритих до появи
+ * підсумків, або якщо підсумки скинуто через видалення голосів, вони рахуються при першому
+ * запиті. Результати незавершених виборів рахуються наживо.
+ */
+public class ResultService {
+
+  private static final String INDEPENDENT = "Незалежний";
+  private static final String UNKNOWN_REGION = "Невідомий регіон";
+
+  private final DataContext context;
+
+  public ResultService() {
+    this.context = DataContext.getInstance();
+  }
+
+  /**
+   * Результати кандидатів, від більшої кількості голосів до меншої.
+   */
+  public List<VoteResultDto> getResults(UUID electionId) {
+    Election election = findElection(electionId);
+    if (election.getStatus() == ElectionStatus.CLOSED) {
+      ElectionResultSnapshot snapshot = snapshotOf(electionId);
+      return toResults(snapshot.candidates(), CandidateResult::votes, snapshot.totalVotes());
+    }
+
+    // Лічильники з однієї версії даних - числа узгоджені між собою. Як і в підсумках, загальна
+    // кількість - лише за поточних кандидатів: голоси за видалених не враховуються
+    Map<UUID, Long> votesByCandidate = context.votes().countByCandidateInElection(electionId);
+    List<CandidateResult> candidates = candidateResults(candidatesOf(electionId), votesByCandidate);
+    long totalVotes = candidates.stream().mapToLong(CandidateResult::votes).sum();
+    return toResults(candidates, CandidateResult::votes, totalVotes);
+  }
+
+  /**
+   * Повні результати виборів разом із розподілом голосів за регіонами виборців.
+   */
+  public ElectionResultsDto getElectionResults(UUID electionId) {
+    Election election = findElection(electionId);
+    boolean closed = election.getStatus() == ElectionStatus.CLOSED;
+    ElectionResultSnapshot snapshot = closed ? snapshotOf(electionId) : compute(electionId);
+
+    List<RegionResultDto> regions = new ArrayList<>(snapshot.regions().size());
+    for (RegionResult region : snapshot.regions()) {
+      Map<UUID, Long> votes = region.votesByCandidate();
+      regions.add(new RegionResultDto(region.regionId(), region.regionName(),
+          region.totalVotes(),
+          toResults(snapshot.candidates(), c -> votes.getOrDefault(c.candidateId(), 0L),
+              region.totalVotes())));
+    }
+
+    return new ElectionResultsDto(
+        electionId,
+        closed ? snapshot.finalizedAt() : null,
+        snapshot.totalVotes(),
+        toResults(snapshot.candidates(), CandidateResult::votes, snapshot.totalVotes()),
+        regions
+    );
+  }
+
+  /**
+   * Рахує і зберігає підсумки завершених виборів, після чого вивантажує їх голоси з пам'яті.
+   */
+  public ElectionResultSnapshot finalizeResults(UUID electionId) {
+    ElectionResultSnapshot snapshot = compute(electionId);
+    context.results().save(snapshot);
+    context.votes().unloadElection(electionId);
+    return snapshot;
+  }
+
+  // ==================== Helper Methods ====================
+
+  private Election findElection(UUID electionId) {
+    return context.elections().findById(electionId)
+        .orElseThrow(() -> new EntityNotFoundException("Вибори", electionId));
+  }
+
+  private ElectionResultSnapshot snapshotOf(UUID electionId) {
+    return context.results().findByElectionId(electionId)
+        .orElseGet(() -> finalizeResults(electionId));
+  }
+
+  /**
+   * Рахує підсумки за один прохід голосами виборів. Голоси за кандидатів, яких уже немає, не
+   * враховуються ні в загальних, ні в регіональних підсумках.
+   */
+  private ElectionResultSnapshot compute(UUID electionId) {
+    List<Candidate> candidates = candidatesOf(electionId);
+    Set<UUID> candidateIds = new HashSet<>();
+    candidates.forEach(candidate -> candidateIds.add(candidate.getId()));
+
+    Map<UUID, Long> byCandidate = new HashMap<>();
+    Map<UUID, Map<UUID, Long>> byRegion = new HashMap<>(); // null - регіон невідомий
+
+    for (Vote vote : context.votes().findByElectionId(electionId)) {
+      UUID candidateId = vote.getCandidateId();
+      if (candidateId == null || !candidateIds.contains(candidateId)) {
+        continue;
+      }
+      UUID regionId = context.voters().findById(vote.getVoterId())
+          .map(Voter::getRegionId)
+          .orElse(null);
+      byCandidate.merge(candidateId, 1L, Long::sum);
+      byRegion.computeIfAbsent(regionId, k -> new HashMap<>()).merge(candidateId, 1L, Long::sum);
+    }
+
+    List<RegionResult> regions = new ArrayList<>(byRegion.size());
+    byRegion.forEach((regionId, votes) -> {
+      String name = regionId == null ? UNKNOWN_REGION
+          : context.referenceData().findRegionById(regionId)
+              .map(Region::getName)
+              .orElse(UNKNOWN_REGION);
+      regions.add(new RegionResult(regionId, name, votes));
+    });
+    // За назвою; невідомий регіон - останнім
+    regions.sort(Comparator.comparing((RegionResult r) -> r.regionId() == null)
+        .thenComparing(RegionResult::regionName));
+
+    return new ElectionResultSnapshot(electionId, LocalDateTime.now(),
+        candidateResults(candidates, byCandidate), regions);
+  }
+
+  private List<Candidate> candidatesOf(UUID electionId) {
+    return context.referenceData().findCandidatesByElection(electionId);
+  }
+
+  private List<CandidateResult> candidateResults(List<Candidate> candidates,
+      Map<UUID, Long> votes) {
+    List<CandidateResult> results = new ArrayList<>(candidates.size());
+    for (Candidate candidate : candidates) {
+      String partyName = context.referenceData().findPartyByCode(candidate.getPartyCode())
+          .map(p -> p.getName())
+          .orElse(INDEPENDENT);
+
+      results.add(new CandidateResult(
+          candidate.getId(),
+          candidate.getFirstName() + " " + candidate.getLastName(),
+          partyName,
+          votes.getOrDefault(candidate.getId(), 0L)
+      ));
+    }
+    return results;
+  }
+
+  private static List<VoteResultDto> toResults(List<CandidateResult> candidates,
+      ToLongFunction<CandidateResult> votesOf, long totalVotes) {
+    List<VoteResultDto> results = new ArrayList<>(candidates.size());
+    for (CandidateResult candidate : candidates) {
+      long voteCount = votesOf.applyAsLong(candidate);
+      double percentage = totalVotes > 0 ? (voteCount * 100.0 / totalVotes) : 0;
+      results.add(new VoteResultDto(candidate.candidateId(), candidate.fullName(),
+          candidate.partyName(), voteCount, percentage));
+    }
+
+    // Сортуємо за кількістю голосів (від більшого до меншого)
+    results.sort((a, b) -> Long.compare(b.voteCount(), a.voteCount()));
+    return results;
+  }
+}
@@ -1,23 +1,25 @@
 package com.example.pr.domain.service;
 
+import com.example.pr.domain.dto.vote.AuditCheckpointDto;
+import com.example.pr.domain.dto.vote.ElectionResultsDto;
 import com.example.pr.domain.dto.vote.VoteCreateDto;
+import com.example.pr.domain.dto.vote.VoteProofDto;
 import com.example.pr.domain.dto.vote.VoteResponseDto;
 import com.example.pr.domain.dto.vote.VoteResultDto;
-import com.example.pr.domain.enums.ElectionStatus;
-import com.example.pr.domain.impl.Candidate;
-import com.example.pr.domain.impl.Election;
 import com.example.pr.domain.impl.Vote;
-import com.example.pr.domain.impl.Voter;
 import com.example.pr.domain.service.exception.EntityNotFoundException;
-import com.example.pr.domain.service.exception.VotingException;
+import com.example.pr.domain.service.pipeline.PipelineMetrics;
+import com.example.pr.domain.service.pipeline.VoteIngestionPipeline;
 import com.example.pr.domain.specification.VoteSpecifications;
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
 import com.example.pr.infrastructure.storage.contract.VoteRepository;
 import com.example.pr.infrastructure.storage.impl.DataContext;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Сервіс для роботи з голосуванням.
@@ -26,62 +28,44 @@ public class VoteService {
 
   private final VoteRepository voteRepository;
   private final DataContext context;
+  private final VoteIngestionPipeline pipeline;
+  private final ResultService resultService;
 
   public VoteService() {
     this.context = DataContext.getInstance();
     this.voteRepository = context.votes();
+    this.pipeline = VoteIngestionPipeline.getInstance();
+    this.resultService = new ResultService();
   }
 
   /**
-   * Реєструє голос.
+   * Реєструє голос і чекає на його запис.
    */
   public VoteResponseDto vote(VoteCreateDto dto) {
-    // Перевірка існування виборця
-    Voter voter = context.voters().findById(dto.voterId())
-        .orElseThrow(() -> new EntityNotFoundException("Виборець", dto.voterId()));
-
-    // Перевірка існування виборів
-    Election election = context.elections().findById(dto.electionId())
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", dto.electionId()));
-
-    // Перевірка існування кандидата
-    Candidate candidate = context.candidates().findById(dto.candidateId())
-        .orElseThrow(() -> new EntityNotFoundException("Кандидат", dto.candidateId()));
-
-    // Перевірка статусу виборів
-    if (election.getStatus() != ElectionStatus.ACTIVE) {
-      throw VotingException.electionNotActive();
-    }
-
-    // Перевірка часу виборів
-    LocalDateTime now = LocalDateTime.now();
-    if (now.isBefore(election.getStartDate())) {
-      throw VotingException.electionNotStarted();
-    }
-    if (now.isAfter(election.getEndDate())) {
-      throw VotingException.electionEnded();
-    }
-
-    // Перевірка, чи кандидат бере участь у цих виборах
-    if (!candidate.getElectionId().equals(dto.electionId())) {
-      throw VotingException.invalidCandidate();
-    }
-
-    // Перевірка, чи виборець вже голосував
-    if (voteRepository.hasVoted(dto.voterId(), dto.electionId())) {
-      throw VotingException.alreadyVoted();
+    try {
+      return submit(dto).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
     }
+  }
 
-    // Створення голосу
-    Vote vote = new Vote(
-        dto.voterId(),
-        dto.candidateId(),
-        dto.electionId(),
-        LocalDateTime.now()
-    );
+  /**
+   * Подає голос на асинхронну перевірку і груповий запис.
+   *
+   * @return future із записаним голосом; завершується винятком, якщо голос відхилено
+   */
+  public CompletableFuture<VoteResponseDto> submit(VoteCreateDto dto) {
+    return pipeline.submit(dto);
+  }
 
-    voteRepository.save(vote);
-    return VoteResponseDto.fromEntity(vote);
+  /**
+   * Показники конвеєра прийому голосів.
+   */
+  public PipelineMetrics pipelineMetrics() {
+    return pipeline.metrics();
   }
 
   /**
@@ -95,42 +79,14 @@ public class VoteService {
    * Отримує результати голосування.
    */
   public List<VoteResultDto> getResults(UUID electionId) {
-    // Перевірка існування виборів
-    Election election = context.elections().findById(electionId)
-        .orElseThrow(() -> new EntityNotFoundException("Вибори", electionId));
-
-    // Отримуємо всіх кандидатів
-    List<Candidate> candidates = context.candidates().findByElectionId(electionId);
-
-    // Загальна кількість голосів
-    long totalVotes = voteRepository.countByElection(electionId);
-
-    // Формуємо результати
-    List<VoteResultDto> results = new ArrayList<>();
-
-    for (Candidate candidate : candidates) {
-      long voteCount = voteRepository.countByCandidate(candidate.getId());
-      double percentage = totalVotes > 0 ? (voteCount * 100.0 / totalVotes) : 0;
-
-      String partyName = candidate.getPartyCode() != null
-          ? context.parties().findByCode(candidate.getPartyCode())
-          .map(p -> p.getName())
-          .orElse("Незалежний")
-          : "Незалежний";
-
-      results.add(new VoteResultDto(
-          candidate.getId(),
-          candidate.getFirstName() + " " + candidate.getLastName(),
-          partyName,
-          voteCount,
-          percentage
-      ));
-    }
-
-    // Сортуємо за кількістю голосів (від більшого до меншого)
-    results.sort((a, b) -> Long.compare(b.voteCount(), a.voteCount()));
+    return resultService.getResults(electionId);
+  }
 
-    return results;
+  /**
+   * Отримує повні результати виборів з розподілом за регіонами.
+   */
+  public ElectionResultsDto getElectionResults(UUID electionId) {
+    return resultService.getElectionResults(electionId);
   }
 
   /**
@@ -174,4 +130,28 @@ public class VoteService {
             .and(VoteSpecifications.votedToday())
     ).size();
   }
+
+  /**
+   * Стан журналу аудиту виборів.
+   */
+  public AuditCheckpointDto auditCheckpoint(UUID electionId) {
+    return AuditCheckpointDto.fromCheckpoint(voteRepository.auditCheckpoint(electionId));
+  }
+
+  /**
+   * Доказ включення голосу до журналу аудиту, перевірений відносно поточного кореня.
+   *
+   * @param ownerId виборець, якому дозволено бачити доказ, або {@code null} (адміністратор)
+   */
+  public VoteProofDto proveVote(UUID voteId, UUID ownerId) {
+    Vote vote = voteRepository.findById(voteId)
+        .filter(v -> ownerId == null || ownerId.equals(v.getVoterId()))
+        .orElseThrow(() -> new EntityNotFoundException("Голос", voteId));
+
+    AuditCheckpoint checkpoint = voteRepository.auditCheckpoint(vote.getElectionId());
+    InclusionProof proof = voteRepository.proveInclusion(vote.getElectionId(), voteId)
+        .orElseThrow(() -> new EntityNotFoundException("Запис аудиту голосу", voteId));
+    boolean valid = checkpoint.verified() && proof.matches(vote) && proof.verify(checkpoint.root());
+    return VoteProofDto.fromProof(proof, valid);
+  }
 }
@@ -1,24 +1,41 @@
 package com.example.pr.domain.service;
 
+import com.example.pr.domain.dto.Page;
+import com.example.pr.domain.dto.PageRequest;
 import com.example.pr.domain.dto.voter.VoterCreateDto;
 import com.example.pr.domain.dto.voter.VoterResponseDto;
+import com.example.pr.domain.dto.voter.VoterStatisticsDto;
 import com.example.pr.domain.dto.voter.VoterUpdateDto;
 import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.impl.Region;
 import com.example.pr.domain.impl.Voter;
 import com.example.pr.domain.service.exception.DuplicateEntityException;
 import com.example.pr.domain.service.exception.EntityNotFoundException;
 import com.example.pr.domain.specification.VoterSpecifications;
+import com.example.pr.infrastructure.storage.Aggregations;
+import com.example.pr.infrastructure.storage.Aggregations.Histogram;
 import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import com.example.pr.infrastructure.storage.exception.UniqueConstraintException;
 import com.example.pr.infrastructure.storage.impl.DataContext;
 
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Сервіс для роботи з виборцями.
  */
 public class VoterService {
 
+  // Межі вікових груп статистики: до 30, 30-44, 45-59, 60+
+  private static final long[] AGE_GROUP_BOUNDS = {30, 45, 60};
+
   private final VoterRepository voterRepository;
   private final DataContext context;
 
@@ -42,7 +59,7 @@ public class VoterService {
     }
 
     // Перевірка існування регіону
-    if (!context.regions().existsById(dto.regionId())) {
+    if (!context.referenceData().regionExists(dto.regionId())) {
       throw new EntityNotFoundException("Регіон", dto.regionId());
     }
 
@@ -59,7 +76,11 @@ public class VoterService {
         dto.regionId()
     );
 
-    voterRepository.save(voter);
+    try {
+      voterRepository.save(voter);
+    } catch (UniqueConstraintException e) {
+      throw duplicateOf(voter, voterRepository);
+    }
     return VoterResponseDto.fromEntity(voter);
   }
 
@@ -85,30 +106,36 @@ public class VoterService {
    * Оновлює виборця.
    */
   public VoterResponseDto update(UUID id, VoterUpdateDto dto) {
-    Voter voter = voterRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Виборець", id));
+    // Зміни - на окремій копії; при паралельному записі перечитуємо і повторюємо
+    return OptimisticRetry.run(() -> {
+      Voter voter = findForUpdate(id);
 
-    // Оновлюємо поля, якщо вони присутні
-    dto.firstName().ifPresent(voter::setFirstName);
-    dto.lastName().ifPresent(voter::setLastName);
+      // Оновлюємо поля, якщо вони присутні
+      dto.firstName().ifPresent(voter::setFirstName);
+      dto.lastName().ifPresent(voter::setLastName);
 
-    dto.email().ifPresent(email -> {
-      // Перевіряємо унікальність нового email
-      if (!email.equalsIgnoreCase(voter.getEmail()) && voterRepository.existsByEmail(email)) {
-        throw new DuplicateEntityException("Виборець", "email", email);
-      }
-      voter.setEmail(email);
-    });
+      dto.email().ifPresent(email -> {
+        // Перевіряємо унікальність нового email
+        if (!email.equalsIgnoreCase(voter.getEmail()) && voterRepository.existsByEmail(email)) {
+          throw new DuplicateEntityException("Виборець", "email", email);
+        }
+        voter.setEmail(email);
+      });
+
+      dto.regionId().ifPresent(regionId -> {
+        if (!context.referenceData().regionExists(regionId)) {
+          throw new EntityNotFoundException("Регіон", regionId);
+        }
+        voter.setRegionId(regionId);
+      });
 
-    dto.regionId().ifPresent(regionId -> {
-      if (!context.regions().existsById(regionId)) {
-        throw new EntityNotFoundException("Регіон", regionId);
+      try {
+        voterRepository.save(voter);
+      } catch (UniqueConstraintException e) {
+        throw duplicateOf(voter, voterRepository);
       }
-      voter.setRegionId(regionId);
+      return VoterResponseDto.fromEntity(voter);
     });
-
-    voterRepository.save(voter);
-    return VoterResponseDto.fromEntity(voter);
   }
 
   /**
@@ -119,10 +146,8 @@ public class VoterService {
       throw new EntityNotFoundException("Виборець", id);
     }
 
-    // Видаляємо пов'язані голоси
-    context.votes().deleteByVoterId(id);
-
-    voterRepository.deleteById(id);
+    // Видаляємо виборця разом з його голосами
+    context.cascade().deleteVoter(id);
   }
 
   /**
@@ -134,6 +159,14 @@ public class VoterService {
         .toList();
   }
 
+  /**
+   * Сторінка всіх виборців (впорядковано за ID).
+   */
+  public Page<VoterResponseDto> findAll(PageRequest request) {
+    return voterRepository.findPage(VoterSpecifications.all(), request)
+        .map(VoterResponseDto::fromEntity);
+  }
+
   /**
    * Знаходить виборців за регіоном.
    */
@@ -152,6 +185,14 @@ public class VoterService {
         .toList();
   }
 
+  /**
+   * Сторінка виборців з роллю.
+   */
+  public Page<VoterResponseDto> findByRole(VoterRole role, PageRequest request) {
+    return voterRepository.findPage(VoterSpecifications.byRole(role), request)
+        .map(VoterResponseDto::fromEntity);
+  }
+
   /**
    * Пошук виборців за ім'ям.
    */
@@ -161,17 +202,26 @@ public class VoterService {
         .toList();
   }
 
+  /**
+   * Сторінка результатів пошуку за ім'ям.
+   */
+  public Page<VoterResponseDto> searchByName(String query, PageRequest request) {
+    return voterRepository.findPage(VoterSpecifications.fullNameContains(query), request)
+        .map(VoterResponseDto::fromEntity);
+  }
+
   /**
    * Змінює роль виборця (тільки для адмінів).
    */
   public VoterResponseDto changeRole(UUID id, VoterRole newRole) {
-    Voter voter = voterRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Виборець", id));
+    return OptimisticRetry.run(() -> {
+      Voter voter = findForUpdate(id);
 
-    voter.setRole(newRole);
-    voterRepository.save(voter);
+      voter.setRole(newRole);
+      voterRepository.save(voter);
 
-    return VoterResponseDto.fromEntity(voter);
+      return VoterResponseDto.fromEntity(voter);
+    });
   }
 
   /**
@@ -181,10 +231,84 @@ public class VoterService {
     return voterRepository.count(VoterSpecifications.all());
   }
 
+  /**
+   * Статистика користувачів за один прохід: ролі, вікові групи та регіони.
+   */
+  public VoterStatisticsDto statistics() {
+    LocalDate today = LocalDate.now();
+    VoterAggregate aggregate = voterRepository.aggregate(VoterSpecifications.all(),
+        Collectors.teeing(
+            Aggregations.countByEnum(VoterRole.class, Voter::getRole),
+            Collectors.teeing(
+                Aggregations.histogram(v -> ageOf(v, today), AGE_GROUP_BOUNDS),
+                Aggregations.countBy(Voter::getRegionId),
+                AgesAndRegions::new),
+            (roles, rest) -> new VoterAggregate(roles, rest.ages(), rest.regions())));
+
+    Map<String, Long> byAgeGroup = new LinkedHashMap<>();
+    Histogram ages = aggregate.ages();
+    for (int bucket = 0; bucket < ages.buckets(); bucket++) {
+      byAgeGroup.put(ageGroupLabel(ages, bucket), ages.count(bucket));
+    }
+
+    Map<String, Long> byRegion = new TreeMap<>();
+    aggregate.regions().forEach((regionId, count) -> {
+      String name = regionId == null ? "Без регіону"
+          : context.referenceData().findRegionById(regionId)
+              .map(Region::getName)
+              .orElse("Невідомий регіон");
+      byRegion.merge(name, count, Long::sum);
+    });
+
+    return new VoterStatisticsDto(ages.total(), aggregate.roles(), byAgeGroup, byRegion);
+  }
+
   /**
    * Підраховує виборців у регіоні.
    */
   public long countByRegion(UUID regionId) {
     return voterRepository.countByRegionId(regionId);
   }
+
+  /**
+   * Дублікат, який сховище виявило лише при записі (паралельний запис з тим самим email чи
+   * паспортом), - та сама помилка, що й при перевірці перед записом.
+   */
+  static DuplicateEntityException duplicateOf(Voter voter, VoterRepository voters) {
+    boolean emailTaken = voters.findByEmail(voter.getEmail())
+        .filter(other -> !other.getId().equals(voter.getId()))
+        .isPresent();
+    return emailTaken
+        ? new DuplicateEntityException("Виборець", "email", voter.getEmail())
+        : new DuplicateEntityException("Виборець", "passportNumber", voter.getPassportNumber());
+  }
+
+  private Voter findForUpdate(UUID id) {
+    return voterRepository.findForUpdate(id)
+        .orElseThrow(() -> new EntityNotFoundException("Виборець", id));
+  }
+
+  private static long ageOf(Voter voter, LocalDate today) {
+    LocalDate birthDate = voter.getBirthDate();
+    return birthDate == null ? 0 : Period.between(birthDate, today).getYears();
+  }
+
+  private static String ageGroupLabel(Histogram ages, int bucket) {
+    if (bucket == 0) {
+      return "до " + ages.upperBound(bucket);
+    }
+    if (bucket == ages.buckets() - 1) {
+      return ages.lowerBound(bucket) + "+";
+    }
+    return ages.lowerBound(bucket) + "-" + (ages.upperBound(bucket) - 1);
+  }
+
+  private record AgesAndRegions(Histogram ages, Map<UUID, Long> regions) {
+
+  }
+
+  private record VoterAggregate(EnumMap<VoterRole, Long> roles, Histogram ages,
+      Map<UUID, Long> regions) {
+
+  }
 }
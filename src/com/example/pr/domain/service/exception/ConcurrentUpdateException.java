@@ -0,0 +1,21 @@
+package com.example.pr.domain.service.exception;
+
+import java.util.UUID;
+
+/**
+ * Виняток, коли сутність не вдалося змінити через паралельні зміни інших користувачів.
+ */
+public class ConcurrentUpdateException extends ServiceException {
+
+  private final UUID entityId;
+
+  public ConcurrentUpdateException(UUID entityId, int attempts, Throwable cause) {
+    super(String.format("Запис з ID '%s' одночасно змінюють інші користувачі (спроб: %d). "
+        + "Спробуйте пізніше", entityId, attempts), cause);
+    this.entityId = entityId;
+  }
+
+  public UUID getEntityId() {
+    return entityId;
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.pr.domain.service.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Параметри конвеєра прийому голосів.
+ *
+ * @param ringSize місткість кожного кільцевого буфера (степінь двійки)
+ * @param maxBatchSize максимальна кількість голосів в одній груповій фіксації
+ * @param maxBatchDelay скільки стадія запису чекає на дозаповнення неповного пакета; нуль -
+ *     записувати все, що є, одразу
+ */
+public record PipelineConfig(int ringSize, int maxBatchSize, Duration maxBatchDelay) {
+
+  public PipelineConfig {
+    if (ringSize < 2 || Integer.bitCount(ringSize) != 1) {
+      throw new IllegalArgumentException("Розмір буфера має бути степенем двійки: " + ringSize);
+    }
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Розмір пакета має бути додатним: " + maxBatchSize);
+    }
+    if (maxBatchDelay == null || maxBatchDelay.isNegative()) {
+      throw new IllegalArgumentException("Затримка пакета не може бути від'ємною");
+    }
+  }
+
+  public static PipelineConfig defaults() {
+    return new PipelineConfig(1 << 16, 1024, Duration.ofMillis(1));
+  }
+}
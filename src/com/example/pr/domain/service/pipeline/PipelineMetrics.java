@@ -0,0 +1,37 @@
+package com.example.pr.domain.service.pipeline;
+
+/**
+ * Знімок показників конвеєра прийому голосів.
+ *
+ * @param submitted подано голосів
+ * @param accepted записано голосів
+ * @param rejected відхилено перевірками (повторний голос, неактивні вибори тощо)
+ * @param failed не записано через помилку сховища
+ * @param batches кількість групових фіксацій
+ * @param largestBatch найбільший пакет
+ * @param queued голосів у буферах зараз
+ * @param acceptedPerSecond середня кількість записаних голосів за секунду з моменту запуску
+ * @param averageBatchSize середній розмір пакета
+ * @param averageLatencyMillis середній час від подання до фіксації
+ */
+public record PipelineMetrics(
+    long submitted,
+    long accepted,
+    long rejected,
+    long failed,
+    long batches,
+    int largestBatch,
+    long queued,
+    double acceptedPerSecond,
+    double averageBatchSize,
+    double averageLatencyMillis
+) {
+
+  @Override
+  public String toString() {
+    return String.format("подано=%d записано=%d відхилено=%d помилок=%d пакетів=%d "
+            + "(сер. %.1f, макс. %d) у черзі=%d %.0f гол/с, сер. затримка %.2f мс",
+        submitted, accepted, rejected, failed, batches, averageBatchSize, largestBatch, queued,
+        acceptedPerSecond, averageLatencyMillis);
+  }
+}
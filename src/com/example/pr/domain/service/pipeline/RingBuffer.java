@@ -0,0 +1,130 @@
+package com.example.pr.domain.service.pipeline;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Обмежений кільцевий буфер без блокувань для багатьох записувачів і одного читача (у дусі
+ * LMAX Disruptor).
+ * <p>
+ * Записувач резервує номер слота атомарним інкрементом, записує елемент і публікує слот, записавши
+ * в нього свій номер. Читач забирає слоти строго по порядку, доки вони опубліковані, тому
+ * повільний записувач не дає читачу "перестрибнути" через свій слот. Якщо буфер заповнений,
+ * записувачі чекають (зворотний тиск), а не відкидають елементи.
+ *
+ * @param <E> тип елемента
+ */
+final class RingBuffer<E> {
+
+  private static final int SPIN_TRIES = 100;
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final int mask;
+  private final AtomicReferenceArray<E> slots;
+  // Номер, опублікований у кожному слоті (-1 - ще не публікувався)
+  private final AtomicLongArray published;
+
+  // Наступний номер для запису
+  private final AtomicLong claimed = new AtomicLong();
+  // Наступний номер для читання (змінює лише читач)
+  private volatile long consumed;
+
+  /**
+   * @param capacity місткість, степінь двійки
+   */
+  RingBuffer(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Місткість буфера має бути степенем двійки: " + capacity);
+    }
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.published = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      published.set(i, -1);
+    }
+  }
+
+  /**
+   * Додає елемент; якщо буфер заповнений - чекає, доки читач звільнить місце.
+   */
+  void publish(E element) {
+    long sequence = claimed.getAndIncrement();
+    int capacity = mask + 1;
+    for (int tries = 0; sequence - consumed >= capacity; tries++) {
+      backOff(tries);
+    }
+    int index = (int) sequence & mask;
+    slots.set(index, element);
+    published.set(index, sequence); // volatile-запис публікує елемент
+  }
+
+  /**
+   * Забирає до {@code max} опублікованих елементів у порядку публікації, не чекаючи.
+   *
+   * @return кількість забраних елементів
+   */
+  int drainTo(List<? super E> target, int max) {
+    long next = consumed;
+    int taken = 0;
+    while (taken < max) {
+      int index = (int) next & mask;
+      if (published.get(index) != next) {
+        break;
+      }
+      target.add(slots.getAndSet(index, null));
+      next++;
+      taken++;
+    }
+    if (taken > 0) {
+      consumed = next;
+    }
+    return taken;
+  }
+
+  /**
+   * Чекає, доки з'явиться хоча б один елемент, але не довше {@code timeoutNanos}.
+   *
+   * @return {@code true}, якщо елемент доступний
+   */
+  boolean awaitAvailable(long timeoutNanos) {
+    long deadline = System.nanoTime() + timeoutNanos;
+    for (int tries = 0; !hasAvailable(); tries++) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      backOff(tries);
+    }
+    return true;
+  }
+
+  /**
+   * Кількість зарезервованих, але ще не забраних елементів.
+   */
+  long size() {
+    return Math.max(0, claimed.get() - consumed);
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  private boolean hasAvailable() {
+    long next = consumed;
+    return published.get((int) next & mask) == next;
+  }
+
+  /**
+   * Спершу коротке активне очікування, далі - паркування потоку на десятки мікросекунд.
+   */
+  private static void backOff(int tries) {
+    if (tries < SPIN_TRIES) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(PARK_NANOS);
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package com.example.pr.domain.service.pipeline;
+
+import com.example.pr.domain.dto.vote.VoteCreateDto;
+import com.example.pr.domain.dto.vote.VoteResponseDto;
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.domain.service.ElectionScheduler;
+import com.example.pr.domain.service.exception.EntityNotFoundException;
+import com.example.pr.domain.service.exception.VotingException;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.exception.UniqueConstraintException;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Конвеєр прийому голосів.
+ * <p>
+ * Голоси проходять три стадії, з'єднані кільцевими буферами без блокувань:
+ * <ol>
+ *   <li>подання - будь-який потік кладе голос у буфер і одразу отримує
+ *   {@link CompletableFuture};</li>
+ *   <li>перевірка - один потік перевіряє виборця, вибори, кандидата, статус і час виборів та
+ *   повторне голосування. Оскільки перевіряє один потік, а голоси "в дорозі" враховуються,
+ *   два голоси одного виборця не можуть обидва пройти перевірку;</li>
+ *   <li>запис - один потік збирає перевірені голоси у пакет (до {@code maxBatchSize} або
+ *   {@code maxBatchDelay}) і записує його одним {@link VoteRepository#saveAll} - один перезапис
+ *   і один fsync на сегмент замість одного на голос. Після фіксації завершуються future всіх
+ *   голосів пакета.</li>
+ * </ol>
+ * Час голосу і перевірка періоду виборів беруться з моменту подання, а не запису.
+ * <p>
+ * Подання перевіряє, що конвеєр працює, і кладе голос у буфер під блокуванням читання, а
+ * {@link #close()} зупиняє прийом під блокуванням запису. Тому кожен прийнятий голос потрапляє
+ * у буфер до того, як перевірка побачить зупинку, і його future завжди завершиться.
+ */
+public class VoteIngestionPipeline implements AutoCloseable {
+
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  // Singleton (Bill Pugh pattern - thread-safe)
+  private static class Holder {
+
+    private static final VoteIngestionPipeline INSTANCE = create();
+
+    private static VoteIngestionPipeline create() {
+      VoteIngestionPipeline pipeline = new VoteIngestionPipeline(DataContext.getInstance(),
+          PipelineConfig.defaults());
+      // Голоси, що вже в буферах, фіксуються перед завершенням процесу
+      Runtime.getRuntime().addShutdownHook(new Thread(pipeline::close, "vote-pipeline-close"));
+      return pipeline;
+    }
+  }
+
+  private final DataContext context;
+  private final VoteRepository voteRepository;
+  private final ElectionScheduler scheduler;
+  private final PipelineConfig config;
+
+  private final RingBuffer<Submission> submitted;
+  private final RingBuffer<Validated> validated;
+
+  // Голоси, що пройшли перевірку, але ще не записані (виборець + вибори)
+  private final Set<Participation> inFlight = ConcurrentHashMap.newKeySet();
+
+  private final Thread validator;
+  private final Thread persister;
+  private volatile boolean running = true;
+
+  // Подання (читання) і зупинка (запис): після зупинки в буфер нічого не потрапляє
+  private final ReadWriteLock admission = new ReentrantReadWriteLock();
+
+  // Показники
+  private final long startedNanos = System.nanoTime();
+  private final LongAdder submittedCount = new LongAdder();
+  private final LongAdder acceptedCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder latencyNanos = new LongAdder();
+  private final AtomicInteger largestBatch = new AtomicInteger();
+
+  public VoteIngestionPipeline(DataContext context, PipelineConfig config) {
+    this.context = context;
+    this.voteRepository = context.votes();
+    this.scheduler = ElectionScheduler.getInstance();
+    this.config = config;
+    this.submitted = new RingBuffer<>(config.ringSize());
+    this.validated = new RingBuffer<>(config.ringSize());
+
+    this.validator = Thread.ofPlatform().name("vote-validator").daemon().start(this::validate);
+    this.persister = Thread.ofPlatform().name("vote-persister").daemon().start(this::persist);
+  }
+
+  public static VoteIngestionPipeline getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Подає голос у конвеєр.
+   *
+   * @return future, що завершується записаним голосом або винятком перевірки/сховища
+   */
+  public CompletableFuture<VoteResponseDto> submit(VoteCreateDto dto) {
+    CompletableFuture<VoteResponseDto> result = new CompletableFuture<>();
+    admission.readLock().lock();
+    try {
+      if (!running) {
+        result.completeExceptionally(new IllegalStateException("Прийом голосів зупинено"));
+        return result;
+      }
+      submittedCount.increment();
+      submitted.publish(new Submission(dto, LocalDateTime.now(), System.nanoTime(), result));
+    } finally {
+      admission.readLock().unlock();
+    }
+    return result;
+  }
+
+  /**
+   * Чекає на фіксацію всього, що подано до цього виклику: маркер проходить обидві стадії слідом
+   * за голосами і завершується разом з пакетом, у який потрапив.
+   *
+   * @return future, що завершується після фіксації попередніх голосів
+   */
+  public CompletableFuture<Void> flush() {
+    CompletableFuture<VoteResponseDto> marker = new CompletableFuture<>();
+    admission.readLock().lock();
+    try {
+      if (!running) {
+        marker.complete(null);
+      } else {
+        submitted.publish(new Submission(null, LocalDateTime.now(), System.nanoTime(), marker));
+      }
+    } finally {
+      admission.readLock().unlock();
+    }
+    return marker.thenApply(ignored -> null);
+  }
+
+  /**
+   * Поточні показники конвеєра.
+   */
+  public PipelineMetrics metrics() {
+    long accepted = acceptedCount.sum();
+    long batches = batchCount.sum();
+    double seconds = Math.max((System.nanoTime() - startedNanos) / 1e9, 1e-9);
+    return new PipelineMetrics(
+        submittedCount.sum(),
+        accepted,
+        rejectedCount.sum(),
+        failedCount.sum(),
+        batches,
+        largestBatch.get(),
+        submitted.size() + validated.size(),
+        accepted / seconds,
+        batches == 0 ? 0 : (double) accepted / batches,
+        accepted == 0 ? 0 : latencyNanos.sum() / 1e6 / accepted);
+  }
+
+  /**
+   * Зупиняє прийом нових голосів і дочікується запису вже поданих.
+   */
+  @Override
+  public void close() {
+    // Чекає на подання, що вже перевірили прапорець, але ще не поклали голос у буфер
+    admission.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      admission.writeLock().unlock();
+    }
+    try {
+      validator.join();
+      persister.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // ==================== Validation stage ====================
+
+  private void validate() {
+    List<Submission> batch = new ArrayList<>(config.maxBatchSize());
+    while (running || submitted.size() > 0) {
+      if (!submitted.awaitAvailable(IDLE_WAIT_NANOS)) {
+        continue;
+      }
+      submitted.drainTo(batch, config.maxBatchSize());
+      for (Submission submission : batch) {
+        if (submission.isFlushMarker()) {
+          validated.publish(new Validated(submission, null, null));
+          continue;
+        }
+        try {
+          Validated vote = check(submission);
+          validated.publish(vote);
+        } catch (RuntimeException e) {
+          rejectedCount.increment();
+          submission.result().completeExceptionally(e);
+        }
+      }
+      batch.clear();
+    }
+  }
+
+  /**
+   * Ті самі перевірки, що й при синхронному голосуванні.
+   */
+  private Validated check(Submission submission) {
+    VoteCreateDto dto = submission.dto();
+
+    if (!context.voters().existsById(dto.voterId())) {
+      throw new EntityNotFoundException("Виборець", dto.voterId());
+    }
+    Candidate candidate = context.candidates().findById(dto.candidateId())
+        .orElseThrow(() -> new EntityNotFoundException("Кандидат", dto.candidateId()));
+
+    // Вікно голосування з планувальника; вибори читаються лише щоб пояснити відмову
+    LocalDateTime at = submission.submittedAt();
+    if (!scheduler.isVotable(dto.electionId(), at)) {
+      checkElection(dto.electionId(), at);
+    }
+    if (!candidate.getElectionId().equals(dto.electionId())) {
+      throw VotingException.invalidCandidate();
+    }
+
+    Participation key = new Participation(dto.voterId(), dto.electionId());
+    if (voteRepository.hasVoted(dto.voterId(), dto.electionId()) || !inFlight.add(key)) {
+      throw VotingException.alreadyVoted();
+    }
+
+    Vote vote = new Vote(dto.voterId(), dto.candidateId(), dto.electionId(), at);
+    return new Validated(submission, vote, key);
+  }
+
+  /**
+   * Повна перевірка виборів за даними сховища - для виборів, яких ще (або вже) немає серед
+   * відкритих у планувальнику.
+   */
+  private void checkElection(UUID electionId, LocalDateTime at) {
+    Election election = context.elections().findById(electionId)
+        .orElseThrow(() -> new EntityNotFoundException("Вибори", electionId));
+
+    if (election.getStatus() != ElectionStatus.ACTIVE) {
+      throw VotingException.electionNotActive();
+    }
+    if (at.isBefore(election.getStartDate())) {
+      throw VotingException.electionNotStarted();
+    }
+    if (at.isAfter(election.getEndDate())) {
+      throw VotingException.electionEnded();
+    }
+  }
+
+  // ==================== Persistence stage ====================
+
+  private void persist() {
+    List<Validated> batch = new ArrayList<>(config.maxBatchSize());
+    long lingerNanos = config.maxBatchDelay().toNanos();
+
+    while (running || validator.isAlive() || validated.size() > 0) {
+      if (!validated.awaitAvailable(IDLE_WAIT_NANOS)) {
+        continue;
+      }
+      validated.drainTo(batch, config.maxBatchSize());
+
+      // Неповний пакет трохи чекає на попутні голоси
+      long deadline = System.nanoTime() + lingerNanos;
+      while (batch.size() < config.maxBatchSize() && lingerNanos > 0) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 || !validated.awaitAvailable(remaining)) {
+          break;
+        }
+        validated.drainTo(batch, config.maxBatchSize() - batch.size());
+      }
+
+      commit(batch);
+      batch.clear();
+    }
+  }
+
+  private void commit(List<Validated> batch) {
+    List<Validated> accepted = new ArrayList<>(batch.size());
+    List<Submission> markers = new ArrayList<>(0);
+    for (Validated entry : batch) {
+      if (entry.submission().isFlushMarker()) {
+        markers.add(entry.submission());
+      } else {
+        accepted.add(entry);
+      }
+    }
+
+    if (!accepted.isEmpty()) {
+      saveBatch(accepted);
+    }
+    // Усе, що було подано до маркерів, вже зафіксовано або відхилено
+    markers.forEach(marker -> marker.result().complete(null));
+  }
+
+  private void saveBatch(List<Validated> batch) {
+    List<Vote> votes = new ArrayList<>(batch.size());
+    for (Validated entry : batch) {
+      votes.add(entry.vote());
+    }
+
+    try {
+      voteRepository.saveAll(votes);
+    } catch (UniqueConstraintException e) {
+      // Голос виборця вже записав інший процес з тією самою базою, в обхід перевірки участі:
+      // пакет записується по одному, щоб відхилити лише повторні голоси
+      if (batch.size() > 1) {
+        batch.forEach(entry -> saveBatch(List.of(entry)));
+      } else {
+        reject(batch, VotingException.alreadyVoted());
+      }
+      return;
+    } catch (RuntimeException e) {
+      reject(batch, e);
+      return;
+    }
+
+    long now = System.nanoTime();
+    batchCount.increment();
+    acceptedCount.add(batch.size());
+    largestBatch.accumulateAndGet(batch.size(), Math::max);
+    for (Validated entry : batch) {
+      inFlight.remove(entry.key());
+      latencyNanos.add(now - entry.submission().submittedNanos());
+      entry.submission().result().complete(VoteResponseDto.fromEntity(entry.vote()));
+    }
+  }
+
+  private void reject(List<Validated> batch, Throwable error) {
+    failedCount.add(batch.size());
+    for (Validated entry : batch) {
+      inFlight.remove(entry.key());
+      entry.submission().result().completeExceptionally(error);
+    }
+  }
+
+  // ==================== Entries ====================
+
+  /**
+   * Поданий голос; {@code dto == null} - маркер {@link #flush()}.
+   */
+  private record Submission(VoteCreateDto dto, LocalDateTime submittedAt, long submittedNanos,
+      CompletableFuture<VoteResponseDto> result) {
+
+    boolean isFlushMarker() {
+      return dto == null;
+    }
+  }
+
+  private record Validated(Submission submission, Vote vote, Participation key) {
+
+  }
+
+  private record Participation(UUID voterId, UUID electionId) {
+
+  }
+}
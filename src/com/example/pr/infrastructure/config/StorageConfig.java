@@ -0,0 +1,157 @@
+package com.example.pr.infrastructure.config;
+
+import java.io.*;
+import java.util.Properties;
+import java.util.zip.Deflater;
+
+/**
+ * Конфігурація сховища: рушій, формат файлів даних і резервне копіювання.
+ * Завантажує налаштування з файлу або змінних середовища. За замовчуванням - файлове сховище у
+ * форматі Java Serialization. Формат блоків вмикається явно: лише він має контрольні суми і
+ * дозволяє прочитати вцілілі записи пошкодженого файлу, але файли більші і завантажуються
+ * повільніше. Формат читання визначається за вмістом файлу, тому зміна налаштування переводить
+ * кожен файл у новий формат при наступному записі, в обидва боки. Рушій {@code jdbc} зберігає дані у вбудованій базі даних (драйвер, наприклад H2, має
+ * бути у {@code lib/}), рушій {@code memory} - лише в пам'яті, без збереження між запусками
+ * (для навантажувального тестування). Рушії реєструються через
+ * {@link com.example.pr.infrastructure.storage.spi.RepositoryFactory}.
+ * <pre>
+ * storage.backend=binary|jdbc|memory|...  назва рушія (або змінна VOTING_STORAGE_BACKEND)
+ * storage.jdbc.url=jdbc:h2:./data/voting   за замовчуванням - файл voting у директорії даних
+ * storage.jdbc.user=sa
+ * storage.jdbc.password=
+ * storage.jdbc.pool.size=8           з'єднань у пулі
+ * storage.jdbc.statement.cache=64    підготовлених запитів на з'єднання
+ * storage.format=serialized|blocks   (або змінна VOTING_STORAGE_FORMAT)
+ * storage.block.entities=256         сутностей у блоці
+ * storage.compression.level=1        рівень Deflater, 1-9
+ * backup.dir=/var/backups/voting     (або VOTING_BACKUP_DIR); без неї копії не плануються
+ * backup.interval.seconds=300        інтервал між копіями
+ * backup.full.every=24               кожна N-та копія повна
+ * </pre>
+ */
+public class StorageConfig {
+
+  private static final String CONFIG_FILE = "config/storage.properties";
+
+  public static final String BACKEND_BINARY = "binary";
+  public static final String BACKEND_JDBC = "jdbc";
+  public static final String BACKEND_MEMORY = "memory";
+
+  public static final String FORMAT_SERIALIZED = "serialized";
+  public static final String FORMAT_BLOCKS = "blocks";
+
+  private static final int DEFAULT_BLOCK_SIZE = 256;
+  private static final int DEFAULT_POOL_SIZE = 8;
+  private static final int DEFAULT_STATEMENT_CACHE = 64;
+  private static final int DEFAULT_BACKUP_INTERVAL = 300;
+  private static final int DEFAULT_FULL_BACKUP_EVERY = 24;
+
+  private String backend = BACKEND_BINARY;
+  private String format = FORMAT_SERIALIZED;
+  private int blockSize = DEFAULT_BLOCK_SIZE;
+  private int compressionLevel = Deflater.BEST_SPEED;
+  private String jdbcUrl;
+  private String jdbcUser = "sa";
+  private String jdbcPassword = "";
+  private int poolSize = DEFAULT_POOL_SIZE;
+  private int statementCacheSize = DEFAULT_STATEMENT_CACHE;
+  private String backupDir;
+  private int backupIntervalSeconds = DEFAULT_BACKUP_INTERVAL;
+  private int fullBackupEvery = DEFAULT_FULL_BACKUP_EVERY;
+
+  public StorageConfig() {
+    loadConfig();
+  }
+
+  private void loadConfig() {
+    File configFile = new File(CONFIG_FILE);
+    if (configFile.exists()) {
+      try (InputStream input = new FileInputStream(configFile)) {
+        Properties props = new Properties();
+        props.load(input);
+
+        backend = props.getProperty("storage.backend", BACKEND_BINARY).trim();
+        format = props.getProperty("storage.format", FORMAT_SERIALIZED).trim();
+        blockSize = Integer.parseInt(
+            props.getProperty("storage.block.entities", String.valueOf(DEFAULT_BLOCK_SIZE)).trim());
+        compressionLevel = Integer.parseInt(props.getProperty("storage.compression.level",
+            String.valueOf(Deflater.BEST_SPEED)).trim());
+        jdbcUrl = props.getProperty("storage.jdbc.url");
+        jdbcUser = props.getProperty("storage.jdbc.user", jdbcUser).trim();
+        jdbcPassword = props.getProperty("storage.jdbc.password", jdbcPassword);
+        poolSize = Integer.parseInt(props.getProperty("storage.jdbc.pool.size",
+            String.valueOf(DEFAULT_POOL_SIZE)).trim());
+        statementCacheSize = Integer.parseInt(props.getProperty("storage.jdbc.statement.cache",
+            String.valueOf(DEFAULT_STATEMENT_CACHE)).trim());
+        backupDir = props.getProperty("backup.dir");
+        backupIntervalSeconds = Integer.parseInt(props.getProperty("backup.interval.seconds",
+            String.valueOf(DEFAULT_BACKUP_INTERVAL)).trim());
+        fullBackupEvery = Integer.parseInt(props.getProperty("backup.full.every",
+            String.valueOf(DEFAULT_FULL_BACKUP_EVERY)).trim());
+      } catch (IOException | NumberFormatException e) {
+        System.err.println("Помилка завантаження конфігурації сховища: " + e.getMessage());
+      }
+    }
+
+    // Змінна середовища має пріоритет над файлом
+    String env = System.getenv("VOTING_STORAGE_FORMAT");
+    if (env != null && !env.isBlank()) {
+      format = env.trim();
+    }
+    String backendEnv = System.getenv("VOTING_STORAGE_BACKEND");
+    if (backendEnv != null && !backendEnv.isBlank()) {
+      backend = backendEnv.trim();
+    }
+    String backupEnv = System.getenv("VOTING_BACKUP_DIR");
+    if (backupEnv != null && !backupEnv.isBlank()) {
+      backupDir = backupEnv;
+    }
+    if (jdbcUrl != null) {
+      jdbcUrl = jdbcUrl.isBlank() ? null : jdbcUrl.trim();
+    }
+    if (backupDir != null) {
+      backupDir = backupDir.isBlank() ? null : backupDir.trim();
+    }
+
+    if (backend.isBlank()) {
+      backend = BACKEND_BINARY;
+    }
+    if (poolSize < 1) {
+      poolSize = DEFAULT_POOL_SIZE;
+    }
+    if (statementCacheSize < 0) {
+      statementCacheSize = DEFAULT_STATEMENT_CACHE;
+    }
+    if (!FORMAT_SERIALIZED.equals(format) && !FORMAT_BLOCKS.equals(format)) {
+      System.err.println("Невідомий формат сховища '" + format + "', використовується "
+          + FORMAT_SERIALIZED);
+      format = FORMAT_SERIALIZED;
+    }
+    if (blockSize < 1) {
+      blockSize = DEFAULT_BLOCK_SIZE;
+    }
+    if (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION) {
+      compressionLevel = Deflater.BEST_SPEED;
+    }
+    if (backupIntervalSeconds < 1) {
+      backupIntervalSeconds = DEFAULT_BACKUP_INTERVAL;
+    }
+    if (fullBackupEvery < 1) {
+      fullBackupEvery = DEFAULT_FULL_BACKUP_EVERY;
+    }
+  }
+
+  public String getBackend() { return backend; }
+  public String getFormat() { return format; }
+  public int getBlockSize() { return blockSize; }
+  public int getCompressionLevel() { return compressionLevel; }
+  /** URL бази даних або {@code null}, якщо не задано (тоді - файл у директорії даних). */
+  public String getJdbcUrl() { return jdbcUrl; }
+  public String getJdbcUser() { return jdbcUser; }
+  public String getJdbcPassword() { return jdbcPassword; }
+  public int getPoolSize() { return poolSize; }
+  public int getStatementCacheSize() { return statementCacheSize; }
+  public String getBackupDir() { return backupDir; }
+  public int getBackupIntervalSeconds() { return backupIntervalSeconds; }
+  public int getFullBackupEvery() { return fullBackupEvery; }
+}
@@ -0,0 +1,138 @@
+package com.example.pr.infrastructure.storage;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Колектори для {@link Repository#aggregate}: групові лічильники та гістограми, що рахуються за
+ * один прохід без проміжних списків. Кілька агрегатів в одному проході поєднуються через
+ * {@link java.util.stream.Collectors#teeing}.
+ */
+public final class Aggregations {
+
+  private Aggregations() {
+  }
+
+  /**
+   * Кількість елементів за ключем; на відміну від {@code Collectors.groupingBy} допускає ключ
+   * {@code null}.
+   */
+  public static <T, K> Collector<T, ?, Map<K, Long>> countBy(
+      Function<? super T, ? extends K> key) {
+    return Collector.of(
+        HashMap<K, Long>::new,
+        (counts, element) -> counts.merge(key.apply(element), 1L, Long::sum),
+        (left, right) -> {
+          right.forEach((k, v) -> left.merge(k, v, Long::sum));
+          return left;
+        });
+  }
+
+  /**
+   * Кількість елементів для кожного значення переліку, включно з нулями для відсутніх.
+   */
+  public static <T, K extends Enum<K>> Collector<T, ?, EnumMap<K, Long>> countByEnum(
+      Class<K> keyType, Function<? super T, K> key) {
+    return Collector.of(
+        () -> {
+          EnumMap<K, Long> counts = new EnumMap<>(keyType);
+          for (K constant : keyType.getEnumConstants()) {
+            counts.put(constant, 0L);
+          }
+          return counts;
+        },
+        (counts, element) -> {
+          K value = key.apply(element);
+          if (value != null) {
+            counts.merge(value, 1L, Long::sum);
+          }
+        },
+        (left, right) -> {
+          right.forEach((k, v) -> left.merge(k, v, Long::sum));
+          return left;
+        });
+  }
+
+  /**
+   * Гістограма значень за межами кошиків.
+   *
+   * @param bounds зростаючі межі: кошик {@code i} містить значення, менші за {@code bounds[i]}
+   *               (і не менші за попередню межу), останній - не менші за останню межу
+   */
+  public static <T> Collector<T, ?, Histogram> histogram(ToLongFunction<? super T> value,
+      long... bounds) {
+    long[] limits = bounds.clone();
+    for (int i = 1; i < limits.length; i++) {
+      if (limits[i] <= limits[i - 1]) {
+        throw new IllegalArgumentException("Межі гістограми мають зростати: "
+            + Arrays.toString(bounds));
+      }
+    }
+    return Collector.of(
+        () -> new long[limits.length + 1],
+        (counts, element) -> counts[bucketOf(limits, value.applyAsLong(element))]++,
+        (left, right) -> {
+          for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+          }
+          return left;
+        },
+        counts -> new Histogram(limits, counts));
+  }
+
+  private static int bucketOf(long[] bounds, long value) {
+    int index = Arrays.binarySearch(bounds, value);
+    // Точний збіг з межею належить наступному кошику
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  /**
+   * Результат {@link #histogram}: {@code bounds().length + 1} кошиків.
+   */
+  public static final class Histogram {
+
+    private final long[] bounds;
+    private final long[] counts;
+
+    private Histogram(long[] bounds, long[] counts) {
+      this.bounds = bounds;
+      this.counts = counts;
+    }
+
+    public int buckets() {
+      return counts.length;
+    }
+
+    public long count(int bucket) {
+      return counts[bucket];
+    }
+
+    /**
+     * Нижня межа кошика (включно); {@link Long#MIN_VALUE} для першого.
+     */
+    public long lowerBound(int bucket) {
+      return bucket == 0 ? Long.MIN_VALUE : bounds[bucket - 1];
+    }
+
+    /**
+     * Верхня межа кошика (не включно); {@link Long#MAX_VALUE} для останнього.
+     */
+    public long upperBound(int bucket) {
+      return bucket == bounds.length ? Long.MAX_VALUE : bounds[bucket];
+    }
+
+    public long total() {
+      return Arrays.stream(counts).sum();
+    }
+
+    @Override
+    public String toString() {
+      return "Histogram" + Arrays.toString(counts);
+    }
+  }
+}
@@ -2,22 +2,47 @@ package com.example.pr.infrastructure.storage;
 
 /**
  * Enum що містить шляхи до бінарних файлів для збереження даних.
+ * <p>
+ * {@link #VOTES} - директорія з окремим файлом голосів для кожних виборів, {@link #RESULTS} -
+ * директорія з підсумками завершених виборів, {@link #AUDIT} - журнали аудиту голосів,
+ * {@link #QUARANTINE} - копії пошкоджених файлів зі звітами, {@link #SNAPSHOTS} - тимчасові
+ * знімки для резервного копіювання. Базова директорія - {@code data},
+ * її можна змінити системною властивістю {@value #DATA_DIR_PROPERTY} (наприклад, для
+ * навантажувальних тестів, щоб не торкатися робочих даних).
  */
 public enum BinaryFilePath {
-  VOTERS("data/voters.dat"),
-  CANDIDATES("data/candidates.dat"),
-  ELECTIONS("data/elections.dat"),
-  VOTES("data/votes.dat"),
-  REGIONS("data/regions.dat"),
-  PARTIES("data/parties.dat");
+  VOTERS("voters.dat"),
+  CANDIDATES("candidates.dat"),
+  ELECTIONS("elections.dat"),
+  VOTES("votes"),
+  VOTES_LEGACY("votes.dat"),
+  REGIONS("regions.dat"),
+  PARTIES("parties.dat"),
+  PARTICIPATION("participation.dat"),
+  CASCADE_JOURNAL("cascade.journal"),
+  RESULTS("results"),
+  AUDIT("audit"),
+  QUARANTINE("quarantine"),
+  SNAPSHOTS("snapshots");
 
-  private final String path;
+  public static final String DATA_DIR_PROPERTY = "voting.data.dir";
 
-  BinaryFilePath(String path) {
-    this.path = path;
+  private static final String DEFAULT_DATA_DIR = "data";
+
+  private final String fileName;
+
+  BinaryFilePath(String fileName) {
+    this.fileName = fileName;
   }
 
   public String getPath() {
-    return path;
+    return getDataDir() + "/" + fileName;
+  }
+
+  /**
+   * Базова директорія даних.
+   */
+  public static String getDataDir() {
+    return System.getProperty(DATA_DIR_PROPERTY, DEFAULT_DATA_DIR);
   }
-}
\ No newline at end of file
+}
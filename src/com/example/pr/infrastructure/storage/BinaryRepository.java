@@ -1,35 +1,101 @@
 package com.example.pr.infrastructure.storage;
 
+import com.example.pr.domain.BaseEntity;
 import com.example.pr.domain.Entity;
+import com.example.pr.domain.dto.Page;
+import com.example.pr.domain.dto.PageRequest;
+import com.example.pr.domain.event.DataFileDamaged;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
 import com.example.pr.domain.specification.Specification;
+import com.example.pr.infrastructure.storage.exception.OptimisticLockException;
 import com.example.pr.infrastructure.storage.exception.StorageException;
+import com.example.pr.infrastructure.storage.format.Damage;
+import com.example.pr.infrastructure.storage.format.StorageFormat;
+import com.example.pr.infrastructure.storage.format.StorageFormats;
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
 
 /**
- * Базовий репозиторій для роботи з бінарними файлами. Використовує Java Serialization для
- * збереження/завантаження даних.
+ * Базовий репозиторій для роботи з бінарними файлами. Формат запису задається конфігурацією
+ * ({@link StorageFormats#configured()}), формат наявного файлу визначається за його вмістом, тож
+ * зміна налаштування переводить файл у новий формат при наступному записі.
+ * <p>
+ * Дані в пам'яті зберігаються як незмінні версії ({@link Snapshot}). Читачі беруть поточну версію
+ * без блокувань і працюють з нею до кінця запиту, навіть якщо паралельно відбувається запис.
+ * Записи серіалізуються блокуванням: записувач будує з поточної таблиці нову ({@link EntityTable}),
+ * записує файл і публікує нову версію. Спосіб зберігання таблиці підкласи задають через
+ * {@link #newTable(List)}. Після запису файл повторно не читається. Файл ніколи не змінюється на
+ * місці: новий вміст пишеться у тимчасовий файл, який атомарно підміняє основний, тому
+ * знімок, що посилається на попередній файл (жорстке посилання), лишається незмінним. Блокування
+ * запису береться лише всередині бар'єра записів ({@link StorageBarrier}).
+ * <p>
+ * Збереження - порівняння з заміною за версією сутності: запис, що спирається на застарілу
+ * версію, відхиляється {@link OptimisticLockException}. Для змін слід брати окрему копію через
+ * {@link #findForUpdate(UUID)}: екземпляри поточної версії спільні для всіх читачів. Збереження
+ * копії без змін порівняно зі збереженим екземпляром не перезаписує файл, а видані копії
+ * запам'ятовуються ({@link ChangeTracker}), тому {@link #findModified()} знаходить змінені, але
+ * ще не збережені.
  *
  * @param <T> тип сутності
  */
 public abstract class BinaryRepository<T extends Entity> implements Repository<T> {
 
   protected final Path filePath;
+  private final StorageFormat format;
 
-  // Identity Map для кешування
-  protected final IdentityMap<T> identityMap = new IdentityMap<>();
+  // Поточна версія даних; null - ще не завантажена з файлу
+  private volatile Snapshot<T> snapshot;
+  private long nextVersion;
 
-  // Кеш списку
-  private boolean cacheValid = false;
-  private List<T> cachedList = null;
+  // Впорядкований за ID індекс для посторінкових запитів (для певної версії)
+  private volatile SortedView<T> sortedView;
+
+  // Записувач одночасно може бути лише один
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  // Шина подій і тип сутностей для подій про зміни; null - події не публікуються
+  private volatile EventBus events;
+  private Class<T> entityType;
+
+  // Пошкодження, знайдене при завантаженні; повідомляється після зняття блокування
+  private DataFileDamaged pendingDamage;
+
+  // Видані для зміни копії; null - відстеження вимкнено
+  private final ChangeTracker<T> tracker;
+  private final LongAdder writes = new LongAdder();
+  private final LongAdder skippedWrites = new LongAdder();
 
   protected BinaryRepository(String filename) {
+    this(filename, true);
+  }
+
+  /**
+   * Репозиторій, що за потреби не відстежує видані для зміни копії ({@link ChangeTracker}).
+   *
+   * @param tracksChanges чи відстежувати зміни; підкласи вимикають відстеження для незмінних
+   *     сутностей, щоб не порівнювати їх поля при кожному збереженні
+   */
+  protected BinaryRepository(String filename, boolean tracksChanges) {
     this.filePath = Path.of(filename);
+    this.format = StorageFormats.configured();
+    this.tracker = tracksChanges ? new ChangeTracker<>() : null;
     ensureDirectoryExists();
   }
 
@@ -37,34 +103,121 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
   public T save(T entity) {
     UUID id = entity.getId();
 
-    // Оновлюємо Identity Map
-    identityMap.put(id, entity);
+    lockForWrite();
+    try {
+      Snapshot<T> current = snapshot();
+      T previous = current.table().get(id).orElse(null);
+      checkVersion(entity, previous);
+      if (previous != null && !isModified(entity, previous)) {
+        skippedWrites.increment();
+        return entity;
+      }
+
+      onSaving(entity);
+      publish(writeVersioned(current.table(), List.of(entity)));
+      forget(entity.getId());
+      writes.increment();
+      onSaved(entity, previous);
+    } finally {
+      unlockWrite();
+    }
+
+    publishSaved(List.of(entity));
+    return entity;
+  }
 
-    // Інвалідуємо кеш
-    invalidateCache();
+  /**
+   * Зберігає пакет сутностей однією новою версією і одним перезаписом файлу. Наявні сутності без
+   * змін пропускаються; якщо змін немає взагалі, файл не перезаписується.
+   *
+   * @return фактично збережені сутності
+   */
+  @Override
+  public List<T> saveAll(Collection<? extends T> batch) {
+    if (batch.isEmpty()) {
+      return List.of();
+    }
 
-    // Завантажуємо, оновлюємо, зберігаємо
-    List<T> entities = loadFromFile();
+    List<T> saved = new ArrayList<>(batch.size());
+    lockForWrite();
+    try {
+      EntityTable<T> current = snapshot().table();
+      // Весь пакет відхиляється до запису, якщо хоч одна сутність застаріла
+      for (T entity : batch) {
+        checkVersion(entity, current.get(entity.getId()).orElse(null));
+      }
+      for (T entity : batch) {
+        T stored = current.get(entity.getId()).orElse(null);
+        if (stored != null && !isModified(entity, stored)) {
+          skippedWrites.increment();
+        } else {
+          saved.add(entity);
+        }
+      }
+      if (saved.isEmpty()) {
+        return saved;
+      }
 
-    boolean exists = entities.stream()
-        .anyMatch(e -> e.getId().equals(id));
+      // Попередні екземпляри - для хука onSaved (повтор у пакеті замінює попередній)
+      List<T> previous = new ArrayList<>(saved.size());
+      IdentityMap<T> pending = new IdentityMap<>();
+      for (T entity : saved) {
+        onSaving(entity);
+        previous.add(pending.get(entity.getId())
+            .or(() -> current.get(entity.getId()))
+            .orElse(null));
+        pending.put(entity.getId(), entity);
+      }
 
-    if (exists) {
-      entities.replaceAll(e -> e.getId().equals(id) ? entity : e);
-    } else {
-      entities.add(entity);
+      publish(writeVersioned(current, saved));
+      saved.forEach(entity -> forget(entity.getId()));
+      writes.add(saved.size());
+      for (int i = 0; i < saved.size(); i++) {
+        onSaved(saved.get(i), previous.get(i));
+      }
+    } finally {
+      unlockWrite();
     }
 
-    writeToFile(entities);
-    return entity;
+    publishSaved(saved);
+    return saved;
   }
 
+  /**
+   * Якщо дані ще не завантажені, а формат файлу дозволяє точковий пошук, сутність читається з
+   * файлу без завантаження решти даних.
+   */
   @Override
   public Optional<T> findById(UUID id) {
-    return identityMap.get(id)
-        .or(() -> findAllInternal().stream()
-            .filter(entity -> entity.getId().equals(id))
-            .findFirst());
+    if (snapshot == null) {
+      lockForWrite();
+      try {
+        StorageFormat stored = snapshot == null ? storedFormat() : null;
+        if (stored != null && stored.supportsLookup()) {
+          return stored.find(filePath, id);
+        }
+      } catch (StorageException e) {
+        // Пошкоджений блок - повне завантаження прочитає вцілілі записи, відкладе файл у карантин
+        // і повідомить про пошкодження подією DataFileDamaged
+      } finally {
+        unlockWrite();
+      }
+    }
+    return snapshot().table().get(id);
+  }
+
+  /**
+   * Окрема копія сутності поточної версії: її зміни не видно іншим, доки вона не збережена.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<T> findForUpdate(UUID id) {
+    Optional<T> copy = findById(id)
+        .map(entity -> entity instanceof BaseEntity base ? (T) base.copy() : entity);
+    if (tracker != null) {
+      copy.ifPresent(tracker::checkOut);
+    }
+    return copy;
   }
 
   /**
@@ -101,6 +254,41 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
         .toList();
   }
 
+  /**
+   * Сторінка за впорядкованим за ID індексом поточної версії: двійковий пошук курсора і перегляд
+   * лише від нього до заповнення сторінки. Індекс будується при першому посторінковому запиті
+   * після зміни даних.
+   */
+  @Override
+  public Page<T> findPage(Specification<T> spec, PageRequest request) {
+    List<T> sorted = sortedById();
+
+    int from = 0;
+    if (request.after() != null) {
+      // Перший елемент з ID, більшим за курсор
+      int low = 0;
+      int high = sorted.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (sorted.get(mid).getId().compareTo(request.after()) <= 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      from = low;
+    }
+
+    List<T> items = new ArrayList<>(request.size() + 1);
+    for (int i = from; i < sorted.size() && items.size() <= request.size(); i++) {
+      T entity = sorted.get(i);
+      if (spec.isSatisfiedBy(entity)) {
+        items.add(entity);
+      }
+    }
+    return Page.of(items, request.size());
+  }
+
   @Override
   public Optional<T> findOne(Specification<T> spec) {
     return findAllInternal().stream()
@@ -108,6 +296,13 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
         .findFirst();
   }
 
+  @Override
+  public <R> R aggregate(Specification<T> spec, Collector<? super T, ?, R> collector) {
+    return findAllInternal().stream()
+        .filter(spec::isSatisfiedBy)
+        .collect(collector);
+  }
+
   @Override
   public long count(Specification<T> spec) {
     return findAllInternal().stream()
@@ -123,16 +318,7 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
 
   @Override
   public boolean deleteById(UUID id) {
-    identityMap.remove(id);
-    invalidateCache();
-
-    List<T> entities = loadFromFile();
-    boolean removed = entities.removeIf(entity -> entity.getId().equals(id));
-
-    if (removed) {
-      writeToFile(entities);
-    }
-    return removed;
+    return !deleteWhere(entity -> entity.getId().equals(id)).isEmpty();
   }
 
   @Override
@@ -142,79 +328,379 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
 
   @Override
   public boolean existsById(UUID id) {
-    return identityMap.contains(id) || findById(id).isPresent();
+    return snapshot().table().contains(id);
   }
 
   /**
-   * Інвалідує кеш.
+   * Видаляє всі сутності, що задовольняють умову, за один прохід і один перезапис файлу.
+   *
+   * @return видалені сутності
    */
-  protected void invalidateCache() {
-    cacheValid = false;
-    cachedList = null;
+  protected List<T> deleteWhere(Predicate<? super T> predicate) {
+    StagedRemoval staged = stageRemoval(predicate);
+    staged.commit();
+    return staged.removed();
   }
 
   /**
-   * Повертає всі сутності з кешу або файлу.
+   * Готує видалення сутностей, що задовольняють умову: новий вміст файлу записується у тимчасовий
+   * файл, але основний файл не змінюється до {@link StagedRemoval#commit()}. Дозволяє кільком
+   * репозиторіям підготувати зміни і застосувати їх разом (каскадне видалення).
+   * <p>
+   * Якщо є що видаляти, блокування запису утримується до {@code commit()} або {@code abort()},
+   * тому між підготовкою і застосуванням інші записи у цей репозиторій неможливі.
    */
-  protected List<T> findAllInternal() {
-    if (cacheValid && cachedList != null) {
-      return cachedList;
+  public StagedRemoval stageRemoval(Predicate<? super T> predicate) {
+    lockForWrite();
+    try {
+      EntityTable<T> current = snapshot().table();
+      List<T> removed = new ArrayList<>();
+      for (T entity : current.entities()) {
+        if (predicate.test(entity)) {
+          removed.add(entity);
+        }
+      }
+
+      if (removed.isEmpty()) {
+        unlockWrite();
+        return new StagedRemoval(List.of(), null, null);
+      }
+
+      EntityTable<T> remaining = current.without(removed);
+      Path stagedFile = filePath.resolveSibling(filePath.getFileName() + ".staged");
+      writeEntities(stagedFile, remaining.entities());
+      return new StagedRemoval(removed, remaining, stagedFile);
+
+    } catch (RuntimeException e) {
+      unlockWrite();
+      throw e;
+    }
+  }
+
+  /**
+   * Видані через {@link #findForUpdate(UUID)} копії, змінені, але ще не збережені; після виклику
+   * видані копії більше не відстежуються. Порожньо, якщо відстеження вимкнено.
+   */
+  public List<T> findModified() {
+    if (tracker == null) {
+      return List.of();
+    }
+    lockForWrite();
+    try {
+      EntityTable<T> current = snapshot().table();
+      return tracker.drainModified(id -> current.get(id).orElse(null));
+    } finally {
+      unlockWrite();
     }
+  }
+
+  /**
+   * Кількість записаних сутностей і пропущених збережень без змін.
+   */
+  public WriteStatistics writeStatistics() {
+    return new WriteStatistics(writes.sum(), skippedWrites.sum());
+  }
 
-    cachedList = loadFromFile();
-    cacheValid = true;
+  /**
+   * Перевіряє, що сутність спирається на збережену версію: інакше її прочитали до чужого запису
+   * (або видалення) і збереження перезаписало б чужі зміни.
+   */
+  private static <T extends Entity> void checkVersion(T entity, T stored) {
+    if (stored == null) {
+      // Нова сутність має версію 0; ненульова - сутність видалили після читання
+      if (entity.getVersion() > 0) {
+        throw new OptimisticLockException(entity.getId(), entity.getVersion(), -1);
+      }
+    } else if (stored.getVersion() != entity.getVersion()) {
+      throw new OptimisticLockException(entity.getId(), entity.getVersion(),
+          stored.getVersion());
+    }
+  }
 
-    // Заповнюємо Identity Map
-    cachedList.forEach(entity -> {
-      if (!identityMap.contains(entity.getId())) {
-        identityMap.put(entity.getId(), entity);
+  /**
+   * Збільшує версії збережуваних сутностей, будує з ними нову таблицю і записує файл; якщо запис
+   * не вдався, версії повертаються.
+   *
+   * @return таблиця нової версії (ще не опублікована)
+   */
+  private EntityTable<T> writeVersioned(EntityTable<T> current, List<T> saved) {
+    for (T entity : saved) {
+      setVersion(entity, entity.getVersion() + 1);
+    }
+    try {
+      EntityTable<T> next = current.with(saved);
+      replaceFile(next.entities());
+      return next;
+    } catch (RuntimeException e) {
+      for (T entity : saved) {
+        setVersion(entity, entity.getVersion() - 1);
       }
-    });
+      throw e;
+    }
+  }
 
-    return cachedList;
+  private static void setVersion(Entity entity, long version) {
+    if (entity instanceof BaseEntity base) {
+      base.setVersion(version);
+    }
+  }
+
+  private boolean isModified(T entity, T stored) {
+    return tracker == null || ChangeTracker.isModified(entity, stored);
+  }
+
+  private void forget(UUID id) {
+    if (tracker != null) {
+      tracker.forget(id);
+    }
   }
 
   /**
-   * Читає всі сутності з бінарного файлу.
+   * Створює таблицю версії з сутностей, завантажених з файлу. За замовчуванням таблиця тримає
+   * самі екземпляри; підкласи можуть зберігати дані компактніше.
    */
-  @SuppressWarnings("unchecked")
-  protected List<T> loadFromFile() {
-    if (!Files.exists(filePath)) {
-      return new ArrayList<>();
+  protected EntityTable<T> newTable(List<T> entities) {
+    return ListTable.of(entities);
+  }
+
+  /**
+   * Викликається під блокуванням запису перед збереженням сутності у файл.
+   */
+  protected void onSaving(T entity) {
+  }
+
+  /**
+   * Викликається під блокуванням запису після публікації нової версії.
+   *
+   * @param previous попередній екземпляр з тим самим ID або {@code null}, якщо сутність нова
+   */
+  protected void onSaved(T entity, T previous) {
+  }
+
+  /**
+   * Викликається під блокуванням запису після застосування видалення. Підкласи оновлюють тут
+   * похідні структури.
+   */
+  protected void onRemoved(List<T> removed) {
+  }
+
+  /**
+   * Викликається після завантаження файлу з пошкодженнями. Default-реалізація публікує подію на
+   * шину подій репозиторію ({@link #publishTo}); сегменти передають її своєму власнику.
+   */
+  protected void onDamaged(DataFileDamaged damaged) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(damaged);
     }
+  }
 
-    try (ObjectInputStream ois = new ObjectInputStream(
-        new BufferedInputStream(new FileInputStream(filePath.toFile())))) {
+  /**
+   * Вмикає публікацію подій {@link EntitiesSaved} і {@link EntitiesRemoved} після кожного
+   * успішного запису у файл і {@link DataFileDamaged} - після завантаження пошкодженого файлу.
+   */
+  public void publishTo(EventBus events, Class<T> entityType) {
+    this.entityType = entityType;
+    this.events = events;
+  }
+
+  private void publishSaved(List<T> saved) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesSaved<>(entityType, saved));
+    }
+  }
+
+  private void publishRemoved(List<T> removed) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesRemoved<>(entityType, removed));
+    }
+  }
+
+  /**
+   * Виконує дію під блокуванням запису: жоден інший запис не відбудеться паралельно.
+   */
+  protected void underWriteLock(Runnable action) {
+    lockForWrite();
+    try {
+      action.run();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  /**
+   * Записує новий вміст у тимчасовий файл і атомарно підміняє ним основний.
+   */
+  protected void replaceFile(List<T> entities) {
+    Path tmp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    writeEntities(tmp, entities);
+    try {
+      Files.move(tmp, filePath,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося замінити файл: " + filePath, e);
+    }
+  }
+
+  /**
+   * Скидає основний файл на диск (fsync), щоб записане пережило збій живлення.
+   */
+  protected void forceToDisk() {
+    if (!Files.exists(filePath)) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося скинути файл на диск: " + filePath, e);
+    }
+  }
 
-      Object obj = ois.readObject();
-      if (obj instanceof List<?>) {
-        return new ArrayList<>((List<T>) obj);
+  /**
+   * Відкидає версію в пам'яті - наступне читання завантажить дані з файлу.
+   */
+  protected void invalidateCache() {
+    lockForWrite();
+    try {
+      snapshot = null;
+      if (tracker != null) {
+        tracker.clear();
       }
-      return new ArrayList<>();
+    } finally {
+      unlockWrite();
+    }
+  }
 
-    } catch (EOFException e) {
-      // Порожній файл
-      return new ArrayList<>();
-    } catch (IOException | ClassNotFoundException e) {
-      throw new StorageException("Помилка читання з бінарного файлу: " + filePath, e);
+  /**
+   * Повертає всі сутності поточної версії (незмінний список).
+   */
+  protected List<T> findAllInternal() {
+    return snapshot().entities();
+  }
+
+  /**
+   * Сутності поточної версії, впорядковані за ID.
+   */
+  private List<T> sortedById() {
+    Snapshot<T> current = snapshot();
+    SortedView<T> view = sortedView;
+    if (view == null || view.version() != current.version()) {
+      List<T> sorted = new ArrayList<>(current.entities());
+      sorted.sort(Comparator.comparing(Entity::getId));
+      view = new SortedView<>(current.version(), Collections.unmodifiableList(sorted));
+      sortedView = view;
     }
+    return view.entities();
   }
 
   /**
-   * Записує всі сутності у бінарний файл.
+   * Повертає поточну версію даних, за потреби завантажуючи її з файлу.
    */
-  protected void writeToFile(List<T> entities) {
-    try (ObjectOutputStream oos = new ObjectOutputStream(
-        new BufferedOutputStream(new FileOutputStream(filePath.toFile())))) {
+  protected Snapshot<T> snapshot() {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return current;
+    }
 
-      oos.writeObject(entities);
-      oos.flush();
+    DataFileDamaged damaged;
+    lockForWrite();
+    try {
+      if (snapshot == null) {
+        List<T> entities = loadFromFile();
+        publish(newTable(entities));
+      }
+      current = snapshot;
+      damaged = pendingDamage;
+      pendingDamage = null;
+    } finally {
+      unlockWrite();
+    }
+    if (damaged != null) {
+      onDamaged(damaged);
+    }
+    return current;
+  }
 
+  /**
+   * Читає всі сутності з бінарного файлу. Пошкоджені записи (у форматах з контрольними сумами)
+   * пропускаються, а копія файлу зі звітом відкладається у карантин ({@link #quarantine}); після
+   * завантаження про це повідомляє {@link #onDamaged}.
+   */
+  protected List<T> loadFromFile() {
+    if (!Files.exists(filePath)) {
+      return new ArrayList<>();
+    }
+    StorageFormat stored = StorageFormats.detect(filePath)
+        .orElseThrow(() -> new StorageException("Невідомий формат файлу: " + filePath));
+    List<Damage> damages = new ArrayList<>();
+    List<T> entities = new ArrayList<>(stored.<T>read(filePath, damages::add));
+    if (!damages.isEmpty()) {
+      pendingDamage = new DataFileDamaged(filePath, damages.stream().mapToInt(Damage::lost).sum(),
+          damages.stream().map(Damage::toString).toList(), quarantine(damages));
+    }
+    return entities;
+  }
+
+  /**
+   * Копіює пошкоджений файл разом зі звітом у директорію {@link BinaryFilePath#QUARANTINE}.
+   * Сам файл лишається на місці і буде перезаписаний вцілілими сутностями при наступному записі.
+   *
+   * @return копія файлу або {@code null}, якщо її не вдалося зберегти
+   */
+  private Path quarantine(List<Damage> damages) {
+    int lost = damages.stream().mapToInt(Damage::lost).sum();
+    String name = filePath.getFileName() + "." + System.currentTimeMillis();
+    Path dir = Path.of(BinaryFilePath.QUARANTINE.getPath());
+    try {
+      Files.createDirectories(dir);
+      Files.copy(filePath, dir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+      List<String> report = new ArrayList<>();
+      report.add("Файл: " + filePath.toAbsolutePath());
+      report.add("Втрачено записів: " + lost);
+      damages.forEach(damage -> report.add(damage.toString()));
+      Files.write(dir.resolve(name + ".txt"), report);
+      return dir.resolve(name);
     } catch (IOException e) {
-      throw new StorageException("Помилка запису у бінарний файл: " + filePath, e);
+      // Пошкодження все одно буде повідомлено - без копії в карантині
+      return null;
     }
   }
 
+  /**
+   * Формат наявного файлу; {@code null}, якщо файлу немає або формат невідомий (підкласи зі
+   * своїм форматом).
+   */
+  private StorageFormat storedFormat() {
+    return Files.exists(filePath) ? StorageFormats.detect(filePath).orElse(null) : null;
+  }
+
+  private void publish(EntityTable<T> table) {
+    snapshot = new Snapshot<>(nextVersion++, table);
+  }
+
+  /**
+   * Записує сутності у вказаний файл. Підкласи можуть перевизначити формат файлу разом з
+   * {@link #loadFromFile()}.
+   */
+  protected void writeEntities(Path target, List<T> entities) {
+    format.write(target, entities);
+  }
+
+  /**
+   * Блокування запису всередині бар'єра записів: бар'єр завжди береться першим.
+   */
+  private void lockForWrite() {
+    StorageBarrier.enter();
+    writeLock.lock();
+  }
+
+  private void unlockWrite() {
+    writeLock.unlock();
+    StorageBarrier.exit();
+  }
+
   /**
    * Створює директорію, якщо вона не існує.
    */
@@ -228,4 +714,94 @@ public abstract class BinaryRepository<T extends Entity> implements Repository<T
       }
     }
   }
+
+  /**
+   * Незмінна версія даних репозиторію.
+   *
+   * @param version номер версії, зростає з кожним записом
+   * @param table сутності версії (не змінюється після публікації)
+   */
+  protected record Snapshot<T extends Entity>(long version, EntityTable<T> table) {
+
+    List<T> entities() {
+      return table.entities();
+    }
+  }
+
+  /**
+   * Сутності однієї версії, впорядковані за ID.
+   */
+  private record SortedView<T>(long version, List<T> entities) {
+
+  }
+
+  /**
+   * Підготовлене, але ще не застосоване видалення.
+   */
+  public final class StagedRemoval {
+
+    private final List<T> removed;
+    private final EntityTable<T> remaining;
+    private final Path stagedFile;
+
+    private StagedRemoval(List<T> removed, EntityTable<T> remaining, Path stagedFile) {
+      this.removed = removed;
+      this.remaining = remaining;
+      this.stagedFile = stagedFile;
+    }
+
+    public List<T> removed() {
+      return removed;
+    }
+
+    /**
+     * Тимчасовий файл з новим вмістом або {@code null}, якщо видаляти нічого.
+     */
+    public Path stagedFile() {
+      return stagedFile;
+    }
+
+    public Path targetFile() {
+      return filePath;
+    }
+
+    /**
+     * Атомарно підміняє основний файл підготовленим та публікує нову версію.
+     */
+    public void commit() {
+      if (stagedFile == null) {
+        return;
+      }
+      try {
+        Files.move(stagedFile, filePath,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        publish(remaining);
+        removed.forEach(entity -> forget(entity.getId()));
+        onRemoved(removed);
+
+      } catch (IOException e) {
+        throw new StorageException("Не вдалося застосувати зміни до файлу: " + filePath, e);
+      } finally {
+        unlockWrite();
+      }
+      publishRemoved(removed);
+    }
+
+    /**
+     * Скасовує підготовлене видалення.
+     */
+    public void abort() {
+      if (stagedFile == null) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(stagedFile);
+      } catch (IOException e) {
+        throw new StorageException("Не вдалося видалити тимчасовий файл: " + stagedFile, e);
+      } finally {
+        unlockWrite();
+      }
+    }
+  }
 }
@@ -0,0 +1,118 @@
+package com.example.pr.infrastructure.storage;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Відстеження змін сутностей на рівні полів.
+ * <p>
+ * Екземпляри поточної версії репозиторію спільні для всіх читачів і не змінюються: сервіси
+ * змінюють окремі копії, отримані через {@link Repository#findForUpdate(UUID)}. Тому збережений
+ * стан сутності - це її екземпляр у поточній версії, і зміни визначаються порівнянням з ним.
+ * Трекер пам'ятає лише видані для зміни копії, щоб фіксація Unit of Work знайшла змінені, але не
+ * збережені явно, без обходу всіх завантажених сутностей.
+ * <p>
+ * Порівнюються всі нестатичні нетранзитивні поля класу та його предків, крім дати оновлення:
+ * сеттери оновлюють її навіть тоді, коли значення не змінилось.
+ *
+ * @param <T> тип сутності
+ */
+public final class ChangeTracker<T extends Entity> {
+
+  private static final Set<String> IGNORED_FIELDS = Set.of("updatedAt");
+
+  private static final ClassValue<Field[]> TRACKED_FIELDS = new ClassValue<>() {
+    @Override
+    protected Field[] computeValue(Class<?> type) {
+      List<Field> fields = new ArrayList<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+              || IGNORED_FIELDS.contains(field.getName())) {
+            continue;
+          }
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+      return fields.toArray(Field[]::new);
+    }
+  };
+
+  // Видані для зміни копії, ще не збережені; для кожного ID - остання видана
+  private final Map<UUID, T> checkedOut = new ConcurrentHashMap<>();
+
+  /**
+   * Запам'ятовує копію, видану для зміни.
+   */
+  public void checkOut(T copy) {
+    checkedOut.put(copy.getId(), copy);
+  }
+
+  /**
+   * Знімає з відстеження копію сутності - після її збереження чи видалення.
+   */
+  public void forget(UUID id) {
+    checkedOut.remove(id);
+  }
+
+  public void clear() {
+    checkedOut.clear();
+  }
+
+  /**
+   * Видані копії, що відрізняються від збережених екземплярів, і знімає всі копії з
+   * відстеження. Копії видалених сутностей пропускаються.
+   *
+   * @param stored збережений екземпляр за ID; {@code null} - сутності вже немає
+   */
+  public List<T> drainModified(Function<UUID, T> stored) {
+    List<T> modified = new ArrayList<>();
+    Iterator<T> copies = checkedOut.values().iterator();
+    while (copies.hasNext()) {
+      T copy = copies.next();
+      copies.remove();
+      T saved = stored.apply(copy.getId());
+      if (saved != null && isModified(copy, saved)) {
+        modified.add(copy);
+      }
+    }
+    return modified;
+  }
+
+  /**
+   * Чи відрізняється сутність від збереженого екземпляра. Той самий екземпляр вважається
+   * зміненим: його могли змінити на місці, і порівнювати немає з чим.
+   */
+  public static boolean isModified(Entity entity, Entity stored) {
+    if (entity == stored || entity.getClass() != stored.getClass()) {
+      return true;
+    }
+    for (Field field : TRACKED_FIELDS.get(entity.getClass())) {
+      if (!Objects.equals(read(field, entity), read(field, stored))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Object read(Field field, Entity entity) {
+    try {
+      return field.get(entity);
+    } catch (IllegalAccessException e) {
+      throw new StorageException("Не вдалося прочитати поле " + field.getName(), e);
+    }
+  }
+}
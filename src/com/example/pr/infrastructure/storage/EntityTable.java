@@ -0,0 +1,41 @@
+package com.example.pr.infrastructure.storage;
+
+import com.example.pr.domain.Entity;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Вміст однієї версії даних репозиторію: сутності у порядку файлу та пошук за ID.
+ * <p>
+ * Таблиця незмінна: запис будує нову таблицю ({@link #with}, {@link #without}), а поточну читачі
+ * використовують без блокувань. Спосіб зберігання визначає репозиторій
+ * ({@link BinaryRepository#newTable}); за замовчуванням - список екземплярів.
+ *
+ * @param <T> тип сутності
+ */
+public interface EntityTable<T extends Entity> {
+
+  /**
+   * Всі сутності у порядку файлу (незмінний список).
+   */
+  List<T> entities();
+
+  Optional<T> get(UUID id);
+
+  boolean contains(UUID id);
+
+  int size();
+
+  /**
+   * Нова таблиця зі збереженими сутностями: наявні замінюються на своєму місці, нові
+   * додаються в кінець.
+   */
+  EntityTable<T> with(List<T> saved);
+
+  /**
+   * Нова таблиця без вказаних сутностей.
+   */
+  EntityTable<T> without(Collection<? extends T> removed);
+}
@@ -1,19 +1,27 @@
 package com.example.pr.infrastructure.storage;
 
 import com.example.pr.domain.Entity;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Реалізація патерну Identity Map. Кешує завантажені сутності за їх ідентифікаторами.
+ * <p>
+ * Зберігає записи у {@link UuidMap}, тому не створює вузлів та об'єктів-ключів на кожну сутність.
  *
  * @param <T> тип сутності
  */
 public class IdentityMap<T extends Entity> {
 
-  private final Map<UUID, T> cache = new HashMap<>();
+  private final UuidMap<T> cache;
+
+  public IdentityMap() {
+    this(new UuidMap<>());
+  }
+
+  private IdentityMap(UuidMap<T> cache) {
+    this.cache = cache;
+  }
 
   public Optional<T> get(UUID id) {
     return Optional.ofNullable(cache.get(id));
@@ -38,4 +46,11 @@ public class IdentityMap<T extends Entity> {
   public int size() {
     return cache.size();
   }
+
+  /**
+   * Повертає незалежну копію (для побудови нової версії даних без зміни поточної).
+   */
+  public IdentityMap<T> copy() {
+    return new IdentityMap<>(cache.copy());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.example.pr.infrastructure.storage;
+
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import com.example.pr.infrastructure.storage.format.Damage;
+import com.example.pr.infrastructure.storage.format.StorageFormat;
+import com.example.pr.infrastructure.storage.format.StorageFormats;
+import com.example.pr.infrastructure.storage.format.Verification;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Перевірка цілісності всіх файлів даних без їх завантаження в репозиторії.
+ * <p>
+ * Файли перевіряються паралельно: кожен відображається у пам'ять лише для читання, і контрольні
+ * суми рахуються прямо над відображеними ділянками. Розпаковуються лише блоки з невірною сумою,
+ * щоб визначити пошкоджені записи. Файли форматів без контрольних сум (початковий формат, сегменти
+ * голосів закритих виборів першої версії, реєстр участі, підсумки) позначаються як неперевірені.
+ */
+public final class IntegrityScanner {
+
+  // Файли репозиторіїв і сегменти голосів закритих виборів
+  private static final List<String> DATA_EXTENSIONS = List.of(".dat", ".frozen");
+  private static final int HEADER_SIZE = 4;
+
+  /**
+   * Стан файлу за результатом перевірки.
+   */
+  public enum Status {
+    OK, DAMAGED, UNCHECKED
+  }
+
+  /**
+   * Результат перевірки одного файлу.
+   *
+   * @param format назва формату або {@code null}, якщо формат не розпізнано
+   */
+  public record FileReport(Path file, String format, Verification verification) {
+
+    public Status status() {
+      if (!verification.isIntact()) {
+        return Status.DAMAGED;
+      }
+      return verification.checked() ? Status.OK : Status.UNCHECKED;
+    }
+  }
+
+  private final Path dataDir;
+
+  public IntegrityScanner() {
+    this(Path.of(BinaryFilePath.getDataDir()));
+  }
+
+  public IntegrityScanner(Path dataDir) {
+    this.dataDir = dataDir;
+  }
+
+  /**
+   * Перевіряє всі файли даних; директорії карантину і знімків пропускаються.
+   *
+   * @return звіти, впорядковані за шляхом файлу
+   */
+  public List<FileReport> scan() {
+    if (!Files.isDirectory(dataDir)) {
+      return List.of();
+    }
+    Path quarantine = dataDir.resolve(Path.of(BinaryFilePath.QUARANTINE.getPath()).getFileName());
+    Path snapshots = dataDir.resolve(Path.of(BinaryFilePath.SNAPSHOTS.getPath()).getFileName());
+    try (Stream<Path> files = Files.walk(dataDir)) {
+      return files
+          .filter(file -> !file.startsWith(quarantine) && !file.startsWith(snapshots))
+          .filter(IntegrityScanner::isDataFile)
+          .filter(Files::isRegularFile)
+          .toList()
+          .parallelStream()
+          .map(this::verify)
+          .sorted(Comparator.comparing(FileReport::file))
+          .toList();
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося обійти директорію даних: " + dataDir, e);
+    }
+  }
+
+  private static boolean isDataFile(Path file) {
+    String name = file.getFileName().toString();
+    return DATA_EXTENSIONS.stream().anyMatch(name::endsWith);
+  }
+
+  /**
+   * Перевіряє один файл.
+   */
+  public FileReport verify(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      byte[] header = new byte[Math.min(HEADER_SIZE, mapped.limit())];
+      mapped.get(0, header);
+
+      Optional<StorageFormat> format = StorageFormats.detect(header);
+      if (format.isEmpty()) {
+        return new FileReport(file, null, Verification.UNCHECKED);
+      }
+      return new FileReport(file, format.get().name(), format.get().verify(mapped));
+
+    } catch (IOException e) {
+      Damage unreadable = new Damage(0, -1, 0, "Файл не читається: " + e.getMessage());
+      return new FileReport(file, null, new Verification(true, 0, List.of(unreadable)));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.pr.infrastructure.storage;
+
+import com.example.pr.domain.Entity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Таблиця за замовчуванням: незмінний список екземплярів і {@link IdentityMap} для пошуку за ID.
+ * Екземпляри спільні для всіх читачів версії.
+ *
+ * @param <T> тип сутності
+ */
+final class ListTable<T extends Entity> implements EntityTable<T> {
+
+  private final List<T> entities;
+  private final IdentityMap<T> byId;
+
+  private ListTable(List<T> entities, IdentityMap<T> byId) {
+    this.entities = Collections.unmodifiableList(entities);
+    this.byId = byId;
+  }
+
+  static <T extends Entity> ListTable<T> of(List<T> entities) {
+    IdentityMap<T> byId = new IdentityMap<>();
+    entities.forEach(entity -> byId.put(entity.getId(), entity));
+    return new ListTable<>(entities, byId);
+  }
+
+  @Override
+  public List<T> entities() {
+    return entities;
+  }
+
+  @Override
+  public Optional<T> get(UUID id) {
+    return byId.get(id);
+  }
+
+  @Override
+  public boolean contains(UUID id) {
+    return byId.contains(id);
+  }
+
+  @Override
+  public int size() {
+    return entities.size();
+  }
+
+  @Override
+  public ListTable<T> with(List<T> saved) {
+    IdentityMap<T> copy = byId.copy();
+    List<T> all = new ArrayList<>(entities.size() + saved.size());
+    all.addAll(entities);
+
+    IdentityMap<T> replaced = new IdentityMap<>();
+    for (T entity : saved) {
+      if (copy.contains(entity.getId())) {
+        replaced.put(entity.getId(), entity);
+      } else {
+        all.add(entity);
+      }
+      copy.put(entity.getId(), entity);
+    }
+    if (replaced.size() > 0) {
+      all.replaceAll(e -> replaced.get(e.getId()).orElse(e));
+    }
+    return new ListTable<>(all, copy);
+  }
+
+  @Override
+  public ListTable<T> without(Collection<? extends T> removed) {
+    IdentityMap<T> copy = byId.copy();
+    removed.forEach(entity -> copy.remove(entity.getId()));
+    List<T> remaining = new ArrayList<>(copy.size());
+    for (T entity : entities) {
+      if (copy.contains(entity.getId())) {
+        remaining.add(entity);
+      }
+    }
+    return new ListTable<>(remaining, copy);
+  }
+}
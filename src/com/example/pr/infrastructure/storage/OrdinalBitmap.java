@@ -0,0 +1,202 @@
+package com.example.pr.infrastructure.storage;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Стиснута бітова множина невід'ємних цілих чисел у стилі Roaring Bitmap.
+ * <p>
+ * Простір чисел ділиться на блоки по 65536 значень (старші 16 біт - номер блоку). Розріджений
+ * блок зберігається як відсортований масив {@code char} (2 байти на значення), щільний - як
+ * бітова мапа на 8 КБ (1 біт на значення). Перемикання відбувається на межі 4096 значень, коли
+ * обидва представлення займають однаково. Перевірка, додавання і видалення - O(1) для щільних
+ * блоків і O(log 4096) для розріджених. Клас не потокобезпечний.
+ */
+public final class OrdinalBitmap implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int ARRAY_MAX_SIZE = 4096;
+  private static final int BITMAP_WORDS = 1024;
+
+  private Container[] containers = new Container[0];
+  private int cardinality;
+
+  public boolean contains(int value) {
+    int high = value >>> 16;
+    return high < containers.length
+        && containers[high] != null
+        && containers[high].contains((char) value);
+  }
+
+  /**
+   * Додає значення.
+   *
+   * @return {@code true}, якщо значення ще не було в множині
+   */
+  public boolean add(int value) {
+    checkValue(value);
+    int high = value >>> 16;
+    if (high >= containers.length) {
+      containers = Arrays.copyOf(containers, high + 1);
+    }
+    Container container = containers[high];
+    if (container == null) {
+      container = new ArrayContainer();
+      containers[high] = container;
+    }
+    if (container.contains((char) value)) {
+      return false;
+    }
+    containers[high] = container.add((char) value);
+    cardinality++;
+    return true;
+  }
+
+  /**
+   * Видаляє значення.
+   *
+   * @return {@code true}, якщо значення було в множині
+   */
+  public boolean remove(int value) {
+    int high = value >>> 16;
+    if (value < 0 || high >= containers.length || containers[high] == null
+        || !containers[high].contains((char) value)) {
+      return false;
+    }
+    Container container = containers[high].remove((char) value);
+    containers[high] = container.cardinality() == 0 ? null : container;
+    cardinality--;
+    return true;
+  }
+
+  public int cardinality() {
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  private static void checkValue(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must be non-negative: " + value);
+    }
+  }
+
+  // ==================== Containers ====================
+
+  private interface Container extends Serializable {
+
+    boolean contains(char low);
+
+    /**
+     * Додає відсутнє значення; може повернути контейнер іншого типу.
+     */
+    Container add(char low);
+
+    /**
+     * Видаляє присутнє значення; може повернути контейнер іншого типу.
+     */
+    Container remove(char low);
+
+    int cardinality();
+  }
+
+  private static final class ArrayContainer implements Container {
+
+    private static final long serialVersionUID = 1L;
+
+    private char[] values = new char[4];
+    private int size;
+
+    @Override
+    public boolean contains(char low) {
+      return Arrays.binarySearch(values, 0, size, low) >= 0;
+    }
+
+    @Override
+    public Container add(char low) {
+      if (size == ARRAY_MAX_SIZE) {
+        return toBitmap().add(low);
+      }
+      int insertAt = -Arrays.binarySearch(values, 0, size, low) - 1;
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(size << 1, ARRAY_MAX_SIZE));
+      }
+      System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+      values[insertAt] = low;
+      size++;
+      return this;
+    }
+
+    @Override
+    public Container remove(char low) {
+      int index = Arrays.binarySearch(values, 0, size, low);
+      System.arraycopy(values, index + 1, values, index, size - index - 1);
+      size--;
+      return this;
+    }
+
+    @Override
+    public int cardinality() {
+      return size;
+    }
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < size; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  private static final class BitmapContainer implements Container {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] words = new long[BITMAP_WORDS];
+    private int size;
+
+    @Override
+    public boolean contains(char low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    public Container add(char low) {
+      words[low >>> 6] |= 1L << low;
+      size++;
+      return this;
+    }
+
+    @Override
+    public Container remove(char low) {
+      words[low >>> 6] &= ~(1L << low);
+      size--;
+      if (size <= ARRAY_MAX_SIZE / 2) {
+        return toArray();
+      }
+      return this;
+    }
+
+    @Override
+    public int cardinality() {
+      return size;
+    }
+
+    private ArrayContainer toArray() {
+      ArrayContainer array = new ArrayContainer();
+      for (int word = 0; word < BITMAP_WORDS; word++) {
+        long bits = words[word];
+        while (bits != 0) {
+          int bit = Long.numberOfTrailingZeros(bits);
+          array.add((char) ((word << 6) + bit));
+          bits &= bits - 1;
+        }
+      }
+      return array;
+    }
+  }
+}
@@ -1,17 +1,43 @@
 package com.example.pr.infrastructure.storage;
 
 import com.example.pr.domain.Entity;
+import com.example.pr.domain.dto.Page;
+import com.example.pr.domain.dto.PageRequest;
 import com.example.pr.domain.specification.Specification;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 public interface Repository<T extends Entity> {
 
+  // Порівняння з заміною: сутність зберігається, лише якщо її версія збігається з версією у
+  // сховищі, інакше - OptimisticLockException; після запису версія збільшується
   T save(T entity);
 
+  // Default-реалізація - зберігає по одній; файлові репозиторії записують пакет за один раз
+  default List<T> saveAll(Collection<? extends T> entities) {
+    List<T> saved = new ArrayList<>(entities.size());
+    for (T entity : entities) {
+      saved.add(save(entity));
+    }
+    return saved;
+  }
+
   Optional<T> findById(UUID id);
 
+  // Екземпляр для зміни і збереження через save(). Default-реалізація повертає той самий
+  // екземпляр, що й findById(); файлові репозиторії - окрему копію, щоб незбережені зміни не
+  // бачили інші потоки
+  default Optional<T> findForUpdate(UUID id) {
+    return findById(id);
+  }
+
   // Default-реалізація - не потрібно імплементувати в кожному класі
   default Optional<T> findByCode(String code) {
     throw new UnsupportedOperationException(
@@ -23,6 +49,35 @@ public interface Repository<T extends Entity> {
 
   List<T> findAll(Specification<T> spec);
 
+  // Default-реалізація - вибирає і сортує всі відповідні сутності; файлові репозиторії тримають
+  // впорядкований за ID індекс і читають лише саму сторінку
+  default Page<T> findPage(Specification<T> spec, PageRequest request) {
+    List<T> matching = new ArrayList<>(findAll(spec));
+    matching.sort(Comparator.comparing(Entity::getId));
+
+    List<T> items = new ArrayList<>(request.size() + 1);
+    for (T entity : matching) {
+      if (request.after() == null || entity.getId().compareTo(request.after()) > 0) {
+        items.add(entity);
+        if (items.size() > request.size()) {
+          break;
+        }
+      }
+    }
+    return Page.of(items, request.size());
+  }
+
+  // Default-реалізація - збирає відповідні сутності у список і згортає його; файлові репозиторії
+  // згортають поточну версію напряму, без проміжного списку
+  default <R> R aggregate(Specification<T> spec, Collector<? super T, ?, R> collector) {
+    return findAll(spec).stream().collect(collector);
+  }
+
+  // Групова кількість за ключем за один прохід
+  default <K> Map<K, Long> countBy(Specification<T> spec, Function<? super T, ? extends K> key) {
+    return aggregate(spec, Aggregations.countBy(key));
+  }
+
   boolean deleteById(UUID id);
 
   // Default-реалізація
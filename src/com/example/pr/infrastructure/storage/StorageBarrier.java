@@ -0,0 +1,81 @@
+package com.example.pr.infrastructure.storage;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Спільний бар'єр записів усіх репозиторіїв для узгоджених знімків даних.
+ * <p>
+ * Кожна операція запису (разом з усіма файлами, які вона змінює: сегмент голосів, реєстр участі,
+ * журнал аудиту) виконується під спільним блокуванням бар'єра, яке записи між собою не ділять.
+ * Знімок ({@link #cut}) бере виключне блокування: він чекає завершення поточних операцій, і поки
+ * виконується, нові записи чекають. Тому знімок завжди бачить дані між завершеними операціями,
+ * а не посеред них.
+ * <p>
+ * Бар'єр береться раніше за будь-яке блокування репозиторію чи монітор: інакше запис, що чекає на
+ * бар'єр під монітором, і запис, що чекає на монітор під бар'єром, заблокували б один одного за
+ * знімка, що очікує. Повторний вхід дозволений, тому складені операції (пакетне збереження,
+ * каскадне видалення) можуть огортати вкладені.
+ */
+public final class StorageBarrier {
+
+  private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+  private StorageBarrier() {
+  }
+
+  /**
+   * Входить в операцію запису; кожен виклик має бути парним з {@link #exit()}.
+   */
+  public static void enter() {
+    LOCK.readLock().lock();
+  }
+
+  public static void exit() {
+    LOCK.readLock().unlock();
+  }
+
+  /**
+   * Виконує операцію запису.
+   */
+  public static void write(Runnable operation) {
+    enter();
+    try {
+      operation.run();
+    } finally {
+      exit();
+    }
+  }
+
+  /**
+   * Виконує операцію запису з результатом.
+   */
+  public static <R> R write(Supplier<R> operation) {
+    enter();
+    try {
+      return operation.get();
+    } finally {
+      exit();
+    }
+  }
+
+  /**
+   * Виконує дію, коли жодна операція запису не виконується, і не допускає нових до її
+   * завершення. Дія має бути короткою - записи на цей час зупиняються.
+   *
+   * @return тривалість зупинки записів у наносекундах (без очікування поточних операцій)
+   */
+  public static long cut(Runnable action) {
+    if (LOCK.getReadHoldCount() > 0) {
+      throw new IllegalStateException("Знімок не можна зробити всередині операції запису");
+    }
+    LOCK.writeLock().lock();
+    long start = System.nanoTime();
+    try {
+      action.run();
+      return System.nanoTime() - start;
+    } finally {
+      LOCK.writeLock().unlock();
+    }
+  }
+}
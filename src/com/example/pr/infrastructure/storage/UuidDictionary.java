@@ -0,0 +1,170 @@
+package com.example.pr.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Словник, що відображає UUID у щільні порядкові номери (0, 1, 2, ...) і назад.
+ * <p>
+ * Номер видається при першому зверненні і ніколи не змінюється, тому його можна використовувати
+ * як індекс у масивах та бітових множинах. Ключі зберігаються у масивах {@code long} за номером,
+ * хеш-таблиця містить лише номери ({@code int}).
+ * <p>
+ * Зміни потребують зовнішньої синхронізації. {@link #uuidAt(int)} без блокувань безпечний для
+ * номерів, виданих до того, як читач отримав номер через безпечну публікацію: масиви ключів
+ * лише доповнюються, а при розширенні нові масиви публікуються через volatile-поля.
+ */
+public final class UuidDictionary implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final int NOT_FOUND = -1;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private transient volatile long[] msbByOrdinal;
+  private transient volatile long[] lsbByOrdinal;
+  private transient int size;
+
+  // Хеш-таблиця: ordinal + 1, 0 - порожня комірка
+  private transient int[] table;
+  private transient int mask;
+
+  public UuidDictionary() {
+    init(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Повертає номер UUID або {@link #NOT_FOUND}, якщо він ще не зареєстрований.
+   */
+  public int ordinalOf(UUID id) {
+    long keyMsb = id.getMostSignificantBits();
+    long keyLsb = id.getLeastSignificantBits();
+    int slot = slotFor(keyMsb, keyLsb);
+    int entry;
+    while ((entry = table[slot]) != 0) {
+      int ordinal = entry - 1;
+      if (msbByOrdinal[ordinal] == keyMsb && lsbByOrdinal[ordinal] == keyLsb) {
+        return ordinal;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Повертає номер UUID, за потреби видаючи новий.
+   */
+  public int getOrAssign(UUID id) {
+    long keyMsb = id.getMostSignificantBits();
+    long keyLsb = id.getLeastSignificantBits();
+    int slot = slotFor(keyMsb, keyLsb);
+    int entry;
+    while ((entry = table[slot]) != 0) {
+      int ordinal = entry - 1;
+      if (msbByOrdinal[ordinal] == keyMsb && lsbByOrdinal[ordinal] == keyLsb) {
+        return ordinal;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return append(slot, keyMsb, keyLsb);
+  }
+
+  /**
+   * Повертає UUID за його номером.
+   */
+  public UUID uuidAt(int ordinal) {
+    long[] msb = msbByOrdinal;
+    long[] lsb = lsbByOrdinal;
+    if (ordinal < 0 || ordinal >= msb.length) {
+      throw new IndexOutOfBoundsException("Ordinal " + ordinal + " out of range 0.." + size);
+    }
+    return new UUID(msb[ordinal], lsb[ordinal]);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // ==================== Internal ====================
+
+  private int append(int slot, long keyMsb, long keyLsb) {
+    int ordinal = size;
+    long[] msb = msbByOrdinal;
+    long[] lsb = lsbByOrdinal;
+    if (ordinal == msb.length) {
+      msb = Arrays.copyOf(msb, ordinal << 1);
+      lsb = Arrays.copyOf(lsb, ordinal << 1);
+    }
+    msb[ordinal] = keyMsb;
+    lsb[ordinal] = keyLsb;
+    // Публікація після запису ключа: читач нового масиву бачить і ключ
+    lsbByOrdinal = lsb;
+    msbByOrdinal = msb;
+    table[slot] = ordinal + 1;
+    size++;
+
+    // Заповненість таблиці не більше 50%
+    if (size << 1 > table.length) {
+      rebuildTable(table.length << 1);
+    }
+    return ordinal;
+  }
+
+  private void rebuildTable(int capacity) {
+    table = new int[capacity];
+    mask = capacity - 1;
+    for (int ordinal = 0; ordinal < size; ordinal++) {
+      int slot = slotFor(msbByOrdinal[ordinal], lsbByOrdinal[ordinal]);
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = ordinal + 1;
+    }
+  }
+
+  private int slotFor(long keyMsb, long keyLsb) {
+    long h = keyMsb ^ Long.rotateLeft(keyLsb, 32);
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h & mask;
+  }
+
+  private static int capacityFor(int count) {
+    return Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(count, 1) - 1) << 1);
+  }
+
+  private void init(int capacity) {
+    msbByOrdinal = new long[capacity];
+    lsbByOrdinal = new long[capacity];
+    size = 0;
+    table = new int[capacity << 1];
+    mask = table.length - 1;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(size);
+    for (int i = 0; i < size; i++) {
+      out.writeLong(msbByOrdinal[i]);
+      out.writeLong(lsbByOrdinal[i]);
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int count = in.readInt();
+    init(capacityFor(count));
+    for (int i = 0; i < count; i++) {
+      msbByOrdinal[i] = in.readLong();
+      lsbByOrdinal[i] = in.readLong();
+    }
+    size = count;
+    rebuildTable(table.length);
+  }
+}
@@ -0,0 +1,241 @@
+package com.example.pr.infrastructure.storage;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Хеш-таблиця з відкритою адресацією, спеціалізована під 128-бітні ключі UUID.
+ * <p>
+ * Ключі зберігаються у двох масивах {@code long} (старші та молодші 64 біти), значення - у
+ * паралельному масиві. На відміну від {@code HashMap<UUID, V>} немає окремого вузла на кожен
+ * запис і не потрібно тримати об'єкт UUID як ключ. Колізії розв'язуються лінійним пробуванням,
+ * видалення - зсувом назад (без "надгробків").
+ * <p>
+ * Порожня комірка позначається {@code null} у масиві значень, тому {@code null} як значення не
+ * допускається. Клас не потокобезпечний.
+ *
+ * @param <V> тип значення
+ */
+public final class UuidMap<V> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private long[] msb;
+  private long[] lsb;
+  private Object[] values;
+  private int size;
+  private int mask;
+  private int resizeThreshold;
+
+  public UuidMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public UuidMap(int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  private UuidMap(UuidMap<V> other) {
+    this.msb = other.msb.clone();
+    this.lsb = other.lsb.clone();
+    this.values = other.values.clone();
+    this.size = other.size;
+    this.mask = other.mask;
+    this.resizeThreshold = other.resizeThreshold;
+  }
+
+  public V get(UUID key) {
+    return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(long keyMsb, long keyLsb) {
+    int slot = indexOf(keyMsb, keyLsb);
+    return slot < 0 ? null : (V) values[slot];
+  }
+
+  public boolean containsKey(UUID key) {
+    return indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits()) >= 0;
+  }
+
+  /**
+   * Додає або замінює значення.
+   *
+   * @return попереднє значення або {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public V put(UUID key, V value) {
+    Objects.requireNonNull(value, "value");
+    long keyMsb = key.getMostSignificantBits();
+    long keyLsb = key.getLeastSignificantBits();
+
+    int slot = slotFor(keyMsb, keyLsb);
+    while (values[slot] != null) {
+      if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    msb[slot] = keyMsb;
+    lsb[slot] = keyLsb;
+    values[slot] = value;
+    if (++size > resizeThreshold) {
+      rehash(values.length << 1);
+    }
+    return null;
+  }
+
+  /**
+   * Видаляє запис за ключем.
+   *
+   * @return видалене значення або {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(UUID key) {
+    int slot = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    if (slot < 0) {
+      return null;
+    }
+    V removed = (V) values[slot];
+    shiftBack(slot);
+    size--;
+    return removed;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    if (size == 0) {
+      return;
+    }
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  /**
+   * Обходить усі записи. Порядок обходу не визначений.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<UUID, V> action) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        action.accept(new UUID(msb[i], lsb[i]), (V) values[i]);
+      }
+    }
+  }
+
+  /**
+   * Обходить усі значення без створення об'єктів UUID.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachValue(Consumer<V> action) {
+    for (Object value : values) {
+      if (value != null) {
+        action.accept((V) value);
+      }
+    }
+  }
+
+  /**
+   * Повертає незалежну копію таблиці (копіювання масивів без перехешування).
+   */
+  public UuidMap<V> copy() {
+    return new UuidMap<>(this);
+  }
+
+  // ==================== Internal ====================
+
+  private int indexOf(long keyMsb, long keyLsb) {
+    int slot = slotFor(keyMsb, keyLsb);
+    while (values[slot] != null) {
+      if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private int slotFor(long keyMsb, long keyLsb) {
+    return mix(keyMsb ^ Long.rotateLeft(keyLsb, 32)) & mask;
+  }
+
+  /**
+   * Фіналізатор MurmurHash3 - розподіляє біти UUID рівномірно по таблиці.
+   */
+  private static int mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  /**
+   * Зсуває наступні записи кластера на місце видаленого, щоб не лишати "надгробків".
+   */
+  private void shiftBack(int slot) {
+    int gap = slot;
+    int next = (gap + 1) & mask;
+    while (values[next] != null) {
+      int home = slotFor(msb[next], lsb[next]);
+      // Запис можна перемістити у gap, якщо його "домашня" комірка не лежить між gap та next
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        msb[gap] = msb[next];
+        lsb[gap] = lsb[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    values[gap] = null;
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldMsb = msb;
+    long[] oldLsb = lsb;
+    Object[] oldValues = values;
+
+    allocate(newCapacity);
+
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slotFor(oldMsb[i], oldLsb[i]);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        msb[slot] = oldMsb[i];
+        lsb[slot] = oldLsb[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    this.msb = new long[capacity];
+    this.lsb = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+    int capacity = Integer.highestOneBit(Math.max(needed, DEFAULT_CAPACITY) - 1) << 1;
+    return Math.max(capacity, DEFAULT_CAPACITY);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.pr.infrastructure.storage;
+
+/**
+ * Лічильники записів репозиторію з моменту запуску.
+ *
+ * @param written записані сутності
+ * @param skipped збереження, пропущені через відсутність змін
+ */
+public record WriteStatistics(long written, long skipped) {
+
+  public static final WriteStatistics EMPTY = new WriteStatistics(0, 0);
+
+  public WriteStatistics plus(WriteStatistics other) {
+    return new WriteStatistics(written + other.written, skipped + other.skipped);
+  }
+
+  /**
+   * Частка уникнутих записів серед усіх збережень, у відсотках.
+   */
+  public double skippedPercent() {
+    long total = written + skipped;
+    return total == 0 ? 0 : skipped * 100.0 / total;
+  }
+}
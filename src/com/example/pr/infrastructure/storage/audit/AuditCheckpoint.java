@@ -0,0 +1,17 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Зафіксований стан журналу аудиту виборів: кількість листків і корінь дерева.
+ *
+ * @param verified чи збігся корінь, обчислений зі збережених вузлів, зі збереженим коренем при
+ *                 відкритті журналу
+ */
+public record AuditCheckpoint(UUID electionId, long size, byte[] root, boolean verified) {
+
+  public String rootHex() {
+    return HexFormat.of().formatHex(root);
+  }
+}
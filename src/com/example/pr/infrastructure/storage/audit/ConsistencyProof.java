@@ -0,0 +1,17 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Доказ того, що журнал розміру {@code newSize} лише дописаний до журналу розміру
+ * {@code oldSize}: аудитор, що зберіг старий корінь, перевіряє новий за {@code O(log n)} хешів
+ * замість повторного хешування всіх голосів.
+ */
+public record ConsistencyProof(UUID electionId, long oldSize, long newSize, List<byte[]> path,
+    byte[] newRoot) {
+
+  public boolean verify(byte[] oldRoot) {
+    return MerkleTree.verifyConsistency(oldSize, oldRoot, newSize, newRoot, path);
+  }
+}
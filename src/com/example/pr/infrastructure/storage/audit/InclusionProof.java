@@ -0,0 +1,32 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import com.example.pr.domain.impl.Vote;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Доказ включення голосу до журналу аудиту: шлях від листка до кореня дерева розміру
+ * {@code size}, {@code O(log size)} хешів.
+ *
+ * @param index номер листка голосу в журналі
+ * @param leaf  збережений хеш листка
+ */
+public record InclusionProof(UUID electionId, UUID voteId, long index, long size, byte[] leaf,
+    List<byte[]> path, byte[] root) {
+
+  /**
+   * Перевіряє доказ відносно кореня, отриманого незалежно (опублікованого раніше).
+   */
+  public boolean verify(byte[] trustedRoot) {
+    return MessageDigest.isEqual(root, trustedRoot)
+        && MerkleTree.verifyInclusion(leaf, index, size, path, trustedRoot);
+  }
+
+  /**
+   * Чи відповідає листок доказу поточному вмісту голосу (голос не змінено після запису).
+   */
+  public boolean matches(Vote vote) {
+    return vote.getId().equals(voteId) && MessageDigest.isEqual(leaf, VoteLeaf.hash(vote));
+  }
+}
@@ -0,0 +1,169 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import static com.example.pr.infrastructure.storage.audit.MerkleTree.HASH_SIZE;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Журнал аудиту виборів у пам'яті - той самий журнал, що й {@link MerkleLog}, без файлів: вузли
+ * дерева зберігаються в масиві у порядку зворотного обходу ({@link MerkleTree#position}), тож
+ * корені й докази однакові для обох журналів з тими самими листками.
+ */
+public final class MemoryMerkleLog {
+
+  private final UUID electionId;
+
+  // Вузли у порядку зворотного обходу, по HASH_SIZE байтів
+  private byte[] nodes = new byte[HASH_SIZE * 64];
+  private int nodeCount;
+  // Корені повних піддерев правого краю - для кореня без обходу дерева
+  private final List<byte[]> frontier = new ArrayList<>();
+  // Голос - номер його останнього листка
+  private final Map<UUID, Long> leafIndex = new HashMap<>();
+  private long size;
+
+  public MemoryMerkleLog(UUID electionId) {
+    this.electionId = electionId;
+  }
+
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Додає листок голосу.
+   *
+   * @return номер листка
+   */
+  public synchronized long append(UUID voteId, byte[] leaf) {
+    long index = size;
+    addNode(leaf);
+    byte[] hash = leaf;
+    for (int merges = Long.numberOfTrailingZeros(index + 1); merges > 0; merges--) {
+      hash = MerkleTree.nodeHash(frontier.remove(frontier.size() - 1), hash);
+      addNode(hash);
+    }
+    frontier.add(hash);
+    leafIndex.put(voteId, index);
+    size++;
+    return index;
+  }
+
+  /**
+   * Додає листок, лише якщо голос ще не записаний або його останній листок інший.
+   */
+  public synchronized boolean appendIfChanged(UUID voteId, byte[] leaf) {
+    Long index = leafIndex.get(voteId);
+    if (index != null && MessageDigest.isEqual(leafAt(index), leaf)) {
+      return false;
+    }
+    append(voteId, leaf);
+    return true;
+  }
+
+  public synchronized byte[] root() {
+    if (frontier.isEmpty()) {
+      return MerkleTree.emptyRoot();
+    }
+    byte[] root = frontier.get(frontier.size() - 1);
+    for (int i = frontier.size() - 2; i >= 0; i--) {
+      root = MerkleTree.nodeHash(frontier.get(i), root);
+    }
+    return root;
+  }
+
+  public synchronized AuditCheckpoint checkpoint() {
+    return new AuditCheckpoint(electionId, size, root(), true);
+  }
+
+  public synchronized Optional<InclusionProof> proveInclusion(UUID voteId) {
+    Long index = leafIndex.get(voteId);
+    if (index == null) {
+      return Optional.empty();
+    }
+    List<byte[]> path = new ArrayList<>();
+    inclusionPath(index, 0, size, path);
+    return Optional.of(
+        new InclusionProof(electionId, voteId, index, size, leafAt(index), path, root()));
+  }
+
+  public synchronized ConsistencyProof proveConsistency(long oldSize) {
+    if (oldSize < 0 || oldSize > size) {
+      throw new IllegalArgumentException("Журнал аудиту містить " + size + " листків, а не "
+          + oldSize);
+    }
+    List<byte[]> path = new ArrayList<>();
+    if (oldSize > 0 && oldSize < size) {
+      consistencyPath(oldSize, 0, size, true, path);
+    }
+    return new ConsistencyProof(electionId, oldSize, size, path, root());
+  }
+
+  // ==================== Proofs (RFC 6962, 2.1) ====================
+
+  private void inclusionPath(long m, long lo, long hi, List<byte[]> out) {
+    if (hi - lo == 1) {
+      return;
+    }
+    long k = MerkleTree.split(hi - lo);
+    if (m < lo + k) {
+      inclusionPath(m, lo, lo + k, out);
+      out.add(hash(lo + k, hi));
+    } else {
+      inclusionPath(m, lo + k, hi, out);
+      out.add(hash(lo, lo + k));
+    }
+  }
+
+  private void consistencyPath(long m, long lo, long hi, boolean complete, List<byte[]> out) {
+    if (m == hi - lo) {
+      if (!complete) {
+        out.add(hash(lo, hi));
+      }
+      return;
+    }
+    long k = MerkleTree.split(hi - lo);
+    if (m <= k) {
+      consistencyPath(m, lo, lo + k, complete, out);
+      out.add(hash(lo + k, hi));
+    } else {
+      consistencyPath(m - k, lo + k, hi, false, out);
+      out.add(hash(lo, lo + k));
+    }
+  }
+
+  private byte[] hash(long lo, long hi) {
+    long n = hi - lo;
+    if (Long.bitCount(n) == 1 && lo % n == 0) {
+      int height = Long.numberOfTrailingZeros(n);
+      return node(MerkleTree.position(height, lo >> height));
+    }
+    long k = MerkleTree.split(n);
+    return MerkleTree.nodeHash(hash(lo, lo + k), hash(lo + k, hi));
+  }
+
+  private byte[] leafAt(long index) {
+    return node(MerkleTree.position(0, index));
+  }
+
+  private byte[] node(long position) {
+    int offset = Math.toIntExact(position * HASH_SIZE);
+    return Arrays.copyOfRange(nodes, offset, offset + HASH_SIZE);
+  }
+
+  private void addNode(byte[] hash) {
+    int offset = Math.multiplyExact(nodeCount, HASH_SIZE);
+    if (offset + HASH_SIZE > nodes.length) {
+      nodes = Arrays.copyOf(nodes, Math.multiplyExact(nodes.length, 2));
+    }
+    System.arraycopy(hash, 0, nodes, offset, HASH_SIZE);
+    nodeCount++;
+  }
+}
@@ -0,0 +1,436 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import static com.example.pr.infrastructure.storage.audit.MerkleTree.HASH_SIZE;
+
+import com.example.pr.infrastructure.storage.UuidMap;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Журнал аудиту голосів одних виборів - дерево Меркла, що лише дописується.
+ * <p>
+ * Файли в директорії аудиту:
+ * <ul>
+ *   <li>{@code <electionId>.merkle} - хеші вузлів у порядку зворотного обходу
+ *   ({@link MerkleTree#position});</li>
+ *   <li>{@code <electionId>.leaves} - ID голосу для кожного листка;</li>
+ *   <li>{@code <electionId>.root} - контрольна точка: кількість листків, корінь і CRC32C.</li>
+ * </ul>
+ * Додавання листка дописує його та завершені ним вузли ({@code O(log n)} хешів), корінь
+ * обчислюється з правого краю дерева - коренів повних піддерев, що зберігаються в пам'яті. Доказ
+ * включення читає з файлу {@code O(log n)} вузлів. При відкритті корінь контрольної точки
+ * перераховується з {@code O(log n)} збережених вузлів, тож перевірка після перезапуску не
+ * залежить від кількості голосів.
+ * <p>
+ * Усі методи синхронізовані; листки, додані після останнього {@link #flush()}, зберігаються в
+ * пам'яті і записуються разом.
+ */
+public final class MerkleLog {
+
+  private static final String NODES_SUFFIX = ".merkle";
+  private static final String LEAVES_SUFFIX = ".leaves";
+  private static final String CHECKPOINT_SUFFIX = ".root";
+  private static final int ID_SIZE = Long.BYTES * 2;
+  private static final int CHECKPOINT_SIZE = Long.BYTES + HASH_SIZE + Integer.BYTES;
+
+  private final UUID electionId;
+  private final Path nodesFile;
+  private final Path leavesFile;
+  private final Path checkpointFile;
+
+  // Відкриваються при першому записі - вибори без голосів не створюють файлів
+  private FileChannel nodes;
+  private FileChannel leaves;
+
+  // Листків усього і вже записаних у файли
+  private long size;
+  private long flushedSize;
+
+  // Корені повних піддерев правого краю дерева, від найвищого
+  private final List<byte[]> frontier = new ArrayList<>();
+
+  private final ByteArrayOutputStream pendingNodes = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream pendingLeaves = new ByteArrayOutputStream();
+
+  // ID голосу -> номер його останнього листка; завантажується при першому доказі
+  private UuidMap<Long> leafIndex;
+
+  private boolean verified = true;
+
+  private MerkleLog(Path directory, UUID electionId) {
+    this.electionId = electionId;
+    this.nodesFile = directory.resolve(electionId + NODES_SUFFIX);
+    this.leavesFile = directory.resolve(electionId + LEAVES_SUFFIX);
+    this.checkpointFile = directory.resolve(electionId + CHECKPOINT_SUFFIX);
+  }
+
+  /**
+   * Відкриває журнал виборів і звіряє збережені вузли з контрольною точкою. Розбіжність не
+   * зупиняє роботу: вона записується в журнал помилок і видна у {@link #checkpoint()}.
+   */
+  public static MerkleLog open(Path directory, UUID electionId) {
+    MerkleLog log = new MerkleLog(directory, electionId);
+    try {
+      Files.createDirectories(directory);
+      if (Files.exists(log.leavesFile) || Files.exists(log.nodesFile)) {
+        log.openFiles();
+        log.recover();
+      }
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося відкрити журнал аудиту: " + log.nodesFile, e);
+    }
+    return log;
+  }
+
+  /**
+   * Чи є файл частиною журналу, що лише дописується (вузли або листки): резервна копія може
+   * копіювати з нього тільки дописане після попередньої копії.
+   */
+  public static boolean isAppendOnly(Path file) {
+    String name = file.getFileName().toString();
+    return name.endsWith(NODES_SUFFIX) || name.endsWith(LEAVES_SUFFIX);
+  }
+
+  public UUID electionId() {
+    return electionId;
+  }
+
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Додає листок голосу.
+   *
+   * @return номер листка
+   */
+  public synchronized long append(UUID voteId, byte[] leaf) {
+    long index = size;
+    pendingNodes.writeBytes(leaf);
+    byte[] hash = leaf;
+    // Листок завершує стільки повних піддерев, скільки молодших одиниць у його номері
+    for (int merges = Long.numberOfTrailingZeros(index + 1); merges > 0; merges--) {
+      hash = MerkleTree.nodeHash(frontier.remove(frontier.size() - 1), hash);
+      pendingNodes.writeBytes(hash);
+    }
+    frontier.add(hash);
+
+    pendingLeaves.writeBytes(ByteBuffer.allocate(ID_SIZE)
+        .putLong(voteId.getMostSignificantBits())
+        .putLong(voteId.getLeastSignificantBits())
+        .array());
+    size++;
+    if (leafIndex != null) {
+      leafIndex.put(voteId, index);
+    }
+    return index;
+  }
+
+  /**
+   * Додає листок, лише якщо голос ще не записаний або його останній листок інший (голос
+   * змінено).
+   */
+  public synchronized boolean appendIfChanged(UUID voteId, byte[] leaf) {
+    Long index = leafIndex().get(voteId);
+    if (index != null && MessageDigest.isEqual(leafAt(index), leaf)) {
+      return false;
+    }
+    append(voteId, leaf);
+    return true;
+  }
+
+  /**
+   * Записує додані листки з fsync і оновлює контрольну точку.
+   */
+  public synchronized void flush() {
+    if (size == flushedSize) {
+      return;
+    }
+    try {
+      if (nodes == null) {
+        openFiles();
+      }
+      writeFully(nodes, pendingNodes.toByteArray(),
+          MerkleTree.nodeCount(flushedSize) * HASH_SIZE);
+      writeFully(leaves, pendingLeaves.toByteArray(), flushedSize * ID_SIZE);
+      nodes.force(false);
+      leaves.force(false);
+      pendingNodes.reset();
+      pendingLeaves.reset();
+      flushedSize = size;
+      writeCheckpoint(size, root());
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося записати журнал аудиту: " + nodesFile, e);
+    }
+  }
+
+  /**
+   * Поточний корінь дерева.
+   */
+  public synchronized byte[] root() {
+    if (frontier.isEmpty()) {
+      return MerkleTree.emptyRoot();
+    }
+    byte[] root = frontier.get(frontier.size() - 1);
+    for (int i = frontier.size() - 2; i >= 0; i--) {
+      root = MerkleTree.nodeHash(frontier.get(i), root);
+    }
+    return root;
+  }
+
+  public synchronized AuditCheckpoint checkpoint() {
+    flush();
+    return new AuditCheckpoint(electionId, size, root(), verified);
+  }
+
+  /**
+   * Доказ включення останнього листка голосу в поточне дерево.
+   */
+  public synchronized Optional<InclusionProof> proveInclusion(UUID voteId) {
+    flush();
+    Long index = leafIndex().get(voteId);
+    if (index == null) {
+      return Optional.empty();
+    }
+    try {
+      List<byte[]> path = new ArrayList<>();
+      inclusionPath(index, 0, size, path);
+      return Optional.of(
+          new InclusionProof(electionId, voteId, index, size, leafAt(index), path, root()));
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання журналу аудиту: " + nodesFile, e);
+    }
+  }
+
+  /**
+   * Доказ того, що поточне дерево є продовженням дерева з {@code oldSize} листків.
+   */
+  public synchronized ConsistencyProof proveConsistency(long oldSize) {
+    flush();
+    if (oldSize < 0 || oldSize > size) {
+      throw new IllegalArgumentException("Журнал аудиту містить " + size + " листків, а не "
+          + oldSize);
+    }
+    List<byte[]> path = new ArrayList<>();
+    try {
+      if (oldSize > 0 && oldSize < size) {
+        consistencyPath(oldSize, 0, size, true, path);
+      }
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання журналу аудиту: " + nodesFile, e);
+    }
+    return new ConsistencyProof(electionId, oldSize, size, path, root());
+  }
+
+  // ==================== Proofs (RFC 6962, 2.1) ====================
+
+  private void inclusionPath(long m, long lo, long hi, List<byte[]> out) throws IOException {
+    if (hi - lo == 1) {
+      return;
+    }
+    long k = MerkleTree.split(hi - lo);
+    if (m < lo + k) {
+      inclusionPath(m, lo, lo + k, out);
+      out.add(hash(lo + k, hi));
+    } else {
+      inclusionPath(m, lo + k, hi, out);
+      out.add(hash(lo, lo + k));
+    }
+  }
+
+  private void consistencyPath(long m, long lo, long hi, boolean complete, List<byte[]> out)
+      throws IOException {
+    if (m == hi - lo) {
+      if (!complete) {
+        out.add(hash(lo, hi));
+      }
+      return;
+    }
+    long k = MerkleTree.split(hi - lo);
+    if (m <= k) {
+      consistencyPath(m, lo, lo + k, complete, out);
+      out.add(hash(lo + k, hi));
+    } else {
+      consistencyPath(m - k, lo + k, hi, false, out);
+      out.add(hash(lo, lo + k));
+    }
+  }
+
+  /**
+   * Корінь дерева над листками {@code [lo, hi)}: повне вирівняне піддерево читається з файлу,
+   * інше складається з повних.
+   */
+  private byte[] hash(long lo, long hi) throws IOException {
+    long n = hi - lo;
+    if (Long.bitCount(n) == 1 && lo % n == 0) {
+      int height = Long.numberOfTrailingZeros(n);
+      return readNode(MerkleTree.position(height, lo >> height));
+    }
+    long k = MerkleTree.split(n);
+    return MerkleTree.nodeHash(hash(lo, lo + k), hash(lo + k, hi));
+  }
+
+  // ==================== Files ====================
+
+  private void openFiles() throws IOException {
+    nodes = FileChannel.open(nodesFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    leaves = FileChannel.open(leavesFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+  }
+
+  /**
+   * Відкидає недописаний хвіст (обірваний запис), відновлює правий край дерева і звіряє
+   * контрольну точку.
+   */
+  private void recover() throws IOException {
+    long nodeBytes = nodes.size();
+    long byNodes = nodeBytes / HASH_SIZE / 2 + Long.SIZE;
+    while (MerkleTree.nodeCount(byNodes) * HASH_SIZE > nodeBytes) {
+      byNodes--;
+    }
+    size = Math.min(byNodes, leaves.size() / ID_SIZE);
+    if (nodes.size() != MerkleTree.nodeCount(size) * HASH_SIZE
+        || leaves.size() != size * ID_SIZE) {
+      System.err.println("Журнал аудиту " + nodesFile + " обірвано, відновлено листків: " + size);
+      nodes.truncate(MerkleTree.nodeCount(size) * HASH_SIZE);
+      leaves.truncate(size * ID_SIZE);
+    }
+    flushedSize = size;
+    loadFrontier();
+
+    ByteBuffer stored = readCheckpoint();
+    long checkpointSize = stored == null ? 0 : stored.getLong();
+    byte[] checkpointRoot = new byte[HASH_SIZE];
+    if (stored != null) {
+      stored.get(checkpointRoot);
+    }
+    if (checkpointSize > size
+        || stored != null && !MessageDigest.isEqual(rootOf(checkpointSize), checkpointRoot)) {
+      verified = false;
+      System.err.println("Журнал аудиту виборів " + electionId
+          + " не збігається з контрольною точкою " + checkpointFile);
+    } else if (checkpointSize < size) {
+      // Листки записано, а контрольну точку - ні: дерево лише продовжене, тож точку оновлюємо
+      writeCheckpoint(size, root());
+    }
+  }
+
+  private void loadFrontier() throws IOException {
+    frontier.clear();
+    long covered = 0;
+    for (int height = Long.SIZE - 1; height >= 0; height--) {
+      if ((size & (1L << height)) != 0) {
+        frontier.add(readNode(MerkleTree.position(height, covered >> height)));
+        covered += 1L << height;
+      }
+    }
+  }
+
+  private byte[] rootOf(long leaves) throws IOException {
+    return leaves == 0 ? MerkleTree.emptyRoot() : hash(0, leaves);
+  }
+
+  private ByteBuffer readCheckpoint() throws IOException {
+    if (!Files.exists(checkpointFile)) {
+      return null;
+    }
+    byte[] data = Files.readAllBytes(checkpointFile);
+    CRC32C crc = new CRC32C();
+    crc.update(data, 0, Math.min(data.length, CHECKPOINT_SIZE - Integer.BYTES));
+    if (data.length != CHECKPOINT_SIZE
+        || (int) crc.getValue() != ByteBuffer.wrap(data).getInt(CHECKPOINT_SIZE - Integer.BYTES)) {
+      System.err.println("Пошкоджена контрольна точка журналу аудиту: " + checkpointFile);
+      return null;
+    }
+    return ByteBuffer.wrap(data);
+  }
+
+  private void writeCheckpoint(long leaves, byte[] root) throws IOException {
+    ByteBuffer data = ByteBuffer.allocate(CHECKPOINT_SIZE).putLong(leaves).put(root);
+    CRC32C crc = new CRC32C();
+    crc.update(data.array(), 0, data.position());
+    data.putInt((int) crc.getValue());
+
+    Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      writeFully(channel, data.array(), 0);
+      channel.force(true);
+    }
+    Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private UuidMap<Long> leafIndex() {
+    if (leafIndex == null) {
+      UuidMap<Long> index = new UuidMap<>((int) Math.min(size, Integer.MAX_VALUE));
+      try {
+        if (flushedSize > 0) {
+          ByteBuffer ids = ByteBuffer.allocate((int) (flushedSize * ID_SIZE));
+          readFully(leaves, ids, 0);
+          for (long i = 0; i < flushedSize; i++) {
+            index.put(new UUID(ids.getLong(), ids.getLong()), i);
+          }
+        }
+        ByteBuffer pending = ByteBuffer.wrap(pendingLeaves.toByteArray());
+        for (long i = flushedSize; i < size; i++) {
+          index.put(new UUID(pending.getLong(), pending.getLong()), i);
+        }
+      } catch (IOException e) {
+        throw new StorageException("Помилка читання журналу аудиту: " + leavesFile, e);
+      }
+      leafIndex = index;
+    }
+    return leafIndex;
+  }
+
+  private byte[] leafAt(long index) {
+    try {
+      if (index >= flushedSize) {
+        flush();
+      }
+      return readNode(MerkleTree.position(0, index));
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання журналу аудиту: " + nodesFile, e);
+    }
+  }
+
+  private byte[] readNode(long position) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(HASH_SIZE);
+    readFully(nodes, buffer, position * HASH_SIZE);
+    return buffer.array();
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Журнал аудиту обірвано");
+      }
+    }
+    buffer.flip();
+  }
+
+  private static void writeFully(FileChannel channel, byte[] data, long position)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Хешування та перевірка доказів дерева Меркла за RFC 6962 / RFC 9162.
+ * <p>
+ * Листок - {@code SHA-256(0x00 || дані)}, вузол - {@code SHA-256(0x01 || лівий || правий)}; різні
+ * префікси не дозволяють видати вузол за листок. Дерево з {@code n} листків, де {@code n} не є
+ * степенем двійки, ділиться на ліве повне піддерево з {@code k} листків (найбільший степінь
+ * двійки, менший за {@code n}) і праве з решти.
+ * <p>
+ * Вузли зберігаються у порядку зворотного обходу: після листка одразу записуються всі повні
+ * піддерева, які він завершив. Тому дерево лише дописується, а позиція вузла обчислюється
+ * формулою ({@link #position}).
+ */
+public final class MerkleTree {
+
+  public static final int HASH_SIZE = 32;
+
+  private static final byte LEAF_PREFIX = 0x00;
+  private static final byte NODE_PREFIX = 0x01;
+
+  private MerkleTree() {
+  }
+
+  public static byte[] leafHash(byte[] data) {
+    MessageDigest digest = sha256();
+    digest.update(LEAF_PREFIX);
+    digest.update(data);
+    return digest.digest();
+  }
+
+  /**
+   * Корінь порожнього дерева - хеш порожнього рядка.
+   */
+  public static byte[] emptyRoot() {
+    return sha256().digest();
+  }
+
+  public static byte[] nodeHash(byte[] left, byte[] right) {
+    MessageDigest digest = sha256();
+    digest.update(NODE_PREFIX);
+    digest.update(left);
+    digest.update(right);
+    return digest.digest();
+  }
+
+  /**
+   * Кількість вузлів дерева з {@code leaves} листків у порядку зворотного обходу.
+   */
+  public static long nodeCount(long leaves) {
+    return 2 * leaves - Long.bitCount(leaves);
+  }
+
+  /**
+   * Позиція кореня повного піддерева висоти {@code height} з номером {@code index} серед піддерев
+   * цієї висоти. Вузол записується разом з останнім листком піддерева, одразу за ним і вузлами
+   * менших висот.
+   */
+  public static long position(int height, long index) {
+    long lastLeaf = ((index + 1) << height) - 1;
+    return nodeCount(lastLeaf) + height;
+  }
+
+  /**
+   * Найбільший степінь двійки, менший за {@code n} ({@code n > 1}).
+   */
+  static long split(long n) {
+    return Long.highestOneBit(n - 1);
+  }
+
+  /**
+   * Перевіряє доказ включення листка (RFC 9162, 2.1.3.2).
+   */
+  public static boolean verifyInclusion(byte[] leaf, long index, long size, List<byte[]> path,
+      byte[] root) {
+    if (index < 0 || index >= size) {
+      return false;
+    }
+    long fn = index;
+    long sn = size - 1;
+    byte[] r = leaf;
+    for (byte[] p : path) {
+      if (sn == 0) {
+        return false;
+      }
+      if ((fn & 1) == 1 || fn == sn) {
+        r = nodeHash(p, r);
+        while ((fn & 1) == 0 && fn != 0) {
+          fn >>= 1;
+          sn >>= 1;
+        }
+      } else {
+        r = nodeHash(r, p);
+      }
+      fn >>= 1;
+      sn >>= 1;
+    }
+    return sn == 0 && MessageDigest.isEqual(r, root);
+  }
+
+  /**
+   * Перевіряє, що дерево розміру {@code newSize} є продовженням дерева розміру {@code oldSize}
+   * (RFC 9162, 2.1.4.2): жоден з перших {@code oldSize} листків не змінено.
+   */
+  public static boolean verifyConsistency(long oldSize, byte[] oldRoot, long newSize,
+      byte[] newRoot, List<byte[]> path) {
+    if (oldSize < 0 || oldSize > newSize) {
+      return false;
+    }
+    if (oldSize == newSize) {
+      return path.isEmpty() && MessageDigest.isEqual(oldRoot, newRoot);
+    }
+    if (oldSize == 0) {
+      return path.isEmpty();
+    }
+    if (path.isEmpty()) {
+      return false;
+    }
+
+    int start = 0;
+    byte[] first;
+    if (Long.bitCount(oldSize) == 1) {
+      first = oldRoot;
+    } else {
+      first = path.get(0);
+      start = 1;
+    }
+    long fn = oldSize - 1;
+    long sn = newSize - 1;
+    while ((fn & 1) == 1) {
+      fn >>= 1;
+      sn >>= 1;
+    }
+    byte[] fr = first;
+    byte[] sr = first;
+    for (byte[] c : path.subList(start, path.size())) {
+      if (sn == 0) {
+        return false;
+      }
+      if ((fn & 1) == 1 || fn == sn) {
+        fr = nodeHash(c, fr);
+        sr = nodeHash(c, sr);
+        while ((fn & 1) == 0 && fn != 0) {
+          fn >>= 1;
+          sn >>= 1;
+        }
+      } else {
+        sr = nodeHash(sr, c);
+      }
+      fn >>= 1;
+      sn >>= 1;
+    }
+    return sn == 0 && MessageDigest.isEqual(fr, oldRoot) && MessageDigest.isEqual(sr, newRoot);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 недоступний", e);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.pr.infrastructure.storage.audit;
+
+import com.example.pr.domain.impl.Vote;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Канонічне подання голосу для листка журналу аудиту. Не залежить від Java Serialization, тому
+ * аудитор може обчислити хеш голосу незалежно:
+ * <pre>
+ * UUID id, UUID electionId, UUID voterId, UUID candidateId, long seconds, int nanos
+ * </pre>
+ * UUID - два {@code long} big-endian (відсутній - нулі), час - UTC.
+ */
+public final class VoteLeaf {
+
+  private static final int SIZE = Long.BYTES * 8 + Long.BYTES + Integer.BYTES;
+
+  private VoteLeaf() {
+  }
+
+  public static byte[] encode(Vote vote) {
+    ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+    putUuid(buffer, vote.getId());
+    putUuid(buffer, vote.getElectionId());
+    putUuid(buffer, vote.getVoterId());
+    putUuid(buffer, vote.getCandidateId());
+    LocalDateTime timestamp = vote.getTimestamp();
+    buffer.putLong(timestamp == null ? 0 : timestamp.toEpochSecond(ZoneOffset.UTC));
+    buffer.putInt(timestamp == null ? 0 : timestamp.getNano());
+    return buffer.array();
+  }
+
+  public static byte[] hash(Vote vote) {
+    return MerkleTree.leafHash(encode(vote));
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID id) {
+    buffer.putLong(id == null ? 0 : id.getMostSignificantBits());
+    buffer.putLong(id == null ? 0 : id.getLeastSignificantBits());
+  }
+}
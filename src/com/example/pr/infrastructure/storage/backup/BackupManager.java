@@ -0,0 +1,440 @@
+package com.example.pr.infrastructure.storage.backup;
+
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.StorageBarrier;
+import com.example.pr.infrastructure.storage.audit.MerkleLog;
+import com.example.pr.infrastructure.storage.backup.BackupManifest.Entry;
+import com.example.pr.infrastructure.storage.backup.BackupManifest.Kind;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Резервне копіювання даних без зупинки голосування та відновлення на момент у минулому.
+ * <p>
+ * Знімок робиться під виключним блокуванням бар'єра записів ({@link StorageBarrier#cut}), тому
+ * він узгоджений між усіма репозиторіями. Під блокуванням файли лише отримують жорсткі посилання
+ * у {@code data/snapshots}: файли даних ніколи не змінюються на місці (новий вміст атомарно
+ * підміняє файл), тож посилання зберігає вміст на момент знімка, поки записи продовжуються.
+ * Журнали аудиту лише дописуються - для них запам'ятовується розмір. Копіювання у директорію
+ * резервних копій виконується вже після зняття блокування.
+ * <p>
+ * Копії утворюють ланцюжок: перша повна, наступні інкрементні - файли, що не змінилися (той
+ * самий ключ файлу, розмір і час зміни), лише згадуються в описі, а з журналів аудиту
+ * копіюється тільки дописане після попередньої копії. Відновлення ({@link #restore}) збирає
+ * файли з ланцюжка останньої копії, зробленої не пізніше заданого моменту, тому точність
+ * відновлення на момент у часі дорівнює інтервалу між копіями ({@link #schedule}).
+ */
+public final class BackupManager implements AutoCloseable {
+
+  private static final String FILES_DIR = "files";
+  private static final String PENDING_DIR = "pending";
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final String MIGRATED_SUFFIX = ".migrated";
+  private static final int TAIL_SIZE = 4096;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final DateTimeFormatter ID_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+  private final Path dataDir;
+  private final Path backupRoot;
+  private final Path snapshotsDir;
+  private final Path quarantineDir;
+
+  // Плановий запуск копіювання; null - лише за викликом
+  private ScheduledExecutorService executor;
+
+  /**
+   * Файл, захоплений знімком.
+   *
+   * @param link посилання на вміст у момент знімка; {@code null} - файл не змінився
+   * @param previous той самий файл у попередній копії
+   */
+  private record Captured(String path, Kind kind, long size, String fingerprint, Path link,
+      Entry previous) {
+
+  }
+
+  public BackupManager(Path backupRoot) {
+    this(Path.of(BinaryFilePath.getDataDir()), backupRoot);
+  }
+
+  public BackupManager(Path dataDir, Path backupRoot) {
+    this.dataDir = dataDir;
+    this.backupRoot = backupRoot;
+    this.snapshotsDir = dataDir.resolve(
+        Path.of(BinaryFilePath.SNAPSHOTS.getPath()).getFileName());
+    this.quarantineDir = dataDir.resolve(
+        Path.of(BinaryFilePath.QUARANTINE.getPath()).getFileName());
+  }
+
+  /**
+   * Створює інкрементну копію до останньої наявної (або повну, якщо копій ще немає).
+   */
+  public BackupResult backup() {
+    return backup(false);
+  }
+
+  /**
+   * Створює резервну копію.
+   *
+   * @param full скопіювати всі файли, не спираючись на попередні копії
+   */
+  public synchronized BackupResult backup(boolean full) {
+    long start = System.nanoTime();
+    BackupManifest parent = full ? null : list(backupRoot).stream().reduce((a, b) -> b)
+        .orElse(null);
+
+    Path staging = snapshotsDir.resolve(PENDING_DIR);
+    deleteTree(staging);
+
+    List<Captured> captured = new ArrayList<>();
+    Instant[] created = new Instant[1];
+    long pause = StorageBarrier.cut(() -> {
+      created[0] = Instant.now();
+      captured.addAll(capture(staging, parent));
+    });
+
+    String id = newId(created[0]);
+    Path target = backupRoot.resolve(id);
+    try {
+      Path files = target.resolve(FILES_DIR);
+      Files.createDirectories(files);
+
+      Map<String, Entry> entries = new TreeMap<>();
+      int copiedFiles = 0;
+      long copiedBytes = 0;
+      for (Captured file : captured) {
+        Entry entry = file.link() == null ? file.previous() : store(file, id, files);
+        if (entry.holder().equals(id)) {
+          copiedFiles++;
+          copiedBytes += entry.storedSize();
+        }
+        entries.put(file.path(), entry);
+      }
+
+      BackupManifest manifest = new BackupManifest(id, parent == null ? null : parent.id(),
+          created[0], new LinkedHashMap<>(entries));
+      manifest.write(target);
+      return new BackupResult(manifest, pause, System.nanoTime() - start, copiedFiles,
+          entries.size() - copiedFiles, copiedBytes);
+
+    } catch (IOException | RuntimeException e) {
+      deleteTree(target);
+      throw e instanceof StorageException se ? se
+          : new StorageException("Не вдалося створити резервну копію: " + target, e);
+    } finally {
+      deleteTree(staging);
+    }
+  }
+
+  /**
+   * Запускає копіювання з фіксованим інтервалом у фоновому потоці; кожна {@code fullEvery}-та
+   * копія - повна, щоб ланцюжки для відновлення не росли необмежено. Підсумок кожної створеної
+   * копії передається {@code onBackup} у потоці копіювання.
+   */
+  public synchronized void schedule(Duration interval, int fullEvery,
+      Consumer<BackupResult> onBackup) {
+    if (executor != null) {
+      throw new IllegalStateException("Резервне копіювання вже заплановане");
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "backup-scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    int[] run = {0};
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        boolean full = fullEvery > 0 && run[0]++ % fullEvery == 0;
+        onBackup.accept(backup(full));
+      } catch (RuntimeException e) {
+        System.err.println("Резервне копіювання не вдалося: " + e.getMessage());
+      }
+    }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Завершені копії у директорії, від найстарішої.
+   */
+  public static List<BackupManifest> list(Path backupRoot) {
+    if (!Files.isDirectory(backupRoot)) {
+      return List.of();
+    }
+    try (Stream<Path> dirs = Files.list(backupRoot)) {
+      return dirs.filter(Files::isDirectory)
+          .map(BackupManifest::read)
+          .flatMap(Optional::stream)
+          .sorted(Comparator.comparing(BackupManifest::created).thenComparing(BackupManifest::id))
+          .toList();
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося прочитати директорію копій: " + backupRoot, e);
+    }
+  }
+
+  /**
+   * Відновлює дані на стан останньої копії, зробленої не пізніше {@code pointInTime}. Вміст
+   * кожного файлу перевіряється за SHA-256. Наявна директорія даних зберігається поруч з
+   * суфіксом {@code .before-restore-<час>}.
+   * <p>
+   * Виконується лише при зупиненому застосунку: дані, завантажені в пам'ять, не оновлюються.
+   *
+   * @return опис відновленої копії
+   */
+  public static BackupManifest restore(Path backupRoot, Instant pointInTime, Path dataDir) {
+    List<BackupManifest> backups = list(backupRoot);
+    BackupManifest chosen = backups.stream()
+        .filter(manifest -> !manifest.created().isAfter(pointInTime))
+        .reduce((a, b) -> b)
+        .orElseThrow(() -> new StorageException(
+            "Немає резервної копії, зробленої не пізніше " + pointInTime + ": " + backupRoot));
+
+    Map<String, BackupManifest> byId = new LinkedHashMap<>();
+    backups.forEach(manifest -> byId.put(manifest.id(), manifest));
+
+    Path restoring = dataDir.resolveSibling(dataDir.getFileName() + ".restoring");
+    deleteTree(restoring);
+    try {
+      for (Entry entry : chosen.entries().values()) {
+        Path target = restoring.resolve(entry.path());
+        Files.createDirectories(target.getParent());
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE)) {
+          for (Entry segment : segments(entry, byId)) {
+            Path blob = backupRoot.resolve(segment.holder()).resolve(FILES_DIR)
+                .resolve(segment.path());
+            String sha256 = copyRange(blob, 0, segment.storedSize(), out);
+            if (!sha256.equals(segment.sha256())) {
+              throw new StorageException("Контрольна сума не збігається: " + blob);
+            }
+          }
+          out.force(true);
+        }
+      }
+
+      if (Files.exists(dataDir)) {
+        Files.move(dataDir, dataDir.resolveSibling(dataDir.getFileName() + ".before-restore-"
+            + ID_FORMAT.format(Instant.now())));
+      }
+      Files.move(restoring, dataDir);
+      return chosen;
+
+    } catch (IOException | RuntimeException e) {
+      deleteTree(restoring);
+      throw e instanceof StorageException se ? se
+          : new StorageException("Не вдалося відновити дані з копії " + chosen.id(), e);
+    }
+  }
+
+  // ==================== Snapshot ====================
+
+  /**
+   * Захоплює стан файлів даних; виконується при зупинених записах, тому лише читає атрибути і
+   * створює посилання.
+   */
+  private List<Captured> capture(Path staging, BackupManifest parent) {
+    List<Captured> captured = new ArrayList<>();
+    try (Stream<Path> walk = Files.walk(dataDir)) {
+      for (Path file : walk.filter(this::isDataFile).toList()) {
+        String path = relative(file);
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String fingerprint = attrs.fileKey() + "/" + attrs.size() + "/"
+            + attrs.lastModifiedTime().toMillis();
+        Kind kind = MerkleLog.isAppendOnly(file) ? Kind.LOG : Kind.FULL;
+        Entry previous = parent == null ? null : parent.entries().get(path);
+
+        if (previous != null && previous.kind() == kind
+            && previous.fingerprint().equals(fingerprint)) {
+          captured.add(new Captured(path, kind, attrs.size(), fingerprint, null, previous));
+          continue;
+        }
+
+        Path link = staging.resolve(path);
+        Files.createDirectories(link.getParent());
+        try {
+          Files.createLink(link, file);
+        } catch (UnsupportedOperationException | IOException e) {
+          // Файлова система без жорстких посилань - копіюємо, поки записи зупинені
+          Files.copy(file, link);
+        }
+        captured.add(new Captured(path, kind, attrs.size(), fingerprint, link, previous));
+      }
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося зробити знімок даних: " + dataDir, e);
+    }
+    return captured;
+  }
+
+  private boolean isDataFile(Path file) {
+    String name = file.getFileName().toString();
+    return Files.isRegularFile(file)
+        && !file.startsWith(snapshotsDir) && !file.startsWith(quarantineDir)
+        && !name.endsWith(TMP_SUFFIX) && !name.endsWith(MIGRATED_SUFFIX);
+  }
+
+  private String relative(Path file) {
+    return dataDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+  }
+
+  // ==================== Copy ====================
+
+  /**
+   * Копіює захоплений файл у копію {@code id}. З журналу, що з попередньої копії лише
+   * дописувався, копіюється тільки нова частина.
+   */
+  private static Entry store(Captured file, String id, Path files) throws IOException {
+    long from = 0;
+    Entry previous = file.previous();
+    if (file.kind() == Kind.LOG && previous != null && previous.kind() == Kind.LOG
+        && previous.size() <= file.size() && sameFile(previous, file.fingerprint())
+        && previous.tail() != null
+        && previous.tail().equals(tailHash(file.link(), previous.size()))) {
+      from = previous.size();
+    }
+    if (from > 0 && from == file.size()) {
+      return new Entry(file.path(), file.kind(), file.size(), previous.from(), previous.holder(),
+          previous.sha256(), previous.tail(), file.fingerprint());
+    }
+
+    Path target = files.resolve(file.path());
+    Files.createDirectories(target.getParent());
+    String sha256;
+    try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      sha256 = copyRange(file.link(), from, file.size(), out);
+      out.force(true);
+    }
+    String tail = file.kind() == Kind.LOG ? tailHash(file.link(), file.size()) : null;
+    return new Entry(file.path(), file.kind(), file.size(), from, id, sha256, tail,
+        file.fingerprint());
+  }
+
+  /**
+   * Той самий файл (ключ файлу), що й у попередній копії.
+   */
+  private static boolean sameFile(Entry previous, String fingerprint) {
+    String key = fingerprint.substring(0, fingerprint.indexOf('/'));
+    return !key.equals("null") && previous.fingerprint().startsWith(key + "/");
+  }
+
+  private static String tailHash(Path file, long size) throws IOException {
+    return copyRange(file, Math.max(0, size - TAIL_SIZE), size, null);
+  }
+
+  /**
+   * Сегменти файлу від початку: сегмент журналу доповнює той самий файл у копії, що передувала
+   * копії, яка його зберігає.
+   */
+  private static List<Entry> segments(Entry entry, Map<String, BackupManifest> byId) {
+    List<Entry> segments = new ArrayList<>();
+    Entry current = entry;
+    segments.add(current);
+    while (current.from() > 0) {
+      BackupManifest holder = byId.get(current.holder());
+      BackupManifest before = holder == null || holder.parent() == null ? null
+          : byId.get(holder.parent());
+      Entry prefix = before == null ? null : before.entries().get(current.path());
+      if (prefix == null || prefix.size() != current.from()) {
+        throw new StorageException("Ланцюжок резервних копій неповний для файлу "
+            + entry.path() + " (копія " + current.holder() + ")");
+      }
+      current = prefix;
+      segments.add(0, current);
+    }
+    return segments;
+  }
+
+  /**
+   * Копіює байти {@code [from, to)} у канал (або лише хешує, якщо канал {@code null}).
+   *
+   * @return SHA-256 скопійованих байтів
+   */
+  private static String copyRange(Path source, long from, long to, FileChannel out)
+      throws IOException {
+    MessageDigest digest = sha256();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+      long position = from;
+      while (position < to) {
+        buffer.clear().limit((int) Math.min(buffer.capacity(), to - position));
+        int read = in.read(buffer, position);
+        if (read < 0) {
+          throw new EOFException("Файл коротший за очікуваний: " + source);
+        }
+        buffer.flip();
+        digest.update(buffer.duplicate());
+        while (out != null && buffer.hasRemaining()) {
+          out.write(buffer);
+        }
+        position += read;
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  // ==================== Helper Methods ====================
+
+  private String newId(Instant created) {
+    Instant at = created;
+    String id = ID_FORMAT.format(at);
+    while (Files.exists(backupRoot.resolve(id))) {
+      at = at.plusMillis(1);
+      id = ID_FORMAT.format(at);
+    }
+    return id;
+  }
+
+  private static void deleteTree(Path root) {
+    if (!Files.exists(root)) {
+      return;
+    }
+    try (Stream<Path> walk = Files.walk(root)) {
+      for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося видалити директорію: " + root, e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 недоступний", e);
+    }
+  }
+}
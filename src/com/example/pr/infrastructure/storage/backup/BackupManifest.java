@@ -0,0 +1,139 @@
+package com.example.pr.infrastructure.storage.backup;
+
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Опис резервної копії: момент знімка, попередня копія ланцюжка і всі файли даних на цей
+ * момент.
+ * <p>
+ * Файл, що не змінився з попередньої копії, не копіюється - запис посилається на копію, яка
+ * зберігає його вміст ({@code holder}). Файл журналу, що лише дописується ({@link Kind#LOG}),
+ * зберігається сегментами: копія містить лише байти {@code [from, size)}, а початок файлу
+ * береться з того самого файлу в попередній копії ланцюжка.
+ * <p>
+ * Зберігається текстом, поля розділені табуляцією; файл опису з'являється атомарно останнім,
+ * тому копія без опису вважається незавершеною.
+ *
+ * @param id ідентифікатор копії (назва її директорії)
+ * @param parent попередня копія ланцюжка або {@code null} для повної копії
+ * @param created момент знімка
+ * @param entries файли за шляхом відносно директорії даних
+ */
+public record BackupManifest(String id, String parent, Instant created,
+    Map<String, Entry> entries) {
+
+  static final String FILE_NAME = "manifest.tsv";
+
+  private static final String SEPARATOR = "\t";
+  private static final String NONE = "-";
+
+  /**
+   * Спосіб збереження файлу.
+   */
+  public enum Kind {
+    /** Файл, що замінюється цілком; зберігається повністю. */
+    FULL,
+    /** Журнал, що лише дописується; зберігається сегментами. */
+    LOG
+  }
+
+  /**
+   * Файл даних у копії.
+   *
+   * @param path шлях відносно директорії даних (з {@code /})
+   * @param size розмір файлу на момент знімка
+   * @param from початок сегмента, збереженого в {@code holder} (для {@link Kind#FULL} - 0)
+   * @param holder копія, що зберігає вміст (сегмент)
+   * @param sha256 SHA-256 збереженого вмісту (сегмента)
+   * @param tail SHA-256 останніх байтів файлу - перевірка, що журнал лише дописувався
+   * @param fingerprint ключ файлу, розмір і час зміни - для пошуку незмінених файлів
+   */
+  public record Entry(String path, Kind kind, long size, long from, String holder, String sha256,
+      String tail, String fingerprint) {
+
+    /**
+     * Розмір вмісту, збереженого в {@code holder}.
+     */
+    public long storedSize() {
+      return size - from;
+    }
+  }
+
+  public Optional<Entry> entry(String path) {
+    return Optional.ofNullable(entries.get(path));
+  }
+
+  /**
+   * Сумарний розмір файлів даних на момент знімка.
+   */
+  public long dataSize() {
+    return entries.values().stream().mapToLong(Entry::size).sum();
+  }
+
+  /**
+   * Записує опис у директорію копії (через тимчасовий файл і атомарну заміну).
+   */
+  void write(Path directory) {
+    List<String> lines = new ArrayList<>(entries.size() + 1);
+    lines.add(String.join(SEPARATOR, "backup", id, parent == null ? NONE : parent,
+        created.toString()));
+    for (Entry e : entries.values()) {
+      lines.add(String.join(SEPARATOR, "file", e.path(), e.kind().name(),
+          String.valueOf(e.size()), String.valueOf(e.from()), e.holder(), e.sha256(),
+          e.tail() == null ? NONE : e.tail(), e.fingerprint()));
+    }
+
+    Path file = directory.resolve(FILE_NAME);
+    Path tmp = directory.resolve(FILE_NAME + ".tmp");
+    try {
+      Files.write(tmp, lines, StandardCharsets.UTF_8);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося записати опис резервної копії: " + file, e);
+    }
+  }
+
+  /**
+   * Читає опис копії; порожньо, якщо копія незавершена (опису немає).
+   */
+  static Optional<BackupManifest> read(Path directory) {
+    Path file = directory.resolve(FILE_NAME);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    try {
+      List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+      String[] header = lines.isEmpty() ? new String[0] : lines.get(0).split(SEPARATOR);
+      if (header.length != 4 || !header[0].equals("backup")) {
+        throw new StorageException("Невідомий формат опису резервної копії: " + file);
+      }
+
+      Map<String, Entry> entries = new LinkedHashMap<>();
+      for (String line : lines.subList(1, lines.size())) {
+        String[] f = line.split(SEPARATOR);
+        if (f.length != 9 || !f[0].equals("file")) {
+          throw new StorageException("Пошкоджений рядок опису резервної копії " + file + ": "
+              + line);
+        }
+        entries.put(f[1], new Entry(f[1], Kind.valueOf(f[2]), Long.parseLong(f[3]),
+            Long.parseLong(f[4]), f[5], f[6], f[7].equals(NONE) ? null : f[7], f[8]));
+      }
+      return Optional.of(new BackupManifest(header[1], header[2].equals(NONE) ? null : header[2],
+          Instant.parse(header[3]), entries));
+
+    } catch (IOException | IllegalArgumentException e) {
+      throw new StorageException("Не вдалося прочитати опис резервної копії: " + file, e);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.pr.infrastructure.storage.backup;
+
+/**
+ * Підсумок створення резервної копії.
+ *
+ * @param manifest опис створеної копії
+ * @param pauseNanos скільки записи стояли під час знімка
+ * @param totalNanos загальна тривалість копіювання
+ * @param copiedFiles файлів (або сегментів журналів), скопійованих у цю копію
+ * @param reusedFiles незмінених файлів, взятих з попередніх копій
+ * @param copiedBytes байтів, скопійованих у цю копію
+ */
+public record BackupResult(BackupManifest manifest, long pauseNanos, long totalNanos,
+    int copiedFiles, int reusedFiles, long copiedBytes) {
+
+  public boolean isIncremental() {
+    return manifest.parent() != null;
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.pr.infrastructure.storage.contract;
+
+import java.util.UUID;
+
+/**
+ * Каскадне видалення виборів, виборців та кандидатів разом із залежними даними: видалення
+ * застосовується або до всіх задіяних сховищ, або до жодного.
+ */
+public interface CascadeDeleter {
+
+  /**
+   * Видаляє вибори разом з їх кандидатами та голосами.
+   */
+  void deleteElection(UUID electionId);
+
+  /**
+   * Видаляє виборця разом з його голосами.
+   */
+  void deleteVoter(UUID voterId);
+
+  /**
+   * Видаляє кандидата разом з голосами за нього.
+   */
+  void deleteCandidate(UUID candidateId);
+}
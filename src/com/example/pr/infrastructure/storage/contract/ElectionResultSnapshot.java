@@ -0,0 +1,58 @@
+package com.example.pr.infrastructure.storage.contract;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Підсумки завершених виборів, зафіксовані в момент закриття.
+ * <p>
+ * Імена кандидатів і назви партій та регіонів зберігаються разом із числами, тому підсумки не
+ * залежать від пізніших змін довідкових даних.
+ *
+ * @param electionId  ID виборів
+ * @param finalizedAt момент фіксації підсумків
+ * @param candidates  голоси за кожного кандидата
+ * @param regions     голоси за кандидатів у розрізі регіонів виборців
+ */
+public record ElectionResultSnapshot(
+    UUID electionId,
+    LocalDateTime finalizedAt,
+    List<CandidateResult> candidates,
+    List<RegionResult> regions
+) {
+
+  public ElectionResultSnapshot {
+    candidates = List.copyOf(candidates);
+    regions = List.copyOf(regions);
+  }
+
+  /**
+   * Загальна кількість голосів.
+   */
+  public long totalVotes() {
+    return candidates.stream().mapToLong(CandidateResult::votes).sum();
+  }
+
+  /**
+   * Голоси за кандидата.
+   */
+  public record CandidateResult(UUID candidateId, String fullName, String partyName, long votes) {
+
+  }
+
+  /**
+   * Голоси за кандидатів у регіоні; {@code regionId == null} - виборці без відомого регіону.
+   */
+  public record RegionResult(UUID regionId, String regionName, Map<UUID, Long> votesByCandidate) {
+
+    public RegionResult {
+      votesByCandidate = Map.copyOf(votesByCandidate);
+    }
+
+    public long totalVotes() {
+      return votesByCandidate.values().stream().mapToLong(Long::longValue).sum();
+    }
+  }
+}
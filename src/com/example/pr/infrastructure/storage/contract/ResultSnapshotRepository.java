@@ -0,0 +1,25 @@
+package com.example.pr.infrastructure.storage.contract;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Сховище підсумків завершених виборів.
+ */
+public interface ResultSnapshotRepository {
+
+  /**
+   * Знаходить підсумки виборів.
+   */
+  Optional<ElectionResultSnapshot> findByElectionId(UUID electionId);
+
+  /**
+   * Зберігає (або замінює) підсумки виборів.
+   */
+  void save(ElectionResultSnapshot snapshot);
+
+  /**
+   * Видаляє підсумки виборів.
+   */
+  void deleteByElectionId(UUID electionId);
+}
@@ -2,7 +2,11 @@ package com.example.pr.infrastructure.storage.contract;
 
 import com.example.pr.domain.impl.Vote;
 import com.example.pr.infrastructure.storage.Repository;
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import com.example.pr.infrastructure.storage.audit.ConsistencyProof;
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -48,6 +52,22 @@ public interface VoteRepository extends Repository<Vote> {
    */
   long countByCandidateAndElection(UUID candidateId, UUID electionId);
 
+  /**
+   * Підраховує голоси за кожного кандидата на виборах (з однієї версії даних).
+   */
+  Map<UUID, Long> countByCandidateInElection(UUID electionId);
+
+  /**
+   * Переводить голоси закритих виборів у компактне сховище лише для читання.
+   */
+  void freezeElection(UUID electionId);
+
+  /**
+   * Вивантажує голоси закритих виборів з пам'яті; лічильники залишаються, а самі голоси будуть
+   * прочитані з файлу при наступному зверненні до них.
+   */
+  void unloadElection(UUID electionId);
+
   /**
    * Видаляє всі голоси на виборах.
    */
@@ -62,4 +82,21 @@ public interface VoteRepository extends Repository<Vote> {
    * Видаляє всі голоси за кандидата.
    */
   void deleteByCandidateId(UUID candidateId);
+
+  /**
+   * Поточний стан журналу аудиту виборів: кількість записаних голосів і корінь дерева Меркла.
+   */
+  AuditCheckpoint auditCheckpoint(UUID electionId);
+
+  /**
+   * Доказ включення голосу до журналу аудиту виборів. Голос лишається у журналі і після
+   * видалення.
+   */
+  Optional<InclusionProof> proveInclusion(UUID electionId, UUID voteId);
+
+  /**
+   * Доказ того, що поточний журнал аудиту виборів лише продовжує журнал з {@code oldSize}
+   * голосів.
+   */
+  ConsistencyProof proveConsistency(UUID electionId, long oldSize);
 }
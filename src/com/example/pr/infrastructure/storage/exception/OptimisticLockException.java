@@ -0,0 +1,40 @@
+package com.example.pr.infrastructure.storage.exception;
+
+import java.util.UUID;
+
+/**
+ * Сутність змінили або видалили після того, як її прочитав записувач: збереження відхилено, щоб не
+ * перезаписати чужі зміни. Записувач має перечитати сутність і повторити зміну.
+ */
+public class OptimisticLockException extends StorageException {
+
+  private final UUID entityId;
+  private final long expectedVersion;
+  private final long actualVersion;
+
+  /**
+   * @param actualVersion поточна версія у сховищі або {@code -1}, якщо сутність видалено
+   */
+  public OptimisticLockException(UUID entityId, long expectedVersion, long actualVersion) {
+    super(actualVersion < 0
+        ? String.format("Сутність %s видалено після читання (версія %d)", entityId,
+            expectedVersion)
+        : String.format("Сутність %s змінено після читання: очікувалась версія %d, поточна %d",
+            entityId, expectedVersion, actualVersion));
+    this.entityId = entityId;
+    this.expectedVersion = expectedVersion;
+    this.actualVersion = actualVersion;
+  }
+
+  public UUID getEntityId() {
+    return entityId;
+  }
+
+  public long getExpectedVersion() {
+    return expectedVersion;
+  }
+
+  public long getActualVersion() {
+    return actualVersion;
+  }
+}
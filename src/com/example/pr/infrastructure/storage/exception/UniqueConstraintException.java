@@ -0,0 +1,20 @@
+package com.example.pr.infrastructure.storage.exception;
+
+/**
+ * Запис порушує унікальність: у сховищі вже є інший рядок з тим самим значенням (email чи паспорт
+ * виборця, голос виборця на тих самих виборах). Буває, коли перевірку сервісу і запис розділяє
+ * паралельний запис; сервіси перетворюють виняток на помилку предметної області.
+ */
+public class UniqueConstraintException extends StorageException {
+
+  private final String table;
+
+  public UniqueConstraintException(String table, Throwable cause) {
+    super("Порушено унікальність значень у таблиці " + table, cause);
+    this.table = table;
+  }
+
+  public String getTable() {
+    return table;
+  }
+}
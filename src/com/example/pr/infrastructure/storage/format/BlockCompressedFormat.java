@@ -0,0 +1,644 @@
+package com.example.pr.infrastructure.storage.format;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Формат з незалежно стиснутими блоками, контрольними сумами та індексом блоків.
+ * <p>
+ * Сутності впорядковуються за ID і діляться на блоки по {@code blockSize}. Кожна сутність
+ * серіалізується окремим потоком у власну рамку з позицією у списку, ID та контрольною сумою
+ * CRC32C; рамки блоку стискаються Deflater разом, тож повторювані описи класів майже не займають
+ * місця. Індекс в кінці файлу зберігає для кожного блоку зміщення, довжину та діапазон ID, тому
+ * точковий пошук читає і розпаковує лише один блок, а повне читання розпаковує блоки паралельно.
+ * <p>
+ * Пошкодження локалізуються до окремих записів: з блоку з невірною контрольною сумою беруться
+ * записи, чиї власні суми збігаються, а якщо пошкоджено індекс, блоки знаходяться послідовним
+ * проходом за їх заголовками.
+ * <p>
+ * Будова файлу:
+ * <pre>
+ * int MAGIC, int VERSION
+ * блок: int compressedLength, int rawLength, int count, int crc, byte[compressedLength]
+ *   розпакований: (int position, UUID id, int length, int crc, byte[length] entity) x count
+ * індекс: int blocks, (long offset, int length, int count, UUID first, UUID last) x blocks, int crc
+ * long indexOffset, int MAGIC
+ * </pre>
+ * Сума блоку охоплює його заголовок і стиснуті дані, сума рамки - заголовок рамки і запис.
+ */
+final class BlockCompressedFormat implements StorageFormat {
+
+  private static final int MAGIC = 0x5654424B; // "VTBK"
+  private static final int FORMAT_VERSION = 2;
+  private static final int HEADER_SIZE = Integer.BYTES * 2;
+  private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+  private static final int BLOCK_HEADER_SIZE = Integer.BYTES * 4;
+  private static final int FRAME_HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES * 2;
+  private static final int INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES * 2 + Long.BYTES * 4;
+  private static final int BUFFER_SIZE = 8192;
+
+  // Deflate стискає не більше ніж у ~1032 рази - більший розмір у заголовку означає пошкодження
+  private static final int MAX_RATIO = 1032;
+
+  private final int blockSize;
+  private final int compressionLevel;
+
+  BlockCompressedFormat(int blockSize, int compressionLevel) {
+    this.blockSize = blockSize;
+    this.compressionLevel = compressionLevel;
+  }
+
+  @Override
+  public String name() {
+    return "blocks";
+  }
+
+  @Override
+  public boolean matches(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  @Override
+  public <T extends Entity> void write(Path target, List<T> entities) {
+    // Позиції сутностей у списку, впорядковані за ID
+    Integer[] order = new Integer[entities.size()];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, Comparator.comparing(i -> entities.get(i).getId()));
+
+    int blocks = (order.length + blockSize - 1) / blockSize;
+    Deflater deflater = new Deflater(compressionLevel);
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(target.toFile()), BUFFER_SIZE))) {
+
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+
+      ByteBuffer index = ByteBuffer.allocate(Integer.BYTES * 2 + blocks * INDEX_ENTRY_SIZE);
+      index.putInt(blocks);
+      long offset = HEADER_SIZE;
+      for (int b = 0; b < blocks; b++) {
+        int from = b * blockSize;
+        int to = Math.min(from + blockSize, order.length);
+        byte[] raw = frames(entities, order, from, to);
+        byte[] compressed = deflate(deflater, raw);
+
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE)
+            .putInt(compressed.length).putInt(raw.length).putInt(to - from);
+        CRC32C crc = new CRC32C();
+        crc.update(header.array(), 0, header.position());
+        crc.update(compressed);
+        header.putInt((int) crc.getValue());
+        out.write(header.array());
+        out.write(compressed);
+
+        index.putLong(offset).putInt(compressed.length).putInt(to - from);
+        putUuid(index, entities.get(order[from]).getId());
+        putUuid(index, entities.get(order[to - 1]).getId());
+        offset += BLOCK_HEADER_SIZE + compressed.length;
+      }
+      CRC32C crc = new CRC32C();
+      crc.update(index.array(), 0, index.position());
+      index.putInt((int) crc.getValue());
+
+      out.write(index.array());
+      out.writeLong(offset);
+      out.writeInt(MAGIC);
+
+    } catch (IOException e) {
+      throw new StorageException("Помилка запису у бінарний файл: " + target, e);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> List<T> read(Path source, Consumer<Damage> onDamage) {
+    ByteBuffer file;
+    try {
+      file = ByteBuffer.wrap(Files.readAllBytes(source));
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання з бінарного файлу: " + source, e);
+    }
+    if (!validHeader(file)) {
+      throw new StorageException("Невідомий формат або версія файлу: " + source);
+    }
+
+    // Блоки розбираються паралельно, а обробник пошкоджень отримує їх по одному
+    Consumer<Damage> sink = damage -> {
+      synchronized (onDamage) {
+        onDamage.accept(damage);
+      }
+    };
+    List<BlockRef> blocks = locateBlocks(file, sink);
+    long end = blocksEnd(file);
+    List<List<Positioned>> decoded = blocks.parallelStream()
+        .map(block -> decodeBlock(file, block, end, sink))
+        .toList();
+
+    List<Positioned> all = new ArrayList<>();
+    decoded.forEach(all::addAll);
+    all.sort(Comparator.comparingInt(Positioned::position));
+
+    List<T> result = new ArrayList<>(all.size());
+    int previous = -1;
+    for (Positioned entry : all) {
+      if (entry.position() == previous) {
+        sink.accept(new Damage(-1, entry.position(), 1, "Повторна позиція запису"));
+        continue;
+      }
+      previous = entry.position();
+      result.add((T) entry.entity());
+    }
+    return result;
+  }
+
+  @Override
+  public boolean supportsLookup() {
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> Optional<T> find(Path source, UUID id) {
+    try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE + TRAILER_SIZE) {
+        throw new StorageException("Пошкоджений файл: " + source);
+      }
+      ByteBuffer trailer = readFully(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+      long indexOffset = trailer.getLong();
+      if (trailer.getInt() != MAGIC || indexOffset < HEADER_SIZE
+          || indexOffset > size - TRAILER_SIZE) {
+        throw new StorageException("Пошкоджений індекс блоків у файлі: " + source);
+      }
+      BlockIndex index = BlockIndex.parse(
+          readFully(channel, indexOffset, (int) (size - TRAILER_SIZE - indexOffset)));
+      if (index == null) {
+        throw new StorageException("Пошкоджений індекс блоків у файлі: " + source);
+      }
+
+      int block = index.blockOf(id);
+      if (block < 0) {
+        return Optional.empty();
+      }
+      ByteBuffer bytes = readFully(channel, index.offsets[block],
+          BLOCK_HEADER_SIZE + index.lengths[block]);
+      if (!validBlockHeader(bytes, 0, bytes.limit()) || !blockChecksumMatches(bytes, 0)) {
+        throw new StorageException("Пошкоджений блок даних у файлі: " + source);
+      }
+      RawBlock raw = inflate(bytes, 0);
+      if (raw.error() != null) {
+        throw new StorageException("Пошкоджений блок даних у файлі: " + source);
+      }
+
+      Frame[] found = new Frame[1];
+      scanFrames(raw, frame -> {
+        if (frame.id().equals(id)) {
+          found[0] = frame;
+          return true;
+        }
+        return false;
+      });
+      if (found[0] == null) {
+        return Optional.empty();
+      }
+      if (!found[0].intact()) {
+        throw new StorageException("Пошкоджений запис " + id + " у файлі: " + source);
+      }
+      return Optional.of((T) deserialize(raw.data(), found[0]));
+
+    } catch (IOException | ClassNotFoundException e) {
+      throw new StorageException("Помилка читання з бінарного файлу: " + source, e);
+    }
+  }
+
+  @Override
+  public Verification verify(ByteBuffer file) {
+    List<Damage> damages = new ArrayList<>();
+    if (!validHeader(file)) {
+      damages.add(new Damage(0, -1, 0, "Невідомий заголовок або версія файлу"));
+      return new Verification(true, 0, damages);
+    }
+
+    long records = 0;
+    long end = blocksEnd(file);
+    for (BlockRef block : locateBlocks(file, damages::add)) {
+      long offset = block.offset();
+      if (!validBlockHeader(file, offset, end)) {
+        records += Math.max(block.count(), 0);
+        damages.add(new Damage(offset, -1, Math.max(block.count(), 0),
+            "Пошкоджений заголовок блоку"));
+        continue;
+      }
+      int count = file.getInt((int) offset + Integer.BYTES * 2);
+      records += count;
+      if (blockChecksumMatches(file, offset)) {
+        continue;
+      }
+      // Розпаковуються лише пошкоджені блоки - щоб знайти, які саме записи втрачено
+      RawBlock raw = inflate(file, offset);
+      int[] parsed = new int[1];
+      scanFrames(raw, frame -> {
+        parsed[0]++;
+        if (!frame.intact()) {
+          damages.add(new Damage(offset, frame.position(), 1,
+              "Контрольна сума запису не збігається"));
+        }
+        return false;
+      });
+      damages.add(new Damage(offset, -1, count - parsed[0], blockProblem(raw, parsed[0])));
+    }
+    return new Verification(true, records, damages);
+  }
+
+  // ==================== Запис ====================
+
+  private static byte[] frames(List<? extends Entity> entities, Integer[] order, int from, int to)
+      throws IOException {
+    ByteArrayOutputStream block = new ByteArrayOutputStream();
+    ByteArrayOutputStream record = new ByteArrayOutputStream(512);
+    ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+    CRC32C crc = new CRC32C();
+
+    for (int i = from; i < to; i++) {
+      Entity entity = entities.get(order[i]);
+      record.reset();
+      try (ObjectOutputStream oos = new ObjectOutputStream(record)) {
+        oos.writeObject(entity);
+      }
+      byte[] payload = record.toByteArray();
+
+      header.clear();
+      header.putInt(order[i]);
+      putUuid(header, entity.getId());
+      header.putInt(payload.length);
+      crc.reset();
+      crc.update(header.array(), 0, header.position());
+      crc.update(payload);
+      header.putInt((int) crc.getValue());
+
+      block.write(header.array());
+      block.write(payload);
+    }
+    return block.toByteArray();
+  }
+
+  private static byte[] deflate(Deflater deflater, byte[] raw) {
+    deflater.reset();
+    deflater.setInput(raw);
+    deflater.finish();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+    byte[] buffer = new byte[BUFFER_SIZE];
+    while (!deflater.finished()) {
+      out.write(buffer, 0, deflater.deflate(buffer));
+    }
+    return out.toByteArray();
+  }
+
+  // ==================== Читання ====================
+
+  private static boolean validHeader(ByteBuffer file) {
+    return file.limit() >= HEADER_SIZE && file.getInt(0) == MAGIC
+        && file.getInt(Integer.BYTES) == FORMAT_VERSION;
+  }
+
+  /**
+   * Зміщення блоків: з індексу, а якщо він пошкоджений - послідовним проходом заголовками блоків.
+   */
+  private static List<BlockRef> locateBlocks(ByteBuffer file, Consumer<Damage> onDamage) {
+    long indexOffset = indexOffset(file);
+    if (indexOffset >= 0) {
+      BlockIndex index = BlockIndex.parse(file.slice((int) indexOffset,
+          file.limit() - TRAILER_SIZE - (int) indexOffset));
+      if (index != null) {
+        return IntStream.range(0, index.offsets.length)
+            .mapToObj(b -> new BlockRef(index.offsets[b], index.counts[b]))
+            .toList();
+      }
+    }
+    onDamage.accept(new Damage(indexOffset >= 0 ? indexOffset : file.limit(), -1, 0,
+        "Пошкоджений індекс блоків, блоки знайдено послідовним проходом"));
+
+    long end = blocksEnd(file);
+    List<BlockRef> blocks = new ArrayList<>();
+    long offset = HEADER_SIZE;
+    while (offset < end) {
+      if (!validBlockHeader(file, offset, end)) {
+        onDamage.accept(new Damage(offset, -1, 0,
+            "Пошкоджений заголовок блоку, решту файлу не прочитано"));
+        break;
+      }
+      blocks.add(new BlockRef(offset, -1));
+      offset += BLOCK_HEADER_SIZE + file.getInt((int) offset);
+    }
+    return blocks;
+  }
+
+  /**
+   * Зміщення індексу з кінця файлу або {@code -1}, якщо кінець файлу пошкоджено.
+   */
+  private static long indexOffset(ByteBuffer file) {
+    int size = file.limit();
+    if (size < HEADER_SIZE + TRAILER_SIZE || file.getInt(size - Integer.BYTES) != MAGIC) {
+      return -1;
+    }
+    long offset = file.getLong(size - TRAILER_SIZE);
+    return offset >= HEADER_SIZE && offset <= size - TRAILER_SIZE ? offset : -1;
+  }
+
+  /**
+   * Межа області блоків: початок індексу або кінець файлу.
+   */
+  private static long blocksEnd(ByteBuffer file) {
+    long indexOffset = indexOffset(file);
+    return indexOffset >= 0 ? indexOffset : file.limit();
+  }
+
+  private static boolean validBlockHeader(ByteBuffer file, long offset, long end) {
+    if (offset < 0 || offset + BLOCK_HEADER_SIZE > end) {
+      return false;
+    }
+    int at = (int) offset;
+    int compressed = file.getInt(at);
+    int raw = file.getInt(at + Integer.BYTES);
+    int count = file.getInt(at + Integer.BYTES * 2);
+    return compressed >= 0 && offset + BLOCK_HEADER_SIZE + compressed <= end
+        && raw >= 0 && raw <= (long) compressed * MAX_RATIO + BUFFER_SIZE
+        && count >= 0 && (long) count * FRAME_HEADER_SIZE <= raw;
+  }
+
+  private static boolean blockChecksumMatches(ByteBuffer file, long offset) {
+    int at = (int) offset;
+    CRC32C crc = new CRC32C();
+    crc.update(file.slice(at, Integer.BYTES * 3));
+    crc.update(file.slice(at + BLOCK_HEADER_SIZE, file.getInt(at)));
+    return (int) crc.getValue() == file.getInt(at + Integer.BYTES * 3);
+  }
+
+  /**
+   * Читає записи блоку; пошкоджені записи пропускаються з повідомленням.
+   */
+  private static List<Positioned> decodeBlock(ByteBuffer file, BlockRef block, long end,
+      Consumer<Damage> onDamage) {
+    long offset = block.offset();
+    if (!validBlockHeader(file, offset, end)) {
+      onDamage.accept(new Damage(offset, -1, Math.max(block.count(), 0),
+          "Пошкоджений заголовок блоку"));
+      return List.of();
+    }
+    boolean intact = blockChecksumMatches(file, offset);
+    RawBlock raw = inflate(file, offset);
+    List<Positioned> entities = new ArrayList<>(raw.count());
+    int[] parsed = new int[1];
+    scanFrames(raw, frame -> {
+      parsed[0]++;
+      if (!frame.intact()) {
+        onDamage.accept(new Damage(offset, frame.position(), 1,
+            "Контрольна сума запису не збігається"));
+        return false;
+      }
+      try {
+        entities.add(new Positioned(frame.position(), deserialize(raw.data(), frame)));
+      } catch (IOException | ClassNotFoundException e) {
+        onDamage.accept(new Damage(offset, frame.position(), 1,
+            "Запис не десеріалізується: " + e.getMessage()));
+      }
+      return false;
+    });
+    if (!intact || raw.error() != null || parsed[0] < raw.count()) {
+      onDamage.accept(new Damage(offset, -1, raw.count() - parsed[0],
+          blockProblem(raw, parsed[0])));
+    }
+    return entities;
+  }
+
+  private static String blockProblem(RawBlock raw, int parsed) {
+    if (raw.error() != null) {
+      return "Блок не розпаковується: " + raw.error();
+    }
+    if (parsed < raw.count()) {
+      return "Блок обірвано";
+    }
+    return "Контрольна сума блоку не збігається, записи з вірними сумами прочитано";
+  }
+
+  /**
+   * Розпаковує блок із заголовком за зміщенням {@code offset}. Якщо стиснуті дані пошкоджені,
+   * повертає частину, розпаковану до місця пошкодження.
+   */
+  private static RawBlock inflate(ByteBuffer file, long offset) {
+    int at = (int) offset;
+    int compressed = file.getInt(at);
+    byte[] raw = new byte[file.getInt(at + Integer.BYTES)];
+    int count = file.getInt(at + Integer.BYTES * 2);
+
+    int inflated = 0;
+    String error = null;
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(file.slice(at + BLOCK_HEADER_SIZE, compressed));
+      while (inflated < raw.length && !inflater.finished()) {
+        int n = inflater.inflate(raw, inflated, raw.length - inflated);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          error = "стиснуті дані обірвано";
+          break;
+        }
+        inflated += n;
+      }
+    } catch (DataFormatException e) {
+      // Розпаковане до помилки вже у буфері - рамки в ньому перевіряються власними сумами
+      inflated = (int) inflater.getBytesWritten();
+      error = e.getMessage();
+    } finally {
+      inflater.end();
+    }
+    return new RawBlock(raw, inflated, count, error);
+  }
+
+  /**
+   * Проходить рамками розпакованого блоку, доки обробник не поверне {@code true} або не
+   * трапиться рамка з неможливою довжиною.
+   */
+  private static void scanFrames(RawBlock raw, FrameVisitor visitor) {
+    ByteBuffer buffer = ByteBuffer.wrap(raw.data(), 0, raw.length());
+    CRC32C crc = new CRC32C();
+    int at = 0;
+    for (int i = 0; i < raw.count() && at + FRAME_HEADER_SIZE <= raw.length(); i++) {
+      int position = buffer.getInt(at);
+      UUID id = new UUID(buffer.getLong(at + Integer.BYTES),
+          buffer.getLong(at + Integer.BYTES + Long.BYTES));
+      int length = buffer.getInt(at + Integer.BYTES + Long.BYTES * 2);
+      int payload = at + FRAME_HEADER_SIZE;
+      if (length < 0 || (long) payload + length > raw.length()) {
+        return;
+      }
+      crc.reset();
+      crc.update(raw.data(), at, FRAME_HEADER_SIZE - Integer.BYTES);
+      crc.update(raw.data(), payload, length);
+      boolean intact = (int) crc.getValue() == buffer.getInt(payload - Integer.BYTES);
+
+      if (visitor.visit(new Frame(position, id, payload, length, intact))) {
+        return;
+      }
+      at = payload + length;
+    }
+  }
+
+  private static Entity deserialize(byte[] data, Frame frame)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream ois = new CachingObjectInputStream(
+        new ByteArrayInputStream(data, frame.offset(), frame.length()))) {
+      Object entity = ois.readObject();
+      if (!(entity instanceof Entity)) {
+        throw new InvalidObjectException("Запис не є сутністю: " + entity);
+      }
+      return (Entity) entity;
+    }
+  }
+
+  private static ByteBuffer readFully(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Файл обірвано");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID id) {
+    buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  /**
+   * Розпакований, можливо частково, блок.
+   *
+   * @param length кількість розпакованих байтів
+   * @param count  кількість записів за заголовком блоку
+   * @param error  причина, з якої блок не розпаковано до кінця, або {@code null}
+   */
+  private record RawBlock(byte[] data, int length, int count, String error) {
+
+  }
+
+  /**
+   * Рамка запису в розпакованому блоці; {@code offset} - зміщення серіалізованої сутності.
+   */
+  private record Frame(int position, UUID id, int offset, int length, boolean intact) {
+
+  }
+
+  /**
+   * Блок у файлі; {@code count} - кількість записів за індексом або {@code -1}, якщо індекс
+   * пошкоджено.
+   */
+  private record BlockRef(long offset, int count) {
+
+  }
+
+  private record Positioned(int position, Entity entity) {
+
+  }
+
+  @FunctionalInterface
+  private interface FrameVisitor {
+
+    /**
+     * @return {@code true}, щоб зупинити прохід
+     */
+    boolean visit(Frame frame);
+  }
+
+  /**
+   * Індекс блоків: зміщення, довжини, кількість сутностей і діапазони ID.
+   */
+  private static final class BlockIndex {
+
+    final long[] offsets;
+    final int[] lengths;
+    final int[] counts;
+    final UUID[] first;
+    final UUID[] last;
+
+    private BlockIndex(int blocks) {
+      offsets = new long[blocks];
+      lengths = new int[blocks];
+      counts = new int[blocks];
+      first = new UUID[blocks];
+      last = new UUID[blocks];
+    }
+
+    /**
+     * Розбирає індекс і перевіряє його контрольну суму.
+     *
+     * @return індекс або {@code null}, якщо його пошкоджено
+     */
+    static BlockIndex parse(ByteBuffer buffer) {
+      int size = buffer.remaining();
+      int start = buffer.position();
+      int blocks = size >= Integer.BYTES * 2 ? buffer.getInt(start) : -1;
+      if (blocks < 0 || size != Integer.BYTES * 2 + (long) blocks * INDEX_ENTRY_SIZE) {
+        return null;
+      }
+      CRC32C crc = new CRC32C();
+      crc.update(buffer.slice(start, size - Integer.BYTES));
+      if ((int) crc.getValue() != buffer.getInt(start + size - Integer.BYTES)) {
+        return null;
+      }
+
+      buffer.getInt();
+      BlockIndex index = new BlockIndex(blocks);
+      for (int b = 0; b < blocks; b++) {
+        index.offsets[b] = buffer.getLong();
+        index.lengths[b] = buffer.getInt();
+        index.counts[b] = buffer.getInt();
+        index.first[b] = getUuid(buffer);
+        index.last[b] = getUuid(buffer);
+      }
+      return index;
+    }
+
+    /**
+     * Номер блоку, діапазон якого містить ID, або -1.
+     */
+    int blockOf(UUID id) {
+      int low = 0;
+      int high = offsets.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (last[mid].compareTo(id) < 0) {
+          low = mid + 1;
+        } else if (first[mid].compareTo(id) > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+  }
+}
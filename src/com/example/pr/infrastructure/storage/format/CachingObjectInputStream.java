@@ -0,0 +1,32 @@
+package com.example.pr.infrastructure.storage.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Потік десеріалізації з кешем класів. Кожен запис у форматі блоків - окремий потік з власними
+ * описами класів, і без кешу кожен опис означав би повторний пошук класу через завантажувач.
+ */
+final class CachingObjectInputStream extends ObjectInputStream {
+
+  private static final Map<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
+  CachingObjectInputStream(InputStream in) throws IOException {
+    super(in);
+  }
+
+  @Override
+  protected Class<?> resolveClass(ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException {
+    Class<?> type = CLASSES.get(desc.getName());
+    if (type == null) {
+      type = super.resolveClass(desc);
+      CLASSES.put(desc.getName(), type);
+    }
+    return type;
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.pr.infrastructure.storage.format;
+
+/**
+ * Пошкоджена ділянка файлу даних.
+ *
+ * @param offset   зміщення блоку (або структури) у файлі
+ * @param position позиція запису у списку сутностей або {@code -1}, якщо запис не визначено
+ * @param lost     кількість записів, які не вдалося прочитати через це пошкодження
+ * @param reason   опис пошкодження
+ */
+public record Damage(long offset, int position, int lost, String reason) {
+
+  @Override
+  public String toString() {
+    return "зміщення " + offset + (position >= 0 ? ", запис #" + position : "")
+        + ", втрачено записів: " + lost + " - " + reason;
+  }
+}
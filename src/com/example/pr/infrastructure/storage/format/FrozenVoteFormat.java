@@ -0,0 +1,256 @@
+package com.example.pr.infrastructure.storage.format;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.UuidDictionary;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Компактний формат голосів закритих виборів - стовпці примітивів з контрольними сумами.
+ * <p>
+ * Замість Java Serialization ID виборів записується один раз на файл, кандидати - таблицею в
+ * заголовку і номером у ній для кожного голосу, дати - як секунди та наносекунди. Записи голосів
+ * однакового розміру, тому пошкоджений запис не зсуває решту: кожен має власну суму CRC32C,
+ * заголовок - свою. Файли першої версії формату (без контрольних сум) читаються, але перевірити
+ * їх неможливо.
+ * <p>
+ * Будова файлу:
+ * <pre>
+ * int MAGIC, int VERSION, UUID electionId
+ * int candidates, UUID x candidates, int votes, int crc
+ * (UUID id, UUID voterId, int candidate, (long seconds, int nanos) x 3, int crc) x votes
+ * </pre>
+ * Сума заголовка охоплює всі його попередні байти, сума запису - сам запис.
+ */
+public final class FrozenVoteFormat implements StorageFormat {
+
+  private static final int MAGIC = 0x56544652; // "VTFR"
+  private static final int UNCHECKED_VERSION = 1;
+  private static final int FORMAT_VERSION = 2;
+  private static final int UUID_SIZE = Long.BYTES * 2;
+  private static final int DATE_SIZE = Long.BYTES + Integer.BYTES;
+  private static final int RECORD_SIZE = UUID_SIZE * 2 + Integer.BYTES + DATE_SIZE * 3;
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final long NULL_SECONDS = Long.MIN_VALUE;
+  // ID виборів файлу без голосів, записаного без явного ID виборів
+  private static final UUID NO_ELECTION = new UUID(0, 0);
+
+  FrozenVoteFormat() {
+  }
+
+  @Override
+  public String name() {
+    return "frozen-votes";
+  }
+
+  @Override
+  public boolean matches(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Записує голоси одних виборів; ID виборів береться з першого голосу.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> void write(Path target, List<T> entities) {
+    List<Vote> votes = (List<Vote>) entities;
+    write(target, votes.isEmpty() ? NO_ELECTION : votes.get(0).getElectionId(), votes);
+  }
+
+  /**
+   * Записує голоси виборів {@code electionId}.
+   */
+  public void write(Path target, UUID electionId, List<Vote> votes) {
+    UuidDictionary candidates = new UuidDictionary();
+    int[] candidateOrdinals = new int[votes.size()];
+    for (int i = 0; i < votes.size(); i++) {
+      UUID candidateId = votes.get(i).getCandidateId();
+      candidateOrdinals[i] = candidateId == null ? -1 : candidates.getOrAssign(candidateId);
+    }
+
+    try (OutputStream out = new BufferedOutputStream(
+        new FileOutputStream(target.toFile()), BUFFER_SIZE)) {
+
+      ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3 + UUID_SIZE
+          + UUID_SIZE * candidates.size() + Integer.BYTES * 2);
+      header.putInt(MAGIC);
+      header.putInt(FORMAT_VERSION);
+      putUuid(header, electionId);
+      header.putInt(candidates.size());
+      for (int ordinal = 0; ordinal < candidates.size(); ordinal++) {
+        putUuid(header, candidates.uuidAt(ordinal));
+      }
+      header.putInt(votes.size());
+      header.putInt(checksum(header, 0, header.position()));
+      out.write(header.array());
+
+      ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE + Integer.BYTES);
+      for (int i = 0; i < votes.size(); i++) {
+        Vote vote = votes.get(i);
+        record.clear();
+        putUuid(record, vote.getId());
+        putUuid(record, vote.getVoterId());
+        record.putInt(candidateOrdinals[i]);
+        putDateTime(record, vote.getTimestamp());
+        putDateTime(record, vote.getCreatedAt());
+        putDateTime(record, vote.getUpdatedAt());
+        record.putInt(checksum(record, 0, RECORD_SIZE));
+        out.write(record.array());
+      }
+
+    } catch (IOException e) {
+      throw new StorageException("Помилка запису сегмента голосів: " + target, e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> List<T> read(Path source, Consumer<Damage> onDamage) {
+    ByteBuffer file;
+    try {
+      file = ByteBuffer.wrap(Files.readAllBytes(source));
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання сегмента голосів: " + source, e);
+    }
+    if (version(file) < 0) {
+      throw new StorageException("Невідомий формат сегмента голосів: " + source);
+    }
+    List<Vote> votes = new ArrayList<>();
+    scan(file, onDamage, votes);
+    return (List<T>) votes;
+  }
+
+  @Override
+  public Verification verify(ByteBuffer file) {
+    int version = version(file);
+    if (version == UNCHECKED_VERSION) {
+      return Verification.UNCHECKED;
+    }
+    List<Damage> damages = new ArrayList<>();
+    if (version < 0) {
+      damages.add(new Damage(0, -1, 0, "Невідомий заголовок або версія файлу"));
+      return new Verification(true, 0, damages);
+    }
+    long records = scan(file, damages::add, null);
+    return new Verification(true, records, damages);
+  }
+
+  // ==================== Internal ====================
+
+  /**
+   * Версія формату файлу або {@code -1}, якщо заголовок невідомий.
+   */
+  private static int version(ByteBuffer file) {
+    if (file.limit() < Integer.BYTES * 2 || file.getInt(0) != MAGIC) {
+      return -1;
+    }
+    int version = file.getInt(Integer.BYTES);
+    return version == UNCHECKED_VERSION || version == FORMAT_VERSION ? version : -1;
+  }
+
+  /**
+   * Проходить записи файлу відомої версії, повідомляючи про пошкоджені. Якщо {@code votes} не
+   * {@code null}, додає до нього вцілілі голоси.
+   *
+   * @return кількість записів за заголовком
+   */
+  private static int scan(ByteBuffer file, Consumer<Damage> onDamage, List<Vote> votes) {
+    boolean checked = file.getInt(Integer.BYTES) == FORMAT_VERSION;
+    int at = Integer.BYTES * 2;
+    if (file.limit() - at < UUID_SIZE + Integer.BYTES) {
+      onDamage.accept(new Damage(0, -1, 0, "Файл обрізано в заголовку"));
+      return 0;
+    }
+    UUID electionId = uuidAt(file, at);
+    int candidateCount = file.getInt(at + UUID_SIZE);
+    at += UUID_SIZE + Integer.BYTES;
+    int countSize = checked ? Integer.BYTES * 2 : Integer.BYTES;
+    if (candidateCount < 0 || (long) candidateCount * UUID_SIZE + countSize > file.limit() - at) {
+      onDamage.accept(new Damage(0, -1, 0, "Пошкоджена таблиця кандидатів"));
+      return 0;
+    }
+    UUID[] candidates = new UUID[candidateCount];
+    for (int ordinal = 0; ordinal < candidateCount; ordinal++, at += UUID_SIZE) {
+      candidates[ordinal] = uuidAt(file, at);
+    }
+    int count = file.getInt(at);
+    at += Integer.BYTES;
+    if (checked) {
+      if (checksum(file, 0, at) != file.getInt(at)) {
+        onDamage.accept(new Damage(0, -1, Math.max(count, 0),
+            "Невірна контрольна сума заголовка"));
+        return Math.max(count, 0);
+      }
+      at += Integer.BYTES;
+    }
+
+    int recordSize = checked ? RECORD_SIZE + Integer.BYTES : RECORD_SIZE;
+    for (int i = 0; i < count; i++, at += recordSize) {
+      if (file.limit() - at < recordSize) {
+        onDamage.accept(new Damage(at, i, count - i, "Файл обрізано"));
+        break;
+      }
+      if (checked && checksum(file, at, RECORD_SIZE) != file.getInt(at + RECORD_SIZE)) {
+        onDamage.accept(new Damage(at, i, 1, "Невірна контрольна сума запису"));
+        continue;
+      }
+      int candidate = file.getInt(at + UUID_SIZE * 2);
+      if (candidate < -1 || candidate >= candidates.length) {
+        onDamage.accept(new Damage(at, i, 1, "Невідомий номер кандидата " + candidate));
+        continue;
+      }
+      if (votes != null) {
+        int dates = at + UUID_SIZE * 2 + Integer.BYTES;
+        votes.add(Vote.restore(uuidAt(file, at), dateTimeAt(file, dates + DATE_SIZE),
+            dateTimeAt(file, dates + DATE_SIZE * 2), uuidAt(file, at + UUID_SIZE),
+            candidate < 0 ? null : candidates[candidate], electionId,
+            dateTimeAt(file, dates)));
+      }
+    }
+    return count;
+  }
+
+  private static int checksum(ByteBuffer buffer, int offset, int length) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(offset, length));
+    return (int) crc.getValue();
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID id) {
+    buffer.putLong(id.getMostSignificantBits());
+    buffer.putLong(id.getLeastSignificantBits());
+  }
+
+  private static UUID uuidAt(ByteBuffer buffer, int offset) {
+    return new UUID(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+  }
+
+  private static void putDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+    if (dateTime == null) {
+      buffer.putLong(NULL_SECONDS);
+      buffer.putInt(0);
+    } else {
+      buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+      buffer.putInt(dateTime.getNano());
+    }
+  }
+
+  private static LocalDateTime dateTimeAt(ByteBuffer buffer, int offset) {
+    long seconds = buffer.getLong(offset);
+    return seconds == NULL_SECONDS ? null : LocalDateTime.ofEpochSecond(seconds,
+        buffer.getInt(offset + Long.BYTES), ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.pr.infrastructure.storage.format;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Початковий формат: весь список сутностей одним об'єктом Java Serialization.
+ * Контрольних сум немає: пошкоджений файл не читається взагалі.
+ */
+final class SerializedFormat implements StorageFormat {
+
+  // Заголовок потоку ObjectOutputStream: STREAM_MAGIC 0xACED
+  private static final byte MAGIC_0 = (byte) 0xAC;
+  private static final byte MAGIC_1 = (byte) 0xED;
+
+  @Override
+  public String name() {
+    return "serialized";
+  }
+
+  @Override
+  public boolean matches(byte[] header) {
+    return header.length >= 2 && header[0] == MAGIC_0 && header[1] == MAGIC_1;
+  }
+
+  @Override
+  public <T extends Entity> void write(Path target, List<T> entities) {
+    try (ObjectOutputStream oos = new ObjectOutputStream(
+        new BufferedOutputStream(new FileOutputStream(target.toFile())))) {
+
+      // Таблиці з іншою будовою (стовпці голосів) віддають список-подання, що не серіалізується
+      oos.writeObject(entities instanceof Serializable ? entities : new ArrayList<>(entities));
+      oos.flush();
+
+    } catch (IOException e) {
+      throw new StorageException("Помилка запису у бінарний файл: " + target, e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> List<T> read(Path source, Consumer<Damage> onDamage) {
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new BufferedInputStream(new FileInputStream(source.toFile())))) {
+
+      Object obj = ois.readObject();
+      if (obj instanceof List<?>) {
+        return new ArrayList<>((List<T>) obj);
+      }
+      return new ArrayList<>();
+
+    } catch (EOFException e) {
+      // Порожній файл
+      return new ArrayList<>();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new StorageException("Помилка читання з бінарного файлу: " + source, e);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.pr.infrastructure.storage.format;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Формат файлу даних репозиторію. Формат наявного файлу визначається за першими байтами
+ * ({@link StorageFormats#detect}), тому файли різних форматів читаються незалежно від налаштувань.
+ */
+public interface StorageFormat {
+
+  /**
+   * Назва формату в конфігурації.
+   */
+  String name();
+
+  /**
+   * Чи починається файл цього формату з вказаних байтів.
+   */
+  boolean matches(byte[] header);
+
+  <T extends Entity> void write(Path target, List<T> entities);
+
+  /**
+   * Читає всі сутності у тому порядку, в якому їх було записано.
+   *
+   * @throws StorageException якщо файл пошкоджено
+   */
+  default <T extends Entity> List<T> read(Path source) {
+    return read(source, damage -> {
+      throw new StorageException("Пошкоджено файл " + source + ": " + damage);
+    });
+  }
+
+  /**
+   * Читає сутності, пропускаючи пошкоджені записи. Кожне пошкодження передається обробнику, який
+   * може викликатися з різних потоків, але не одночасно. Формати без контрольних сум не можуть
+   * локалізувати пошкодження і кидають {@link StorageException}.
+   */
+  <T extends Entity> List<T> read(Path source, Consumer<Damage> onDamage);
+
+  /**
+   * Чи вміє формат знайти сутність без читання всього файлу.
+   */
+  default boolean supportsLookup() {
+    return false;
+  }
+
+  /**
+   * Точковий пошук сутності у файлі.
+   *
+   * @throws UnsupportedOperationException якщо формат не підтримує точковий пошук
+   */
+  default <T extends Entity> Optional<T> find(Path source, UUID id) {
+    throw new UnsupportedOperationException("Формат " + name() + " не підтримує точковий пошук");
+  }
+
+  /**
+   * Перевіряє цілісність файлу за контрольними сумами, не десеріалізуючи сутностей.
+   *
+   * @param file вміст файлу, зазвичай відображений у пам'ять
+   * @return {@link Verification#UNCHECKED}, якщо формат не має контрольних сум
+   */
+  default Verification verify(ByteBuffer file) {
+    return Verification.UNCHECKED;
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.pr.infrastructure.storage.format;
+
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Доступні формати файлів даних: формат запису - з конфігурації, формат читання - за вмістом файлу.
+ */
+public final class StorageFormats {
+
+  private static final int HEADER_SIZE = 4;
+
+  private static final StorageFormat SERIALIZED = new SerializedFormat();
+  private static final FrozenVoteFormat FROZEN_VOTES = new FrozenVoteFormat();
+
+  // Налаштування читаються один раз, при першому зверненні
+  private static class Holder {
+
+    private static final StorageConfig CONFIG = new StorageConfig();
+    private static final StorageFormat BLOCKS = new BlockCompressedFormat(
+        CONFIG.getBlockSize(), CONFIG.getCompressionLevel());
+    private static final StorageFormat CONFIGURED =
+        StorageConfig.FORMAT_BLOCKS.equals(CONFIG.getFormat()) ? BLOCKS : SERIALIZED;
+  }
+
+  private StorageFormats() {
+  }
+
+  /**
+   * Формат, у якому записуються файли (налаштування {@code storage.format}).
+   */
+  public static StorageFormat configured() {
+    return Holder.CONFIGURED;
+  }
+
+  /**
+   * Java Serialization всього списку - початковий формат файлів.
+   */
+  public static StorageFormat serialized() {
+    return SERIALIZED;
+  }
+
+  /**
+   * Блоки, стиснуті Deflater, з контрольними сумами записів та індексом блоків.
+   */
+  public static StorageFormat blocks(int blockSize, int compressionLevel) {
+    return new BlockCompressedFormat(blockSize, compressionLevel);
+  }
+
+  /**
+   * Компактні стовпці голосів закритих виборів з контрольними сумами записів.
+   */
+  public static FrozenVoteFormat frozenVotes() {
+    return FROZEN_VOTES;
+  }
+
+  /**
+   * Визначає формат наявного файлу за першими байтами. Порожній файл читається як
+   * {@link #serialized()}.
+   *
+   * @return формат або {@code Optional.empty()}, якщо файл не належить жодному з форматів
+   */
+  public static Optional<StorageFormat> detect(Path file) {
+    byte[] header;
+    try (InputStream in = Files.newInputStream(file)) {
+      header = in.readNBytes(HEADER_SIZE);
+    } catch (IOException e) {
+      throw new StorageException("Помилка читання з бінарного файлу: " + file, e);
+    }
+    return detect(header);
+  }
+
+  /**
+   * Визначає формат за першими байтами файлу (достатньо чотирьох).
+   */
+  public static Optional<StorageFormat> detect(byte[] header) {
+    if (header.length == 0) {
+      return Optional.of(SERIALIZED);
+    }
+    for (StorageFormat format : List.of(SERIALIZED, Holder.BLOCKS, FROZEN_VOTES)) {
+      if (format.matches(header)) {
+        return Optional.of(format);
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.pr.infrastructure.storage.format;
+
+import java.util.List;
+
+/**
+ * Результат перевірки цілісності файлу без читання сутностей.
+ *
+ * @param checked чи має формат контрольні суми (інакше перевірити файл неможливо)
+ * @param records кількість записів за індексом
+ * @param damages знайдені пошкодження
+ */
+public record Verification(boolean checked, long records, List<Damage> damages) {
+
+  public static final Verification UNCHECKED = new Verification(false, 0, List.of());
+
+  public boolean isIntact() {
+    return damages.isEmpty();
+  }
+
+  public int lostRecords() {
+    return damages.stream().mapToInt(Damage::lost).sum();
+  }
+}
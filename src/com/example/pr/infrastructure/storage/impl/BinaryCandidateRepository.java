@@ -32,28 +32,12 @@ class BinaryCandidateRepository extends BinaryRepository<Candidate> implements C
 
   @Override
   public void deleteByElectionId(UUID electionId) {
-    List<Candidate> entities = findAllInternal();
-    List<Candidate> toKeep = entities.stream()
-        .filter(c -> !electionId.equals(c.getElectionId()))
-        .toList();
-
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
-    }
+    deleteWhere(c -> electionId.equals(c.getElectionId()));
   }
 
   @Override
   public void deleteByPartyCode(String partyCode) {
-    List<Candidate> entities = findAllInternal();
-    List<Candidate> toKeep = entities.stream()
-        .filter(c -> !(partyCode != null && partyCode.equals(c.getPartyCode())))
-        .toList();
-
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
-    }
+    deleteWhere(c -> partyCode != null && partyCode.equals(c.getPartyCode()));
   }
 
   @Override
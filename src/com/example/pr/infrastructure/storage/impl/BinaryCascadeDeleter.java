@@ -0,0 +1,202 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.BinaryRepository;
+import com.example.pr.infrastructure.storage.StorageBarrier;
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Каскадне видалення у файловому сховищі.
+ * <p>
+ * Спочатку кожен задіяний репозиторій за один прохід готує новий вміст свого файлу у тимчасовому
+ * файлі ({@code *.staged}). Коли всі файли підготовлені, записується журнал з переліком замін, і
+ * лише після цього файли атомарно підміняються. Якщо процес зупиниться посеред підміни,
+ * {@link #recover(Path)} при наступному запуску завершить її за журналом; якщо журналу немає -
+ * видалить недописані тимчасові файли. Таким чином видалення або застосовується у всіх файлах, або
+ * в жодному.
+ */
+class BinaryCascadeDeleter implements CascadeDeleter {
+
+  private static final String STAGED_SUFFIX = ".staged";
+  private static final String SEPARATOR = "\t";
+
+  private final BinaryElectionRepository elections;
+  private final BinaryCandidateRepository candidates;
+  private final BinaryVoterRepository voters;
+  private final BinaryVoteRepository votes;
+  private final Path journalPath;
+
+  BinaryCascadeDeleter(BinaryElectionRepository elections, BinaryCandidateRepository candidates,
+      BinaryVoterRepository voters, BinaryVoteRepository votes, Path journalPath) {
+    this.elections = elections;
+    this.candidates = candidates;
+    this.voters = voters;
+    this.votes = votes;
+    this.journalPath = journalPath;
+  }
+
+  @Override
+  public void deleteElection(UUID electionId) {
+    apply(List.of(
+        () -> votes.stageElectionRemoval(electionId),
+        () -> List.of(candidates.stageRemoval(c -> electionId.equals(c.getElectionId()))),
+        () -> List.of(elections.stageRemoval(e -> electionId.equals(e.getId())))));
+  }
+
+  @Override
+  public void deleteVoter(UUID voterId) {
+    apply(List.of(
+        () -> votes.stageRemoval(v -> voterId.equals(v.getVoterId())),
+        () -> List.of(voters.stageRemoval(v -> voterId.equals(v.getId())))));
+  }
+
+  @Override
+  public void deleteCandidate(UUID candidateId) {
+    UUID electionId = candidates.findById(candidateId).map(Candidate::getElectionId).orElse(null);
+    Predicate<Vote> forCandidate = v -> candidateId.equals(v.getCandidateId());
+
+    apply(List.of(
+        // Голоси за кандидата можуть бути лише у сегменті його виборів
+        () -> electionId != null
+            ? votes.stageRemoval(electionId, forCandidate)
+            : votes.stageRemoval(forCandidate),
+        () -> List.of(candidates.stageRemoval(c -> candidateId.equals(c.getId())))));
+  }
+
+  /**
+   * Завершує або скасовує каскадне видалення, перерване зупинкою процесу. Викликається до
+   * створення репозиторіїв.
+   */
+  static void recover(Path journalPath) {
+    try {
+      if (Files.exists(journalPath)) {
+        // Рішення вже прийняте - доводимо підміну до кінця
+        for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+          String[] parts = line.split(SEPARATOR);
+          Path staged = Path.of(parts[0]);
+          if (parts.length == 2 && Files.exists(staged)) {
+            Files.move(staged, Path.of(parts[1]),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+          }
+        }
+        Files.delete(journalPath);
+      }
+
+      Path directory = journalPath.toAbsolutePath().getParent();
+      if (directory != null && Files.isDirectory(directory)) {
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.walk(directory)) {
+          leftovers = files.filter(f -> f.getFileName().toString().endsWith(STAGED_SUFFIX))
+              .toList();
+        }
+        for (Path leftover : leftovers) {
+          Files.delete(leftover);
+        }
+      }
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося відновити каскадне видалення: " + journalPath, e);
+    }
+  }
+
+  // ==================== Helper Methods ====================
+
+  /**
+   * Все видалення - одна операція для знімків даних; бар'єр записів береться до монітора
+   * ({@link StorageBarrier}).
+   */
+  private void apply(List<Stage> stages) {
+    StorageBarrier.write(() -> applyStages(stages));
+  }
+
+  private synchronized void applyStages(List<Stage> stages) {
+    List<BinaryRepository<?>.StagedRemoval> staged = new ArrayList<>(stages.size());
+    try {
+      for (Stage stage : stages) {
+        for (BinaryRepository<?>.StagedRemoval removal : stage.prepare()) {
+          if (removal.stagedFile() != null) {
+            force(removal.stagedFile());
+            staged.add(removal);
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      staged.forEach(BinaryRepository.StagedRemoval::abort);
+      throw e;
+    }
+
+    if (staged.isEmpty()) {
+      return;
+    }
+
+    writeJournal(staged);
+
+    // Кожен commit() знімає блокування свого репозиторію, тому застосовуємо всі заміни навіть
+    // після помилки; журнал тоді залишається для відновлення при наступному запуску
+    RuntimeException failure = null;
+    for (BinaryRepository<?>.StagedRemoval removal : staged) {
+      try {
+        removal.commit();
+      } catch (RuntimeException e) {
+        failure = failure == null ? e : failure;
+      }
+    }
+    // Реєстр участі - один запис на все видалення, а не на кожен сегмент
+    votes.persistParticipation();
+    if (failure != null) {
+      throw failure;
+    }
+
+    try {
+      Files.delete(journalPath);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося видалити журнал: " + journalPath, e);
+    }
+  }
+
+  private void writeJournal(List<BinaryRepository<?>.StagedRemoval> staged) {
+    List<String> lines = new ArrayList<>(staged.size());
+    for (BinaryRepository<?>.StagedRemoval removal : staged) {
+      lines.add(removal.stagedFile() + SEPARATOR + removal.targetFile());
+    }
+
+    // Журнал з'являється атомарно: або повний, або відсутній
+    Path tmp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+    try {
+      Files.write(tmp, lines, StandardCharsets.UTF_8);
+      force(tmp);
+      Files.move(tmp, journalPath,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      staged.forEach(BinaryRepository.StagedRemoval::abort);
+      throw new StorageException("Не вдалося записати журнал: " + journalPath, e);
+    }
+  }
+
+  private static void force(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося скинути файл на диск: " + file, e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Stage {
+
+    List<? extends BinaryRepository<?>.StagedRemoval> prepare();
+  }
+}
@@ -4,7 +4,6 @@ import com.example.pr.domain.impl.Party;
 import com.example.pr.infrastructure.storage.BinaryFilePath;
 import com.example.pr.infrastructure.storage.BinaryRepository;
 import com.example.pr.infrastructure.storage.contract.PartyRepository;
-import java.util.ArrayList;
 import java.util.Optional;
 
 class BinaryPartyRepository extends BinaryRepository<Party> implements PartyRepository {
@@ -28,14 +27,6 @@ class BinaryPartyRepository extends BinaryRepository<Party> implements PartyRepo
 
   @Override
   public boolean deleteByCode(String code) {
-    invalidateCache();
-
-    var entities = new ArrayList<>(loadFromFile());
-    boolean removed = entities.removeIf(party -> code.equals(party.getPartyCode()));
-
-    if (removed) {
-      writeToFile(entities);
-    }
-    return removed;
+    return !deleteWhere(party -> code.equals(party.getPartyCode())).isEmpty();
   }
 }
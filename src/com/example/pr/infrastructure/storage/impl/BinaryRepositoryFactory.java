@@ -0,0 +1,22 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactory;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+
+/**
+ * Рушій {@code binary} - файлове сховище, рушій за замовчуванням.
+ */
+public class BinaryRepositoryFactory implements RepositoryFactory {
+
+  @Override
+  public String name() {
+    return StorageConfig.BACKEND_BINARY;
+  }
+
+  @Override
+  public StorageEngine create(StorageConfig config, EventBus events) {
+    return new BinaryStorage(events);
+  }
+}
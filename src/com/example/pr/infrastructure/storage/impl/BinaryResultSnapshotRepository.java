@@ -0,0 +1,226 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.StorageBarrier;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.CandidateResult;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.RegionResult;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Сховище підсумків виборів - по компактному файлу {@code data/results/<electionId>.results} на
+ * вибори.
+ * <p>
+ * Прочитані підсумки тримаються в пам'яті (кілька кілобайт на вибори), тож повторні запити не
+ * звертаються до диска. Підсумки видаляються разом з виборами, а також коли з закритих виборів
+ * видаляють голоси (каскадне видалення виборця чи кандидата) - тоді вони перераховуються при
+ * наступному зверненні.
+ */
+class BinaryResultSnapshotRepository implements ResultSnapshotRepository {
+
+  private static final int MAGIC = 0x56545253; // "VTRS"
+  private static final int FORMAT_VERSION = 1;
+  private static final String SUFFIX = ".results";
+
+  private final Path directory;
+  private final Map<UUID, ElectionResultSnapshot> cache = new ConcurrentHashMap<>();
+
+  BinaryResultSnapshotRepository() {
+    this.directory = Path.of(BinaryFilePath.RESULTS.getPath());
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося створити директорію: " + directory, e);
+    }
+  }
+
+  @Override
+  public Optional<ElectionResultSnapshot> findByElectionId(UUID electionId) {
+    ElectionResultSnapshot cached = cache.get(electionId);
+    return cached != null ? Optional.of(cached) : load(electionId);
+  }
+
+  @Override
+  public void save(ElectionResultSnapshot snapshot) {
+    StorageBarrier.write(() -> store(snapshot));
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    StorageBarrier.write(() -> delete(electionId));
+  }
+
+  private synchronized void store(ElectionResultSnapshot snapshot) {
+    Path file = fileOf(snapshot.electionId());
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    write(tmp, snapshot);
+    try {
+      try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося зберегти підсумки виборів: " + file, e);
+    }
+    cache.put(snapshot.electionId(), snapshot);
+  }
+
+  private synchronized void delete(UUID electionId) {
+    cache.remove(electionId);
+    Path file = fileOf(electionId);
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося видалити підсумки виборів: " + file, e);
+    }
+  }
+
+  /**
+   * Читає підсумки з файлу; під тим самим монітором, що й видалення, щоб не закешувати видалене.
+   */
+  private synchronized Optional<ElectionResultSnapshot> load(UUID electionId) {
+    ElectionResultSnapshot cached = cache.get(electionId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Path file = fileOf(electionId);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    ElectionResultSnapshot snapshot = read(file);
+    cache.put(electionId, snapshot);
+    return Optional.of(snapshot);
+  }
+
+  /**
+   * Видаляє підсумки, які перестали відповідати голосам.
+   */
+  void subscribeTo(EventBus events) {
+    events.subscribe(EntitiesRemoved.class, event -> {
+      EntitiesRemoved<?> removed = event;
+      removed.entitiesOf(Vote.class).stream()
+          .map(Vote::getElectionId)
+          .distinct()
+          .forEach(this::deleteByElectionId);
+      removed.entitiesOf(Election.class).forEach(e -> deleteByElectionId(e.getId()));
+    });
+  }
+
+  // ==================== Format ====================
+
+  private static void write(Path target, ElectionResultSnapshot snapshot) {
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(target.toFile())))) {
+
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      writeUuid(out, snapshot.electionId());
+      out.writeLong(snapshot.finalizedAt().toEpochSecond(ZoneOffset.UTC));
+      out.writeInt(snapshot.finalizedAt().getNano());
+
+      // Кандидати - таблицею; регіони посилаються на номер кандидата в ній
+      List<CandidateResult> candidates = snapshot.candidates();
+      Map<UUID, Integer> ordinals = new HashMap<>();
+      out.writeInt(candidates.size());
+      for (CandidateResult candidate : candidates) {
+        ordinals.put(candidate.candidateId(), ordinals.size());
+        writeUuid(out, candidate.candidateId());
+        out.writeUTF(candidate.fullName());
+        out.writeUTF(candidate.partyName());
+        out.writeLong(candidate.votes());
+      }
+
+      out.writeInt(snapshot.regions().size());
+      for (RegionResult region : snapshot.regions()) {
+        out.writeBoolean(region.regionId() != null);
+        if (region.regionId() != null) {
+          writeUuid(out, region.regionId());
+        }
+        out.writeUTF(region.regionName());
+        out.writeInt(region.votesByCandidate().size());
+        for (Map.Entry<UUID, Long> entry : region.votesByCandidate().entrySet()) {
+          Integer ordinal = ordinals.get(entry.getKey());
+          if (ordinal == null) {
+            throw new StorageException("Регіональні підсумки посилаються на невідомого кандидата: "
+                + entry.getKey());
+          }
+          out.writeInt(ordinal);
+          out.writeLong(entry.getValue());
+        }
+      }
+
+    } catch (IOException e) {
+      throw new StorageException("Помилка запису підсумків виборів: " + target, e);
+    }
+  }
+
+  private static ElectionResultSnapshot read(Path source) {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(source.toFile())))) {
+
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        throw new StorageException("Невідомий формат підсумків виборів: " + source);
+      }
+      UUID electionId = readUuid(in);
+      LocalDateTime finalizedAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(),
+          ZoneOffset.UTC);
+
+      int candidateCount = in.readInt();
+      List<CandidateResult> candidates = new ArrayList<>(candidateCount);
+      for (int i = 0; i < candidateCount; i++) {
+        candidates.add(new CandidateResult(readUuid(in), in.readUTF(), in.readUTF(),
+            in.readLong()));
+      }
+
+      int regionCount = in.readInt();
+      List<RegionResult> regions = new ArrayList<>(regionCount);
+      for (int i = 0; i < regionCount; i++) {
+        UUID regionId = in.readBoolean() ? readUuid(in) : null;
+        String regionName = in.readUTF();
+        int entries = in.readInt();
+        Map<UUID, Long> votes = new HashMap<>(entries * 2);
+        for (int j = 0; j < entries; j++) {
+          votes.put(candidates.get(in.readInt()).candidateId(), in.readLong());
+        }
+        regions.add(new RegionResult(regionId, regionName, votes));
+      }
+      return new ElectionResultSnapshot(electionId, finalizedAt, candidates, regions);
+
+    } catch (IOException | IndexOutOfBoundsException e) {
+      throw new StorageException("Помилка читання підсумків виборів: " + source, e);
+    }
+  }
+
+  private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+    out.writeLong(id.getMostSignificantBits());
+    out.writeLong(id.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private Path fileOf(UUID electionId) {
+    return directory.resolve(electionId + SUFFIX);
+  }
+}
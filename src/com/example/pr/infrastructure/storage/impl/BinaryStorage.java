@@ -0,0 +1,132 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Party;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.specification.ElectionSpecifications;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.BinaryRepository;
+import com.example.pr.infrastructure.storage.StorageBarrier;
+import com.example.pr.infrastructure.storage.WriteStatistics;
+import com.example.pr.infrastructure.storage.contract.*;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Файлове сховище: бінарні файли в директорії даних ({@link BinaryFilePath}).
+ * <p>
+ * При створенні завершує перерване каскадне видалення і переводить голоси закритих виборів у
+ * компактний формат. Фіксація Unit of Work - одна операція для знімків даних
+ * ({@link StorageBarrier}).
+ */
+class BinaryStorage implements StorageEngine {
+
+  private final BinaryVoterRepository voters;
+  private final BinaryCandidateRepository candidates;
+  private final BinaryElectionRepository elections;
+  private final BinaryVoteRepository votes;
+  private final BinaryRegionRepository regions;
+  private final BinaryPartyRepository parties;
+  private final BinaryResultSnapshotRepository results;
+  private final BinaryCascadeDeleter cascade;
+
+  // Репозиторії з автоматичним відстеженням змін сутностей
+  private final List<BinaryRepository<? extends Entity>> tracked;
+
+  BinaryStorage(EventBus events) {
+    Path cascadeJournal = Path.of(BinaryFilePath.CASCADE_JOURNAL.getPath());
+    BinaryCascadeDeleter.recover(cascadeJournal);
+
+    this.voters = new BinaryVoterRepository();
+    this.candidates = new BinaryCandidateRepository();
+    this.elections = new BinaryElectionRepository();
+    this.votes = new BinaryVoteRepository();
+    this.regions = new BinaryRegionRepository();
+    this.parties = new BinaryPartyRepository();
+    this.results = new BinaryResultSnapshotRepository();
+    this.tracked = List.of(voters, candidates, elections, regions, parties);
+
+    voters.publishTo(events, Voter.class);
+    candidates.publishTo(events, Candidate.class);
+    elections.publishTo(events, Election.class);
+    votes.publishTo(events);
+    regions.publishTo(events, Region.class);
+    parties.publishTo(events, Party.class);
+    results.subscribeTo(events);
+
+    this.cascade = new BinaryCascadeDeleter(elections, candidates, voters, votes, cascadeJournal);
+
+    // Сегменти голосів виборів, закритих до появи компактного формату
+    elections.findAll(ElectionSpecifications.closed())
+        .forEach(election -> votes.freezeElection(election.getId()));
+  }
+
+  @Override
+  public VoterRepository voters() {
+    return voters;
+  }
+
+  @Override
+  public CandidateRepository candidates() {
+    return candidates;
+  }
+
+  @Override
+  public ElectionRepository elections() {
+    return elections;
+  }
+
+  @Override
+  public VoteRepository votes() {
+    return votes;
+  }
+
+  @Override
+  public RegionRepository regions() {
+    return regions;
+  }
+
+  @Override
+  public PartyRepository parties() {
+    return parties;
+  }
+
+  @Override
+  public ResultSnapshotRepository results() {
+    return results;
+  }
+
+  @Override
+  public CascadeDeleter cascade() {
+    return cascade;
+  }
+
+  @Override
+  public void inUnitOfWork(Runnable work) {
+    StorageBarrier.write(work);
+  }
+
+  @Override
+  public List<? extends Entity> findModified() {
+    List<Entity> modified = new ArrayList<>();
+    for (BinaryRepository<? extends Entity> repo : tracked) {
+      modified.addAll(repo.findModified());
+    }
+    return modified;
+  }
+
+  @Override
+  public WriteStatistics writeStatistics() {
+    WriteStatistics total = WriteStatistics.EMPTY;
+    for (BinaryRepository<? extends Entity> repo : tracked) {
+      total = total.plus(repo.writeStatistics());
+    }
+    return total;
+  }
+}
@@ -1,96 +1,602 @@
 package com.example.pr.infrastructure.storage.impl;
 
+import com.example.pr.domain.event.DataFileDamaged;
+import com.example.pr.domain.event.DomainEvent;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
 import com.example.pr.domain.impl.Vote;
-import com.example.pr.domain.specification.VoteSpecifications;
+import com.example.pr.domain.specification.Specification;
 import com.example.pr.infrastructure.storage.BinaryFilePath;
 import com.example.pr.infrastructure.storage.BinaryRepository;
+import com.example.pr.infrastructure.storage.StorageBarrier;
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import com.example.pr.infrastructure.storage.audit.ConsistencyProof;
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
+import com.example.pr.infrastructure.storage.audit.MerkleLog;
+import com.example.pr.infrastructure.storage.audit.VoteLeaf;
 import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-class BinaryVoteRepository extends BinaryRepository<Vote> implements VoteRepository {
+/**
+ * Сховище голосів, розділене на сегменти за виборами.
+ * <p>
+ * Голоси кожних виборів лежать в окремому файлі {@code data/votes/<electionId>.dat}
+ * ({@link VoteShard}), тому завантаження, підрахунок і видалення голосів одних виборів не читають
+ * голоси інших. Сегменти закритих виборів переводяться у компактний формат лише для читання
+ * ({@code <electionId>.frozen}, {@link FrozenVoteShard}). Старий спільний файл
+ * {@code data/votes.dat} при першому запуску розкладається по сегментах.
+ * <p>
+ * Кожен записаний голос дописується до журналу аудиту своїх виборів ({@link MerkleLog} у
+ * {@code data/audit}). Журнал лише дописується: видалені голоси в ньому залишаються, а змінений
+ * голос отримує новий листок.
+ * <p>
+ * Реєстр участі записується на диск лише на межах пакетних операцій (пакет голосів, закриття
+ * виборів, видалення), а не після кожного голосу: його запис пропорційний кількості виборців.
+ * Реєстр, що не встиг зберегтися, при наступному запуску перебудовується з голосів.
+ */
+class BinaryVoteRepository implements VoteRepository {
+
+  private static final String ACTIVE_SUFFIX = ".dat";
+  private static final String FROZEN_SUFFIX = ".frozen";
+
+  private final Path directory;
+  private final Path participationPath;
+  private final Path auditDirectory;
+
+  // Сегменти за ID виборів
+  private final Map<UUID, VoteShard> shards = new ConcurrentHashMap<>();
+
+  // Інтернування UUID-посилань (спільне для всіх сегментів)
+  private final VoteReferences references = new VoteReferences();
+
+  // Журнали аудиту за ID виборів (відкриваються при першому зверненні)
+  private final Map<UUID, MerkleLog> auditLogs = new ConcurrentHashMap<>();
+
+  // Реєстр участі - швидка відповідь на hasVoted()
+  private final ParticipationRegistry participation;
+
+  // Шина подій; null - події не публікуються
+  private volatile EventBus events;
+  // Пошкодження сегментів, знайдені в конструкторі (перебудова реєстру участі), до підключення
+  // шини подій
+  private final List<DataFileDamaged> unreportedDamage = new ArrayList<>();
 
   public BinaryVoteRepository() {
-    super(BinaryFilePath.VOTES.getPath());
+    this.directory = Path.of(BinaryFilePath.VOTES.getPath());
+    this.participationPath = Path.of(BinaryFilePath.PARTICIPATION.getPath());
+    this.auditDirectory = Path.of(BinaryFilePath.AUDIT.getPath());
+
+    ensureDirectoryExists();
+    discoverShards();
+    migrateLegacyFile(Path.of(BinaryFilePath.VOTES_LEGACY.getPath()));
+
+    this.participation = ParticipationRegistry.load(participationPath, directory)
+        .orElseGet(this::rebuildParticipation);
+  }
+
+  // ==================== Repository ====================
+
+  @Override
+  public Vote save(Vote vote) {
+    if (vote.getElectionId() == null) {
+      throw new StorageException("Голос без виборів не може бути збережений: " + vote.getId());
+    }
+    Vote saved = StorageBarrier.write(
+        () -> inLiveShard(vote.getElectionId(), shard -> shard.save(vote)));
+    publish(new EntitiesSaved<>(Vote.class, List.of(saved)));
+    return saved;
+  }
+
+  /**
+   * Зберігає пакет голосів: по одному перезапису і fsync на кожен задіяний сегмент, реєстр участі
+   * записується один раз на весь пакет (групова фіксація). Весь пакет - одна операція для знімків
+   * даних.
+   */
+  @Override
+  public List<Vote> saveAll(Collection<? extends Vote> votes) {
+    return StorageBarrier.write(() -> saveBatch(votes));
+  }
+
+  private List<Vote> saveBatch(Collection<? extends Vote> votes) {
+    Map<UUID, List<Vote>> byElection = new LinkedHashMap<>();
+    for (Vote vote : votes) {
+      if (vote.getElectionId() == null) {
+        throw new StorageException("Голос без виборів не може бути збережений: " + vote.getId());
+      }
+      byElection.computeIfAbsent(vote.getElectionId(), k -> new ArrayList<>()).add(vote);
+    }
+
+    List<Vote> saved = new ArrayList<>(votes.size());
+    try {
+      byElection.forEach((electionId, batch) ->
+          saved.addAll(inLiveShard(electionId, shard -> shard.saveAll(batch))));
+    } finally {
+      if (!saved.isEmpty()) {
+        persistParticipation();
+        byElection.keySet().forEach(electionId -> auditLog(electionId).flush());
+        publish(new EntitiesSaved<>(Vote.class, saved));
+      }
+    }
+    return saved;
+  }
+
+  @Override
+  public Optional<Vote> findById(UUID id) {
+    for (VoteShard shard : shards.values()) {
+      Optional<Vote> vote = shard.findById(id);
+      if (vote.isPresent()) {
+        return vote;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<Vote> findOne(Specification<Vote> spec) {
+    for (VoteShard shard : shards.values()) {
+      Optional<Vote> vote = shard.findOne(spec);
+      if (vote.isPresent()) {
+        return vote;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<Vote> findAll(Specification<Vote> spec) {
+    List<Vote> result = new ArrayList<>();
+    shards.values().forEach(shard -> result.addAll(shard.findAll(spec)));
+    return result;
+  }
+
+  @Override
+  public boolean deleteById(UUID id) {
+    for (VoteShard shard : shards.values()) {
+      if (shard.existsById(id)) {
+        return shard.deleteById(id);
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean delete(Vote vote) {
+    VoteShard shard = vote.getElectionId() == null ? null : shards.get(vote.getElectionId());
+    return shard != null ? shard.deleteById(vote.getId()) : deleteById(vote.getId());
+  }
+
+  @Override
+  public boolean existsById(UUID id) {
+    return shards.values().stream().anyMatch(shard -> shard.existsById(id));
+  }
+
+  @Override
+  public long count(Specification<Vote> spec) {
+    return shards.values().stream().mapToLong(shard -> shard.count(spec)).sum();
   }
 
+  @Override
+  public boolean exists(Specification<Vote> spec) {
+    return shards.values().stream().anyMatch(shard -> shard.exists(spec));
+  }
+
+  // ==================== VoteRepository ====================
+
   @Override
   public boolean hasVoted(UUID voterId, UUID electionId) {
-    return exists(VoteSpecifications.byVoterAndElection(voterId, electionId));
+    return participation.hasVoted(voterId, electionId);
   }
 
   @Override
   public Optional<Vote> findByVoterAndElection(UUID voterId, UUID electionId) {
-    return findOne(VoteSpecifications.byVoterAndElection(voterId, electionId));
+    VoteShard shard = shards.get(electionId);
+    if (shard == null || !participation.hasVoted(voterId, electionId)) {
+      return Optional.empty();
+    }
+    return shard.findByVoter(voterId).stream().findFirst();
   }
 
   @Override
   public List<Vote> findByElectionId(UUID electionId) {
-    return findAll(VoteSpecifications.byElectionId(electionId));
+    VoteShard shard = shards.get(electionId);
+    return shard == null ? List.of() : shard.votes();
   }
 
   @Override
   public List<Vote> findByCandidateId(UUID candidateId) {
-    return findAll(VoteSpecifications.byCandidateId(candidateId));
+    List<Vote> result = new ArrayList<>();
+    shards.values().forEach(shard -> result.addAll(shard.findByCandidate(candidateId)));
+    return result;
   }
 
   @Override
   public List<Vote> findByVoterId(UUID voterId) {
-    return findAll(VoteSpecifications.byVoterId(voterId));
+    List<Vote> result = new ArrayList<>();
+    shards.values().forEach(shard -> result.addAll(shard.findByVoter(voterId)));
+    return result;
   }
 
   @Override
   public long countByCandidate(UUID candidateId) {
-    return count(VoteSpecifications.byCandidateId(candidateId));
+    return shards.values().stream()
+        .mapToLong(shard -> shard.tally().countByCandidate(candidateId))
+        .sum();
   }
 
   @Override
   public long countByElection(UUID electionId) {
-    return count(VoteSpecifications.byElectionId(electionId));
+    VoteShard shard = shards.get(electionId);
+    return shard == null ? 0 : shard.tally().countByElection(electionId);
   }
 
   @Override
   public long countByCandidateAndElection(UUID candidateId, UUID electionId) {
-    return count(VoteSpecifications.byCandidateAndElection(candidateId, electionId));
+    VoteShard shard = shards.get(electionId);
+    return shard == null ? 0 : shard.tally().countByCandidateAndElection(candidateId, electionId);
   }
 
   @Override
-  public void deleteByElectionId(UUID electionId) {
-    List<Vote> entities = findAllInternal();
-    List<Vote> toKeep = entities.stream()
-        .filter(v -> !electionId.equals(v.getElectionId()))
-        .toList();
+  public Map<UUID, Long> countByCandidateInElection(UUID electionId) {
+    VoteShard shard = shards.get(electionId);
+    return shard == null ? Map.of() : shard.tally().countByCandidateInElection(electionId);
+  }
 
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
-    }
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    StorageBarrier.write(() -> {
+      stageElectionRemoval(electionId).forEach(BinaryRepository.StagedRemoval::commit);
+      persistParticipation();
+    });
   }
 
   @Override
   public void deleteByVoterId(UUID voterId) {
-    List<Vote> entities = findAllInternal();
-    List<Vote> toKeep = entities.stream()
-        .filter(v -> !voterId.equals(v.getVoterId()))
-        .toList();
+    removeFromAllShards(v -> voterId.equals(v.getVoterId()));
+  }
+
+  @Override
+  public void deleteByCandidateId(UUID candidateId) {
+    removeFromAllShards(v -> candidateId.equals(v.getCandidateId()));
+  }
+
+  /**
+   * Видаляє голоси з усіх сегментів; реєстр участі записується один раз після всіх сегментів.
+   */
+  private void removeFromAllShards(Predicate<? super Vote> predicate) {
+    StorageBarrier.write(() -> {
+      try {
+        shards.values().forEach(shard -> shard.removeWhere(predicate));
+      } finally {
+        persistParticipation();
+      }
+    });
+  }
 
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
+  /**
+   * Бар'єр записів береться до монітора ({@link StorageBarrier}).
+   */
+  @Override
+  public void freezeElection(UUID electionId) {
+    StorageBarrier.write(() -> freeze(electionId));
+  }
+
+  private synchronized void freeze(UUID electionId) {
+    VoteShard shard = shards.get(electionId);
+    if (shard == null || shard.isFrozen()) {
+      return;
     }
+
+    Path frozenFile = directory.resolve(electionId + FROZEN_SUFFIX);
+    Path tmp = directory.resolve(electionId + FROZEN_SUFFIX + ".tmp");
+    shard.sealTo(tmp);
+
+    try {
+      Files.move(tmp, frozenFile,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      shards.put(electionId, new FrozenVoteShard(electionId, frozenFile, this));
+      Files.deleteIfExists(shard.file());
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося закрити сегмент голосів: " + frozenFile, e);
+    }
+    // Участь не змінилася, але змінився відбиток файлів голосів
+    participation.save(participationPath, directory);
   }
 
   @Override
-  public void deleteByCandidateId(UUID candidateId) {
-    List<Vote> entities = findAllInternal();
-    List<Vote> toKeep = entities.stream()
-        .filter(v -> !candidateId.equals(v.getCandidateId()))
-        .toList();
+  public void unloadElection(UUID electionId) {
+    VoteShard shard = shards.get(electionId);
+    if (shard != null && shard.isFrozen()) {
+      shard.unload();
+    }
+  }
 
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
+  @Override
+  public AuditCheckpoint auditCheckpoint(UUID electionId) {
+    return bootstrappedAuditLog(electionId).checkpoint();
+  }
+
+  @Override
+  public Optional<InclusionProof> proveInclusion(UUID electionId, UUID voteId) {
+    return bootstrappedAuditLog(electionId).proveInclusion(voteId);
+  }
+
+  @Override
+  public ConsistencyProof proveConsistency(UUID electionId, long oldSize) {
+    return bootstrappedAuditLog(electionId).proveConsistency(oldSize);
+  }
+
+  /**
+   * Вмикає публікацію подій про збереження і видалення голосів.
+   */
+  void publishTo(EventBus events) {
+    this.events = events;
+    unreportedDamage.forEach(events::publish);
+    unreportedDamage.clear();
+  }
+
+  // ==================== Staged removals ====================
+
+  /**
+   * Готує видалення всіх голосів виборів - зачіпає лише їх сегмент.
+   */
+  List<BinaryRepository<Vote>.StagedRemoval> stageElectionRemoval(UUID electionId) {
+    return stageRemoval(electionId, v -> true);
+  }
+
+  /**
+   * Готує видалення голосів виборів, що задовольняють умову.
+   */
+  List<BinaryRepository<Vote>.StagedRemoval> stageRemoval(UUID electionId,
+      Predicate<? super Vote> predicate) {
+    VoteShard shard = shards.get(electionId);
+    return shard == null ? List.of() : List.of(shard.stageRemoval(predicate));
+  }
+
+  /**
+   * Готує видалення голосів, що задовольняють умову, в усіх сегментах.
+   */
+  List<BinaryRepository<Vote>.StagedRemoval> stageRemoval(Predicate<? super Vote> predicate) {
+    List<BinaryRepository<Vote>.StagedRemoval> staged = new ArrayList<>();
+    try {
+      for (VoteShard shard : shards.values()) {
+        staged.add(shard.stageRemoval(predicate));
+      }
+    } catch (RuntimeException e) {
+      staged.forEach(BinaryRepository.StagedRemoval::abort);
+      throw e;
+    }
+    return staged;
+  }
+
+  // ==================== Shard callbacks ====================
+
+  VoteReferences references() {
+    return references;
+  }
+
+  /**
+   * Оновлює реєстр участі та журнал аудиту після запису голосу. Реєстр на диск не записується -
+   * це робить пакетний запис ({@link #saveAll}) або наступна пакетна операція.
+   *
+   * @param flush чи скинути журнал аудиту одразу ({@code false} - скине пакетний запис)
+   */
+  void shardSaved(Vote vote, Vote previous, boolean flush) {
+    if (previous != null) {
+      participation.unmarkVoted(previous.getVoterId(), previous.getElectionId());
+    }
+    participation.markVoted(vote.getVoterId(), vote.getElectionId());
+
+    MerkleLog log = auditLog(vote.getElectionId());
+    if (previous == null) {
+      log.append(vote.getId(), VoteLeaf.hash(vote));
+    } else {
+      log.appendIfChanged(vote.getId(), VoteLeaf.hash(vote));
+    }
+    if (flush) {
+      log.flush();
+    }
+  }
+
+  /**
+   * Звіряє завантажений сегмент з журналом аудиту. Голоси, записані до появи журналу, вносяться
+   * до нього при першому завантаженні сегмента.
+   */
+  void shardLoaded(UUID electionId, List<Vote> votes) {
+    MerkleLog log = auditLog(electionId);
+    if (log.size() == 0 && !votes.isEmpty()) {
+      votes.forEach(vote -> log.append(vote.getId(), VoteLeaf.hash(vote)));
+      log.flush();
+    } else if (log.size() < votes.size()) {
+      System.err.println("Журнал аудиту виборів " + electionId + " містить " + log.size()
+          + " листків, а сегмент - " + votes.size() + " голосів");
+    }
+  }
+
+  /**
+   * Знімає позначки участі; сегмент, з якого видалено всі голоси, видаляється разом з файлом.
+   * Реєстр записує операція, що ініціювала видалення ({@link #persistParticipation()}).
+   * <p>
+   * Викликається під блокуванням запису сегмента, тож між перевіркою і вилученням у нього ніхто
+   * не запише. Сегмент позначається вилученим ({@link VoteShard#retire()}) і його файл
+   * видаляється ще до вилучення з реєстру: запізнілий запис не потрапить у сегмент поза реєстром,
+   * а файл нового сегмента тих самих виборів не буде видалено.
+   */
+  void shardRemoved(VoteShard shard, List<Vote> removed) {
+    removed.forEach(v -> participation.unmarkVoted(v.getVoterId(), v.getElectionId()));
+
+    if (shard.votes().isEmpty() && shards.get(shard.electionId()) == shard) {
+      shard.retire();
+      try {
+        Files.deleteIfExists(shard.file());
+      } catch (IOException e) {
+        throw new StorageException("Не вдалося видалити сегмент голосів: " + shard.file(), e);
+      }
+      shards.remove(shard.electionId(), shard);
+    }
+    publish(new EntitiesRemoved<>(Vote.class, removed));
+  }
+
+  /**
+   * Повідомляє про пошкоджений файл сегмента на шину подій сховища голосів.
+   */
+  void shardDamaged(DataFileDamaged damaged) {
+    if (events == null) {
+      unreportedDamage.add(damaged);
+    } else {
+      publish(damaged);
+    }
+  }
+
+  // ==================== Helper Methods ====================
+
+  private MerkleLog auditLog(UUID electionId) {
+    return auditLogs.computeIfAbsent(electionId, id -> MerkleLog.open(auditDirectory, id));
+  }
+
+  /**
+   * Журнал аудиту, до якого внесено голоси, записані до його появи: порожній журнал при наявних
+   * голосах заповнюється завантаженням сегмента ({@link #shardLoaded}).
+   */
+  private MerkleLog bootstrappedAuditLog(UUID electionId) {
+    MerkleLog log = auditLog(electionId);
+    VoteShard shard = shards.get(electionId);
+    if (log.size() == 0 && shard != null) {
+      shard.votes();
+    }
+    return log;
+  }
+
+  /**
+   * Записує у сегмент виборів. Якщо сегмент спорожнів і був вилучений між пошуком і записом, запис
+   * відхиляється до будь-яких змін і повторюється в сегменті, що тепер у реєстрі.
+   */
+  private <R> R inLiveShard(UUID electionId, Function<VoteShard, R> write) {
+    while (true) {
+      try {
+        return write.apply(shardFor(electionId));
+      } catch (VoteShard.RetiredException e) {
+        // Новий сегмент створить наступний shardFor()
+      }
+    }
+  }
+
+  private VoteShard shardFor(UUID electionId) {
+    return shards.computeIfAbsent(electionId,
+        id -> new VoteShard(id, directory.resolve(id + ACTIVE_SUFFIX), this));
+  }
+
+  /**
+   * Реєструє наявні файли сегментів (вміст завантажується при першому зверненні).
+   */
+  private void discoverShards() {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(FROZEN_SUFFIX)) {
+          UUID electionId = parseElectionId(name, FROZEN_SUFFIX);
+          shards.put(electionId, new FrozenVoteShard(electionId, file, this));
+        } else if (name.endsWith(ACTIVE_SUFFIX)) {
+          UUID electionId = parseElectionId(name, ACTIVE_SUFFIX);
+          shards.putIfAbsent(electionId, new VoteShard(electionId, file, this));
+        }
+      }
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося прочитати директорію голосів: " + directory, e);
+    }
+  }
+
+  private static UUID parseElectionId(String fileName, String suffix) {
+    String id = fileName.substring(0, fileName.length() - suffix.length());
+    try {
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      throw new StorageException("Невідомий файл у директорії голосів: " + fileName, e);
+    }
+  }
+
+  /**
+   * Розкладає голоси зі спільного файлу старого формату по сегментах. Старий файл зберігається
+   * з суфіксом {@code .migrated}.
+   */
+  @SuppressWarnings("unchecked")
+  private void migrateLegacyFile(Path legacyFile) {
+    if (!Files.exists(legacyFile)) {
+      return;
+    }
+
+    List<Vote> votes;
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new BufferedInputStream(new FileInputStream(legacyFile.toFile())))) {
+      Object obj = ois.readObject();
+      votes = obj instanceof List<?> ? (List<Vote>) obj : List.of();
+    } catch (EOFException e) {
+      votes = List.of();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new StorageException("Помилка читання з бінарного файлу: " + legacyFile, e);
+    }
+
+    Map<UUID, List<Vote>> byElection = new HashMap<>();
+    for (Vote vote : votes) {
+      if (vote.getElectionId() != null) {
+        byElection.computeIfAbsent(vote.getElectionId(), k -> new ArrayList<>()).add(vote);
+      }
+    }
+    byElection.forEach((electionId, electionVotes) ->
+        shardFor(electionId).replaceAll(electionVotes));
+
+    try {
+      Files.move(legacyFile, legacyFile.resolveSibling(legacyFile.getFileName() + ".migrated"),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося перейменувати файл: " + legacyFile, e);
+    }
+  }
+
+  private void ensureDirectoryExists() {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося створити директорію: " + directory, e);
     }
   }
+
+  private ParticipationRegistry rebuildParticipation() {
+    List<Vote> votes = new ArrayList<>();
+    shards.values().forEach(shard -> votes.addAll(shard.votes()));
+
+    ParticipationRegistry registry = ParticipationRegistry.rebuild(votes);
+    registry.save(participationPath, directory);
+    return registry;
+  }
+
+  private void publish(DomainEvent event) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(event);
+    }
+  }
+
+  /**
+   * Записує реєстр участі, якщо він змінився після останнього запису.
+   */
+  void persistParticipation() {
+    participation.saveIfChanged(participationPath, directory);
+  }
 }
@@ -5,7 +5,6 @@ import com.example.pr.domain.specification.VoterSpecifications;
 import com.example.pr.infrastructure.storage.BinaryFilePath;
 import com.example.pr.infrastructure.storage.BinaryRepository;
 import com.example.pr.infrastructure.storage.contract.VoterRepository;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,15 +36,7 @@ class BinaryVoterRepository extends BinaryRepository<Voter> implements VoterRepo
 
   @Override
   public void deleteByRegionId(UUID regionId) {
-    List<Voter> entities = findAllInternal();
-    List<Voter> toKeep = entities.stream()
-        .filter(voter -> !regionId.equals(voter.getRegionId()))
-        .toList();
-
-    if (toKeep.size() < entities.size()) {
-      invalidateCache();
-      writeToFile(toKeep);
-    }
+    deleteWhere(voter -> regionId.equals(voter.getRegionId()));
   }
 
   @Override
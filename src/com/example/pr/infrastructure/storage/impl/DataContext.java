@@ -1,9 +1,17 @@
 package com.example.pr.infrastructure.storage.impl;
 
 import com.example.pr.domain.Entity;
+import com.example.pr.domain.event.DataFileDamaged;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.infrastructure.config.StorageConfig;
 import com.example.pr.infrastructure.storage.Repository;
+import com.example.pr.infrastructure.storage.WriteStatistics;
 import com.example.pr.infrastructure.storage.contract.*;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactories;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactory;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * DataContext - єдина точка доступу до всіх репозиторіїв системи.
@@ -11,6 +19,10 @@ import java.util.*;
  * Реалізує патерни: - Singleton (одна інстанція на все застосування) - Unit of Work (відстеження та
  * групове збереження змін)
  * <p>
+ * Рушій сховища обирається при запуску за назвою ({@link StorageConfig#getBackend()}) серед
+ * зареєстрованих через {@link RepositoryFactory}: бінарні файли в директорії даних, вбудована
+ * база даних через JDBC або інші рушії.
+ * <p>
  * Використання:
  * <pre>{@code
  * DataContext context = DataContext.getInstance();
@@ -39,6 +51,11 @@ import java.util.*;
  * context.registerNew(v1);
  * context.registerNew(v2);
  * context.commit(); // Зберігає всі зміни разом
+ *
+ * // Змінені копії з findForUpdate() commit() знаходить і без registerDirty()
+ * Voter copy = context.voters().findForUpdate(voterId).orElseThrow();
+ * copy.setEmail("other@email.com");
+ * context.commit();
  * }</pre>
  */
 public class DataContext {
@@ -56,19 +73,62 @@ public class DataContext {
   private final VoteRepository voteRepository;
   private final RegionRepository regionRepository;
   private final PartyRepository partyRepository;
+  private final ResultSnapshotRepository resultSnapshotRepository;
+
+  // Події про зафіксовані зміни
+  private final EventBus events = new EventBus();
+
+  // Пошкоджені файли, завантажені з початку роботи (у тому числі під час створення сховища)
+  private final List<DataFileDamaged> damagedFiles = new CopyOnWriteArrayList<>();
+
+  // Кеш довідкових даних (партії, регіони, кандидати за виборами)
+  private final ReferenceDataCache referenceData;
+
+  // Каскадне видалення пов'язаних даних
+  private final CascadeDeleter cascade;
+
+  // Рушій сховища, що створив репозиторії
+  private final StorageEngine engine;
 
   // Unit of Work - колекції для відстеження змін
   private final Set<Entity> newEntities = new LinkedHashSet<>();     // Нові сутності
   private final Set<Entity> dirtyEntities = new LinkedHashSet<>();   // Змінені сутності
-  private final Map<Repository<? extends Entity>, Set<UUID>> deletedIdsMap = new HashMap<>(); // Видалені
+  // Видалені - по репозиторіях у порядку видалення, щоб фіксація видаляла в тому самому порядку
+  private final Map<Repository<? extends Entity>, Set<UUID>> deletedIdsMap = new LinkedHashMap<>();
 
   private DataContext() {
-    this.voterRepository = new BinaryVoterRepository();
-    this.candidateRepository = new BinaryCandidateRepository();
-    this.electionRepository = new BinaryElectionRepository();
-    this.voteRepository = new BinaryVoteRepository();
-    this.regionRepository = new BinaryRegionRepository();
-    this.partyRepository = new BinaryPartyRepository();
+    events.subscribe(DataFileDamaged.class, damagedFiles::add);
+    StorageConfig config = new StorageConfig();
+    this.engine = factoryFor(config).create(config, events);
+
+    this.voterRepository = engine.voters();
+    this.candidateRepository = engine.candidates();
+    this.electionRepository = engine.elections();
+    this.voteRepository = engine.votes();
+    this.regionRepository = engine.regions();
+    this.partyRepository = engine.parties();
+    this.resultSnapshotRepository = engine.results();
+    this.cascade = engine.cascade();
+
+    this.referenceData = new ReferenceDataCache(partyRepository, regionRepository,
+        candidateRepository);
+    referenceData.subscribeTo(events);
+  }
+
+  /**
+   * Рушій з налаштування {@code storage.backend}. Файлове сховище вбудоване: воно
+   * використовується і тоді, коли названий рушій не зареєстровано.
+   */
+  private static RepositoryFactory factoryFor(StorageConfig config) {
+    RepositoryFactory binary = new BinaryRepositoryFactory();
+    if (binary.name().equals(config.getBackend())) {
+      return binary;
+    }
+    return RepositoryFactories.find(config.getBackend()).orElseGet(() -> {
+      System.err.println("Рушій сховища '" + config.getBackend() + "' не зареєстровано "
+          + "(доступні: " + RepositoryFactories.names() + "), використовується " + binary.name());
+      return binary;
+    });
   }
 
   public static DataContext getInstance() {
@@ -101,6 +161,42 @@ public class DataContext {
     return partyRepository;
   }
 
+  /**
+   * Зафіксовані підсумки завершених виборів.
+   */
+  public ResultSnapshotRepository results() {
+    return resultSnapshotRepository;
+  }
+
+  /**
+   * Кеш довідкових даних для читання без блокувань.
+   */
+  public ReferenceDataCache referenceData() {
+    return referenceData;
+  }
+
+  /**
+   * Каскадне видалення виборів, виборців та кандидатів разом із залежними даними.
+   */
+  public CascadeDeleter cascade() {
+    return cascade;
+  }
+
+  /**
+   * Шина подій про зафіксовані зміни сутностей.
+   */
+  public EventBus events() {
+    return events;
+  }
+
+  /**
+   * Файли даних, завантажені з пошкодженнями з початку роботи, - і ті, що були прочитані ще до
+   * того, як хтось міг підписатися на {@link DataFileDamaged}.
+   */
+  public List<DataFileDamaged> damagedFiles() {
+    return List.copyOf(damagedFiles);
+  }
+
   // ==================== Unit of Work ====================
 
   /**
@@ -133,25 +229,35 @@ public class DataContext {
   }
 
   /**
-   * Фіксує всі зміни.
+   * Фіксує всі зміни. Крім зареєстрованих, зберігаються й змінені копії, отримані через
+   * {@link Repository#findForUpdate} без виклику {@link #registerDirty}; сутності без змін не
+   * перезаписуються.
+   * Всі зміни - одна операція рушія ({@link StorageEngine#inUnitOfWork}): знімок даних файлового
+   * сховища бачить або всі зміни, або жодної, у базі даних це одна транзакція.
    */
-  @SuppressWarnings("unchecked")
   public void commit() {
-    // 1. Зберігаємо нові
-    for (Entity entity : newEntities) {
-      Repository<Entity> repo = getRepositoryForEntity(entity);
-      if (repo != null) {
-        repo.save(entity);
+    engine.inUnitOfWork(this::commitChanges);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void commitChanges() {
+    // 1-2. Зберігаємо нові та змінені - одним пакетом на репозиторій
+    Map<Repository<Entity>, Set<Entity>> batches = new LinkedHashMap<>();
+    for (Set<Entity> pending : List.of(newEntities, dirtyEntities)) {
+      for (Entity entity : pending) {
+        Repository<Entity> repo = getRepositoryForEntity(entity);
+        if (repo != null) {
+          batches.computeIfAbsent(repo, r -> new LinkedHashSet<>()).add(entity);
+        }
       }
     }
-
-    // 2. Оновлюємо змінені
-    for (Entity entity : dirtyEntities) {
+    for (Entity entity : engine.findModified()) {
       Repository<Entity> repo = getRepositoryForEntity(entity);
       if (repo != null) {
-        repo.save(entity);
+        batches.computeIfAbsent(repo, r -> new LinkedHashSet<>()).add(entity);
       }
     }
+    batches.forEach(Repository::saveAll);
 
     // 3. Видаляємо
     for (Map.Entry<Repository<? extends Entity>, Set<UUID>> entry : deletedIdsMap.entrySet()) {
@@ -165,6 +271,14 @@ public class DataContext {
     clear();
   }
 
+  /**
+   * Лічильники записаних сутностей і уникнутих збережень без змін за всіма репозиторіями з
+   * відстеженням змін.
+   */
+  public WriteStatistics getWriteStatistics() {
+    return engine.writeStatistics();
+  }
+
   /**
    * Відкочує всі незбережені зміни.
    */
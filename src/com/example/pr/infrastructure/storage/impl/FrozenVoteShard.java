@@ -0,0 +1,41 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import com.example.pr.infrastructure.storage.format.FrozenVoteFormat;
+import com.example.pr.infrastructure.storage.format.StorageFormats;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Сегмент голосів закритих виборів - лише для читання, у компактному форматі
+ * ({@link FrozenVoteFormat}).
+ * <p>
+ * Замість Java Serialization голоси записуються стовпцями примітивів з контрольною сумою кожного
+ * запису; формат файлу визначається за вмістом, тож пошкоджені записи при завантаженні
+ * пропускаються і потрапляють у карантин, як і у файлах інших репозиторіїв. Запис нових голосів
+ * заборонено; видалення (каскадне) дозволене і переписує файл у тому самому форматі.
+ */
+final class FrozenVoteShard extends VoteShard {
+
+  FrozenVoteShard(UUID electionId, Path file, BinaryVoteRepository owner) {
+    super(electionId, file, owner);
+  }
+
+  @Override
+  boolean isFrozen() {
+    return true;
+  }
+
+  @Override
+  protected void onSaving(Vote vote) {
+    throw new StorageException("Голоси закритих виборів доступні лише для читання: "
+        + electionId());
+  }
+
+  @Override
+  protected void writeEntities(Path target, List<Vote> entities) {
+    StorageFormats.frozenVotes().write(target, electionId(), entities);
+  }
+}
@@ -0,0 +1,182 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.OrdinalBitmap;
+import com.example.pr.infrastructure.storage.UuidDictionary;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Реєстр участі у виборах - відповідає на питання "чи голосував виборець на цих виборах" за O(1).
+ * <p>
+ * Кожен виборець отримує щільний порядковий номер у {@link UuidDictionary}, а для кожних виборів
+ * ведеться {@link OrdinalBitmap} з номерами тих, хто вже проголосував (близько 1 біта на виборця).
+ * Реєстр зберігається поруч із голосами разом із "відбитком" їх файлів (розмір і час
+ * зміни). Якщо відбиток не збігається, реєстр вважається застарілим і перебудовується з голосів.
+ * Тому реєстр не обов'язково записувати після кожного голосу: {@link #saveIfChanged} викликається
+ * на межах пакетних записів і видалень, а зміни після останнього збереження при наступному
+ * запуску відновлюються перебудовою.
+ * <p>
+ * Методи синхронізовані: перевірки виконуються паралельно із записом голосів.
+ */
+final class ParticipationRegistry implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private final UuidDictionary voters = new UuidDictionary();
+  private final HashMap<UUID, OrdinalBitmap> byElection = new HashMap<>();
+
+  // Чи змінювався реєстр після останнього збереження
+  private transient boolean dirty;
+
+  // Відбиток файлів голосів, з яким узгоджений реєстр
+  private long sourceSize = -1;
+  private long sourceModified = -1;
+
+  /**
+   * Перевіряє, чи виборець вже голосував на виборах.
+   */
+  synchronized boolean hasVoted(UUID voterId, UUID electionId) {
+    OrdinalBitmap participants = byElection.get(electionId);
+    if (participants == null) {
+      return false;
+    }
+    int ordinal = voters.ordinalOf(voterId);
+    return ordinal != UuidDictionary.NOT_FOUND && participants.contains(ordinal);
+  }
+
+  /**
+   * Позначає участь виборця у виборах.
+   */
+  synchronized void markVoted(UUID voterId, UUID electionId) {
+    if (byElection.computeIfAbsent(electionId, k -> new OrdinalBitmap())
+        .add(voters.getOrAssign(voterId))) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * Знімає позначку участі (при видаленні голосу).
+   */
+  synchronized void unmarkVoted(UUID voterId, UUID electionId) {
+    OrdinalBitmap participants = byElection.get(electionId);
+    int ordinal = voters.ordinalOf(voterId);
+    if (participants != null && ordinal != UuidDictionary.NOT_FOUND
+        && participants.remove(ordinal)) {
+      dirty = true;
+      if (participants.isEmpty()) {
+        byElection.remove(electionId);
+      }
+    }
+  }
+
+  /**
+   * Будує реєстр з усіх голосів.
+   */
+  static ParticipationRegistry rebuild(List<Vote> votes) {
+    ParticipationRegistry registry = new ParticipationRegistry();
+    for (Vote vote : votes) {
+      registry.markVoted(vote.getVoterId(), vote.getElectionId());
+    }
+    return registry;
+  }
+
+  /**
+   * Завантажує реєстр, якщо він існує та узгоджений з поточними файлами голосів.
+   */
+  static Optional<ParticipationRegistry> load(Path registryFile, Path sourceFile) {
+    if (!Files.exists(registryFile)) {
+      return Optional.empty();
+    }
+
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new BufferedInputStream(new FileInputStream(registryFile.toFile())))) {
+
+      ParticipationRegistry registry = (ParticipationRegistry) ois.readObject();
+      long[] stamp = stampOf(sourceFile);
+      if (registry.sourceSize != stamp[0] || registry.sourceModified != stamp[1]) {
+        return Optional.empty();
+      }
+      return Optional.of(registry);
+
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      // Пошкоджений або несумісний реєстр - буде перебудований
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Записує реєстр, якщо він змінився після останнього збереження.
+   */
+  synchronized void saveIfChanged(Path registryFile, Path sourceFile) {
+    if (dirty) {
+      save(registryFile, sourceFile);
+    }
+  }
+
+  /**
+   * Записує реєстр разом із відбитком файлів голосів.
+   */
+  synchronized void save(Path registryFile, Path sourceFile) {
+    long[] stamp = stampOf(sourceFile);
+    this.sourceSize = stamp[0];
+    this.sourceModified = stamp[1];
+
+    // Файл підміняється атомарно, тому знімок даних бачить або старий реєстр, або новий
+    Path tmp = registryFile.resolveSibling(registryFile.getFileName() + TMP_SUFFIX);
+    try (ObjectOutputStream oos = new ObjectOutputStream(
+        new BufferedOutputStream(new FileOutputStream(tmp.toFile())))) {
+
+      oos.writeObject(this);
+      oos.flush();
+
+    } catch (IOException e) {
+      throw new StorageException("Помилка запису реєстру участі: " + registryFile, e);
+    }
+    try {
+      Files.move(tmp, registryFile,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося замінити реєстр участі: " + registryFile, e);
+    }
+    dirty = false;
+  }
+
+  /**
+   * Відбиток файлу або директорії (сумарний розмір файлів і найпізніший час зміни).
+   */
+  private static long[] stampOf(Path source) {
+    try {
+      if (!Files.exists(source)) {
+        return new long[]{-1, -1};
+      }
+      if (!Files.isDirectory(source)) {
+        return new long[]{Files.size(source), Files.getLastModifiedTime(source).toMillis()};
+      }
+
+      long[] stamp = {0, 0};
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(source)) {
+        for (Path file : files) {
+          // Тимчасовий файл сегмента, що саме записується, - не частина даних
+          if (file.getFileName().toString().endsWith(TMP_SUFFIX)) {
+            continue;
+          }
+          stamp[0] += Files.size(file);
+          stamp[1] = Math.max(stamp[1], Files.getLastModifiedTime(file).toMillis());
+        }
+      }
+      return stamp;
+    } catch (IOException e) {
+      throw new StorageException("Не вдалося прочитати атрибути файлу: " + source, e);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Party;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Кеш довідкових даних для побудови бюлетенів і результатів: партії за кодом, регіони за ID та
+ * кандидати за виборами.
+ * <p>
+ * Кожен розділ - незмінний знімок (immutable-колекції), який будується при першому читанні після
+ * зміни і публікується атомарно. Читачі не беруть блокувань. Після запису у відповідний
+ * репозиторій (подія {@link EntitiesSaved} або {@link EntitiesRemoved}) знімок скидається, і
+ * наступне читання будує новий.
+ */
+public class ReferenceDataCache {
+
+  private final CachedView<Map<String, Party>> partiesByCode;
+  private final CachedView<Map<UUID, Region>> regionsById;
+  private final CachedView<Map<UUID, List<Candidate>>> candidatesByElection;
+
+  ReferenceDataCache(PartyRepository parties, RegionRepository regions,
+      CandidateRepository candidates) {
+    this.partiesByCode = new CachedView<>(() -> parties.findAll(p -> true).stream()
+        .filter(p -> p.getPartyCode() != null)
+        .collect(Collectors.toUnmodifiableMap(Party::getPartyCode, p -> p, (a, b) -> a)));
+
+    this.regionsById = new CachedView<>(() -> regions.findAll(r -> true).stream()
+        .collect(Collectors.toUnmodifiableMap(Region::getId, r -> r)));
+
+    this.candidatesByElection = new CachedView<>(() -> {
+      Map<UUID, List<Candidate>> grouped = new HashMap<>();
+      for (Candidate candidate : candidates.findAll(c -> true)) {
+        if (candidate.getElectionId() != null) {
+          grouped.computeIfAbsent(candidate.getElectionId(), k -> new ArrayList<>())
+              .add(candidate);
+        }
+      }
+      grouped.replaceAll((electionId, list) -> List.copyOf(list));
+      return Map.copyOf(grouped);
+    });
+  }
+
+  // ==================== Parties ====================
+
+  public Optional<Party> findPartyByCode(String code) {
+    return code == null ? Optional.empty() : Optional.ofNullable(partiesByCode.get().get(code));
+  }
+
+  public boolean partyExists(String code) {
+    return code != null && partiesByCode.get().containsKey(code);
+  }
+
+  // ==================== Regions ====================
+
+  public Optional<Region> findRegionById(UUID id) {
+    return id == null ? Optional.empty() : Optional.ofNullable(regionsById.get().get(id));
+  }
+
+  public boolean regionExists(UUID id) {
+    return id != null && regionsById.get().containsKey(id);
+  }
+
+  // ==================== Candidates ====================
+
+  /**
+   * Кандидати на виборах (незмінний список).
+   */
+  public List<Candidate> findCandidatesByElection(UUID electionId) {
+    return candidatesByElection.get().getOrDefault(electionId, List.of());
+  }
+
+  // ==================== Invalidation ====================
+
+  /**
+   * Підписує кеш на зміни партій, регіонів і кандидатів.
+   */
+  void subscribeTo(EventBus events) {
+    events.subscribe(EntitiesSaved.class, event -> invalidate(event.type()));
+    events.subscribe(EntitiesRemoved.class, event -> invalidate(event.type()));
+  }
+
+  private void invalidate(Class<?> type) {
+    if (type == Party.class) {
+      partiesByCode.invalidate();
+    } else if (type == Region.class) {
+      regionsById.invalidate();
+    } else if (type == Candidate.class) {
+      candidatesByElection.invalidate();
+    }
+  }
+
+  /**
+   * Ліниво побудований незмінний знімок, що скидається при зміні джерела.
+   * <p>
+   * Лічильник поколінь гарантує, що знімок, побудований до інвалідації, не буде опублікований
+   * після неї.
+   */
+  private static final class CachedView<S> {
+
+    private final Supplier<S> loader;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<S> current = new AtomicReference<>();
+
+    CachedView(Supplier<S> loader) {
+      this.loader = loader;
+    }
+
+    S get() {
+      S snapshot = current.get();
+      if (snapshot != null) {
+        return snapshot;
+      }
+
+      long gen = generation.get();
+      S built = loader.get();
+      if (current.compareAndSet(null, built) && generation.get() != gen) {
+        // Дані змінилися під час побудови - не залишаємо застарілий знімок
+        current.compareAndSet(built, null);
+      }
+      return built;
+    }
+
+    void invalidate() {
+      generation.incrementAndGet();
+      current.set(null);
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.EntityTable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Голоси однієї версії сегмента у стовпцях примітивних масивів.
+ * <p>
+ * Рядок - один голос: ID у двох {@code long}, номери виборця, кандидата і виборів у
+ * {@link VoteReferences} ({@code int}), три дати як секунди і наносекунди та версія. Об'єктів
+ * {@link Vote}, UUID і дат на кожен голос у пам'яті немає - екземпляр створюється при читанні,
+ * тому кожен читач отримує власний і зміни в ньому не видно іншим. Пошук за ID - через хеш-таблицю
+ * номерів рядків з відкритою адресацією.
+ * <p>
+ * Таблиця незмінна: запис будує нову з копій масивів, як і {@link EntityTable} за замовчуванням.
+ */
+final class VoteColumns implements EntityTable<Vote> {
+
+  private static final int MIN_INDEX_CAPACITY = 16;
+
+  // Дати рядка: створення, оновлення, момент голосування
+  private static final int DATES = 3;
+  private static final int CREATED = 0;
+  private static final int UPDATED = 1;
+  private static final int CAST = 2;
+  private static final long NO_DATE = Long.MIN_VALUE;
+
+  private final VoteReferences references;
+  private final int size;
+
+  private final long[] idMsb;
+  private final long[] idLsb;
+  private final int[] voters;
+  private final int[] candidates;
+  private final int[] elections;
+  private final long[] seconds;
+  private final int[] nanos;
+  private final long[] versions;
+
+  // Номер рядка + 1, 0 - порожня комірка
+  private final int[] index;
+  private final int mask;
+
+  private final List<Vote> rows = new Rows();
+
+  /**
+   * Порожня таблиця на {@code size} рядків; якщо задано {@code source}, перші його рядки
+   * копіюються разом з індексом.
+   */
+  private VoteColumns(VoteReferences references, VoteColumns source, int size) {
+    this.references = references;
+    this.size = size;
+    int capacity = indexCapacity(size);
+    if (source == null) {
+      idMsb = new long[size];
+      idLsb = new long[size];
+      voters = new int[size];
+      candidates = new int[size];
+      elections = new int[size];
+      seconds = new long[size * DATES];
+      nanos = new int[size * DATES];
+      versions = new long[size];
+      index = new int[capacity];
+    } else {
+      idMsb = Arrays.copyOf(source.idMsb, size);
+      idLsb = Arrays.copyOf(source.idLsb, size);
+      voters = Arrays.copyOf(source.voters, size);
+      candidates = Arrays.copyOf(source.candidates, size);
+      elections = Arrays.copyOf(source.elections, size);
+      seconds = Arrays.copyOf(source.seconds, size * DATES);
+      nanos = Arrays.copyOf(source.nanos, size * DATES);
+      versions = Arrays.copyOf(source.versions, size);
+      index = capacity == source.index.length ? source.index.clone() : new int[capacity];
+    }
+    mask = capacity - 1;
+    if (source != null && capacity != source.index.length) {
+      for (int row = 0; row < source.size; row++) {
+        insert(row);
+      }
+    }
+  }
+
+  static VoteColumns of(VoteReferences references, List<Vote> votes) {
+    VoteColumns table = new VoteColumns(references, null, votes.size());
+    for (int row = 0; row < votes.size(); row++) {
+      table.set(row, votes.get(row));
+      table.insert(row);
+    }
+    return table;
+  }
+
+  @Override
+  public List<Vote> entities() {
+    return rows;
+  }
+
+  @Override
+  public Optional<Vote> get(UUID id) {
+    int row = rowOf(id);
+    return row < 0 ? Optional.empty() : Optional.of(vote(row));
+  }
+
+  @Override
+  public boolean contains(UUID id) {
+    return rowOf(id) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public VoteColumns with(List<Vote> saved) {
+    int[] targets = new int[saved.size()];
+    Map<UUID, Integer> added = new HashMap<>();
+    for (int i = 0; i < saved.size(); i++) {
+      UUID id = saved.get(i).getId();
+      int row = rowOf(id);
+      targets[i] = row >= 0 ? row : added.computeIfAbsent(id, key -> size + added.size());
+    }
+
+    VoteColumns next = new VoteColumns(references, this, size + added.size());
+    for (int i = 0; i < saved.size(); i++) {
+      next.set(targets[i], saved.get(i));
+    }
+    added.values().forEach(next::insert);
+    return next;
+  }
+
+  @Override
+  public VoteColumns without(Collection<? extends Vote> removed) {
+    Set<UUID> ids = new HashSet<>();
+    removed.forEach(vote -> ids.add(vote.getId()));
+
+    int[] kept = new int[size];
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      if (!ids.contains(new UUID(idMsb[row], idLsb[row]))) {
+        kept[count++] = row;
+      }
+    }
+
+    VoteColumns next = new VoteColumns(references, null, count);
+    for (int row = 0; row < count; row++) {
+      next.copyRow(this, kept[row], row);
+      next.insert(row);
+    }
+    return next;
+  }
+
+  /**
+   * Голоси виборця - перегляд стовпця номерів без створення голосів інших виборців.
+   */
+  List<Vote> findByVoter(UUID voterId) {
+    return select(voters, references.findVoter(voterId));
+  }
+
+  /**
+   * Голоси за кандидата - перегляд стовпця номерів без створення решти голосів.
+   */
+  List<Vote> findByCandidate(UUID candidateId) {
+    return select(candidates, references.findCandidate(candidateId));
+  }
+
+  // ==================== Internal ====================
+
+  private List<Vote> select(int[] column, int ordinal) {
+    if (ordinal == VoteReferences.NONE) {
+      return List.of();
+    }
+    List<Vote> found = new ArrayList<>();
+    for (int row = 0; row < size; row++) {
+      if (column[row] == ordinal) {
+        found.add(vote(row));
+      }
+    }
+    return found;
+  }
+
+  private Vote vote(int row) {
+    Vote vote = Vote.restore(new UUID(idMsb[row], idLsb[row]), date(row, CREATED),
+        date(row, UPDATED), references.voter(voters[row]),
+        references.candidate(candidates[row]), references.election(elections[row]),
+        date(row, CAST));
+    vote.setVersion(versions[row]);
+    return vote;
+  }
+
+  private void set(int row, Vote vote) {
+    idMsb[row] = vote.getId().getMostSignificantBits();
+    idLsb[row] = vote.getId().getLeastSignificantBits();
+    voters[row] = references.assignVoter(vote.getVoterId());
+    candidates[row] = references.assignCandidate(vote.getCandidateId());
+    elections[row] = references.assignElection(vote.getElectionId());
+    setDate(row, CREATED, vote.getCreatedAt());
+    setDate(row, UPDATED, vote.getUpdatedAt());
+    setDate(row, CAST, vote.getTimestamp());
+    versions[row] = vote.getVersion();
+  }
+
+  private void copyRow(VoteColumns source, int from, int to) {
+    idMsb[to] = source.idMsb[from];
+    idLsb[to] = source.idLsb[from];
+    voters[to] = source.voters[from];
+    candidates[to] = source.candidates[from];
+    elections[to] = source.elections[from];
+    System.arraycopy(source.seconds, from * DATES, seconds, to * DATES, DATES);
+    System.arraycopy(source.nanos, from * DATES, nanos, to * DATES, DATES);
+    versions[to] = source.versions[from];
+  }
+
+  private LocalDateTime date(int row, int which) {
+    long second = seconds[row * DATES + which];
+    return second == NO_DATE
+        ? null
+        : LocalDateTime.ofEpochSecond(second, nanos[row * DATES + which], ZoneOffset.UTC);
+  }
+
+  private void setDate(int row, int which, LocalDateTime date) {
+    seconds[row * DATES + which] = date == null ? NO_DATE : date.toEpochSecond(ZoneOffset.UTC);
+    nanos[row * DATES + which] = date == null ? 0 : date.getNano();
+  }
+
+  private int rowOf(UUID id) {
+    long msb = id.getMostSignificantBits();
+    long lsb = id.getLeastSignificantBits();
+    int slot = slotFor(msb, lsb);
+    int entry;
+    while ((entry = index[slot]) != 0) {
+      int row = entry - 1;
+      if (idMsb[row] == msb && idLsb[row] == lsb) {
+        return row;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void insert(int row) {
+    int slot = slotFor(idMsb[row], idLsb[row]);
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = row + 1;
+  }
+
+  private int slotFor(long msb, long lsb) {
+    long h = msb ^ Long.rotateLeft(lsb, 32);
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h & mask;
+  }
+
+  /**
+   * Заповненість індексу не більше 50%.
+   */
+  private static int indexCapacity(int rows) {
+    return Math.max(MIN_INDEX_CAPACITY, Integer.highestOneBit(Math.max(rows, 1)) << 2);
+  }
+
+  /**
+   * Рядки таблиці як незмінний список; кожне звернення створює новий екземпляр голосу.
+   */
+  private final class Rows extends AbstractList<Vote> implements RandomAccess {
+
+    @Override
+    public Vote get(int row) {
+      if (row < 0 || row >= size) {
+        throw new IndexOutOfBoundsException("Row " + row + " out of range 0.." + size);
+      }
+      return vote(row);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.infrastructure.storage.UuidDictionary;
+import java.util.UUID;
+
+/**
+ * Словник посилань сховища голосів.
+ * <p>
+ * Відображає UUID виборців, кандидатів та виборів у щільні номери: голоси в пам'яті
+ * ({@link VoteColumns}) тримають замість посилань на UUID лише номери {@code int}, а кожен
+ * ідентифікатор зберігається один раз на все сховище.
+ * <p>
+ * Номери видають записувачі різних сегментів, тому видача і пошук синхронізовані. Перетворення
+ * номера назад у UUID не блокується: номер, отриманий з опублікованої версії сегмента, вже
+ * видано ({@link UuidDictionary#uuidAt(int)}).
+ */
+final class VoteReferences {
+
+  static final int NONE = UuidDictionary.NOT_FOUND;
+
+  private final UuidDictionary voters = new UuidDictionary();
+  private final UuidDictionary candidates = new UuidDictionary();
+  private final UuidDictionary elections = new UuidDictionary();
+
+  synchronized int assignVoter(UUID id) {
+    return id == null ? NONE : voters.getOrAssign(id);
+  }
+
+  synchronized int assignCandidate(UUID id) {
+    return id == null ? NONE : candidates.getOrAssign(id);
+  }
+
+  synchronized int assignElection(UUID id) {
+    return id == null ? NONE : elections.getOrAssign(id);
+  }
+
+  /**
+   * Номер виборця або {@link #NONE}, якщо жоден голос на нього не посилається.
+   */
+  synchronized int findVoter(UUID id) {
+    return voters.ordinalOf(id);
+  }
+
+  /**
+   * Номер кандидата або {@link #NONE}, якщо жоден голос на нього не посилається.
+   */
+  synchronized int findCandidate(UUID id) {
+    return candidates.ordinalOf(id);
+  }
+
+  UUID voter(int ordinal) {
+    return ordinal == NONE ? null : voters.uuidAt(ordinal);
+  }
+
+  UUID candidate(int ordinal) {
+    return ordinal == NONE ? null : candidates.uuidAt(ordinal);
+  }
+
+  UUID election(int ordinal) {
+    return ordinal == NONE ? null : elections.uuidAt(ordinal);
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.event.DataFileDamaged;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.BinaryRepository;
+import com.example.pr.infrastructure.storage.EntityTable;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import com.example.pr.infrastructure.storage.format.StorageFormats;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Сегмент сховища голосів - голоси одних виборів в окремому файлі.
+ * <p>
+ * Має власну версію даних, блокування запису та лічильники, тому операції з одними виборами не
+ * торкаються голосів інших. Про кожну зміну сегмент повідомляє {@link BinaryVoteRepository}, який
+ * веде спільний реєстр участі.
+ * <p>
+ * Голоси в пам'яті зберігаються стовпцями ({@link VoteColumns}) з номерами посилань у спільному
+ * словнику власника, тому кожне читання повертає новий екземпляр голосу.
+ */
+class VoteShard extends BinaryRepository<Vote> {
+
+  private final UUID electionId;
+  private final BinaryVoteRepository owner;
+
+  // Лічильники голосів, узгоджені з поточною версією сегмента
+  private volatile VoteTally tally = VoteTally.EMPTY;
+  private volatile boolean tallyLoaded;
+
+  // Сегмент закритих виборів, що переписується у компактний формат
+  private volatile boolean sealed;
+
+  // Спорожнілий сегмент, вилучений з реєстру власника; записи мають знайти новий сегмент
+  private volatile boolean retired;
+
+  // Пакетний запис: реєстр участі зберігається один раз після пакета (лише під блокуванням)
+  private boolean batching;
+
+  VoteShard(UUID electionId, Path file, BinaryVoteRepository owner) {
+    // Голоси після створення не змінюються - копія їх стану лише займала б пам'ять
+    super(file.toString(), false);
+    this.electionId = electionId;
+    this.owner = owner;
+  }
+
+  UUID electionId() {
+    return electionId;
+  }
+
+  Path file() {
+    return filePath;
+  }
+
+  boolean isFrozen() {
+    return false;
+  }
+
+  /**
+   * Всі голоси сегмента (незмінний список поточної версії).
+   */
+  List<Vote> votes() {
+    return findAllInternal();
+  }
+
+  List<Vote> findByVoter(UUID voterId) {
+    return columns().findByVoter(voterId);
+  }
+
+  List<Vote> findByCandidate(UUID candidateId) {
+    return columns().findByCandidate(candidateId);
+  }
+
+  private VoteColumns columns() {
+    return (VoteColumns) snapshot().table();
+  }
+
+  VoteTally tally() {
+    if (!tallyLoaded) {
+      snapshot(); // лічильники будуються разом із першим завантаженням
+    }
+    return tally;
+  }
+
+  /**
+   * Відкидає голоси з пам'яті, зберігаючи лічильники: вони залишаються вірними, доки сегмент не
+   * змінюється, а будь-яка зміна спершу знову завантажить голоси з файлу.
+   */
+  void unload() {
+    invalidateCache();
+  }
+
+  /**
+   * Зберігає пакет голосів одним перезаписом файлу і одним fsync (групова фіксація).
+   */
+  @Override
+  public List<Vote> saveAll(Collection<? extends Vote> votes) {
+    List<Vote> saved = new ArrayList<>(votes.size());
+    underWriteLock(() -> {
+      batching = true;
+      try {
+        saved.addAll(super.saveAll(votes));
+      } finally {
+        batching = false;
+      }
+      forceToDisk();
+    });
+    return saved;
+  }
+
+  /**
+   * Видаляє голоси, що задовольняють умову, за один перезапис файлу сегмента.
+   */
+  List<Vote> removeWhere(Predicate<? super Vote> predicate) {
+    return deleteWhere(predicate);
+  }
+
+  /**
+   * Замінює весь вміст сегмента (перенесення голосів зі старого формату).
+   */
+  void replaceAll(List<Vote> votes) {
+    underWriteLock(() -> {
+      replaceFile(votes);
+      tallyLoaded = false;
+      invalidateCache();
+    });
+  }
+
+  /**
+   * Записує голоси у компактний сегмент лише для читання. Після цього запис у поточний сегмент
+   * заборонено, щоб жоден голос не загубився під час заміни.
+   */
+  void sealTo(Path frozenFile) {
+    underWriteLock(() -> {
+      StorageFormats.frozenVotes().write(frozenFile, electionId, votes());
+      sealed = true;
+    });
+  }
+
+  @Override
+  protected EntityTable<Vote> newTable(List<Vote> votes) {
+    return VoteColumns.of(owner.references(), votes);
+  }
+
+  /**
+   * Завантаження з файлу звіряє голоси з журналом аудиту та перераховує лічильники.
+   */
+  @Override
+  protected List<Vote> loadFromFile() {
+    List<Vote> votes = readVotes();
+    owner.shardLoaded(electionId, votes);
+    tally = VoteTally.of(votes);
+    tallyLoaded = true;
+    return votes;
+  }
+
+  /**
+   * Читає голоси у форматі сегмента.
+   */
+  protected List<Vote> readVotes() {
+    return super.loadFromFile();
+  }
+
+  /**
+   * Позначає сегмент вилученим. Викликається під блокуванням запису сегмента, тому запис, що вже
+   * отримав посилання на нього, буде відхилений ({@link RetiredException}) до будь-яких змін.
+   */
+  void retire() {
+    retired = true;
+  }
+
+  @Override
+  protected void onSaving(Vote vote) {
+    if (retired) {
+      throw new RetiredException(electionId);
+    }
+    if (sealed) {
+      throw new StorageException("Голоси закритих виборів доступні лише для читання: "
+          + electionId);
+    }
+  }
+
+  @Override
+  protected void onSaved(Vote vote, Vote previous) {
+    tally = tally.plus(vote, previous);
+    owner.shardSaved(vote, previous, !batching);
+  }
+
+  @Override
+  protected void onRemoved(List<Vote> removed) {
+    tally = tally.minus(removed);
+    owner.shardRemoved(this, removed);
+  }
+
+  @Override
+  protected void onDamaged(DataFileDamaged damaged) {
+    owner.shardDamaged(damaged);
+  }
+
+  /**
+   * Запис у вилучений сегмент; власник повторює його в сегменті з реєстру.
+   */
+  static final class RetiredException extends StorageException {
+
+    RetiredException(UUID electionId) {
+      super("Сегмент голосів вилучено: " + electionId);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.example.pr.infrastructure.storage.impl;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.UuidMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Незмінні лічильники голосів: загальна кількість на виборах та кількість за кожного кандидата.
+ * <p>
+ * Кожен запис створює нову версію лічильників: копіюється лише таблиця виборів і таблиця
+ * кандидатів тих виборів, яких торкнулася зміна (copy-on-write), решта спільна з попередньою
+ * версією. Тому читачі отримують узгоджені числа з однієї версії без блокувань.
+ */
+final class VoteTally {
+
+  static final VoteTally EMPTY = new VoteTally(new UuidMap<>());
+
+  private final UuidMap<ElectionCounts> byElection;
+
+  private VoteTally(UuidMap<ElectionCounts> byElection) {
+    this.byElection = byElection;
+  }
+
+  /**
+   * Будує лічильники з усіх голосів.
+   */
+  static VoteTally of(List<Vote> votes) {
+    Editor editor = EMPTY.edit();
+    votes.forEach(vote -> editor.add(vote, 1));
+    return editor.build();
+  }
+
+  /**
+   * Нова версія з урахуванням збереженого голосу (та без попереднього з тим самим ID).
+   */
+  VoteTally plus(Vote vote, Vote previous) {
+    Editor editor = edit();
+    if (previous != null) {
+      editor.add(previous, -1);
+    }
+    editor.add(vote, 1);
+    return editor.build();
+  }
+
+  /**
+   * Нова версія без видалених голосів.
+   */
+  VoteTally minus(Collection<Vote> removed) {
+    Editor editor = edit();
+    removed.forEach(vote -> editor.add(vote, -1));
+    return editor.build();
+  }
+
+  long countByElection(UUID electionId) {
+    ElectionCounts counts = byElection.get(electionId);
+    return counts == null ? 0 : counts.total;
+  }
+
+  long countByCandidate(UUID candidateId) {
+    long[] total = new long[1];
+    byElection.forEachValue(counts -> total[0] += counts.of(candidateId));
+    return total[0];
+  }
+
+  long countByCandidateAndElection(UUID candidateId, UUID electionId) {
+    ElectionCounts counts = byElection.get(electionId);
+    return counts == null ? 0 : counts.of(candidateId);
+  }
+
+  /**
+   * Голоси за кожного кандидата на виборах.
+   */
+  Map<UUID, Long> countByCandidateInElection(UUID electionId) {
+    ElectionCounts counts = byElection.get(electionId);
+    if (counts == null) {
+      return Map.of();
+    }
+    Map<UUID, Long> result = new HashMap<>();
+    counts.byCandidate.forEach((candidateId, count) -> result.put(candidateId, (long) count));
+    return result;
+  }
+
+  private Editor edit() {
+    return new Editor(byElection.copy());
+  }
+
+  // ==================== Internal ====================
+
+  private static final class ElectionCounts {
+
+    private final int total;
+    private final UuidMap<Integer> byCandidate;
+
+    ElectionCounts(int total, UuidMap<Integer> byCandidate) {
+      this.total = total;
+      this.byCandidate = byCandidate;
+    }
+
+    int of(UUID candidateId) {
+      Integer count = byCandidate.get(candidateId);
+      return count == null ? 0 : count;
+    }
+  }
+
+  /**
+   * Будує нову версію: таблиця кандидатів копіюється при першій зміні виборів.
+   */
+  private static final class Editor {
+
+    private final UuidMap<ElectionCounts> byElection;
+    private final Map<UUID, int[]> totals = new HashMap<>();
+    private final Map<UUID, UuidMap<Integer>> touched = new HashMap<>();
+
+    Editor(UuidMap<ElectionCounts> byElection) {
+      this.byElection = byElection;
+    }
+
+    void add(Vote vote, int delta) {
+      UUID electionId = vote.getElectionId();
+      if (electionId == null) {
+        return;
+      }
+
+      UuidMap<Integer> candidates = touched.computeIfAbsent(electionId, id -> {
+        ElectionCounts counts = byElection.get(id);
+        totals.put(id, new int[]{counts == null ? 0 : counts.total});
+        return counts == null ? new UuidMap<>() : counts.byCandidate.copy();
+      });
+      totals.get(electionId)[0] += delta;
+
+      UUID candidateId = vote.getCandidateId();
+      if (candidateId != null) {
+        Integer current = candidates.get(candidateId);
+        int updated = (current == null ? 0 : current) + delta;
+        if (updated > 0) {
+          candidates.put(candidateId, updated);
+        } else {
+          candidates.remove(candidateId);
+        }
+      }
+    }
+
+    VoteTally build() {
+      touched.forEach((electionId, candidates) -> {
+        int total = totals.get(electionId)[0];
+        if (total > 0) {
+          byElection.put(electionId, new ElectionCounts(total, candidates));
+        } else {
+          byElection.remove(electionId);
+        }
+      });
+      return new VoteTally(byElection);
+    }
+  }
+}
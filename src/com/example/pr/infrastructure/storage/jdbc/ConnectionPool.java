@@ -0,0 +1,342 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Невеликий пул з'єднань з базою даних з кешем підготовлених запитів на кожному з'єднанні.
+ * <p>
+ * З'єднання відкриваються одразу при створенні пулу. Потік, що виконує роботу, отримує
+ * з'єднання на її час; вкладені виклики в тому самому потоці використовують те саме з'єднання,
+ * тому транзакція ({@link #transaction}) охоплює всі запити, зроблені всередині неї, у тому числі
+ * з різних репозиторіїв. Дії після фіксації ({@link #afterCommit}) - події про зміни - виконуються
+ * лише після фіксації зовнішньої транзакції і після повернення з'єднання до пулу.
+ */
+final class ConnectionPool implements AutoCloseable {
+
+  private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+  private final String url;
+  private final String user;
+  private final String password;
+  private final int statementCacheSize;
+  private final BlockingQueue<Session> idle;
+  private final List<Session> sessions = new ArrayList<>();
+
+  // З'єднання, яке потік використовує зараз (вкладені виклики)
+  private final ThreadLocal<Session> current = new ThreadLocal<>();
+
+  private volatile boolean closed;
+
+  /**
+   * Робота з з'єднанням.
+   */
+  @FunctionalInterface
+  interface Work<R> {
+
+    R run(Session session) throws SQLException;
+  }
+
+  ConnectionPool(String url, String user, String password, int size, int statementCacheSize) {
+    this.url = url;
+    this.user = user;
+    this.password = password;
+    this.statementCacheSize = statementCacheSize;
+    this.idle = new ArrayBlockingQueue<>(size);
+    try {
+      for (int i = 0; i < size; i++) {
+        Session session = open();
+        sessions.add(session);
+        idle.add(session);
+      }
+    } catch (SQLException e) {
+      close();
+      throw new StorageException("Не вдалося підключитися до бази даних: " + url, e);
+    }
+  }
+
+  /**
+   * Виконує роботу в поточній транзакції потоку або, якщо її немає, в режимі автофіксації.
+   */
+  <R> R call(Work<R> work) {
+    Session joined = current.get();
+    if (joined != null) {
+      return run(joined, work);
+    }
+    Session session = acquire();
+    try {
+      return run(session, work);
+    } finally {
+      release(session);
+    }
+  }
+
+  /**
+   * Виконує роботу в транзакції; всередині вже відкритої транзакції потоку - як її частину.
+   */
+  <R> R transaction(Work<R> work) {
+    Session joined = current.get();
+    Session session = joined != null ? joined : acquire();
+    List<Runnable> completions = List.of();
+    try {
+      session.begin();
+      R result;
+      try {
+        result = run(session, work);
+      } catch (RuntimeException e) {
+        session.rollback();
+        throw e;
+      }
+      completions = session.commit();
+      return result;
+    } finally {
+      if (joined == null) {
+        release(session);
+      }
+      completions.forEach(Runnable::run);
+    }
+  }
+
+  /**
+   * Виконує дію після фіксації поточної транзакції потоку (одразу, якщо транзакції немає).
+   */
+  void afterCommit(Runnable action) {
+    Session session = current.get();
+    if (session != null && session.depth > 0) {
+      session.onCommit.add(action);
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * Виконує дію, якщо поточна транзакція потоку буде скасована.
+   */
+  void afterRollback(Runnable action) {
+    Session session = current.get();
+    if (session != null && session.depth > 0) {
+      session.onRollback.add(action);
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    synchronized (sessions) {
+      for (Session session : sessions) {
+        session.close();
+      }
+    }
+  }
+
+  // ==================== Helper Methods ====================
+
+  private <R> R run(Session session, Work<R> work) {
+    Session previous = current.get();
+    current.set(session);
+    try {
+      return work.run(session);
+    } catch (SQLException e) {
+      session.checkBroken(e);
+      throw new StorageException("Помилка бази даних: " + e.getMessage(), e);
+    } finally {
+      if (previous == null) {
+        current.remove();
+      }
+    }
+  }
+
+  private Session acquire() {
+    if (closed) {
+      throw new StorageException("Пул з'єднань закрито: " + url);
+    }
+    try {
+      Session session = idle.poll(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      if (session == null) {
+        throw new StorageException("Немає вільного з'єднання з базою даних за "
+            + ACQUIRE_TIMEOUT_SECONDS + " с");
+      }
+      return session;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StorageException("Очікування з'єднання перервано", e);
+    }
+  }
+
+  private void release(Session session) {
+    session.closeUncached();
+    Session usable = session;
+    if (session.broken && !closed) {
+      // Розірване з'єднання замінюється новим, щоб пул не зменшувався
+      session.close();
+      try {
+        usable = open();
+        synchronized (sessions) {
+          sessions.remove(session);
+          sessions.add(usable);
+        }
+      } catch (SQLException e) {
+        System.err.println("Не вдалося відновити з'єднання з базою даних: " + e.getMessage());
+        return;
+      }
+    }
+    idle.add(usable);
+  }
+
+  private Session open() throws SQLException {
+    return new Session(DriverManager.getConnection(url, user, password), statementCacheSize);
+  }
+
+  /**
+   * З'єднання пулу з кешем підготовлених запитів.
+   */
+  static final class Session {
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    // Без кешу запити закриваються, коли з'єднання повертається до пулу
+    private final int cacheSize;
+    private final List<PreparedStatement> uncached = new ArrayList<>();
+
+    // Глибина вкладених транзакцій і дії після їх завершення
+    private int depth;
+    private final List<Runnable> onCommit = new ArrayList<>();
+    private final List<Runnable> onRollback = new ArrayList<>();
+    private boolean broken;
+
+    private Session(Connection connection, int cacheSize) {
+      this.connection = connection;
+      this.cacheSize = cacheSize;
+      // Найдовше не використаний запит закривається, коли кеш переповнений
+      this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+          if (size() > cacheSize) {
+            closeQuietly(eldest.getValue());
+            return true;
+          }
+          return false;
+        }
+      };
+    }
+
+    /**
+     * Підготовлений запит з кешу з'єднання.
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+      if (cacheSize == 0) {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        uncached.add(statement);
+        return statement;
+      }
+      PreparedStatement statement = statements.get(sql);
+      if (statement == null) {
+        statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+      }
+      return statement;
+    }
+
+    private void closeUncached() {
+      uncached.forEach(Session::closeQuietly);
+      uncached.clear();
+    }
+
+    Connection connection() {
+      return connection;
+    }
+
+    private void begin() {
+      if (depth++ == 0) {
+        try {
+          connection.setAutoCommit(false);
+        } catch (SQLException e) {
+          depth--;
+          checkBroken(e);
+          throw new StorageException("Не вдалося почати транзакцію", e);
+        }
+      }
+    }
+
+    /**
+     * Завершує рівень транзакції; зовнішній рівень фіксує її.
+     *
+     * @return дії після фіксації (для зовнішнього рівня)
+     */
+    private List<Runnable> commit() {
+      if (--depth > 0) {
+        return List.of();
+      }
+      try {
+        connection.commit();
+        connection.setAutoCommit(true);
+      } catch (SQLException e) {
+        checkBroken(e);
+        depth++;
+        rollback();
+        throw new StorageException("Не вдалося зафіксувати транзакцію", e);
+      }
+      List<Runnable> completions = new ArrayList<>(onCommit);
+      onCommit.clear();
+      onRollback.clear();
+      return completions;
+    }
+
+    /**
+     * Скасовує транзакцію; вкладений рівень лише передає помилку зовнішньому.
+     */
+    private void rollback() {
+      if (--depth > 0) {
+        return;
+      }
+      try {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      } catch (SQLException e) {
+        checkBroken(e);
+        System.err.println("Не вдалося скасувати транзакцію: " + e.getMessage());
+      }
+      onRollback.forEach(Runnable::run);
+      onCommit.clear();
+      onRollback.clear();
+    }
+
+    /**
+     * Помилки класу 08 - розірване з'єднання.
+     */
+    private void checkBroken(SQLException e) {
+      if (e.getSQLState() != null && e.getSQLState().startsWith("08")) {
+        broken = true;
+      }
+    }
+
+    private void close() {
+      closeUncached();
+      statements.values().forEach(Session::closeQuietly);
+      statements.clear();
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        System.err.println("Не вдалося закрити з'єднання: " + e.getMessage());
+      }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+      try {
+        statement.close();
+      } catch (SQLException e) {
+        System.err.println("Не вдалося закрити запит: " + e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+class JdbcCandidateRepository extends JdbcRepository<Candidate> implements CandidateRepository {
+
+  JdbcCandidateRepository(ConnectionPool pool) {
+    super(pool, "candidates", "first_name", "last_name", "passport_number", "party_code",
+        "election_id", "program", "photo_path", "biography");
+  }
+
+  @Override
+  protected Object[] values(Candidate candidate) {
+    return new Object[]{candidate.getFirstName(), candidate.getLastName(),
+        candidate.getPassportNumber(), candidate.getPartyCode(), candidate.getElectionId(),
+        candidate.getProgram(), candidate.getPhotoPath(), candidate.getBiography()};
+  }
+
+  @Override
+  protected Candidate map(ResultSet row) throws SQLException {
+    return Candidate.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), row.getString("first_name"), row.getString("last_name"),
+        row.getString("passport_number"), row.getString("party_code"),
+        uuid(row, "election_id"), row.getString("program"), row.getString("photo_path"),
+        row.getString("biography"));
+  }
+
+  @Override
+  public Optional<Candidate> findByPassportNumber(String passportNumber) {
+    return queryOne("passport_number = ?", passportNumber);
+  }
+
+  @Override
+  public List<Candidate> findByElectionId(UUID electionId) {
+    return queryList("election_id = ?", electionId);
+  }
+
+  @Override
+  public List<Candidate> findByPartyCode(String partyCode) {
+    return queryList("party_code = ?", partyCode);
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    deleteWhere("election_id = ?", electionId);
+  }
+
+  @Override
+  public void deleteByPartyCode(String partyCode) {
+    deleteWhere("party_code = ?", partyCode);
+  }
+
+  @Override
+  public long countByElectionId(UUID electionId) {
+    return queryCount("election_id = ?", electionId);
+  }
+
+  @Override
+  public long countByPartyCode(String partyCode) {
+    return queryCount("party_code = ?", partyCode);
+  }
+}
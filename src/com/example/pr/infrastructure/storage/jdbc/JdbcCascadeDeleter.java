@@ -0,0 +1,58 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import java.util.UUID;
+
+/**
+ * Каскадне видалення у базі даних: всі видалення - одна транзакція, тож журнал відновлення,
+ * потрібний файловому сховищу, тут не потрібен.
+ */
+class JdbcCascadeDeleter implements CascadeDeleter {
+
+  private final ConnectionPool pool;
+  private final JdbcElectionRepository elections;
+  private final JdbcCandidateRepository candidates;
+  private final JdbcVoterRepository voters;
+  private final JdbcVoteRepository votes;
+
+  JdbcCascadeDeleter(ConnectionPool pool, JdbcElectionRepository elections,
+      JdbcCandidateRepository candidates, JdbcVoterRepository voters, JdbcVoteRepository votes) {
+    this.pool = pool;
+    this.elections = elections;
+    this.candidates = candidates;
+    this.voters = voters;
+    this.votes = votes;
+  }
+
+  @Override
+  public void deleteElection(UUID electionId) {
+    inTransaction(() -> {
+      votes.deleteByElectionId(electionId);
+      candidates.deleteByElectionId(electionId);
+      elections.deleteById(electionId);
+    });
+  }
+
+  @Override
+  public void deleteVoter(UUID voterId) {
+    inTransaction(() -> {
+      votes.deleteByVoterId(voterId);
+      voters.deleteById(voterId);
+    });
+  }
+
+  @Override
+  public void deleteCandidate(UUID candidateId) {
+    inTransaction(() -> {
+      votes.deleteByCandidateId(candidateId);
+      candidates.deleteById(candidateId);
+    });
+  }
+
+  private void inTransaction(Runnable deletions) {
+    pool.transaction(session -> {
+      deletions.run();
+      return null;
+    });
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.infrastructure.storage.contract.ElectionRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+class JdbcElectionRepository extends JdbcRepository<Election> implements ElectionRepository {
+
+  JdbcElectionRepository(ConnectionPool pool) {
+    super(pool, "elections", "name", "description", "start_date", "end_date", "status");
+  }
+
+  @Override
+  protected Object[] values(Election election) {
+    return new Object[]{election.getName(), election.getDescription(), election.getStartDate(),
+        election.getEndDate(), election.getStatus()};
+  }
+
+  @Override
+  protected Election map(ResultSet row) throws SQLException {
+    return Election.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), row.getString("name"), row.getString("description"),
+        dateTime(row, "start_date"), dateTime(row, "end_date"),
+        enumValue(row, "status", ElectionStatus.class));
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.impl.Party;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+class JdbcPartyRepository extends JdbcRepository<Party> implements PartyRepository {
+
+  JdbcPartyRepository(ConnectionPool pool) {
+    super(pool, "parties", "party_code", "name", "abbreviation", "logo_path", "program");
+  }
+
+  @Override
+  protected Object[] values(Party party) {
+    return new Object[]{party.getPartyCode(), party.getName(), party.getAbbreviation(),
+        party.getLogoPath(), party.getProgram()};
+  }
+
+  @Override
+  protected Party map(ResultSet row) throws SQLException {
+    return Party.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), row.getString("party_code"), row.getString("name"),
+        row.getString("abbreviation"), row.getString("logo_path"), row.getString("program"));
+  }
+
+  @Override
+  public Optional<Party> findByCode(String code) {
+    return queryOne("party_code = ?", code);
+  }
+
+  @Override
+  public boolean existsByCode(String code) {
+    return queryExists("party_code = ?", code);
+  }
+
+  @Override
+  public boolean deleteByCode(String code) {
+    return !deleteWhere("party_code = ?", code).isEmpty();
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.impl.Region;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+class JdbcRegionRepository extends JdbcRepository<Region> implements RegionRepository {
+
+  JdbcRegionRepository(ConnectionPool pool) {
+    super(pool, "regions", "name", "code", "description");
+  }
+
+  @Override
+  protected Object[] values(Region region) {
+    return new Object[]{region.getName(), region.getCode(), region.getDescription()};
+  }
+
+  @Override
+  protected Region map(ResultSet row) throws SQLException {
+    return Region.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), row.getString("name"), row.getString("code"),
+        row.getString("description"));
+  }
+}
@@ -0,0 +1,482 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.BaseEntity;
+import com.example.pr.domain.Entity;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.specification.Specification;
+import com.example.pr.infrastructure.storage.Repository;
+import com.example.pr.infrastructure.storage.exception.OptimisticLockException;
+import com.example.pr.infrastructure.storage.exception.UniqueConstraintException;
+import com.example.pr.infrastructure.storage.jdbc.ConnectionPool.Session;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Базовий репозиторій для таблиці бази даних.
+ * <p>
+ * Кожна сутність - рядок таблиці з колонками {@code id, created_at, updated_at, version} і
+ * колонками підкласу. Тексти запитів будуються один раз у конструкторі, тож кеш підготовлених
+ * запитів з'єднання ({@link ConnectionPool}) використовує їх повторно.
+ * <p>
+ * {@link #saveAll} записує пакет в одній транзакції: версії всіх сутностей перевіряються одним
+ * запитом на кожні {@value #VERSION_CHUNK} сутностей, після чого нові рядки вставляються, а
+ * наявні оновлюються пакетами ({@link PreparedStatement#executeBatch()}). Оновлення має умову
+ * на версію, тож паралельний запис між перевіркою і оновленням теж відхиляється
+ * {@link OptimisticLockException}. Порушення унікального індексу відхиляє пакет
+ * {@link UniqueConstraintException}. Події про зміни публікуються після фіксації транзакції.
+ * <p>
+ * Специфікації - довільні предикати, тож запити за ними перевіряють рядки таблиці по одному під
+ * час читання курсором: у пам'яті лишаються лише знайдені сутності, а {@link #exists} і
+ * {@link #findOne} зупиняються на першому збігу. Часті пошуки підкласи роблять запитами з умовою
+ * SQL за індексами ({@link #queryList} та інші).
+ *
+ * @param <T> тип сутності
+ */
+abstract class JdbcRepository<T extends Entity> implements Repository<T> {
+
+  // Скільки ID перевіряється одним запитом версій
+  private static final int VERSION_CHUNK = 100;
+  // Скільки рядків драйвер отримує за раз при проході таблиці
+  private static final int SCAN_FETCH_SIZE = 500;
+  // SQLSTATE порушення унікальності
+  private static final String UNIQUE_VIOLATION = "23505";
+
+  protected final ConnectionPool pool;
+  protected final String table;
+
+  private final String columns;
+  private final String selectAllSql;
+  private final String insertSql;
+  private final String updateSql;
+  private final String versionsSql;
+
+  // Шина подій і тип сутностей для подій про зміни; null - події не публікуються
+  private volatile EventBus events;
+  private Class<T> entityType;
+
+  /**
+   * @param dataColumns колонки підкласу в порядку значень {@link #values}
+   */
+  protected JdbcRepository(ConnectionPool pool, String table, String... dataColumns) {
+    this.pool = pool;
+    this.table = table;
+    String data = String.join(", ", dataColumns);
+    this.columns = "id, created_at, updated_at, version, " + data;
+    this.selectAllSql = "SELECT " + columns + " FROM " + table;
+    this.insertSql = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+        + placeholders(dataColumns.length + 4) + ")";
+    this.updateSql = "UPDATE " + table + " SET updated_at = ?, version = ?, "
+        + String.join(" = ?, ", dataColumns) + " = ? WHERE id = ? AND version = ?";
+    this.versionsSql = "SELECT id, version FROM " + table + " WHERE id IN ("
+        + placeholders(VERSION_CHUNK) + ")";
+  }
+
+  /**
+   * Значення колонок підкласу для запису.
+   */
+  protected abstract Object[] values(T entity);
+
+  /**
+   * Відновлює сутність з поточного рядка (версію встановлює базовий клас).
+   */
+  protected abstract T map(ResultSet row) throws SQLException;
+
+  // ==================== Repository ====================
+
+  @Override
+  public T save(T entity) {
+    saveAll(List.of(entity));
+    return entity;
+  }
+
+  @Override
+  public List<T> saveAll(Collection<? extends T> batch) {
+    if (batch.isEmpty()) {
+      return List.of();
+    }
+    List<T> saved = new ArrayList<>(batch);
+    return pool.transaction(session -> {
+      // Весь пакет відхиляється до запису, якщо хоч одна сутність застаріла
+      Map<UUID, Long> stored = storedVersions(session, saved);
+      List<T> inserted = new ArrayList<>();
+      List<T> updated = new ArrayList<>();
+      for (T entity : saved) {
+        checkVersion(entity, stored.get(entity.getId()));
+        (stored.containsKey(entity.getId()) ? updated : inserted).add(entity);
+      }
+
+      for (T entity : saved) {
+        setVersion(entity, entity.getVersion() + 1);
+      }
+      pool.afterRollback(() -> saved.forEach(e -> setVersion(e, e.getVersion() - 1)));
+
+      if (!inserted.isEmpty()) {
+        PreparedStatement insert = session.prepare(insertSql);
+        for (T entity : inserted) {
+          bindAll(insert, 1, entity.getId(), createdAt(entity), updatedAt(entity),
+              entity.getVersion());
+          bindAll(insert, 5, values(entity));
+          insert.addBatch();
+        }
+        executeBatch(insert);
+      }
+      if (!updated.isEmpty()) {
+        PreparedStatement update = session.prepare(updateSql);
+        for (T entity : updated) {
+          bindAll(update, 1, updatedAt(entity), entity.getVersion());
+          Object[] values = values(entity);
+          bindAll(update, 3, values);
+          bindAll(update, 3 + values.length, entity.getId(), entity.getVersion() - 1);
+          update.addBatch();
+        }
+        int[] counts = executeBatch(update);
+        for (int i = 0; i < counts.length; i++) {
+          if (counts[i] == 0) {
+            // Рядок змінили або видалили після перевірки версій
+            T entity = updated.get(i);
+            throw new OptimisticLockException(entity.getId(), entity.getVersion() - 1, -1);
+          }
+        }
+      }
+
+      onSaved(inserted, updated);
+      pool.afterCommit(() -> publishSaved(saved));
+      return saved;
+    });
+  }
+
+  @Override
+  public Optional<T> findById(UUID id) {
+    return queryOne("id = ?", id);
+  }
+
+  @Override
+  public Optional<T> findOne(Specification<T> spec) {
+    List<T> found = new ArrayList<>(1);
+    scan(entity -> {
+      if (spec.isSatisfiedBy(entity)) {
+        found.add(entity);
+        return false;
+      }
+      return true;
+    });
+    return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+  }
+
+  @Override
+  public List<T> findAll(Specification<T> spec) {
+    List<T> found = new ArrayList<>();
+    scan(entity -> {
+      if (spec.isSatisfiedBy(entity)) {
+        found.add(entity);
+      }
+      return true;
+    });
+    return found;
+  }
+
+  @Override
+  public boolean deleteById(UUID id) {
+    return !deleteWhere("id = ?", id).isEmpty();
+  }
+
+  @Override
+  public boolean delete(T entity) {
+    return deleteById(entity.getId());
+  }
+
+  @Override
+  public boolean existsById(UUID id) {
+    return queryExists("id = ?", id);
+  }
+
+  @Override
+  public long count(Specification<T> spec) {
+    long[] count = {0};
+    scan(entity -> {
+      if (spec.isSatisfiedBy(entity)) {
+        count[0]++;
+      }
+      return true;
+    });
+    return count[0];
+  }
+
+  @Override
+  public boolean exists(Specification<T> spec) {
+    boolean[] found = {false};
+    scan(entity -> {
+      found[0] = spec.isSatisfiedBy(entity);
+      return !found[0];
+    });
+    return found[0];
+  }
+
+  /**
+   * Вмикає публікацію подій {@link EntitiesSaved} і {@link EntitiesRemoved} після фіксації
+   * транзакції.
+   */
+  public void publishTo(EventBus events, Class<T> entityType) {
+    this.entityType = entityType;
+    this.events = events;
+  }
+
+  // ==================== Queries ====================
+
+  /**
+   * Проходить рядки таблиці курсором, не збираючи їх у список; {@code visitor} повертає
+   * {@code false}, щоб зупинити прохід.
+   */
+  protected void scan(Predicate<T> visitor) {
+    pool.call(session -> {
+      PreparedStatement select = session.prepare(selectAllSql);
+      select.setFetchSize(SCAN_FETCH_SIZE);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          if (!visitor.test(read(rows))) {
+            break;
+          }
+        }
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Сутності, що задовольняють умову SQL ({@code where} - стала частина запиту).
+   */
+  protected List<T> queryList(String where, Object... params) {
+    return pool.call(session -> {
+      PreparedStatement select = session.prepare(
+          "SELECT " + columns + " FROM " + table + " WHERE " + where);
+      bindAll(select, 1, params);
+      return readAll(select);
+    });
+  }
+
+  protected Optional<T> queryOne(String where, Object... params) {
+    List<T> found = queryList(where, params);
+    return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+  }
+
+  protected long queryCount(String where, Object... params) {
+    return pool.call(session -> {
+      PreparedStatement count = session.prepare(
+          "SELECT COUNT(*) FROM " + table + " WHERE " + where);
+      bindAll(count, 1, params);
+      try (ResultSet rows = count.executeQuery()) {
+        rows.next();
+        return rows.getLong(1);
+      }
+    });
+  }
+
+  protected boolean queryExists(String where, Object... params) {
+    return pool.call(session -> {
+      PreparedStatement exists = session.prepare(
+          "SELECT 1 FROM " + table + " WHERE " + where + " LIMIT 1");
+      bindAll(exists, 1, params);
+      try (ResultSet rows = exists.executeQuery()) {
+        return rows.next();
+      }
+    });
+  }
+
+  /**
+   * Видаляє сутності, що задовольняють умову SQL, в одній транзакції.
+   *
+   * @return видалені сутності
+   */
+  protected List<T> deleteWhere(String where, Object... params) {
+    return pool.transaction(session -> {
+      List<T> removed = queryList(where, params);
+      if (removed.isEmpty()) {
+        return removed;
+      }
+      PreparedStatement delete = session.prepare("DELETE FROM " + table + " WHERE " + where);
+      bindAll(delete, 1, params);
+      delete.executeUpdate();
+      pool.afterCommit(() -> publishRemoved(removed));
+      return removed;
+    });
+  }
+
+  /**
+   * Викликається в транзакції запису після вставки та оновлення рядків.
+   */
+  protected void onSaved(List<T> inserted, List<T> updated) {
+  }
+
+  // ==================== Values ====================
+
+  /**
+   * Прив'язує значення до параметрів запиту, починаючи з {@code first}: UUID - рядком,
+   * перелічення - назвою константи.
+   */
+  static void bindAll(PreparedStatement statement, int first, Object... values)
+      throws SQLException {
+    for (int i = 0; i < values.length; i++) {
+      Object value = values[i];
+      int index = first + i;
+      if (value == null) {
+        statement.setNull(index, Types.NULL);
+      } else if (value instanceof UUID uuid) {
+        statement.setString(index, uuid.toString());
+      } else if (value instanceof Enum<?> constant) {
+        statement.setString(index, constant.name());
+      } else {
+        statement.setObject(index, value);
+      }
+    }
+  }
+
+  static UUID uuid(ResultSet row, String column) throws SQLException {
+    String value = row.getString(column);
+    return value == null ? null : UUID.fromString(value.trim());
+  }
+
+  static LocalDateTime dateTime(ResultSet row, String column) throws SQLException {
+    return row.getObject(column, LocalDateTime.class);
+  }
+
+  static LocalDate date(ResultSet row, String column) throws SQLException {
+    return row.getObject(column, LocalDate.class);
+  }
+
+  static <E extends Enum<E>> E enumValue(ResultSet row, String column, Class<E> type)
+      throws SQLException {
+    String value = row.getString(column);
+    return value == null ? null : Enum.valueOf(type, value);
+  }
+
+  static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  // ==================== Helper Methods ====================
+
+  private List<T> readAll(PreparedStatement select) throws SQLException {
+    List<T> result = new ArrayList<>();
+    try (ResultSet rows = select.executeQuery()) {
+      while (rows.next()) {
+        result.add(read(rows));
+      }
+    }
+    return result;
+  }
+
+  private T read(ResultSet row) throws SQLException {
+    T entity = map(row);
+    setVersion(entity, row.getLong("version"));
+    return entity;
+  }
+
+  /**
+   * Виконує пакет; порушення унікального індексу перетворюється на
+   * {@link UniqueConstraintException}.
+   */
+  private int[] executeBatch(PreparedStatement statement) throws SQLException {
+    try {
+      return statement.executeBatch();
+    } catch (SQLException e) {
+      if (isUniqueViolation(e)) {
+        throw new UniqueConstraintException(table, e);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Драйвери загортають помилку рядка пакета по-різному - перевіряється весь ланцюжок.
+   */
+  private static boolean isUniqueViolation(SQLException e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof SQLException sql) {
+        for (SQLException next = sql; next != null; next = next.getNextException()) {
+          if (UNIQUE_VIOLATION.equals(next.getSQLState())) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Збережені версії сутностей пакета. Останній ID повторюється до повного розміру частини, щоб
+   * текст запиту не залежав від розміру пакета.
+   */
+  private Map<UUID, Long> storedVersions(Session session, List<T> batch) throws SQLException {
+    Map<UUID, Long> versions = new HashMap<>(batch.size() * 2);
+    PreparedStatement select = session.prepare(versionsSql);
+    for (int from = 0; from < batch.size(); from += VERSION_CHUNK) {
+      List<T> chunk = batch.subList(from, Math.min(batch.size(), from + VERSION_CHUNK));
+      for (int i = 0; i < VERSION_CHUNK; i++) {
+        UUID id = chunk.get(Math.min(i, chunk.size() - 1)).getId();
+        select.setString(i + 1, id.toString());
+      }
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          versions.put(uuid(rows, "id"), rows.getLong("version"));
+        }
+      }
+    }
+    return versions;
+  }
+
+  /**
+   * Та сама перевірка, що й у файловому сховищі: нова сутність має версію 0, наявна - збережену.
+   */
+  private static void checkVersion(Entity entity, Long stored) {
+    if (stored == null) {
+      if (entity.getVersion() > 0) {
+        throw new OptimisticLockException(entity.getId(), entity.getVersion(), -1);
+      }
+    } else if (stored != entity.getVersion()) {
+      throw new OptimisticLockException(entity.getId(), entity.getVersion(), stored);
+    }
+  }
+
+  private static void setVersion(Entity entity, long version) {
+    if (entity instanceof BaseEntity base) {
+      base.setVersion(version);
+    }
+  }
+
+  private static LocalDateTime createdAt(Entity entity) {
+    return entity instanceof BaseEntity base ? base.getCreatedAt() : null;
+  }
+
+  private static LocalDateTime updatedAt(Entity entity) {
+    return entity instanceof BaseEntity base ? base.getUpdatedAt() : null;
+  }
+
+  private void publishSaved(List<T> saved) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesSaved<>(entityType, saved));
+    }
+  }
+
+  private void publishRemoved(List<T> removed) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesRemoved<>(entityType, removed));
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactory;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+
+/**
+ * Рушій {@code jdbc} - вбудована база даних ({@link JdbcStorage}).
+ */
+public class JdbcRepositoryFactory implements RepositoryFactory {
+
+  @Override
+  public String name() {
+    return StorageConfig.BACKEND_JDBC;
+  }
+
+  @Override
+  public StorageEngine create(StorageConfig config, EventBus events) {
+    return new JdbcStorage(config, events);
+  }
+}
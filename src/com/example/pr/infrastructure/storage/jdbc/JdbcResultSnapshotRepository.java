@@ -0,0 +1,187 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import static com.example.pr.infrastructure.storage.jdbc.JdbcRepository.bindAll;
+import static com.example.pr.infrastructure.storage.jdbc.JdbcRepository.dateTime;
+import static com.example.pr.infrastructure.storage.jdbc.JdbcRepository.uuid;
+
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.CandidateResult;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot.RegionResult;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import com.example.pr.infrastructure.storage.jdbc.ConnectionPool.Session;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Сховище підсумків виборів у таблицях {@code election_results}, {@code result_candidates},
+ * {@code result_regions} і {@code result_region_votes}; рядки кандидатів і регіонів мають
+ * порядковий номер, тож підсумки читаються в тому порядку, в якому були збережені.
+ * <p>
+ * Як і у файловому сховищі, прочитані підсумки тримаються в пам'яті і видаляються разом з
+ * виборами або голосами закритих виборів.
+ */
+class JdbcResultSnapshotRepository implements ResultSnapshotRepository {
+
+  private static final String[] TABLES = {
+      "result_region_votes", "result_regions", "result_candidates", "election_results"};
+
+  private final ConnectionPool pool;
+  private final Map<UUID, ElectionResultSnapshot> cache = new ConcurrentHashMap<>();
+
+  JdbcResultSnapshotRepository(ConnectionPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public Optional<ElectionResultSnapshot> findByElectionId(UUID electionId) {
+    ElectionResultSnapshot cached = cache.get(electionId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Optional<ElectionResultSnapshot> loaded = pool.call(session -> load(session, electionId));
+    loaded.ifPresent(snapshot -> cache.put(electionId, snapshot));
+    return loaded;
+  }
+
+  @Override
+  public void save(ElectionResultSnapshot snapshot) {
+    UUID electionId = snapshot.electionId();
+    pool.transaction(session -> {
+      deleteRows(session, electionId);
+
+      PreparedStatement header = session.prepare(
+          "INSERT INTO election_results (election_id, finalized_at) VALUES (?, ?)");
+      bindAll(header, 1, electionId, snapshot.finalizedAt());
+      header.executeUpdate();
+
+      PreparedStatement candidates = session.prepare("INSERT INTO result_candidates"
+          + " (election_id, seq, candidate_id, full_name, party_name, votes)"
+          + " VALUES (?, ?, ?, ?, ?, ?)");
+      int seq = 0;
+      for (CandidateResult candidate : snapshot.candidates()) {
+        bindAll(candidates, 1, electionId, seq++, candidate.candidateId(),
+            candidate.fullName(), candidate.partyName(), candidate.votes());
+        candidates.addBatch();
+      }
+      candidates.executeBatch();
+
+      PreparedStatement regions = session.prepare("INSERT INTO result_regions"
+          + " (election_id, seq, region_id, region_name) VALUES (?, ?, ?, ?)");
+      PreparedStatement regionVotes = session.prepare("INSERT INTO result_region_votes"
+          + " (election_id, region_seq, candidate_id, votes) VALUES (?, ?, ?, ?)");
+      seq = 0;
+      for (RegionResult region : snapshot.regions()) {
+        bindAll(regions, 1, electionId, seq, region.regionId(), region.regionName());
+        regions.addBatch();
+        for (Map.Entry<UUID, Long> entry : region.votesByCandidate().entrySet()) {
+          bindAll(regionVotes, 1, electionId, seq, entry.getKey(), entry.getValue());
+          regionVotes.addBatch();
+        }
+        seq++;
+      }
+      regions.executeBatch();
+      regionVotes.executeBatch();
+
+      cache.remove(electionId);
+      pool.afterCommit(() -> cache.put(electionId, snapshot));
+      return null;
+    });
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    cache.remove(electionId);
+    pool.transaction(session -> {
+      deleteRows(session, electionId);
+      // Паралельне читання могло закешувати підсумки до фіксації видалення
+      pool.afterCommit(() -> cache.remove(electionId));
+      return null;
+    });
+  }
+
+  /**
+   * Видаляє підсумки, які перестали відповідати голосам.
+   */
+  void subscribeTo(EventBus events) {
+    events.subscribe(EntitiesRemoved.class, event -> {
+      EntitiesRemoved<?> removed = event;
+      removed.entitiesOf(Vote.class).stream()
+          .map(Vote::getElectionId)
+          .distinct()
+          .forEach(this::deleteByElectionId);
+      removed.entitiesOf(Election.class).forEach(e -> deleteByElectionId(e.getId()));
+    });
+  }
+
+  // ==================== Helper Methods ====================
+
+  private static void deleteRows(Session session, UUID electionId) throws SQLException {
+    for (String table : TABLES) {
+      PreparedStatement delete = session.prepare(
+          "DELETE FROM " + table + " WHERE election_id = ?");
+      bindAll(delete, 1, electionId);
+      delete.executeUpdate();
+    }
+  }
+
+  private static Optional<ElectionResultSnapshot> load(Session session, UUID electionId)
+      throws SQLException {
+    PreparedStatement header = session.prepare(
+        "SELECT finalized_at FROM election_results WHERE election_id = ?");
+    bindAll(header, 1, electionId);
+    LocalDateTime finalizedAt;
+    try (ResultSet rows = header.executeQuery()) {
+      if (!rows.next()) {
+        return Optional.empty();
+      }
+      finalizedAt = dateTime(rows, "finalized_at");
+    }
+
+    PreparedStatement candidateRows = session.prepare("SELECT candidate_id, full_name,"
+        + " party_name, votes FROM result_candidates WHERE election_id = ? ORDER BY seq");
+    bindAll(candidateRows, 1, electionId);
+    List<CandidateResult> candidates = new ArrayList<>();
+    try (ResultSet rows = candidateRows.executeQuery()) {
+      while (rows.next()) {
+        candidates.add(new CandidateResult(uuid(rows, "candidate_id"),
+            rows.getString("full_name"), rows.getString("party_name"), rows.getLong("votes")));
+      }
+    }
+
+    PreparedStatement voteRows = session.prepare("SELECT region_seq, candidate_id, votes"
+        + " FROM result_region_votes WHERE election_id = ?");
+    bindAll(voteRows, 1, electionId);
+    Map<Integer, Map<UUID, Long>> votesByRegion = new HashMap<>();
+    try (ResultSet rows = voteRows.executeQuery()) {
+      while (rows.next()) {
+        votesByRegion.computeIfAbsent(rows.getInt("region_seq"), k -> new HashMap<>())
+            .put(uuid(rows, "candidate_id"), rows.getLong("votes"));
+      }
+    }
+
+    PreparedStatement regionRows = session.prepare("SELECT seq, region_id, region_name"
+        + " FROM result_regions WHERE election_id = ? ORDER BY seq");
+    bindAll(regionRows, 1, electionId);
+    List<RegionResult> regions = new ArrayList<>();
+    try (ResultSet rows = regionRows.executeQuery()) {
+      while (rows.next()) {
+        regions.add(new RegionResult(uuid(rows, "region_id"), rows.getString("region_name"),
+            votesByRegion.getOrDefault(rows.getInt("seq"), Map.of())));
+      }
+    }
+    return Optional.of(new ElectionResultSnapshot(electionId, finalizedAt, candidates, regions));
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Схема бази даних. Таблиці та індекси створюються при запуску, якщо їх ще немає.
+ * <p>
+ * UUID зберігаються рядками ({@code CHAR(36)}), перелічення - назвою константи. Індекси
+ * покривають пошуки, які файлове сховище робить через індекси в пам'яті: виборця за email і
+ * паспортом, кандидатів за виборами і партією, голоси за виборами і виборцем (участь) та за
+ * кандидатом. Email і паспорт виборця та участь (один голос виборця на виборах) - унікальні
+ * індекси: база відхиляє дублікат, навіть якщо перевірку сервісу обійшов паралельний запис.
+ * Звичайні індекси попередніх версій схеми на цих колонках замінюються унікальними; якщо в даних
+ * уже є дублікати, створення схеми не вдасться.
+ */
+final class JdbcSchema {
+
+  private static final String ENTITY = "id CHAR(36) PRIMARY KEY, created_at TIMESTAMP,"
+      + " updated_at TIMESTAMP, version BIGINT NOT NULL, ";
+
+  private static final List<String> STATEMENTS = List.of(
+      "CREATE TABLE IF NOT EXISTS voters (" + ENTITY + "first_name VARCHAR(255),"
+          + " last_name VARCHAR(255), email VARCHAR(255), password_hash VARCHAR(255),"
+          + " passport_number VARCHAR(64), birth_date DATE, role VARCHAR(32),"
+          + " region_id CHAR(36))",
+      "DROP INDEX IF EXISTS voters_email",
+      "CREATE UNIQUE INDEX IF NOT EXISTS voters_email_unique ON voters (email)",
+      "DROP INDEX IF EXISTS voters_passport",
+      "CREATE UNIQUE INDEX IF NOT EXISTS voters_passport_unique ON voters (passport_number)",
+      "CREATE INDEX IF NOT EXISTS voters_region ON voters (region_id)",
+
+      "CREATE TABLE IF NOT EXISTS candidates (" + ENTITY + "first_name VARCHAR(255),"
+          + " last_name VARCHAR(255), passport_number VARCHAR(64), party_code VARCHAR(64),"
+          + " election_id CHAR(36), program VARCHAR(100000), photo_path VARCHAR(1024),"
+          + " biography VARCHAR(100000))",
+      "CREATE INDEX IF NOT EXISTS candidates_passport ON candidates (passport_number)",
+      "CREATE INDEX IF NOT EXISTS candidates_election ON candidates (election_id)",
+      "CREATE INDEX IF NOT EXISTS candidates_party ON candidates (party_code)",
+
+      "CREATE TABLE IF NOT EXISTS elections (" + ENTITY + "name VARCHAR(255),"
+          + " description VARCHAR(100000), start_date TIMESTAMP, end_date TIMESTAMP,"
+          + " status VARCHAR(32))",
+
+      "CREATE TABLE IF NOT EXISTS regions (" + ENTITY + "name VARCHAR(255),"
+          + " code VARCHAR(64), description VARCHAR(100000))",
+
+      "CREATE TABLE IF NOT EXISTS parties (" + ENTITY + "party_code VARCHAR(64),"
+          + " name VARCHAR(255), abbreviation VARCHAR(64), logo_path VARCHAR(1024),"
+          + " program VARCHAR(100000))",
+      "CREATE INDEX IF NOT EXISTS parties_code ON parties (party_code)",
+
+      "CREATE TABLE IF NOT EXISTS votes (" + ENTITY + "voter_id CHAR(36),"
+          + " candidate_id CHAR(36), election_id CHAR(36) NOT NULL, cast_at TIMESTAMP)",
+      "DROP INDEX IF EXISTS votes_participation",
+      "CREATE UNIQUE INDEX IF NOT EXISTS votes_participation_unique"
+          + " ON votes (election_id, voter_id)",
+      "CREATE INDEX IF NOT EXISTS votes_candidate ON votes (candidate_id)",
+      "CREATE INDEX IF NOT EXISTS votes_voter ON votes (voter_id)",
+
+      "CREATE TABLE IF NOT EXISTS election_results (election_id CHAR(36) PRIMARY KEY,"
+          + " finalized_at TIMESTAMP)",
+      "CREATE TABLE IF NOT EXISTS result_candidates (election_id CHAR(36), seq INT,"
+          + " candidate_id CHAR(36), full_name VARCHAR(512), party_name VARCHAR(255),"
+          + " votes BIGINT, PRIMARY KEY (election_id, seq))",
+      "CREATE TABLE IF NOT EXISTS result_regions (election_id CHAR(36), seq INT,"
+          + " region_id CHAR(36), region_name VARCHAR(255), PRIMARY KEY (election_id, seq))",
+      "CREATE TABLE IF NOT EXISTS result_region_votes (election_id CHAR(36), region_seq INT,"
+          + " candidate_id CHAR(36), votes BIGINT,"
+          + " PRIMARY KEY (election_id, region_seq, candidate_id))");
+
+  private JdbcSchema() {
+  }
+
+  /**
+   * Створює відсутні таблиці та індекси в одній транзакції.
+   */
+  static void create(ConnectionPool pool) {
+    pool.transaction(session -> {
+      try (Statement statement = session.connection().createStatement()) {
+        for (String sql : STATEMENTS) {
+          statement.execute(sql);
+        }
+      }
+      return null;
+    });
+  }
+}
@@ -0,0 +1,130 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Party;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import com.example.pr.infrastructure.storage.contract.ElectionRepository;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+import java.nio.file.Path;
+
+/**
+ * Сховище у вбудованій базі даних через JDBC: пул з'єднань, схема і репозиторії з тими самими
+ * контрактами, що й у файлового сховища.
+ * <p>
+ * URL бази береться з {@link StorageConfig#getJdbcUrl()}; за замовчуванням - файлова база H2
+ * {@code voting} у директорії даних. Драйвер не входить до застосування: його jar має бути на
+ * classpath (у {@code lib/}).
+ */
+public final class JdbcStorage implements StorageEngine {
+
+  private static final String DEFAULT_DATABASE = "voting";
+
+  private final ConnectionPool pool;
+  private final JdbcVoterRepository voters;
+  private final JdbcCandidateRepository candidates;
+  private final JdbcElectionRepository elections;
+  private final JdbcVoteRepository votes;
+  private final JdbcRegionRepository regions;
+  private final JdbcPartyRepository parties;
+  private final JdbcResultSnapshotRepository results;
+  private final JdbcCascadeDeleter cascade;
+
+  /**
+   * Підключається до бази, створює відсутні таблиці і вмикає публікацію подій про зміни.
+   */
+  public JdbcStorage(StorageConfig config, EventBus events) {
+    String url = config.getJdbcUrl() != null
+        ? config.getJdbcUrl()
+        : "jdbc:h2:" + Path.of(BinaryFilePath.getDataDir(), DEFAULT_DATABASE).toAbsolutePath();
+    this.pool = new ConnectionPool(url, config.getJdbcUser(), config.getJdbcPassword(),
+        config.getPoolSize(), config.getStatementCacheSize());
+    JdbcSchema.create(pool);
+
+    this.voters = new JdbcVoterRepository(pool);
+    this.candidates = new JdbcCandidateRepository(pool);
+    this.elections = new JdbcElectionRepository(pool);
+    this.votes = new JdbcVoteRepository(pool);
+    this.regions = new JdbcRegionRepository(pool);
+    this.parties = new JdbcPartyRepository(pool);
+    this.results = new JdbcResultSnapshotRepository(pool);
+    this.cascade = new JdbcCascadeDeleter(pool, elections, candidates, voters, votes);
+
+    voters.publishTo(events, Voter.class);
+    candidates.publishTo(events, Candidate.class);
+    elections.publishTo(events, Election.class);
+    votes.publishTo(events, Vote.class);
+    regions.publishTo(events, Region.class);
+    parties.publishTo(events, Party.class);
+    results.subscribeTo(events);
+  }
+
+  @Override
+  public VoterRepository voters() {
+    return voters;
+  }
+
+  @Override
+  public CandidateRepository candidates() {
+    return candidates;
+  }
+
+  @Override
+  public ElectionRepository elections() {
+    return elections;
+  }
+
+  @Override
+  public VoteRepository votes() {
+    return votes;
+  }
+
+  @Override
+  public RegionRepository regions() {
+    return regions;
+  }
+
+  @Override
+  public PartyRepository parties() {
+    return parties;
+  }
+
+  @Override
+  public ResultSnapshotRepository results() {
+    return results;
+  }
+
+  @Override
+  public CascadeDeleter cascade() {
+    return cascade;
+  }
+
+  /**
+   * Виконує дію в одній транзакції: всі записи репозиторіїв всередині неї фіксуються разом, а
+   * події про зміни публікуються після фіксації.
+   */
+  @Override
+  public void inUnitOfWork(Runnable work) {
+    pool.transaction(session -> {
+      work.run();
+      return null;
+    });
+  }
+
+  @Override
+  public void close() {
+    pool.close();
+  }
+}
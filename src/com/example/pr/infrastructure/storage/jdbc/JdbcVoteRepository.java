@@ -0,0 +1,229 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import com.example.pr.infrastructure.storage.audit.ConsistencyProof;
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
+import com.example.pr.infrastructure.storage.audit.MerkleLog;
+import com.example.pr.infrastructure.storage.audit.VoteLeaf;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Сховище голосів у таблиці {@code votes}.
+ * <p>
+ * Участь і підрахунки - запити за індексами {@code (election_id, voter_id)} і
+ * {@code candidate_id}, тож окремий реєстр участі і лічильники в пам'яті не потрібні, а
+ * закриття виборів нічого не переносить ({@link #freezeElection}, {@link #unloadElection}).
+ * <p>
+ * Журнал аудиту той самий, що й у файлового сховища ({@link MerkleLog} у {@code data/audit}):
+ * голоси дописуються до нього після фіксації транзакції. Голоси, записані до появи журналу,
+ * вносяться до нього при запуску в порядку запису.
+ */
+class JdbcVoteRepository extends JdbcRepository<Vote> implements VoteRepository {
+
+  private final Path auditDirectory;
+
+  // Журнали аудиту за ID виборів (відкриваються при першому зверненні)
+  private final Map<UUID, MerkleLog> auditLogs = new ConcurrentHashMap<>();
+
+  JdbcVoteRepository(ConnectionPool pool) {
+    super(pool, "votes", "voter_id", "candidate_id", "election_id", "cast_at");
+    this.auditDirectory = Path.of(BinaryFilePath.AUDIT.getPath());
+    bootstrapAuditLogs();
+  }
+
+  @Override
+  protected Object[] values(Vote vote) {
+    return new Object[]{vote.getVoterId(), vote.getCandidateId(), vote.getElectionId(),
+        vote.getTimestamp()};
+  }
+
+  @Override
+  protected Vote map(ResultSet row) throws SQLException {
+    return Vote.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), uuid(row, "voter_id"), uuid(row, "candidate_id"),
+        uuid(row, "election_id"), dateTime(row, "cast_at"));
+  }
+
+  @Override
+  public List<Vote> saveAll(Collection<? extends Vote> votes) {
+    for (Vote vote : votes) {
+      if (vote.getElectionId() == null) {
+        throw new StorageException("Голос без виборів не може бути збережений: " + vote.getId());
+      }
+    }
+    return super.saveAll(votes);
+  }
+
+  /**
+   * Листки голосів дописуються після фіксації: скасована транзакція журналу не змінює.
+   */
+  @Override
+  protected void onSaved(List<Vote> inserted, List<Vote> updated) {
+    pool.afterCommit(() -> {
+      Set<UUID> elections = new LinkedHashSet<>();
+      for (Vote vote : inserted) {
+        auditLog(vote.getElectionId()).append(vote.getId(), VoteLeaf.hash(vote));
+        elections.add(vote.getElectionId());
+      }
+      for (Vote vote : updated) {
+        auditLog(vote.getElectionId()).appendIfChanged(vote.getId(), VoteLeaf.hash(vote));
+        elections.add(vote.getElectionId());
+      }
+      elections.forEach(electionId -> auditLog(electionId).flush());
+    });
+  }
+
+  // ==================== VoteRepository ====================
+
+  @Override
+  public boolean hasVoted(UUID voterId, UUID electionId) {
+    return queryExists("election_id = ? AND voter_id = ?", electionId, voterId);
+  }
+
+  @Override
+  public Optional<Vote> findByVoterAndElection(UUID voterId, UUID electionId) {
+    return queryOne("election_id = ? AND voter_id = ?", electionId, voterId);
+  }
+
+  @Override
+  public List<Vote> findByElectionId(UUID electionId) {
+    return queryList("election_id = ?", electionId);
+  }
+
+  @Override
+  public List<Vote> findByCandidateId(UUID candidateId) {
+    return queryList("candidate_id = ?", candidateId);
+  }
+
+  @Override
+  public List<Vote> findByVoterId(UUID voterId) {
+    return queryList("voter_id = ?", voterId);
+  }
+
+  @Override
+  public long countByCandidate(UUID candidateId) {
+    return queryCount("candidate_id = ?", candidateId);
+  }
+
+  @Override
+  public long countByElection(UUID electionId) {
+    return queryCount("election_id = ?", electionId);
+  }
+
+  @Override
+  public long countByCandidateAndElection(UUID candidateId, UUID electionId) {
+    return queryCount("candidate_id = ? AND election_id = ?", candidateId, electionId);
+  }
+
+  /**
+   * Один запит з групуванням - усі числа з однієї версії даних.
+   */
+  @Override
+  public Map<UUID, Long> countByCandidateInElection(UUID electionId) {
+    return pool.call(session -> {
+      PreparedStatement select = session.prepare("SELECT candidate_id, COUNT(*) FROM votes"
+          + " WHERE election_id = ? GROUP BY candidate_id");
+      bindAll(select, 1, electionId);
+      Map<UUID, Long> counts = new HashMap<>();
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          counts.put(uuid(rows, "candidate_id"), rows.getLong(2));
+        }
+      }
+      return counts;
+    });
+  }
+
+  /**
+   * Голоси закритих виборів лишаються у тій самій таблиці.
+   */
+  @Override
+  public void freezeElection(UUID electionId) {
+  }
+
+  /**
+   * Голоси не тримаються в пам'яті - вивантажувати нічого.
+   */
+  @Override
+  public void unloadElection(UUID electionId) {
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    deleteWhere("election_id = ?", electionId);
+  }
+
+  @Override
+  public void deleteByVoterId(UUID voterId) {
+    deleteWhere("voter_id = ?", voterId);
+  }
+
+  @Override
+  public void deleteByCandidateId(UUID candidateId) {
+    deleteWhere("candidate_id = ?", candidateId);
+  }
+
+  @Override
+  public AuditCheckpoint auditCheckpoint(UUID electionId) {
+    return auditLog(electionId).checkpoint();
+  }
+
+  @Override
+  public Optional<InclusionProof> proveInclusion(UUID electionId, UUID voteId) {
+    return auditLog(electionId).proveInclusion(voteId);
+  }
+
+  @Override
+  public ConsistencyProof proveConsistency(UUID electionId, long oldSize) {
+    return auditLog(electionId).proveConsistency(oldSize);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private MerkleLog auditLog(UUID electionId) {
+    return auditLogs.computeIfAbsent(electionId, id -> MerkleLog.open(auditDirectory, id));
+  }
+
+  /**
+   * Вносить до порожніх журналів аудиту голоси, записані до їх появи (наприклад, перенесені з
+   * іншого сховища). Викликається з конструктора, до будь-яких записів.
+   */
+  private void bootstrapAuditLogs() {
+    List<UUID> elections = pool.call(session -> {
+      List<UUID> ids = new ArrayList<>();
+      try (ResultSet rows = session.prepare("SELECT DISTINCT election_id FROM votes")
+          .executeQuery()) {
+        while (rows.next()) {
+          ids.add(uuid(rows, "election_id"));
+        }
+      }
+      return ids;
+    });
+    for (UUID electionId : elections) {
+      MerkleLog log = auditLog(electionId);
+      if (log.size() > 0) {
+        continue;
+      }
+      queryList("election_id = ? ORDER BY created_at, id", electionId)
+          .forEach(vote -> log.append(vote.getId(), VoteLeaf.hash(vote)));
+      log.flush();
+    }
+  }
+}
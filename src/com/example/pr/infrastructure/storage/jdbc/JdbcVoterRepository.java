@@ -0,0 +1,63 @@
+package com.example.pr.infrastructure.storage.jdbc;
+
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+
+class JdbcVoterRepository extends JdbcRepository<Voter> implements VoterRepository {
+
+  JdbcVoterRepository(ConnectionPool pool) {
+    super(pool, "voters", "first_name", "last_name", "email", "password_hash",
+        "passport_number", "birth_date", "role", "region_id");
+  }
+
+  @Override
+  protected Object[] values(Voter voter) {
+    return new Object[]{voter.getFirstName(), voter.getLastName(), voter.getEmail(),
+        voter.getPasswordHash(), voter.getPassportNumber(), voter.getBirthDate(),
+        voter.getRole(), voter.getRegionId()};
+  }
+
+  @Override
+  protected Voter map(ResultSet row) throws SQLException {
+    return Voter.restore(uuid(row, "id"), dateTime(row, "created_at"),
+        dateTime(row, "updated_at"), row.getString("first_name"), row.getString("last_name"),
+        row.getString("email"), row.getString("password_hash"),
+        row.getString("passport_number"), date(row, "birth_date"),
+        enumValue(row, "role", VoterRole.class), uuid(row, "region_id"));
+  }
+
+  @Override
+  public Optional<Voter> findByEmail(String email) {
+    return queryOne("email = ?", email);
+  }
+
+  @Override
+  public Optional<Voter> findByPassportNumber(String passportNumber) {
+    return queryOne("passport_number = ?", passportNumber);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return queryExists("email = ?", email);
+  }
+
+  @Override
+  public boolean existsByPassportNumber(String passportNumber) {
+    return queryExists("passport_number = ?", passportNumber);
+  }
+
+  @Override
+  public void deleteByRegionId(UUID regionId) {
+    deleteWhere("region_id = ?", regionId);
+  }
+
+  @Override
+  public long countByRegionId(UUID regionId) {
+    return queryCount("region_id = ?", regionId);
+  }
+}
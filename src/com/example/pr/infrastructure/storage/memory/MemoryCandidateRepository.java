@@ -0,0 +1,51 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+class MemoryCandidateRepository extends MemoryRepository<Candidate>
+    implements CandidateRepository {
+
+  private final SecondaryIndex<Candidate, String> byPassport =
+      index(Candidate::getPassportNumber);
+  private final SecondaryIndex<Candidate, UUID> byElection = index(Candidate::getElectionId);
+  private final SecondaryIndex<Candidate, String> byParty = index(Candidate::getPartyCode);
+
+  @Override
+  public Optional<Candidate> findByPassportNumber(String passportNumber) {
+    return findFirstBy(byPassport, passportNumber);
+  }
+
+  @Override
+  public List<Candidate> findByElectionId(UUID electionId) {
+    return findBy(byElection, electionId);
+  }
+
+  @Override
+  public List<Candidate> findByPartyCode(String partyCode) {
+    return findBy(byParty, partyCode);
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    deleteBy(byElection, electionId);
+  }
+
+  @Override
+  public void deleteByPartyCode(String partyCode) {
+    deleteBy(byParty, partyCode);
+  }
+
+  @Override
+  public long countByElectionId(UUID electionId) {
+    return countBy(byElection, electionId);
+  }
+
+  @Override
+  public long countByPartyCode(String partyCode) {
+    return countBy(byParty, partyCode);
+  }
+}
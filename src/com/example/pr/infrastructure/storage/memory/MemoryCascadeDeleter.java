@@ -0,0 +1,43 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import java.util.UUID;
+
+/**
+ * Каскадне видалення у пам'яті: видалення з мап не можуть не вдатися, тож журнал відновлення
+ * не потрібен. Залежні дані видаляються першими - читач не побачить голосу без виборів.
+ */
+class MemoryCascadeDeleter implements CascadeDeleter {
+
+  private final MemoryElectionRepository elections;
+  private final MemoryCandidateRepository candidates;
+  private final MemoryVoterRepository voters;
+  private final MemoryVoteRepository votes;
+
+  MemoryCascadeDeleter(MemoryElectionRepository elections, MemoryCandidateRepository candidates,
+      MemoryVoterRepository voters, MemoryVoteRepository votes) {
+    this.elections = elections;
+    this.candidates = candidates;
+    this.voters = voters;
+    this.votes = votes;
+  }
+
+  @Override
+  public synchronized void deleteElection(UUID electionId) {
+    votes.deleteByElectionId(electionId);
+    candidates.deleteByElectionId(electionId);
+    elections.deleteById(electionId);
+  }
+
+  @Override
+  public synchronized void deleteVoter(UUID voterId) {
+    votes.deleteByVoterId(voterId);
+    voters.deleteById(voterId);
+  }
+
+  @Override
+  public synchronized void deleteCandidate(UUID candidateId) {
+    votes.deleteByCandidateId(candidateId);
+    candidates.deleteById(candidateId);
+  }
+}
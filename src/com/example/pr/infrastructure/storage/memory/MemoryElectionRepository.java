@@ -0,0 +1,9 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Election;
+import com.example.pr.infrastructure.storage.contract.ElectionRepository;
+
+class MemoryElectionRepository extends MemoryRepository<Election>
+    implements ElectionRepository {
+
+}
@@ -0,0 +1,25 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Party;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import java.util.Optional;
+
+class MemoryPartyRepository extends MemoryRepository<Party> implements PartyRepository {
+
+  private final SecondaryIndex<Party, String> byCode = index(Party::getPartyCode);
+
+  @Override
+  public Optional<Party> findByCode(String code) {
+    return findFirstBy(byCode, code);
+  }
+
+  @Override
+  public boolean existsByCode(String code) {
+    return existsBy(byCode, code);
+  }
+
+  @Override
+  public boolean deleteByCode(String code) {
+    return !deleteBy(byCode, code).isEmpty();
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Region;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+
+class MemoryRegionRepository extends MemoryRepository<Region> implements RegionRepository {
+
+}
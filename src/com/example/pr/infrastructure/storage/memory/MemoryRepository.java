@@ -0,0 +1,246 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.BaseEntity;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EntitiesSaved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.specification.Specification;
+import com.example.pr.infrastructure.storage.Repository;
+import com.example.pr.infrastructure.storage.exception.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Базовий репозиторій у пам'яті, без жодного звернення до диска.
+ * <p>
+ * Сутності лежать у {@link ConcurrentHashMap}, пошуки за полями - через вторинні індекси
+ * ({@link SecondaryIndex}). Читачі не беруть блокувань, тож читання масштабується з кількістю
+ * ядер; записи одного репозиторію серіалізуються блокуванням, як і у файловому сховищі. Пакет
+ * перевіряється цілком до першої зміни, а версії працюють так само: запис, що спирається на
+ * застарілу версію, відхиляється {@link OptimisticLockException}.
+ * <p>
+ * Репозиторій зберігає власні копії сутностей і повертає копії, тому зміни екземпляра поза
+ * репозиторієм не видно іншим, доки його не збережено, а збереження екземпляра, прочитаного до
+ * чужого запису, відхиляється перевіркою версії.
+ *
+ * @param <T> тип сутності
+ */
+abstract class MemoryRepository<T extends BaseEntity> implements Repository<T> {
+
+  private final ConcurrentHashMap<UUID, T> entities = new ConcurrentHashMap<>();
+  private final List<SecondaryIndex<T, ?>> indexes = new ArrayList<>();
+
+  // Записувач одночасно може бути лише один
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  // Шина подій і тип сутностей для подій про зміни; null - події не публікуються
+  private volatile EventBus events;
+  private Class<T> entityType;
+
+  /**
+   * Створює вторинний індекс за полем. Викликається з конструктора підкласу.
+   */
+  protected <K> SecondaryIndex<T, K> index(Function<? super T, ? extends K> key) {
+    SecondaryIndex<T, K> index = new SecondaryIndex<>(key);
+    indexes.add(index);
+    return index;
+  }
+
+  // ==================== Repository ====================
+
+  @Override
+  public T save(T entity) {
+    saveAll(List.of(entity));
+    return entity;
+  }
+
+  @Override
+  public List<T> saveAll(Collection<? extends T> batch) {
+    if (batch.isEmpty()) {
+      return List.of();
+    }
+    List<T> saved = new ArrayList<>(batch);
+    List<T> stored = new ArrayList<>(saved.size());
+    writeLock.lock();
+    try {
+      // Весь пакет відхиляється до запису, якщо хоч одна сутність застаріла
+      for (T entity : saved) {
+        checkVersion(entity, entities.get(entity.getId()));
+      }
+      List<T> previous = new ArrayList<>(saved.size());
+      for (T entity : saved) {
+        entity.setVersion(entity.getVersion() + 1);
+        T copy = entity.copy();
+        stored.add(copy);
+        previous.add(entities.put(copy.getId(), copy));
+        for (SecondaryIndex<T, ?> index : indexes) {
+          index.put(copy.getId(), copy);
+        }
+      }
+      onSaved(stored, previous);
+    } finally {
+      writeLock.unlock();
+    }
+    publishSaved(stored);
+    return saved;
+  }
+
+  @Override
+  public Optional<T> findById(UUID id) {
+    return Optional.ofNullable(entities.get(id)).map(BaseEntity::copy);
+  }
+
+  @Override
+  public Optional<T> findOne(Specification<T> spec) {
+    return entities.values().stream()
+        .filter(spec::isSatisfiedBy)
+        .findFirst()
+        .map(BaseEntity::copy);
+  }
+
+  @Override
+  public List<T> findAll(Specification<T> spec) {
+    return entities.values().stream()
+        .filter(spec::isSatisfiedBy)
+        .<T>map(BaseEntity::copy)
+        .toList();
+  }
+
+  @Override
+  public boolean deleteById(UUID id) {
+    return !deleteAll(List.of(id)).isEmpty();
+  }
+
+  @Override
+  public boolean delete(T entity) {
+    return deleteById(entity.getId());
+  }
+
+  @Override
+  public boolean existsById(UUID id) {
+    return entities.containsKey(id);
+  }
+
+  @Override
+  public long count(Specification<T> spec) {
+    return entities.values().stream().filter(spec::isSatisfiedBy).count();
+  }
+
+  @Override
+  public boolean exists(Specification<T> spec) {
+    return entities.values().stream().anyMatch(spec::isSatisfiedBy);
+  }
+
+  /**
+   * Вмикає публікацію подій {@link EntitiesSaved} і {@link EntitiesRemoved} після кожного запису.
+   */
+  public void publishTo(EventBus events, Class<T> entityType) {
+    this.entityType = entityType;
+    this.events = events;
+  }
+
+  // ==================== Index queries ====================
+
+  protected <K> List<T> findBy(SecondaryIndex<T, K> index, K value) {
+    Set<UUID> ids = index.get(value);
+    List<T> found = new ArrayList<>(ids.size());
+    for (UUID id : ids) {
+      T entity = entities.get(id);
+      if (entity != null) {
+        found.add(entity.copy());
+      }
+    }
+    return found;
+  }
+
+  protected <K> Optional<T> findFirstBy(SecondaryIndex<T, K> index, K value) {
+    for (UUID id : index.get(value)) {
+      T entity = entities.get(id);
+      if (entity != null) {
+        return Optional.of(entity.copy());
+      }
+    }
+    return Optional.empty();
+  }
+
+  protected <K> long countBy(SecondaryIndex<T, K> index, K value) {
+    return index.get(value).size();
+  }
+
+  protected <K> boolean existsBy(SecondaryIndex<T, K> index, K value) {
+    return !index.get(value).isEmpty();
+  }
+
+  /**
+   * Видаляє всі сутності зі значенням поля.
+   *
+   * @return видалені сутності
+   */
+  protected <K> List<T> deleteBy(SecondaryIndex<T, K> index, K value) {
+    return deleteAll(List.copyOf(index.get(value)));
+  }
+
+  /**
+   * Викликається під блокуванням запису після збереження пакета; {@code previous} - попередні
+   * екземпляри у тому самому порядку ({@code null} для нових).
+   */
+  protected void onSaved(List<T> saved, List<T> previous) {
+  }
+
+  // ==================== Helper Methods ====================
+
+  private List<T> deleteAll(Collection<UUID> ids) {
+    List<T> removed = new ArrayList<>();
+    writeLock.lock();
+    try {
+      for (UUID id : ids) {
+        T entity = entities.remove(id);
+        if (entity != null) {
+          indexes.forEach(index -> index.remove(id));
+          removed.add(entity);
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    if (!removed.isEmpty()) {
+      publishRemoved(removed);
+    }
+    return removed;
+  }
+
+  /**
+   * Та сама перевірка, що й у файловому сховищі: нова сутність має версію 0, наявна - збережену.
+   */
+  private static void checkVersion(BaseEntity entity, BaseEntity stored) {
+    if (stored == null) {
+      if (entity.getVersion() > 0) {
+        throw new OptimisticLockException(entity.getId(), entity.getVersion(), -1);
+      }
+    } else if (stored.getVersion() != entity.getVersion()) {
+      throw new OptimisticLockException(entity.getId(), entity.getVersion(),
+          stored.getVersion());
+    }
+  }
+
+  private void publishSaved(List<T> saved) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesSaved<>(entityType, saved));
+    }
+  }
+
+  private void publishRemoved(List<T> removed) {
+    EventBus bus = events;
+    if (bus != null) {
+      bus.publish(new EntitiesRemoved<>(entityType, removed));
+    }
+  }
+}
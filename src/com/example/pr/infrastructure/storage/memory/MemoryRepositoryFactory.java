@@ -0,0 +1,22 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactory;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+
+/**
+ * Рушій {@code memory} - дані лише в пам'яті ({@link MemoryStorage}).
+ */
+public class MemoryRepositoryFactory implements RepositoryFactory {
+
+  @Override
+  public String name() {
+    return StorageConfig.BACKEND_MEMORY;
+  }
+
+  @Override
+  public StorageEngine create(StorageConfig config, EventBus events) {
+    return new MemoryStorage(events);
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.contract.ElectionResultSnapshot;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Підсумки виборів у пам'яті.
+ */
+class MemoryResultSnapshotRepository implements ResultSnapshotRepository {
+
+  private final Map<UUID, ElectionResultSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  @Override
+  public Optional<ElectionResultSnapshot> findByElectionId(UUID electionId) {
+    return Optional.ofNullable(snapshots.get(electionId));
+  }
+
+  @Override
+  public void save(ElectionResultSnapshot snapshot) {
+    snapshots.put(snapshot.electionId(), snapshot);
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    snapshots.remove(electionId);
+  }
+
+  /**
+   * Видаляє підсумки, які перестали відповідати голосам.
+   */
+  void subscribeTo(EventBus events) {
+    events.subscribe(EntitiesRemoved.class, event -> {
+      EntitiesRemoved<?> removed = event;
+      removed.entitiesOf(Vote.class).stream()
+          .map(Vote::getElectionId)
+          .distinct()
+          .forEach(this::deleteByElectionId);
+      removed.entitiesOf(Election.class).forEach(e -> deleteByElectionId(e.getId()));
+    });
+  }
+}
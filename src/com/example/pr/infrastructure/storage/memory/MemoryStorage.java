@@ -0,0 +1,92 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Party;
+import com.example.pr.domain.impl.Region;
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import com.example.pr.infrastructure.storage.contract.ElectionRepository;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+
+/**
+ * Сховище цілком у пам'яті: ті самі контракти, що й у файлового сховища, без жодного
+ * звернення до диска. Дані живуть до зупинки процесу - для навантажувального тестування і як
+ * кешувальний рівень перед іншим сховищем.
+ * <p>
+ * Кожен запис репозиторію атомарний сам по собі; одиниця роботи нічого не об'єднує, бо
+ * відкочувати з пам'яті нічого.
+ */
+public final class MemoryStorage implements StorageEngine {
+
+  private final MemoryVoterRepository voters = new MemoryVoterRepository();
+  private final MemoryCandidateRepository candidates = new MemoryCandidateRepository();
+  private final MemoryElectionRepository elections = new MemoryElectionRepository();
+  private final MemoryVoteRepository votes = new MemoryVoteRepository();
+  private final MemoryRegionRepository regions = new MemoryRegionRepository();
+  private final MemoryPartyRepository parties = new MemoryPartyRepository();
+  private final MemoryResultSnapshotRepository results = new MemoryResultSnapshotRepository();
+  private final MemoryCascadeDeleter cascade =
+      new MemoryCascadeDeleter(elections, candidates, voters, votes);
+
+  /**
+   * Створює порожнє сховище і вмикає публікацію подій про зміни.
+   */
+  public MemoryStorage(EventBus events) {
+    voters.publishTo(events, Voter.class);
+    candidates.publishTo(events, Candidate.class);
+    elections.publishTo(events, Election.class);
+    votes.publishTo(events, Vote.class);
+    regions.publishTo(events, Region.class);
+    parties.publishTo(events, Party.class);
+    results.subscribeTo(events);
+  }
+
+  @Override
+  public VoterRepository voters() {
+    return voters;
+  }
+
+  @Override
+  public CandidateRepository candidates() {
+    return candidates;
+  }
+
+  @Override
+  public ElectionRepository elections() {
+    return elections;
+  }
+
+  @Override
+  public VoteRepository votes() {
+    return votes;
+  }
+
+  @Override
+  public RegionRepository regions() {
+    return regions;
+  }
+
+  @Override
+  public PartyRepository parties() {
+    return parties;
+  }
+
+  @Override
+  public ResultSnapshotRepository results() {
+    return results;
+  }
+
+  @Override
+  public CascadeDeleter cascade() {
+    return cascade;
+  }
+}
@@ -0,0 +1,174 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Vote;
+import com.example.pr.infrastructure.storage.audit.AuditCheckpoint;
+import com.example.pr.infrastructure.storage.audit.ConsistencyProof;
+import com.example.pr.infrastructure.storage.audit.InclusionProof;
+import com.example.pr.infrastructure.storage.audit.MemoryMerkleLog;
+import com.example.pr.infrastructure.storage.audit.VoteLeaf;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.exception.StorageException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Голоси у пам'яті.
+ * <p>
+ * Участь перевіряється за індексом пар (вибори, виборець), підрахунки - за розмірами множин
+ * індексів, тож жоден запит контракту не перебирає всіх голосів. Закриття виборів нічого не
+ * переносить ({@link #freezeElection}, {@link #unloadElection}).
+ * <p>
+ * Журнал аудиту - {@link MemoryMerkleLog} на вибори: корені й докази ті самі, що й у файловому
+ * журналі, але живуть лише до зупинки процесу.
+ */
+class MemoryVoteRepository extends MemoryRepository<Vote> implements VoteRepository {
+
+  private record Ballot(UUID electionId, UUID voterId) {
+  }
+
+  private record CandidateVotes(UUID electionId, UUID candidateId) {
+  }
+
+  private final SecondaryIndex<Vote, UUID> byElection = index(Vote::getElectionId);
+  private final SecondaryIndex<Vote, UUID> byCandidate = index(Vote::getCandidateId);
+  private final SecondaryIndex<Vote, UUID> byVoter = index(Vote::getVoterId);
+  private final SecondaryIndex<Vote, Ballot> byBallot =
+      index(vote -> new Ballot(vote.getElectionId(), vote.getVoterId()));
+  private final SecondaryIndex<Vote, CandidateVotes> byCandidateInElection =
+      index(vote -> new CandidateVotes(vote.getElectionId(), vote.getCandidateId()));
+
+  // Журнали аудиту за ID виборів
+  private final Map<UUID, MemoryMerkleLog> auditLogs = new ConcurrentHashMap<>();
+
+  @Override
+  public List<Vote> saveAll(Collection<? extends Vote> votes) {
+    for (Vote vote : votes) {
+      if (vote.getElectionId() == null) {
+        throw new StorageException("Голос без виборів не може бути збережений: " + vote.getId());
+      }
+    }
+    return super.saveAll(votes);
+  }
+
+  /**
+   * Листки дописуються під блокуванням запису, тож порядок у журналі - порядок збереження.
+   */
+  @Override
+  protected void onSaved(List<Vote> saved, List<Vote> previous) {
+    for (int i = 0; i < saved.size(); i++) {
+      Vote vote = saved.get(i);
+      MemoryMerkleLog log = auditLog(vote.getElectionId());
+      if (previous.get(i) == null) {
+        log.append(vote.getId(), VoteLeaf.hash(vote));
+      } else {
+        log.appendIfChanged(vote.getId(), VoteLeaf.hash(vote));
+      }
+    }
+  }
+
+  // ==================== VoteRepository ====================
+
+  @Override
+  public boolean hasVoted(UUID voterId, UUID electionId) {
+    return existsBy(byBallot, new Ballot(electionId, voterId));
+  }
+
+  @Override
+  public Optional<Vote> findByVoterAndElection(UUID voterId, UUID electionId) {
+    return findFirstBy(byBallot, new Ballot(electionId, voterId));
+  }
+
+  @Override
+  public List<Vote> findByElectionId(UUID electionId) {
+    return findBy(byElection, electionId);
+  }
+
+  @Override
+  public List<Vote> findByCandidateId(UUID candidateId) {
+    return findBy(byCandidate, candidateId);
+  }
+
+  @Override
+  public List<Vote> findByVoterId(UUID voterId) {
+    return findBy(byVoter, voterId);
+  }
+
+  @Override
+  public long countByCandidate(UUID candidateId) {
+    return countBy(byCandidate, candidateId);
+  }
+
+  @Override
+  public long countByElection(UUID electionId) {
+    return countBy(byElection, electionId);
+  }
+
+  @Override
+  public long countByCandidateAndElection(UUID candidateId, UUID electionId) {
+    return countBy(byCandidateInElection, new CandidateVotes(electionId, candidateId));
+  }
+
+  @Override
+  public Map<UUID, Long> countByCandidateInElection(UUID electionId) {
+    Map<UUID, Long> counts = new HashMap<>();
+    for (Vote vote : findBy(byElection, electionId)) {
+      counts.merge(vote.getCandidateId(), 1L, Long::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * Голоси закритих виборів лишаються у тих самих індексах.
+   */
+  @Override
+  public void freezeElection(UUID electionId) {
+  }
+
+  /**
+   * Голоси живуть лише в пам'яті - вивантажувати нікуди.
+   */
+  @Override
+  public void unloadElection(UUID electionId) {
+  }
+
+  @Override
+  public void deleteByElectionId(UUID electionId) {
+    deleteBy(byElection, electionId);
+  }
+
+  @Override
+  public void deleteByVoterId(UUID voterId) {
+    deleteBy(byVoter, voterId);
+  }
+
+  @Override
+  public void deleteByCandidateId(UUID candidateId) {
+    deleteBy(byCandidate, candidateId);
+  }
+
+  @Override
+  public AuditCheckpoint auditCheckpoint(UUID electionId) {
+    return auditLog(electionId).checkpoint();
+  }
+
+  @Override
+  public Optional<InclusionProof> proveInclusion(UUID electionId, UUID voteId) {
+    return auditLog(electionId).proveInclusion(voteId);
+  }
+
+  @Override
+  public ConsistencyProof proveConsistency(UUID electionId, long oldSize) {
+    return auditLog(electionId).proveConsistency(oldSize);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private MemoryMerkleLog auditLog(UUID electionId) {
+    return auditLogs.computeIfAbsent(electionId, MemoryMerkleLog::new);
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import java.util.Optional;
+import java.util.UUID;
+
+class MemoryVoterRepository extends MemoryRepository<Voter> implements VoterRepository {
+
+  private final SecondaryIndex<Voter, String> byEmail = index(Voter::getEmail);
+  private final SecondaryIndex<Voter, String> byPassport = index(Voter::getPassportNumber);
+  private final SecondaryIndex<Voter, UUID> byRegion = index(Voter::getRegionId);
+
+  @Override
+  public Optional<Voter> findByEmail(String email) {
+    return findFirstBy(byEmail, email);
+  }
+
+  @Override
+  public Optional<Voter> findByPassportNumber(String passportNumber) {
+    return findFirstBy(byPassport, passportNumber);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return existsBy(byEmail, email);
+  }
+
+  @Override
+  public boolean existsByPassportNumber(String passportNumber) {
+    return existsBy(byPassport, passportNumber);
+  }
+
+  @Override
+  public void deleteByRegionId(UUID regionId) {
+    deleteBy(byRegion, regionId);
+  }
+
+  @Override
+  public long countByRegionId(UUID regionId) {
+    return countBy(byRegion, regionId);
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.pr.infrastructure.storage.memory;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Вторинний індекс: значення поля - ID сутностей з цим значенням.
+ * <p>
+ * Читання без блокувань ({@link ConcurrentHashMap}); змінюється лише записувачем репозиторію під
+ * його блокуванням. Індекс пам'ятає значення, з яким сутність була збережена, тому зміна
+ * спільного екземпляра до збереження не залишає в індексі застарілого запису. Сутності з
+ * {@code null} у полі до індексу не потрапляють.
+ *
+ * @param <T> тип сутності
+ * @param <K> тип значення поля
+ */
+final class SecondaryIndex<T, K> {
+
+  private final Function<? super T, ? extends K> key;
+  private final ConcurrentHashMap<K, Set<UUID>> ids = new ConcurrentHashMap<>();
+  // Значення поля на момент збереження
+  private final ConcurrentHashMap<UUID, K> keys = new ConcurrentHashMap<>();
+
+  SecondaryIndex(Function<? super T, ? extends K> key) {
+    this.key = key;
+  }
+
+  /**
+   * ID сутностей зі значенням поля (жива множина, лише для читання).
+   */
+  Set<UUID> get(K value) {
+    if (value == null) {
+      return Set.of();
+    }
+    Set<UUID> found = ids.get(value);
+    return found != null ? found : Set.of();
+  }
+
+  /**
+   * Індексує збережений стан сутності.
+   */
+  void put(UUID id, T entity) {
+    K newKey = key.apply(entity);
+    K oldKey = newKey != null ? keys.put(id, newKey) : keys.remove(id);
+    if (Objects.equals(oldKey, newKey)) {
+      return;
+    }
+    unlink(oldKey, id);
+    if (newKey != null) {
+      ids.computeIfAbsent(newKey, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+  }
+
+  void remove(UUID id) {
+    unlink(keys.remove(id), id);
+  }
+
+  private void unlink(K oldKey, UUID id) {
+    if (oldKey != null) {
+      ids.computeIfPresent(oldKey, (k, set) -> {
+        set.remove(id);
+        return set.isEmpty() ? null : set;
+      });
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.pr.infrastructure.storage.spi;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Рушії сховища, зареєстровані через {@link ServiceLoader}.
+ */
+public final class RepositoryFactories {
+
+  private RepositoryFactories() {
+  }
+
+  /**
+   * Всі зареєстровані рушії. Рушій, який не вдалося створити, пропускається з повідомленням.
+   */
+  public static List<RepositoryFactory> available() {
+    List<RepositoryFactory> factories = new ArrayList<>();
+    Iterator<RepositoryFactory> providers = ServiceLoader.load(RepositoryFactory.class).iterator();
+    while (true) {
+      try {
+        if (!providers.hasNext()) {
+          return factories;
+        }
+        factories.add(providers.next());
+      } catch (ServiceConfigurationError e) {
+        // Після помилки ServiceLoader переходить до наступного рушія
+        System.err.println("Не вдалося завантажити рушій сховища: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Рушій за назвою.
+   */
+  public static Optional<RepositoryFactory> find(String name) {
+    return available().stream()
+        .filter(factory -> factory.name().equals(name))
+        .findFirst();
+  }
+
+  /**
+   * Назви зареєстрованих рушіїв.
+   */
+  public static List<String> names() {
+    return available().stream().map(RepositoryFactory::name).toList();
+  }
+}
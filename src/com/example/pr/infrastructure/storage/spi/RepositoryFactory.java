@@ -0,0 +1,28 @@
+package com.example.pr.infrastructure.storage.spi;
+
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.infrastructure.config.StorageConfig;
+import java.util.ServiceLoader;
+
+/**
+ * Фабрика рушія сховища - точка розширення для нових рушіїв.
+ * <p>
+ * Реалізації знаходяться через {@link ServiceLoader}: клас з публічним конструктором без
+ * аргументів вказується у файлі
+ * {@code META-INF/services/com.example.pr.infrastructure.storage.spi.RepositoryFactory} (у
+ * {@code src/META-INF/services} або у власному jar рушія в {@code lib/}). Рушій обирається за
+ * назвою з налаштування {@code storage.backend} ({@link StorageConfig#getBackend()}).
+ */
+public interface RepositoryFactory {
+
+  /**
+   * Назва рушія в налаштуванні {@code storage.backend}.
+   */
+  String name();
+
+  /**
+   * Створює репозиторії рушія. Репозиторії публікують події про зафіксовані зміни у
+   * {@code events}.
+   */
+  StorageEngine create(StorageConfig config, EventBus events);
+}
@@ -0,0 +1,62 @@
+package com.example.pr.infrastructure.storage.spi;
+
+import com.example.pr.domain.Entity;
+import com.example.pr.infrastructure.storage.WriteStatistics;
+import com.example.pr.infrastructure.storage.contract.CandidateRepository;
+import com.example.pr.infrastructure.storage.contract.CascadeDeleter;
+import com.example.pr.infrastructure.storage.contract.ElectionRepository;
+import com.example.pr.infrastructure.storage.contract.PartyRepository;
+import com.example.pr.infrastructure.storage.contract.RegionRepository;
+import com.example.pr.infrastructure.storage.contract.ResultSnapshotRepository;
+import com.example.pr.infrastructure.storage.contract.VoteRepository;
+import com.example.pr.infrastructure.storage.contract.VoterRepository;
+import java.util.List;
+
+/**
+ * Репозиторії одного рушія сховища, створені {@link RepositoryFactory}.
+ */
+public interface StorageEngine extends AutoCloseable {
+
+  VoterRepository voters();
+
+  CandidateRepository candidates();
+
+  ElectionRepository elections();
+
+  VoteRepository votes();
+
+  RegionRepository regions();
+
+  PartyRepository parties();
+
+  ResultSnapshotRepository results();
+
+  CascadeDeleter cascade();
+
+  /**
+   * Виконує групу записів як одну операцію (фіксація Unit of Work). Default-реалізація просто
+   * виконує їх.
+   */
+  default void inUnitOfWork(Runnable work) {
+    work.run();
+  }
+
+  /**
+   * Видані для зміни копії ({@code findForUpdate}), змінені, але ще не збережені.
+   * Default-реалізація - рушій не відстежує змін.
+   */
+  default List<? extends Entity> findModified() {
+    return List.of();
+  }
+
+  /**
+   * Лічильники записаних сутностей і уникнутих збережень без змін.
+   */
+  default WriteStatistics writeStatistics() {
+    return WriteStatistics.EMPTY;
+  }
+
+  @Override
+  default void close() {
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.pr.presentation.http;
+
+import com.example.pr.domain.service.AuthService;
+import com.example.pr.domain.service.exception.AuthenticationException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Запит до API: параметри шляху, тіло та сесія клієнта.
+ */
+final class ApiRequest {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final Map<String, String> pathParams;
+  private final String body;
+  private final String token;
+  private final SessionStore sessions;
+
+  // Чи був запит автентифікований (для розрізнення 401 і 403)
+  private boolean authenticated;
+
+  ApiRequest(Map<String, String> pathParams, String body, String authorization,
+      SessionStore sessions) {
+    this.pathParams = pathParams;
+    this.body = body;
+    this.token = authorization != null && authorization.startsWith(BEARER_PREFIX)
+        ? authorization.substring(BEARER_PREFIX.length()).trim()
+        : null;
+    this.sessions = sessions;
+  }
+
+  /**
+   * Параметр шляху як UUID.
+   *
+   * @throws IllegalArgumentException якщо значення не є UUID
+   */
+  UUID id(String name) {
+    String value = pathParams.get(name);
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new IllegalArgumentException("Некоректний ідентифікатор: " + value);
+    }
+  }
+
+  /**
+   * Тіло запиту як DTO.
+   */
+  <T extends Record> T body(Class<T> type) {
+    return Json.read(body, type);
+  }
+
+  String token() {
+    return token;
+  }
+
+  /**
+   * Сервіс аутентифікації сесії.
+   *
+   * @throws AuthenticationException якщо токен відсутній або сесія завершилась
+   */
+  AuthService auth() {
+    AuthService auth = sessions.get(token)
+        .orElseThrow(AuthenticationException::notAuthenticated);
+    authenticated = true;
+    return auth;
+  }
+
+  /**
+   * Сервіс аутентифікації сесії адміністратора.
+   *
+   * @throws AuthenticationException якщо користувач не автентифікований або не адміністратор
+   */
+  AuthService admin() {
+    AuthService auth = auth();
+    auth.requireAdmin();
+    return auth;
+  }
+
+  boolean isAuthenticated() {
+    return authenticated;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.pr.presentation.http;
+
+/**
+ * Відповідь обробника API: HTTP-статус і тіло, що серіалізується у JSON.
+ */
+record ApiResponse(int status, Object body) {
+
+  static ApiResponse ok(Object body) {
+    return new ApiResponse(200, body);
+  }
+
+  static ApiResponse created(Object body) {
+    return new ApiResponse(201, body);
+  }
+
+  static ApiResponse noContent() {
+    return new ApiResponse(204, null);
+  }
+}
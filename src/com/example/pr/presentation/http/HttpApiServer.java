@@ -0,0 +1,401 @@
+package com.example.pr.presentation.http;
+
+import com.example.pr.domain.dto.auth.AuthResponseDto;
+import com.example.pr.domain.dto.auth.ChangePasswordDto;
+import com.example.pr.domain.dto.auth.LoginDto;
+import com.example.pr.domain.dto.auth.RegisterDto;
+import com.example.pr.domain.dto.candidate.CandidateCreateDto;
+import com.example.pr.domain.dto.candidate.CandidateUpdateDto;
+import com.example.pr.domain.dto.election.ElectionCreateDto;
+import com.example.pr.domain.dto.election.ElectionUpdateDto;
+import com.example.pr.domain.dto.vote.VoteCreateDto;
+import com.example.pr.domain.event.EntitiesRemoved;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.exeption.EntityValidationException;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.domain.service.AuthService;
+import com.example.pr.domain.service.CandidateService;
+import com.example.pr.domain.service.ElectionService;
+import com.example.pr.domain.service.VoteService;
+import com.example.pr.domain.service.exception.AuthenticationException;
+import com.example.pr.domain.service.exception.ConcurrentUpdateException;
+import com.example.pr.domain.service.exception.DuplicateEntityException;
+import com.example.pr.domain.service.exception.EntityNotFoundException;
+import com.example.pr.domain.service.exception.ServiceException;
+import com.example.pr.domain.service.exception.ValidationException;
+import com.example.pr.domain.service.exception.VotingException;
+import com.example.pr.infrastructure.storage.impl.DataContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Вбудований HTTP/JSON сервер для терміналів виборчих дільниць.
+ * <p>
+ * Побудований на {@code com.sun.net.httpserver}: кожен запит обробляється у власному віртуальному
+ * потоці, тому тисячі одночасних терміналів не потребують тисяч платформних потоків. Обробники
+ * викликають ті самі сервіси та DTO, що й консольний інтерфейс. Авторизація - токен з відповіді
+ * {@code POST /api/auth/login} у заголовку {@code Authorization: Bearer <token>}. Реєстрація
+ * створює звичайних виборців, а {@link #start(int)} слухає лише локальний інтерфейс.
+ * <p>
+ * Маршрути:
+ * <pre>
+ * POST   /api/auth/register             POST /api/auth/login
+ * POST   /api/auth/logout               GET  /api/auth/me
+ * POST   /api/auth/password
+ * GET    /api/elections                 GET  /api/elections/active
+ * GET    /api/elections/{id}            GET  /api/elections/{id}/results
+ * GET    /api/elections/{id}/results/regions
+ * GET    /api/elections/{id}/candidates GET  /api/elections/{id}/voted
+ * GET    /api/elections/{id}/audit
+ * POST   /api/elections                 PUT  /api/elections/{id}
+ * POST   /api/elections/{id}/activate|close|cancel
+ * DELETE /api/elections/{id}
+ * GET    /api/candidates/{id}           POST /api/candidates
+ * PUT    /api/candidates/{id}           DELETE /api/candidates/{id}
+ * POST   /api/votes                     GET  /api/votes/mine
+ * GET    /api/votes/{id}/proof
+ * </pre>
+ */
+public class HttpApiServer {
+
+  private static final String API_PREFIX = "/api";
+  private static final int BACKLOG = 4096;
+  private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final SessionStore sessions = new SessionStore(SESSION_IDLE_TIMEOUT);
+  private final List<Route> routes = new ArrayList<>();
+
+  // Сервіси без стану користувача - спільні для всіх запитів
+  private final AuthService registration = new AuthService();
+  private final ElectionService electionService = new ElectionService();
+  private final CandidateService candidateService = new CandidateService();
+  private final VoteService voteService = new VoteService();
+
+  // Сесії видалених виборців завершуються одразу
+  private final EventBus.Subscription voterRemovals;
+
+  public HttpApiServer(InetSocketAddress address) throws IOException {
+    this.server = HttpServer.create(address, BACKLOG);
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.setExecutor(executor);
+    server.createContext(API_PREFIX, this::handle);
+    registerRoutes();
+
+    this.voterRemovals = DataContext.getInstance().events().subscribe(EntitiesRemoved.class,
+        event -> {
+          EntitiesRemoved<?> removed = event;
+          removed.entitiesOf(Voter.class).forEach(voter -> sessions.removeUser(voter.getId()));
+        });
+  }
+
+  /**
+   * Створює і запускає сервер лише на локальному інтерфейсі.
+   */
+  public static HttpApiServer start(int port) throws IOException {
+    return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+  }
+
+  /**
+   * Створює і запускає сервер на вказаній адресі; {@code 0.0.0.0} - на всіх інтерфейсах.
+   */
+  public static HttpApiServer start(InetSocketAddress address) throws IOException {
+    HttpApiServer api = new HttpApiServer(address);
+    api.start();
+    return api;
+  }
+
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Зупиняє сервер, даючи активним запитам до секунди на завершення.
+   */
+  public void stop() {
+    voterRemovals.cancel();
+    server.stop(1);
+    executor.close();
+    sessions.close();
+  }
+
+  public int port() {
+    return server.getAddress().getPort();
+  }
+
+  public InetSocketAddress address() {
+    return server.getAddress();
+  }
+
+  // ==================== Routes ====================
+
+  private void registerRoutes() {
+    // Auth
+    route("POST", "/auth/register",
+        req -> ApiResponse.created(registration.register(req.body(RegisterDto.class))));
+    route("POST", "/auth/login", req -> {
+      AuthService session = new AuthService();
+      AuthResponseDto response = session.login(req.body(LoginDto.class));
+      sessions.put(response.sessionToken(), session);
+      return ApiResponse.ok(response);
+    });
+    route("POST", "/auth/logout", req -> {
+      req.auth().logout();
+      sessions.remove(req.token());
+      return ApiResponse.noContent();
+    });
+    route("GET", "/auth/me", req -> ApiResponse.ok(req.auth().getCurrentUser()));
+    route("POST", "/auth/password", req -> {
+      ChangePasswordDto dto = req.body(ChangePasswordDto.class);
+      req.auth().changePassword(dto.currentPassword(), dto.newPassword());
+      return ApiResponse.noContent();
+    });
+
+    // Elections
+    route("GET", "/elections", req -> ApiResponse.ok(electionService.findAll()));
+    route("GET", "/elections/active", req -> ApiResponse.ok(electionService.findActive()));
+    route("GET", "/elections/{id}",
+        req -> ApiResponse.ok(electionService.findById(req.id("id"))));
+    route("GET", "/elections/{id}/results",
+        req -> ApiResponse.ok(voteService.getResults(req.id("id"))));
+    route("GET", "/elections/{id}/results/regions",
+        req -> ApiResponse.ok(voteService.getElectionResults(req.id("id"))));
+    route("GET", "/elections/{id}/audit",
+        req -> ApiResponse.ok(voteService.auditCheckpoint(req.id("id"))));
+    route("GET", "/elections/{id}/candidates",
+        req -> ApiResponse.ok(candidateService.findByElection(req.id("id"))));
+    route("GET", "/elections/{id}/voted", req -> {
+      Voter voter = req.auth().requireAuthentication();
+      return ApiResponse.ok(Map.of("voted", voteService.hasVoted(voter.getId(), req.id("id"))));
+    });
+    route("POST", "/elections", req -> {
+      req.admin();
+      return ApiResponse.created(electionService.create(req.body(ElectionCreateDto.class)));
+    });
+    route("PUT", "/elections/{id}", req -> {
+      req.admin();
+      return ApiResponse.ok(
+          electionService.update(req.id("id"), req.body(ElectionUpdateDto.class)));
+    });
+    route("POST", "/elections/{id}/activate", req -> {
+      req.admin();
+      return ApiResponse.ok(electionService.activate(req.id("id")));
+    });
+    route("POST", "/elections/{id}/close", req -> {
+      req.admin();
+      return ApiResponse.ok(electionService.close(req.id("id")));
+    });
+    route("POST", "/elections/{id}/cancel", req -> {
+      req.admin();
+      return ApiResponse.ok(electionService.cancel(req.id("id")));
+    });
+    route("DELETE", "/elections/{id}", req -> {
+      req.admin();
+      electionService.delete(req.id("id"));
+      return ApiResponse.noContent();
+    });
+
+    // Candidates
+    route("GET", "/candidates/{id}",
+        req -> ApiResponse.ok(candidateService.findById(req.id("id"))));
+    route("POST", "/candidates", req -> {
+      req.admin();
+      return ApiResponse.created(candidateService.create(req.body(CandidateCreateDto.class)));
+    });
+    route("PUT", "/candidates/{id}", req -> {
+      req.admin();
+      return ApiResponse.ok(
+          candidateService.update(req.id("id"), req.body(CandidateUpdateDto.class)));
+    });
+    route("DELETE", "/candidates/{id}", req -> {
+      req.admin();
+      candidateService.delete(req.id("id"));
+      return ApiResponse.noContent();
+    });
+
+    // Votes - виборець визначається сесією, а не тілом запиту
+    route("POST", "/votes", req -> {
+      Voter voter = req.auth().requireAuthentication();
+      BallotDto ballot = req.body(BallotDto.class);
+      return ApiResponse.created(voteService.vote(
+          new VoteCreateDto(voter.getId(), ballot.candidateId(), ballot.electionId())));
+    });
+    route("GET", "/votes/mine", req -> {
+      Voter voter = req.auth().requireAuthentication();
+      return ApiResponse.ok(voteService.findByVoter(voter.getId()));
+    });
+    route("GET", "/votes/{id}/proof", req -> {
+      AuthService auth = req.auth();
+      Voter voter = auth.requireAuthentication();
+      return ApiResponse.ok(voteService.proveVote(req.id("id"),
+          auth.isAdmin() ? null : voter.getId()));
+    });
+  }
+
+  private void route(String method, String template, Function<ApiRequest, ApiResponse> handler) {
+    routes.add(new Route(method, template, handler));
+  }
+
+  // ==================== Dispatch ====================
+
+  private void handle(HttpExchange exchange) throws IOException {
+    ApiRequest request = null;
+    ApiResponse response;
+
+    try (exchange) {
+      try {
+        String path = exchange.getRequestURI().getPath().substring(API_PREFIX.length());
+        String method = exchange.getRequestMethod();
+
+        Route matched = null;
+        Map<String, String> params = Map.of();
+        boolean pathMatched = false;
+        for (Route route : routes) {
+          Map<String, String> found = route.match(path);
+          if (found != null) {
+            pathMatched = true;
+            if (route.method.equals(method)) {
+              matched = route;
+              params = found;
+              break;
+            }
+          }
+        }
+
+        if (matched == null) {
+          response = pathMatched
+              ? error(405, "Метод не підтримується: " + method)
+              : error(404, "Ресурс не знайдено: " + path);
+        } else {
+          String body = new String(exchange.getRequestBody().readAllBytes(),
+              StandardCharsets.UTF_8);
+          request = new ApiRequest(params, body,
+              exchange.getRequestHeaders().getFirst("Authorization"), sessions);
+          response = matched.handler.apply(request);
+        }
+      } catch (RuntimeException e) {
+        response = toErrorResponse(e, request);
+      }
+      send(exchange, response);
+    }
+  }
+
+  private static ApiResponse toErrorResponse(RuntimeException e, ApiRequest request) {
+    if (e instanceof EntityNotFoundException) {
+      return error(404, e.getMessage());
+    }
+    if (e instanceof AuthenticationException) {
+      return error(request != null && request.isAuthenticated() ? 403 : 401, e.getMessage());
+    }
+    if (e instanceof DuplicateEntityException || e instanceof VotingException
+        || e instanceof ConcurrentUpdateException) {
+      return error(409, e.getMessage());
+    }
+    if (e instanceof ValidationException validation) {
+      return error(400, validation.getMessage(), validation.getErrors());
+    }
+    if (e instanceof EntityValidationException validation) {
+      return error(400, "Помилка валідації даних", validation.getErrors());
+    }
+    if (e instanceof ServiceException || e instanceof IllegalArgumentException) {
+      return error(400, e.getMessage());
+    }
+
+    System.err.println("Помилка обробки запиту: " + e);
+    return error(500, "Внутрішня помилка сервера");
+  }
+
+  private static ApiResponse error(int status, String message) {
+    return new ApiResponse(status, Map.of("error", message));
+  }
+
+  private static ApiResponse error(int status, String message, Map<String, ?> errors) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("error", message);
+    body.put("errors", errors);
+    return new ApiResponse(status, body);
+  }
+
+  private static void send(HttpExchange exchange, ApiResponse response) throws IOException {
+    if (response.status() == 204) {
+      exchange.sendResponseHeaders(204, -1);
+      return;
+    }
+
+    byte[] bytes = Json.write(response.body()).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(response.status(), bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Вибір виборця у запиті на голосування.
+   */
+  record BallotDto(UUID candidateId, UUID electionId) {
+
+  }
+
+  /**
+   * Маршрут: метод і шаблон шляху з параметрами у фігурних дужках.
+   */
+  private static final class Route {
+
+    private static final Pattern PARAM = Pattern.compile("\\{(\\w+)}");
+
+    private final String method;
+    private final Pattern pattern;
+    private final List<String> names = new ArrayList<>();
+    private final Function<ApiRequest, ApiResponse> handler;
+
+    Route(String method, String template, Function<ApiRequest, ApiResponse> handler) {
+      this.method = method;
+      this.handler = handler;
+
+      StringBuilder regex = new StringBuilder();
+      Matcher matcher = PARAM.matcher(template);
+      int last = 0;
+      while (matcher.find()) {
+        regex.append(Pattern.quote(template.substring(last, matcher.start()))).append("([^/]+)");
+        names.add(matcher.group(1));
+        last = matcher.end();
+      }
+      regex.append(Pattern.quote(template.substring(last)));
+      this.pattern = Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Параметри шляху або {@code null}, якщо шлях не відповідає шаблону.
+     */
+    Map<String, String> match(String path) {
+      Matcher matcher = pattern.matcher(path);
+      if (!matcher.matches()) {
+        return null;
+      }
+      Map<String, String> params = new HashMap<>(names.size());
+      for (int i = 0; i < names.size(); i++) {
+        params.put(names.get(i), matcher.group(i + 1));
+      }
+      return params;
+    }
+  }
+}
@@ -0,0 +1,427 @@
+package com.example.pr.presentation.http;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Мінімальний JSON-кодек для DTO-записів (records) API.
+ * <p>
+ * Серіалізує записи, колекції, мапи, рядки, числа, UUID, дати та enum-и. Розбирає JSON у
+ * {@code Map}/{@code List}/примітиви і створює запис через канонічний конструктор, тому
+ * перевірки з компактних конструкторів DTO спрацьовують так само, як у консольному інтерфейсі.
+ * Компоненти записів кешуються для кожного класу.
+ */
+public final class Json {
+
+  private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+    @Override
+    protected RecordComponent[] computeValue(Class<?> type) {
+      RecordComponent[] components = type.getRecordComponents();
+      for (RecordComponent component : components) {
+        component.getAccessor().setAccessible(true);
+      }
+      return components;
+    }
+  };
+
+  private Json() {
+  }
+
+  // ==================== Writing ====================
+
+  /**
+   * Перетворює значення на JSON-рядок.
+   */
+  public static String write(Object value) {
+    StringBuilder out = new StringBuilder(256);
+    writeValue(out, value);
+    return out.toString();
+  }
+
+  private static void writeValue(StringBuilder out, Object value) {
+    if (value == null) {
+      out.append("null");
+    } else if (value instanceof String s) {
+      writeString(out, s);
+    } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+      out.append(value);
+    } else if (value instanceof Number n) {
+      double d = n.doubleValue();
+      out.append(Double.isFinite(d) ? String.valueOf(d) : "null");
+    } else if (value instanceof UUID || value instanceof Enum<?>
+        || value instanceof LocalDate || value instanceof LocalDateTime) {
+      writeString(out, value.toString());
+    } else if (value instanceof Optional<?> optional) {
+      writeValue(out, optional.orElse(null));
+    } else if (value instanceof Collection<?> collection) {
+      out.append('[');
+      boolean first = true;
+      for (Object element : collection) {
+        if (!first) {
+          out.append(',');
+        }
+        writeValue(out, element);
+        first = false;
+      }
+      out.append(']');
+    } else if (value instanceof Map<?, ?> map) {
+      out.append('{');
+      boolean first = true;
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (!first) {
+          out.append(',');
+        }
+        writeString(out, String.valueOf(entry.getKey()));
+        out.append(':');
+        writeValue(out, entry.getValue());
+        first = false;
+      }
+      out.append('}');
+    } else if (value instanceof Record record) {
+      writeRecord(out, record);
+    } else {
+      writeString(out, value.toString());
+    }
+  }
+
+  private static void writeRecord(StringBuilder out, Record record) {
+    out.append('{');
+    boolean first = true;
+    for (RecordComponent component : COMPONENTS.get(record.getClass())) {
+      if (!first) {
+        out.append(',');
+      }
+      writeString(out, component.getName());
+      out.append(':');
+      try {
+        writeValue(out, component.getAccessor().invoke(record));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Cannot read " + component, e);
+      }
+      first = false;
+    }
+    out.append('}');
+  }
+
+  private static void writeString(StringBuilder out, String s) {
+    out.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            out.append(String.format("\\u%04x", (int) c));
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+    out.append('"');
+  }
+
+  // ==================== Reading ====================
+
+  /**
+   * Розбирає JSON у {@code Map}, {@code List}, {@code String}, {@code Double}/{@code Long},
+   * {@code Boolean} або {@code null}.
+   *
+   * @throws IllegalArgumentException якщо JSON некоректний
+   */
+  public static Object parse(String json) {
+    Parser parser = new Parser(json);
+    Object value = parser.readValue();
+    parser.skipWhitespace();
+    if (!parser.atEnd()) {
+      throw parser.error("Зайві символи після JSON");
+    }
+    return value;
+  }
+
+  /**
+   * Розбирає JSON-об'єкт і створює з нього запис.
+   *
+   * @throws IllegalArgumentException якщо JSON некоректний або не проходить перевірки DTO
+   */
+  public static <T extends Record> T read(String json, Class<T> type) {
+    Object parsed = parse(json == null || json.isBlank() ? "{}" : json);
+    if (!(parsed instanceof Map<?, ?> fields)) {
+      throw new IllegalArgumentException("Очікується JSON-об'єкт");
+    }
+    return bind(fields, type);
+  }
+
+  private static <T extends Record> T bind(Map<?, ?> fields, Class<T> type) {
+    RecordComponent[] components = COMPONENTS.get(type);
+    Class<?>[] types = new Class<?>[components.length];
+    Object[] args = new Object[components.length];
+
+    for (int i = 0; i < components.length; i++) {
+      types[i] = components[i].getType();
+      args[i] = convert(fields.get(components[i].getName()), components[i].getGenericType(),
+          components[i].getName());
+    }
+
+    try {
+      Constructor<T> constructor = type.getDeclaredConstructor(types);
+      constructor.setAccessible(true);
+      return constructor.newInstance(args);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot create " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Перетворює розібране значення на тип компонента; {@code Optional<T>} (DTO оновлення)
+   * заповнюється, якщо поле присутнє.
+   */
+  private static Object convert(Object value, Type genericType, String field) {
+    if (genericType instanceof ParameterizedType parameterized
+        && parameterized.getRawType() == Optional.class) {
+      return Optional.ofNullable(
+          convert(value, parameterized.getActualTypeArguments()[0], field));
+    }
+    if (!(genericType instanceof Class<?> type)) {
+      throw new IllegalArgumentException("Непідтримуваний тип поля '" + field + "'");
+    }
+    return convert(value, type, field);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object convert(Object value, Class<?> type, String field) {
+    if (value == null) {
+      if (type == boolean.class) {
+        return false;
+      }
+      if (type.isPrimitive()) {
+        return convert(0L, type, field);
+      }
+      return null;
+    }
+
+    try {
+      if (type == String.class) {
+        return value.toString();
+      }
+      if (type == UUID.class) {
+        return UUID.fromString(value.toString());
+      }
+      if (type == LocalDate.class) {
+        return LocalDate.parse(value.toString());
+      }
+      if (type == LocalDateTime.class) {
+        return LocalDateTime.parse(value.toString());
+      }
+      if (type.isEnum()) {
+        return Enum.valueOf((Class<? extends Enum>) type, value.toString().toUpperCase());
+      }
+      if (type == boolean.class || type == Boolean.class) {
+        return value instanceof Boolean b ? b : Boolean.parseBoolean(value.toString());
+      }
+      Number number = value instanceof Number n ? n : Double.parseDouble(value.toString());
+      if (type == int.class || type == Integer.class) {
+        return number.intValue();
+      }
+      if (type == long.class || type == Long.class) {
+        return number.longValue();
+      }
+      if (type == double.class || type == Double.class) {
+        return number.doubleValue();
+      }
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Некоректне значення поля '" + field + "': " + value);
+    }
+    throw new IllegalArgumentException("Непідтримуваний тип поля '" + field + "'");
+  }
+
+  /**
+   * Рекурсивний розбір JSON.
+   */
+  private static final class Parser {
+
+    private final String s;
+    private int pos;
+
+    Parser(String s) {
+      this.s = s;
+    }
+
+    Object readValue() {
+      skipWhitespace();
+      if (atEnd()) {
+        throw error("Неочікуваний кінець JSON");
+      }
+      char c = s.charAt(pos);
+      return switch (c) {
+        case '{' -> readObject();
+        case '[' -> readArray();
+        case '"' -> readString();
+        case 't' -> literal("true", Boolean.TRUE);
+        case 'f' -> literal("false", Boolean.FALSE);
+        case 'n' -> literal("null", null);
+        default -> readNumber();
+      };
+    }
+
+    private Map<String, Object> readObject() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      pos++; // {
+      skipWhitespace();
+      if (peek() == '}') {
+        pos++;
+        return map;
+      }
+      while (true) {
+        skipWhitespace();
+        if (peek() != '"') {
+          throw error("Очікується ім'я поля");
+        }
+        String key = readString();
+        skipWhitespace();
+        expect(':');
+        map.put(key, readValue());
+        skipWhitespace();
+        char c = next();
+        if (c == '}') {
+          return map;
+        }
+        if (c != ',') {
+          throw error("Очікується ',' або '}'");
+        }
+      }
+    }
+
+    private List<Object> readArray() {
+      List<Object> list = new ArrayList<>();
+      pos++; // [
+      skipWhitespace();
+      if (peek() == ']') {
+        pos++;
+        return list;
+      }
+      while (true) {
+        list.add(readValue());
+        skipWhitespace();
+        char c = next();
+        if (c == ']') {
+          return list;
+        }
+        if (c != ',') {
+          throw error("Очікується ',' або ']'");
+        }
+      }
+    }
+
+    private String readString() {
+      pos++; // "
+      StringBuilder sb = new StringBuilder();
+      while (true) {
+        char c = next();
+        if (c == '"') {
+          return sb.toString();
+        }
+        if (c != '\\') {
+          sb.append(c);
+          continue;
+        }
+        char escaped = next();
+        switch (escaped) {
+          case '"', '\\', '/' -> sb.append(escaped);
+          case 'b' -> sb.append('\b');
+          case 'f' -> sb.append('\f');
+          case 'n' -> sb.append('\n');
+          case 'r' -> sb.append('\r');
+          case 't' -> sb.append('\t');
+          case 'u' -> {
+            if (pos + 4 > s.length()) {
+              throw error("Некоректна escape-послідовність");
+            }
+            sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+            pos += 4;
+          }
+          default -> throw error("Некоректна escape-послідовність");
+        }
+      }
+    }
+
+    private Object readNumber() {
+      int start = pos;
+      while (!atEnd() && "+-0123456789.eE".indexOf(s.charAt(pos)) >= 0) {
+        pos++;
+      }
+      String token = s.substring(start, pos);
+      try {
+        if (token.indexOf('.') < 0 && token.indexOf('e') < 0 && token.indexOf('E') < 0) {
+          return Long.parseLong(token);
+        }
+        return Double.parseDouble(token);
+      } catch (NumberFormatException e) {
+        throw error("Некоректне число");
+      }
+    }
+
+    private Object literal(String word, Object value) {
+      if (!s.startsWith(word, pos)) {
+        throw error("Некоректне значення");
+      }
+      pos += word.length();
+      return value;
+    }
+
+    private void expect(char c) {
+      if (next() != c) {
+        throw error("Очікується '" + c + "'");
+      }
+    }
+
+    private char peek() {
+      if (atEnd()) {
+        throw error("Неочікуваний кінець JSON");
+      }
+      return s.charAt(pos);
+    }
+
+    private char next() {
+      char c = peek();
+      pos++;
+      return c;
+    }
+
+    void skipWhitespace() {
+      while (!atEnd() && Character.isWhitespace(s.charAt(pos))) {
+        pos++;
+      }
+    }
+
+    boolean atEnd() {
+      return pos >= s.length();
+    }
+
+    IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " (позиція " + pos + ")");
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.pr.presentation.http;
+
+import com.example.pr.domain.service.AuthService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сесії HTTP-клієнтів (терміналів).
+ * <p>
+ * {@link AuthService} зберігає поточного користувача у своєму полі, тому кожна сесія має власний
+ * екземпляр сервісу: після входу він прив'язується до токена, і всі перевірки прав у запитах з цим
+ * токеном виконуються через нього. Неактивні сесії видаляються при зверненні, а ті, до яких
+ * більше не звертаються, - фоновим потоком раз на {@link #SWEEP_PERIOD} (або частіше, якщо час
+ * неактивності коротший).
+ */
+final class SessionStore implements AutoCloseable {
+
+  private static final Duration SWEEP_PERIOD = Duration.ofMinutes(1);
+
+  private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+  private final long idleTimeoutMillis;
+  private final ScheduledExecutorService sweeper;
+
+  SessionStore(Duration idleTimeout) {
+    this.idleTimeoutMillis = idleTimeout.toMillis();
+    this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "session-sweeper");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long period = Math.max(1, Math.min(idleTimeoutMillis, SWEEP_PERIOD.toMillis()));
+    sweeper.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  void put(String token, AuthService auth) {
+    sessions.put(token, new Session(auth));
+  }
+
+  Optional<AuthService> get(String token) {
+    if (token == null) {
+      return Optional.empty();
+    }
+    Session session = sessions.get(token);
+    if (session == null) {
+      return Optional.empty();
+    }
+
+    long now = System.currentTimeMillis();
+    if (isExpired(session, now)) {
+      sessions.remove(token, session);
+      return Optional.empty();
+    }
+    session.lastAccess = now;
+    return Optional.of(session.auth);
+  }
+
+  void remove(String token) {
+    if (token != null) {
+      sessions.remove(token);
+    }
+  }
+
+  /**
+   * Завершує всі сесії користувача (наприклад, після видалення виборця).
+   */
+  void removeUser(UUID voterId) {
+    sessions.values().removeIf(session -> session.auth.getCurrentUser()
+        .map(user -> voterId.equals(user.id()))
+        .orElse(false));
+  }
+
+  int size() {
+    return sessions.size();
+  }
+
+  /**
+   * Видаляє сесії, неактивні довше за час неактивності.
+   */
+  void sweep() {
+    long now = System.currentTimeMillis();
+    sessions.values().removeIf(session -> isExpired(session, now));
+  }
+
+  /**
+   * Зупиняє фонове видалення неактивних сесій.
+   */
+  @Override
+  public void close() {
+    sweeper.shutdownNow();
+  }
+
+  private boolean isExpired(Session session, long now) {
+    return now - session.lastAccess > idleTimeoutMillis;
+  }
+
+  private static final class Session {
+
+    private final AuthService auth;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    Session(AuthService auth) {
+      this.auth = auth;
+    }
+  }
+}
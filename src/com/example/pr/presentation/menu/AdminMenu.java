@@ -1,13 +1,18 @@
 package com.example.pr.presentation.menu;
 
+import com.example.pr.domain.dto.Page;
+import com.example.pr.domain.dto.PageRequest;
 import com.example.pr.domain.dto.candidate.CandidateCreateDto;
 import com.example.pr.domain.dto.candidate.CandidateResponseDto;
 import com.example.pr.domain.dto.election.ElectionCreateDto;
 import com.example.pr.domain.dto.election.ElectionResponseDto;
+import com.example.pr.domain.dto.election.ElectionStatisticsDto;
 import com.example.pr.domain.dto.party.PartyResponseDto;
 import com.example.pr.domain.dto.region.RegionCreateDto;
 import com.example.pr.domain.dto.region.RegionResponseDto;
 import com.example.pr.domain.dto.voter.VoterResponseDto;
+import com.example.pr.domain.dto.voter.VoterStatisticsDto;
+import com.example.pr.domain.enums.ElectionStatus;
 import com.example.pr.domain.enums.VoterRole;
 import com.example.pr.domain.service.AuthService;
 import com.example.pr.domain.service.CandidateService;
@@ -21,6 +26,7 @@ import com.example.pr.presentation.util.TablePrinter;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 
 import static com.example.pr.presentation.util.ConsoleColors.*;
 
@@ -29,6 +35,8 @@ import static com.example.pr.presentation.util.ConsoleColors.*;
  */
 public class AdminMenu extends ConsoleUI implements Menu {
 
+  private static final int VOTERS_PAGE_SIZE = 20;
+
   private final VoterService voterService;
   private final ElectionService electionService;
   private final CandidateService candidateService;
@@ -116,7 +124,7 @@ public class AdminMenu extends ConsoleUI implements Menu {
 
   private void showAllVoters() {
     System.out.println("\n" + header("── Всі виборці ──"));
-    displayVotersList(voterService.findAll());
+    displayVotersList(voterService::findAll);
     input.pressEnterToContinue();
   }
 
@@ -134,32 +142,32 @@ public class AdminMenu extends ConsoleUI implements Menu {
       default -> VoterRole.VOTER;
     };
 
-    displayVotersList(voterService.findByRole(role));
+    displayVotersList(request -> voterService.findByRole(role, request));
     input.pressEnterToContinue();
   }
 
   private void searchVoters() {
     String query = input.readRequiredString("Введіть ім'я або прізвище");
-    displayVotersList(voterService.searchByName(query));
+    displayVotersList(request -> voterService.searchByName(query, request));
     input.pressEnterToContinue();
   }
 
-  private void displayVotersList(List<VoterResponseDto> voters) {
-    if (voters.isEmpty()) {
-      printInfo("Список порожній.");
-      return;
-    }
-
+  /**
+   * Показує виборців посторінково - завантажується лише поточна сторінка.
+   */
+  private void displayVotersList(Function<PageRequest, Page<VoterResponseDto>> pages) {
     String[] headers = {"ID", "Ім'я", "Прізвище", "Email", "Роль"};
-    List<String[]> rows = new ArrayList<>();
 
-    for (VoterResponseDto v : voters) {
-      rows.add(new String[]{
-          v.id().toString().substring(0, 8) + "...",
-          v.firstName(), v.lastName(), v.email(), v.role().toString()
-      });
+    int shown = TablePrinter.printPaged(headers, VOTERS_PAGE_SIZE, pages,
+        v -> new String[]{
+            v.id().toString().substring(0, 8) + "...",
+            v.firstName(), v.lastName(), v.email(), v.role().toString()
+        },
+        () -> input.confirm("Показати наступну сторінку?"));
+
+    if (shown == 0) {
+      printInfo("Список порожній.");
     }
-    TablePrinter.print(headers, rows);
   }
 
   private void changeUserRole() {
@@ -211,33 +219,39 @@ public class AdminMenu extends ConsoleUI implements Menu {
   private void showStatistics() {
     System.out.println("\n" + header("── Статистика системи ──"));
 
-    long totalVoters = voterService.count();
-    long adminCount = voterService.findByRole(VoterRole.ADMIN).size();
-    long observerCount = voterService.findByRole(VoterRole.OBSERVER).size();
-    long voterCount = totalVoters - adminCount - observerCount;
-
-    var activeElections = electionService.findActive();
-    var pendingElections = electionService.findPending();
-    var closedElections = electionService.findClosed();
+    // Два проходи (виборці і вибори) замість окремого запиту на кожне число
+    VoterStatisticsDto voters = voterService.statistics();
+    ElectionStatisticsDto elections = electionService.statistics();
 
     System.out.println();
     System.out.println(WHITE_BOLD + "📊 Загальна статистика" + RESET);
     printDivider();
 
     System.out.println("\n" + info("Користувачі:"));
-    System.out.println("  Всього: " + WHITE_BOLD + totalVoters + RESET);
-    System.out.println("  • Виборці: " + voterCount);
-    System.out.println("  • Адміністратори: " + adminCount);
-    System.out.println("  • Спостерігачі: " + observerCount);
+    System.out.println("  Всього: " + WHITE_BOLD + voters.total() + RESET);
+    System.out.println("  • Виборці: " + voters.byRole().get(VoterRole.VOTER));
+    System.out.println("  • Адміністратори: " + voters.byRole().get(VoterRole.ADMIN));
+    System.out.println("  • Спостерігачі: " + voters.byRole().get(VoterRole.OBSERVER));
+
+    if (voters.total() > 0) {
+      System.out.println("\n" + info("Вік:"));
+      voters.byAgeGroup().forEach((group, count) -> printShare(group, count, voters.total()));
+
+      System.out.println("\n" + info("Регіони:"));
+      voters.byRegion().forEach((region, count) -> printShare(region, count, voters.total()));
+    }
 
     System.out.println("\n" + info("Вибори:"));
-    System.out.println("  Активні: " + GREEN + activeElections.size() + RESET);
-    System.out.println("  Очікують: " + YELLOW + pendingElections.size() + RESET);
-    System.out.println("  Завершені: " + BLUE + closedElections.size() + RESET);
+    System.out.println("  Активні: " + GREEN + elections.count(ElectionStatus.ACTIVE) + RESET);
+    System.out.println("  Очікують: " + YELLOW + elections.count(ElectionStatus.PENDING) + RESET);
+    System.out.println("  Завершені: " + BLUE + elections.count(ElectionStatus.CLOSED) + RESET);
+    if (elections.nextStart() != null) {
+      System.out.println("  Найближчий початок: " + elections.nextStart());
+    }
 
-    if (!activeElections.isEmpty()) {
+    if (!elections.active().isEmpty()) {
       System.out.println("\n" + info("Активні вибори:"));
-      for (var e : activeElections) {
+      for (var e : elections.active()) {
         System.out.println("  • " + e.name());
       }
     }
@@ -245,6 +259,10 @@ public class AdminMenu extends ConsoleUI implements Menu {
     input.pressEnterToContinue();
   }
 
+  private void printShare(String label, long count, long total) {
+    System.out.printf("  • %-20s %6d (%.1f%%)%n", label, count, count * 100.0 / total);
+  }
+
   private void deleteVoter() {
     System.out.println("\n" + header("── Видалення виборця ──"));
 
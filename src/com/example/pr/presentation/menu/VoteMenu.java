@@ -2,9 +2,12 @@ package com.example.pr.presentation.menu;
 
 import com.example.pr.domain.dto.candidate.CandidateResponseDto;
 import com.example.pr.domain.dto.election.ElectionResponseDto;
+import com.example.pr.domain.dto.vote.ElectionResultsDto;
+import com.example.pr.domain.dto.vote.RegionResultDto;
 import com.example.pr.domain.dto.vote.VoteCreateDto;
 import com.example.pr.domain.dto.vote.VoteResultDto;
 import com.example.pr.domain.dto.voter.VoterResponseDto;
+import com.example.pr.domain.enums.ElectionStatus;
 import com.example.pr.domain.service.*;
 import com.example.pr.domain.service.exception.ServiceException;
 import com.example.pr.domain.service.exception.VotingException;
@@ -234,8 +237,34 @@ public class VoteMenu extends ConsoleUI implements Menu {
             : r.candidateFullName();
         System.out.printf("  %-20s %s%s%s %.1f%%\n", name, GREEN, bar, RESET, r.percentage());
       }
+
+      // Підсумки завершених виборів зафіксовані - розподіл за регіонами нічого не перераховує
+      if (election.status() == ElectionStatus.CLOSED) {
+        showRegionalResults(voteService.getElectionResults(election.id()));
+      }
     }
 
     input.pressEnterToContinue();
   }
+
+  private void showRegionalResults(ElectionResultsDto results) {
+    if (results.regions().isEmpty()) {
+      return;
+    }
+    System.out.println("\n" + info("За регіонами:"));
+
+    String[] headers = {"Регіон", "Голоси", "Лідер", "%"};
+    List<String[]> rows = new ArrayList<>();
+    for (RegionResultDto region : results.regions()) {
+      if (region.results().isEmpty()) {
+        continue;
+      }
+      VoteResultDto leader = region.results().get(0);
+      rows.add(new String[]{
+          region.regionName(), String.valueOf(region.totalVotes()),
+          leader.candidateFullName(), String.format("%.1f%%", leader.percentage())
+      });
+    }
+    TablePrinter.print(headers, rows);
+  }
 }
@@ -1,6 +1,11 @@
 package com.example.pr.presentation.util;
 
+import com.example.pr.domain.dto.Page;
+import com.example.pr.domain.dto.PageRequest;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 import static com.example.pr.presentation.util.ConsoleColors.*;
 
@@ -17,15 +22,61 @@ public final class TablePrinter {
   public static void print(String[] headers, List<String[]> rows) {
     if (headers == null || headers.length == 0) return;
 
+    // Таблиця збирається в буфер і виводиться одним записом
+    StringBuilder sb = new StringBuilder();
+    appendTable(sb, headers, rows);
+    System.out.print(sb);
+  }
+
+  /**
+   * Друкує дані посторінково. Кожна сторінка - окрема таблиця, ширина стовпців якої рахується
+   * лише за її рядками, тому пам'ять і час на екран пропорційні розміру сторінки, а не всьому
+   * списку. Наступна сторінка запитується, лише якщо {@code nextPage} підтверджує перехід.
+   *
+   * @return кількість показаних рядків
+   */
+  public static <T> int printPaged(String[] headers, int pageSize,
+      Function<PageRequest, Page<T>> fetch, Function<? super T, String[]> toRow,
+      BooleanSupplier nextPage) {
+    if (headers == null || headers.length == 0) return 0;
+
+    PageRequest request = PageRequest.first(pageSize);
+    int shown = 0;
+    for (int number = 1; ; number++) {
+      Page<T> page = fetch.apply(request);
+      if (page.isEmpty()) {
+        return shown;
+      }
+
+      List<String[]> rows = new ArrayList<>(page.items().size());
+      for (T item : page.items()) {
+        rows.add(toRow.apply(item));
+      }
+      shown += rows.size();
+
+      StringBuilder sb = new StringBuilder();
+      appendTable(sb, headers, rows);
+      sb.append(CYAN).append("  Сторінка ").append(number)
+          .append(page.hasNext() ? " (є наступна)" : " (остання)").append(RESET).append('\n');
+      System.out.print(sb);
+
+      if (!page.hasNext() || !nextPage.getAsBoolean()) {
+        return shown;
+      }
+      request = request.next(page);
+    }
+  }
+
+  private static void appendTable(StringBuilder sb, String[] headers, List<String[]> rows) {
     int[] widths = calculateWidths(headers, rows);
 
-    printSeparator(widths);
-    printRow(headers, widths, true);
-    printSeparator(widths);
+    appendSeparator(sb, widths);
+    appendRow(sb, headers, widths, true);
+    appendSeparator(sb, widths);
     for (String[] row : rows) {
-      printRow(row, widths, false);
+      appendRow(sb, row, widths, false);
     }
-    printSeparator(widths);
+    appendSeparator(sb, widths);
   }
 
   private static int[] calculateWidths(String[] headers, List<String[]> rows) {
@@ -43,16 +94,16 @@ public final class TablePrinter {
     return widths;
   }
 
-  private static void printSeparator(int[] widths) {
-    StringBuilder sb = new StringBuilder(CYAN + "+" + RESET);
+  private static void appendSeparator(StringBuilder sb, int[] widths) {
+    sb.append(CYAN).append("+").append(RESET);
     for (int width : widths) {
       sb.append(CYAN).append("-".repeat(width + 2)).append("+").append(RESET);
     }
-    System.out.println(sb);
+    sb.append('\n');
   }
 
-  private static void printRow(String[] row, int[] widths, boolean isHeader) {
-    StringBuilder sb = new StringBuilder(CYAN + "|" + RESET);
+  private static void appendRow(StringBuilder sb, String[] row, int[] widths, boolean isHeader) {
+    sb.append(CYAN).append("|").append(RESET);
     for (int i = 0; i < widths.length; i++) {
       String value = i < row.length && row[i] != null ? row[i] : "";
       String formatted = String.format(" %-" + widths[i] + "s ", value);
@@ -63,7 +114,7 @@ public final class TablePrinter {
       }
       sb.append(CYAN).append("|").append(RESET);
     }
-    System.out.println(sb);
+    sb.append('\n');
   }
 
   /**
@@ -0,0 +1,113 @@
+package com.example.pr.app;
+
+import com.example.pr.domain.enums.ElectionStatus;
+import com.example.pr.domain.enums.VoterRole;
+import com.example.pr.domain.event.EventBus;
+import com.example.pr.domain.impl.Candidate;
+import com.example.pr.domain.impl.Election;
+import com.example.pr.domain.impl.Voter;
+import com.example.pr.infrastructure.config.StorageConfig;
+import com.example.pr.infrastructure.storage.BinaryFilePath;
+import com.example.pr.infrastructure.storage.spi.RepositoryFactories;
+import com.example.pr.infrastructure.storage.spi.StorageEngine;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Перевірка сумісності з файлами даних початкової версії застосунку.
+ * <p>
+ * Файли у {@code test-data/baseline/} записані початковою версією: списки сутностей у Java
+ * Serialization, голоси - одним файлом {@code votes.dat}. Ні вони, ні перевірка не входять до
+ * збірки застосунку: їх компілює і запускає ціль {@code ant baseline-check}. Перевірка копіює їх у тимчасову
+ * директорію даних, відкриває файловим сховищем (із перенесенням голосів у сегменти) і звіряє
+ * вміст. Зміна serialVersionUID сутності чи несумісна зміна її полів ламає читання цих файлів -
+ * тоді перевірка не проходить.
+ * <p>
+ * Аргументи: {@code [fixturesDir]}, за замовчуванням {@code test-data/baseline}. Друкує результат
+ * кожної перевірки; код завершення 1 - є невдалі.
+ */
+public class BaselineDataCheck {
+
+  private static final String[] FILES = {"voters.dat", "candidates.dat", "elections.dat",
+      "votes.dat", "regions.dat", "parties.dat"};
+
+  private static final List<String> failures = new ArrayList<>();
+
+  public static void main(String[] args) throws IOException {
+    Path fixtures = Path.of(args.length > 0 ? args[0] : "test-data/baseline");
+    Path dir = Files.createTempDirectory("voting-baseline").resolve("data");
+    Files.createDirectories(dir);
+    for (String file : FILES) {
+      if (!Files.exists(fixtures.resolve(file))) {
+        throw new IOException("Немає файлу " + fixtures.resolve(file));
+      }
+      Files.copy(fixtures.resolve(file), dir.resolve(file));
+    }
+    System.setProperty(BinaryFilePath.DATA_DIR_PROPERTY, dir.toString());
+
+    StorageEngine storage = RepositoryFactories.find(StorageConfig.BACKEND_BINARY)
+        .orElseThrow()
+        .create(new StorageConfig(), new EventBus());
+    try {
+      check(storage);
+    } finally {
+      storage.close();
+    }
+
+    if (!failures.isEmpty()) {
+      System.out.println("Не пройдено перевірок: " + failures.size());
+      System.exit(1);
+    }
+    System.out.println("Файли початкової версії прочитано без змін");
+  }
+
+  private static void check(StorageEngine storage) {
+    expect("регіонів 2", storage.regions().count(r -> true) == 2);
+    expect("регіон KYIV", storage.regions()
+        .exists(r -> "KYIV".equals(r.getCode()) && "Київ".equals(r.getName())));
+    expect("партія SN", storage.parties()
+        .exists(p -> "SN".equals(p.getPartyCode()) && "Слуга народу".equals(p.getName())));
+
+    List<Election> elections = storage.elections().findAll(e -> true);
+    expect("одні вибори", elections.size() == 1);
+    if (elections.isEmpty()) {
+      return;
+    }
+    Election election = elections.get(0);
+    expect("вибори активні", election.getStatus() == ElectionStatus.ACTIVE
+        && "Вибори 2024".equals(election.getName()));
+
+    List<Candidate> candidates = storage.candidates()
+        .findAll(c -> election.getId().equals(c.getElectionId()));
+    expect("кандидатів 2", candidates.size() == 2);
+    Candidate first = candidates.stream()
+        .filter(c -> "KK123456".equals(c.getPassportNumber()))
+        .findFirst()
+        .orElse(null);
+    expect("кандидат KK123456", first != null && "SN".equals(first.getPartyCode()));
+
+    List<Voter> voters = storage.voters().findAll(v -> true);
+    expect("виборців 3", voters.size() == 3);
+    expect("адміністратор voter0", storage.voters().findByEmail("voter0@test.ua")
+        .filter(voter -> voter.getRole() == VoterRole.ADMIN)
+        .isPresent());
+
+    expect("голосів 3", storage.votes().countByElection(election.getId()) == 3);
+    expect("усі виборці проголосували", voters.stream()
+        .allMatch(voter -> storage.votes().hasVoted(voter.getId(), election.getId())));
+    expect("2 голоси за KK123456", first != null
+        && storage.votes().countByCandidateAndElection(first.getId(), election.getId()) == 2);
+    expect("votes.dat перенесено",
+        !Files.exists(Path.of(BinaryFilePath.VOTES_LEGACY.getPath())));
+  }
+
+  private static void expect(String name, boolean passed) {
+    System.out.printf("%-28s %s%n", name, passed ? "OK" : "FAIL");
+    if (!passed) {
+      failures.add(name);
+    }
+  }
+}